@@ -0,0 +1,242 @@
+package bench;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The results of one benchmark run, as compared by the {@link RegressionGate}.
+ *
+ * A baseline is read from the CSV file a {@link ResultWriter} wrote for an
+ * earlier run, which holds the raw samples of every result, or built from
+ * the results of the current run. Results are keyed by benchmark name and
+ * data size, as in the runner.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public class Baseline {
+
+    private final String commit;
+    private final Map<String, Entry> entries;
+
+    /**
+     * Constructor for Baseline.
+     *
+     * @param commit The commit the results were measured on
+     * @param entries The results, keyed by benchmark name and data size
+     */
+    private Baseline(String commit, Map<String, Entry> entries) {
+        this.commit = commit;
+        this.entries = entries;
+    }
+
+    /**
+     * Builds a baseline from the results of a run.
+     *
+     * @param commit The commit the results were measured on
+     * @param results The results
+     * @return the baseline
+     */
+    public static Baseline of(String commit, List<BenchmarkResult> results) {
+        Map<String, Entry> entries = new LinkedHashMap<>();
+        for (BenchmarkResult result : results) {
+            Entry entry = new Entry(result.getBenchmark(), result.getMode(), result.getRows(), result.getThreads(),
+                                    result.getSamples(), result.getBytesPerOp());
+            entries.put(entry.getKey(), entry);
+        }
+        return new Baseline(commit, entries);
+    }
+
+    /**
+     * Reads a baseline from a results CSV file. Rows that cannot be read are
+     * reported and skipped.
+     *
+     * @param file The CSV file written by {@link ResultWriter#writeCsv}
+     * @return the baseline, or null if the file is not a results file
+     * @throws IOException if the file cannot be read
+     */
+    public static Baseline read(File file) throws IOException {
+        Map<String, Entry> entries = new LinkedHashMap<>();
+        String commit = "unknown";
+        try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
+            String header = reader.readLine();
+            if (header == null || !header.equals(ResultWriter.CSV_HEADER)) {
+                System.out.println("Not a benchmark results file: " + file);
+                return null;
+            }
+
+            String line;
+            int lineNumber = 1;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                String[] parts = line.split(",", -1);
+                if (parts.length < 14) {
+                    System.out.println("Skipping short line " + lineNumber + " of " + file);
+                    continue;
+                }
+                try {
+                    double[] samples = parts[13].isEmpty() ? new double[0]
+                        : Arrays.stream(parts[13].split(";")).mapToDouble(Double::parseDouble).toArray();
+                    double bytesPerOp = parts[9].isEmpty() ? -1 : Double.parseDouble(parts[9]);
+                    Entry entry = new Entry(parts[1], Benchmark.Mode.valueOf(parts[2]), Integer.parseInt(parts[3]),
+                                            Integer.parseInt(parts[4]), samples, bytesPerOp);
+                    entries.put(entry.getKey(), entry);
+                    commit = parts[0];
+                } catch (IllegalArgumentException e) {
+                    System.out.println("Skipping invalid line " + lineNumber + " of " + file + ": " + e.getMessage());
+                }
+            }
+        }
+        return new Baseline(commit, entries);
+    }
+
+    /**
+     * Gets the commit the results were measured on.
+     *
+     * @return the commit ID
+     */
+    public String getCommit() {
+        return commit;
+    }
+
+    /**
+     * Gets the result of a benchmark at a data size.
+     *
+     * @param key The benchmark name and data size, as "name@rows"
+     * @return the result, or null if there is none
+     */
+    public Entry get(String key) {
+        return entries.get(key);
+    }
+
+    /**
+     * Gets every result, in the order they were run.
+     *
+     * @return the results
+     */
+    public List<Entry> getEntries() {
+        return List.copyOf(entries.values());
+    }
+
+    /**
+     * The result of one benchmark at one data size.
+     */
+    public static class Entry {
+
+        private final String benchmark;
+        private final Benchmark.Mode mode;
+        private final int rows;
+        private final int threads;
+        private final double[] samples;
+        private final double bytesPerOp;
+
+        /**
+         * Constructor for Entry.
+         *
+         * @param benchmark The benchmark name
+         * @param mode How the benchmark was measured
+         * @param rows The number of rows in each data file
+         * @param threads The number of threads calling the benchmark
+         * @param samples The mean time per operation of each iteration, in nanoseconds
+         * @param bytesPerOp The bytes allocated per operation, or -1 if unknown
+         */
+        Entry(String benchmark, Benchmark.Mode mode, int rows, int threads, double[] samples, double bytesPerOp) {
+            this.benchmark = benchmark;
+            this.mode = mode;
+            this.rows = rows;
+            this.threads = threads;
+            this.samples = samples.clone();
+            this.bytesPerOp = bytesPerOp;
+        }
+
+        /**
+         * Gets the key of the result.
+         *
+         * @return the benchmark name and data size, as "name@rows"
+         */
+        public String getKey() {
+            return benchmark + "@" + rows;
+        }
+
+        /**
+         * Gets the benchmark name.
+         *
+         * @return the name
+         */
+        public String getBenchmark() {
+            return benchmark;
+        }
+
+        /**
+         * Gets how the benchmark was measured.
+         *
+         * @return the mode
+         */
+        public Benchmark.Mode getMode() {
+            return mode;
+        }
+
+        /**
+         * Gets the number of rows in each data file.
+         *
+         * @return the number of rows
+         */
+        public int getRows() {
+            return rows;
+        }
+
+        /**
+         * Gets the number of threads calling the benchmark.
+         *
+         * @return the number of threads
+         */
+        public int getThreads() {
+            return threads;
+        }
+
+        /**
+         * Gets the mean time per operation of each iteration.
+         *
+         * @return the samples in nanoseconds
+         */
+        public double[] getSamples() {
+            return samples.clone();
+        }
+
+        /**
+         * Gets the mean time per operation.
+         *
+         * @return the time in nanoseconds
+         */
+        public double getNanosPerOp() {
+            return Statistics.mean(samples);
+        }
+
+        /**
+         * Gets the throughput of all threads together.
+         *
+         * @return the operations per second
+         */
+        public double getOpsPerSecond() {
+            return threads * 1e9 / getNanosPerOp();
+        }
+
+        /**
+         * Gets the bytes allocated per operation.
+         *
+         * @return the bytes, or -1 if unknown
+         */
+        public double getBytesPerOp() {
+            return bytesPerOp;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package bench;
+
+import java.io.File;
+
+/**
+ * A single benchmark run by the {@link BenchmarkRunner}.
+ *
+ * A benchmark is set up once per fork against a data directory, then
+ * {@link #run()} is called repeatedly and timed. Work that must happen before
+ * every call but should not be measured, such as creating a fresh data
+ * manager for a cold parse, goes in {@link #prepare()}. The result of
+ * {@link #run()} is kept by the runner so the work cannot be optimized away.
+ *
+ * A benchmark with more than one thread has {@link #prepare()} and
+ * {@link #run()} called from all its threads at once, so both must be safe
+ * to call concurrently.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public abstract class Benchmark {
+
+    /**
+     * How a benchmark is measured.
+     */
+    public enum Mode {
+        /** Warm up, then call repeatedly for a fixed time per iteration. */
+        THROUGHPUT,
+        /** No warm-up; each iteration is a single call, so the first one runs cold. */
+        SINGLE_SHOT
+    }
+
+    private final String name;
+    private final Mode mode;
+    private final int maxRows;
+    private final int threads;
+
+    /**
+     * Constructor for Benchmark with no limit on the data size.
+     *
+     * @param name The benchmark name, such as "applications.load.warm"
+     * @param mode How the benchmark is measured
+     */
+    protected Benchmark(String name, Mode mode) {
+        this(name, mode, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructor for Benchmark.
+     *
+     * @param name The benchmark name, such as "applications.load.warm"
+     * @param mode How the benchmark is measured
+     * @param maxRows The largest data size the benchmark is run at
+     */
+    protected Benchmark(String name, Mode mode, int maxRows) {
+        this(name, mode, maxRows, 1);
+    }
+
+    /**
+     * Constructor for Benchmark.
+     *
+     * @param name The benchmark name, such as "applications.load.warm"
+     * @param mode How the benchmark is measured; single-shot benchmarks use one thread
+     * @param maxRows The largest data size the benchmark is run at
+     * @param threads The number of threads calling the benchmark at once
+     */
+    protected Benchmark(String name, Mode mode, int maxRows, int threads) {
+        if (threads < 1 || (threads > 1 && mode == Mode.SINGLE_SHOT)) {
+            throw new IllegalArgumentException("Invalid thread count for " + name + ": " + threads);
+        }
+        this.name = name;
+        this.mode = mode;
+        this.maxRows = maxRows;
+        this.threads = threads;
+    }
+
+    /**
+     * Sets up the benchmark once per fork. Not measured.
+     *
+     * @param dataDir The directory holding this fork's copy of the data files
+     * @param rows The number of rows in each data file
+     * @throws Exception if the set-up fails
+     */
+    public void setUp(File dataDir, int rows) throws Exception {
+    }
+
+    /**
+     * Prepares for the next call of {@link #run()}. Not measured.
+     *
+     * @throws Exception if the preparation fails
+     */
+    public void prepare() throws Exception {
+    }
+
+    /**
+     * Runs the measured operation once.
+     *
+     * @return a value depending on the work done
+     * @throws Exception if the operation fails
+     */
+    public abstract Object run() throws Exception;
+
+    /**
+     * Gets the benchmark name.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets how the benchmark is measured.
+     *
+     * @return the mode
+     */
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Gets the largest data size the benchmark is run at.
+     *
+     * @return the maximum number of rows
+     */
+    public int getMaxRows() {
+        return maxRows;
+    }
+
+    /**
+     * Gets the number of threads calling the benchmark at once.
+     *
+     * @return the number of threads
+     */
+    public int getThreads() {
+        return threads;
+    }
+}
@@ -0,0 +1,242 @@
+package bench;
+
+import java.util.Arrays;
+
+/**
+ * Measurements of one benchmark at one data size.
+ *
+ * Each sample is the mean time per operation of one measurement iteration,
+ * as seen by the calling thread. With several threads the throughput is the
+ * combined rate of all of them.
+ * Allocation and garbage collection are totals over the measurement
+ * iterations. Results of several forks of the same benchmark are combined
+ * with {@link #merge(BenchmarkResult)}.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public class BenchmarkResult {
+
+    /** Marker starting the line a fork prints its result on. */
+    public static final String LINE_MARKER = "@result";
+
+    private final String benchmark;
+    private final Benchmark.Mode mode;
+    private final int rows;
+    private final int threads;
+    private final double[] samples;
+    private final long operations;
+    private final long allocatedBytes;
+    private final long measuredNanos;
+    private final long gcCount;
+    private final long gcTimeMillis;
+
+    /**
+     * Constructor for BenchmarkResult.
+     *
+     * @param benchmark The benchmark name
+     * @param mode How the benchmark was measured
+     * @param rows The number of rows in each data file
+     * @param threads The number of threads calling the benchmark
+     * @param samples The mean time per operation of each iteration, in nanoseconds
+     * @param operations The number of operations measured
+     * @param allocatedBytes The bytes allocated by the measured operations, or -1 if unknown
+     * @param measuredNanos The total time of the measured operations, summed over the threads
+     * @param gcCount The number of collections during the measurement
+     * @param gcTimeMillis The time spent collecting during the measurement
+     */
+    public BenchmarkResult(String benchmark, Benchmark.Mode mode, int rows, int threads, double[] samples,
+                           long operations, long allocatedBytes, long measuredNanos, long gcCount,
+                           long gcTimeMillis) {
+        this.benchmark = benchmark;
+        this.mode = mode;
+        this.rows = rows;
+        this.threads = threads;
+        this.samples = samples.clone();
+        this.operations = operations;
+        this.allocatedBytes = allocatedBytes;
+        this.measuredNanos = measuredNanos;
+        this.gcCount = gcCount;
+        this.gcTimeMillis = gcTimeMillis;
+    }
+
+    /**
+     * Combines this result with another fork of the same benchmark.
+     *
+     * @param other The other result
+     * @return the combined result
+     */
+    public BenchmarkResult merge(BenchmarkResult other) {
+        double[] combined = Arrays.copyOf(samples, samples.length + other.samples.length);
+        System.arraycopy(other.samples, 0, combined, samples.length, other.samples.length);
+        long allocated = allocatedBytes < 0 || other.allocatedBytes < 0 ? -1 : allocatedBytes + other.allocatedBytes;
+        return new BenchmarkResult(benchmark, mode, rows, threads, combined, operations + other.operations, allocated,
+                                   measuredNanos + other.measuredNanos, gcCount + other.gcCount,
+                                   gcTimeMillis + other.gcTimeMillis);
+    }
+
+    /**
+     * Writes the result as a single tab-separated line, for a fork to pass it
+     * back to the runner.
+     *
+     * @return the line
+     */
+    public String toLine() {
+        StringBuilder line = new StringBuilder(LINE_MARKER);
+        line.append('\t').append(benchmark).append('\t').append(mode).append('\t').append(rows)
+            .append('\t').append(threads)
+            .append('\t').append(operations).append('\t').append(allocatedBytes).append('\t').append(measuredNanos)
+            .append('\t').append(gcCount).append('\t').append(gcTimeMillis).append('\t');
+        for (int i = 0; i < samples.length; i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            line.append(samples[i]);
+        }
+        return line.toString();
+    }
+
+    /**
+     * Reads a result written by {@link #toLine()}.
+     *
+     * @param line The line
+     * @return the result, or null if the line is not a result
+     */
+    public static BenchmarkResult fromLine(String line) {
+        if (line == null || !line.startsWith(LINE_MARKER + "\t")) {
+            return null;
+        }
+        String[] parts = line.split("\t", -1);
+        if (parts.length < 11) {
+            return null;
+        }
+        try {
+            double[] samples = parts[10].isEmpty() ? new double[0]
+                : Arrays.stream(parts[10].split(",")).mapToDouble(Double::parseDouble).toArray();
+            return new BenchmarkResult(parts[1], Benchmark.Mode.valueOf(parts[2]), Integer.parseInt(parts[3]),
+                                       Integer.parseInt(parts[4]), samples, Long.parseLong(parts[5]),
+                                       Long.parseLong(parts[6]), Long.parseLong(parts[7]), Long.parseLong(parts[8]),
+                                       Long.parseLong(parts[9]));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Gets the benchmark name.
+     *
+     * @return the name
+     */
+    public String getBenchmark() {
+        return benchmark;
+    }
+
+    /**
+     * Gets how the benchmark was measured.
+     *
+     * @return the mode
+     */
+    public Benchmark.Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Gets the number of rows in each data file.
+     *
+     * @return the number of rows
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the number of threads calling the benchmark.
+     *
+     * @return the number of threads
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Gets the mean time per operation of each iteration.
+     *
+     * @return the samples in nanoseconds
+     */
+    public double[] getSamples() {
+        return samples.clone();
+    }
+
+    /**
+     * Gets the number of operations measured.
+     *
+     * @return the number of operations
+     */
+    public long getOperations() {
+        return operations;
+    }
+
+    /**
+     * Gets the mean time per operation.
+     *
+     * @return the time in nanoseconds
+     */
+    public double getNanosPerOp() {
+        return Statistics.mean(samples);
+    }
+
+    /**
+     * Gets the half-width of the 99.9% confidence interval of the time per operation.
+     *
+     * @return the error in nanoseconds
+     */
+    public double getError() {
+        return Statistics.error(samples);
+    }
+
+    /**
+     * Gets the throughput of all threads together.
+     *
+     * @return the operations per second
+     */
+    public double getOpsPerSecond() {
+        return threads * 1e9 / getNanosPerOp();
+    }
+
+    /**
+     * Gets the bytes allocated per operation.
+     *
+     * @return the bytes, or -1 if unknown
+     */
+    public double getBytesPerOp() {
+        return allocatedBytes < 0 || operations == 0 ? -1 : (double) allocatedBytes / operations;
+    }
+
+    /**
+     * Gets the allocation rate of all threads together while measuring.
+     *
+     * @return the rate in megabytes per second, or -1 if unknown
+     */
+    public double getAllocationRate() {
+        return allocatedBytes < 0 || measuredNanos == 0 ? -1
+            : threads * (allocatedBytes * 1e9 / measuredNanos) / (1024 * 1024);
+    }
+
+    /**
+     * Gets the number of collections during the measurement.
+     *
+     * @return the collection count
+     */
+    public long getGcCount() {
+        return gcCount;
+    }
+
+    /**
+     * Gets the time spent collecting during the measurement.
+     *
+     * @return the time in milliseconds
+     */
+    public long getGcTimeMillis() {
+        return gcTimeMillis;
+    }
+}
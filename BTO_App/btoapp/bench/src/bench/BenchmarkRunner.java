@@ -0,0 +1,534 @@
+package bench;
+
+import bench.controller.ControllerBenchmarks;
+import bench.datamanager.DataManagerBenchmarks;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Runs the benchmarks and writes their results.
+ *
+ * Every benchmark is run at every requested size in its own JVM, a fork, so
+ * one benchmark cannot warm up or fill the heap for another and cold parses
+ * really are cold. Each fork works on a private copy of the generated data
+ * files, which it may overwrite. The fork measures time per operation,
+ * bytes allocated by the benchmark threads and garbage collections, and
+ * passes them back on its standard output. Multi-threaded benchmarks run
+ * all their threads for the whole of each iteration.
+ *
+ * Usage, from BTO_App/btoapp:
+ * <pre>
+ *   javac -d out/bench $(find src bench/src -name '*.java')
+ *   java -cp out/bench bench.BenchmarkRunner [options]
+ * </pre>
+ * Options:
+ * <pre>
+ *   --sizes 1000,10000     rows in each data file (default 1000,10000,100000)
+ *   --include REGEX        only benchmarks whose name matches (default all)
+ *   --warmup N             warm-up iterations (default 5)
+ *   --iterations N         measurement iterations (default 5)
+ *   --time MS              length of each iteration (default 1000)
+ *   --forks N              forks per benchmark and size (default 1, or 2 with
+ *                          --baseline or --save-baseline)
+ *   --jvm-args "ARGS"      arguments for each fork (default "-Xms2g -Xmx2g")
+ *   --timeout S            seconds before a fork is abandoned (default 1800)
+ *   --data DIR             where generated data files are kept (default bench-data)
+ *   --out PREFIX           results are written to PREFIX.csv and PREFIX.json
+ *                          (default bench-results/COMMIT)
+ *   --commit ID            commit to tag the results with (default from git)
+ *   --baseline FILE        compare the results with a results CSV from an earlier run
+ *   --save-baseline FILE   also copy the results CSV to FILE, for later runs to compare with
+ * </pre>
+ * With a baseline, the {@link RegressionGate} options --max-drop, --max-alloc
+ * and --alpha are accepted too, and the exit code is 1 if a benchmark
+ * regressed as well as if a fork failed. A run that saves or compares a
+ * baseline forks each benchmark twice unless --forks says otherwise, so that
+ * every result has samples from more than one JVM for the gate's t-test.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public class BenchmarkRunner {
+
+    private static final String FORK_FLAG = "--fork";
+
+    /** Forks per benchmark and size when a baseline is saved or compared and --forks is not given. */
+    private static final int BASELINE_FORKS = 2;
+
+    /** Keeps benchmark results reachable so their work is not optimized away. */
+    private static volatile Object sink;
+
+    private int[] sizes = {1_000, 10_000, 100_000};
+    private Pattern include = Pattern.compile(".*");
+    private int warmupIterations = 5;
+    private int measurementIterations = 5;
+    private long iterationMillis = 1000;
+    private int forks = 0;
+    private String jvmArgs = "-Xms2g -Xmx2g";
+    private long timeoutSeconds = 1800;
+    private File dataRoot = new File("bench-data");
+    private String outPrefix;
+    private String commit;
+    private File baselineFile;
+    private File saveBaselineFile;
+    private final RegressionGate gate = new RegressionGate();
+
+    /**
+     * Gets every benchmark that can be run.
+     *
+     * @return the benchmarks
+     */
+    static List<Benchmark> registry() {
+        List<Benchmark> benchmarks = new ArrayList<>();
+        benchmarks.addAll(DataManagerBenchmarks.all());
+        benchmarks.addAll(ControllerBenchmarks.all());
+        return benchmarks;
+    }
+
+    /**
+     * Runs the benchmarks, or a single fork when started by the runner itself.
+     *
+     * @param args The command line options
+     * @throws Exception if a benchmark cannot be run
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && args[0].equals(FORK_FLAG)) {
+            runFork(args);
+            return;
+        }
+        BenchmarkRunner runner = new BenchmarkRunner();
+        if (!runner.parseOptions(args)) {
+            System.out.println("Usage: java bench.BenchmarkRunner [--sizes N,N] [--include REGEX] [--warmup N]"
+                               + " [--iterations N] [--time MS] [--forks N] [--jvm-args ARGS] [--timeout S]"
+                               + " [--data DIR] [--out PREFIX] [--commit ID] [--baseline FILE]"
+                               + " [--save-baseline FILE] [--max-drop PCT] [--max-alloc PCT] [--alpha P]");
+            System.exit(2);
+        }
+        System.exit(runner.run() ? 0 : 1);
+    }
+
+    /**
+     * Reads the command line options.
+     *
+     * @param args The command line options
+     * @return true if the options are valid
+     */
+    boolean parseOptions(String[] args) {
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (option.equals("--help")) {
+                    return false;
+                }
+                if (i + 1 >= args.length) {
+                    System.out.println("Missing value for " + option);
+                    return false;
+                }
+                String value = args[++i];
+                switch (option) {
+                    case "--sizes":
+                        sizes = Arrays.stream(value.split(",")).map(String::trim).mapToInt(Integer::parseInt).toArray();
+                        break;
+                    case "--include":
+                        include = Pattern.compile(value);
+                        break;
+                    case "--warmup":
+                        warmupIterations = Integer.parseInt(value);
+                        break;
+                    case "--iterations":
+                        measurementIterations = Integer.parseInt(value);
+                        break;
+                    case "--time":
+                        iterationMillis = Long.parseLong(value);
+                        break;
+                    case "--forks":
+                        forks = Integer.parseInt(value);
+                        if (forks < 1) {
+                            throw new IllegalArgumentException("forks must be positive: " + value);
+                        }
+                        break;
+                    case "--jvm-args":
+                        jvmArgs = value;
+                        break;
+                    case "--timeout":
+                        timeoutSeconds = Long.parseLong(value);
+                        break;
+                    case "--data":
+                        dataRoot = new File(value);
+                        break;
+                    case "--out":
+                        outPrefix = value;
+                        break;
+                    case "--commit":
+                        commit = value;
+                        break;
+                    case "--baseline":
+                        baselineFile = new File(value);
+                        break;
+                    case "--save-baseline":
+                        saveBaselineFile = new File(value);
+                        break;
+                    default:
+                        if (!gate.parseOption(option, value)) {
+                            System.out.println("Unknown option: " + option);
+                            return false;
+                        }
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.out.println("Invalid option value: " + e.getMessage());
+            return false;
+        }
+        if (baselineFile != null && !baselineFile.isFile()) {
+            System.out.println("Baseline not found: " + baselineFile);
+            return false;
+        }
+        if (forks == 0) {
+            forks = baselineFile != null || saveBaselineFile != null ? BASELINE_FORKS : 1;
+        }
+        if (commit == null) {
+            commit = System.getProperty("bench.commit", detectCommit());
+        }
+        if (outPrefix == null) {
+            outPrefix = "bench-results/" + commit;
+        }
+        return true;
+    }
+
+    /**
+     * Runs every selected benchmark at every size, writes the results and
+     * compares them with the baseline if one was given.
+     *
+     * @return true if every fork produced a result and nothing regressed
+     * @throws IOException if the data or result files cannot be written
+     */
+    boolean run() throws IOException {
+        String timestamp = OffsetDateTime.now().toString();
+        Map<String, BenchmarkResult> results = new LinkedHashMap<>();
+        boolean complete = true;
+
+        for (int rows : sizes) {
+            File fixtureDir = new File(dataRoot, String.valueOf(rows));
+            System.out.println("Preparing data files with " + rows + " rows in " + fixtureDir);
+            Fixtures.ensure(fixtureDir, rows);
+
+            for (Benchmark benchmark : registry()) {
+                if (!include.matcher(benchmark.getName()).find()) {
+                    continue;
+                }
+                if (rows > benchmark.getMaxRows()) {
+                    System.out.println("Skipping " + benchmark.getName() + " above " + benchmark.getMaxRows() + " rows");
+                    continue;
+                }
+                for (int fork = 1; fork <= forks; fork++) {
+                    System.out.printf("Running %s at %d rows, fork %d of %d%n", benchmark.getName(), rows, fork, forks);
+                    BenchmarkResult result = fork(benchmark, rows, fixtureDir);
+                    if (result == null) {
+                        complete = false;
+                        continue;
+                    }
+                    String key = benchmark.getName() + "@" + rows;
+                    results.merge(key, result, BenchmarkResult::merge);
+                }
+            }
+        }
+
+        List<BenchmarkResult> ordered = new ArrayList<>(results.values());
+        ResultWriter writer = new ResultWriter(commit, timestamp);
+        writer.printTable(ordered);
+        File csv = new File(outPrefix + ".csv");
+        File json = new File(outPrefix + ".json");
+        if (csv.getParentFile() != null) {
+            csv.getParentFile().mkdirs();
+        }
+        writer.writeCsv(csv, ordered);
+        writer.writeJson(json, ordered);
+        System.out.println("Results written to " + csv + " and " + json);
+
+        if (saveBaselineFile != null) {
+            if (saveBaselineFile.getParentFile() != null) {
+                saveBaselineFile.getParentFile().mkdirs();
+            }
+            Files.copy(csv.toPath(), saveBaselineFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("Baseline saved to " + saveBaselineFile);
+        }
+        if (baselineFile != null) {
+            Baseline baseline = Baseline.read(baselineFile);
+            if (baseline == null) {
+                return false;
+            }
+            complete &= gate.check(baseline, Baseline.of(commit, ordered), System.out);
+        }
+        return complete;
+    }
+
+    /**
+     * Runs one fork of a benchmark on a private copy of the data files.
+     *
+     * @param benchmark The benchmark
+     * @param rows The number of rows in each data file
+     * @param fixtureDir The directory of the generated data files
+     * @return the result, or null if the fork failed
+     * @throws IOException if the data files cannot be copied
+     */
+    private BenchmarkResult fork(Benchmark benchmark, int rows, File fixtureDir) throws IOException {
+        Path workDir = Files.createTempDirectory("bto-bench");
+        try {
+            Fixtures.copyDirectory(fixtureDir.toPath(), workDir);
+
+            List<String> command = new ArrayList<>();
+            command.add(new File(System.getProperty("java.home"), "bin/java").getPath());
+            if (!jvmArgs.isBlank()) {
+                command.addAll(Arrays.asList(jvmArgs.trim().split("\\s+")));
+            }
+            command.add("-Dbto.data.dir=" + workDir.toAbsolutePath());
+            command.add("-cp");
+            command.add(System.getProperty("java.class.path"));
+            command.add(BenchmarkRunner.class.getName());
+            command.add(FORK_FLAG);
+            command.add(benchmark.getName());
+            command.add(String.valueOf(rows));
+            command.add(String.valueOf(warmupIterations));
+            command.add(String.valueOf(measurementIterations));
+            command.add(String.valueOf(iterationMillis));
+
+            File output = workDir.resolve("fork-output.txt").toFile();
+            Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT)
+                                                         .redirectOutput(output).start();
+            if (!process.waitFor(timeoutSeconds, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+                System.out.println("Fork timed out: " + benchmark.getName());
+                return null;
+            }
+
+            BenchmarkResult result = null;
+            for (String line : Files.readAllLines(output.toPath())) {
+                BenchmarkResult parsed = BenchmarkResult.fromLine(line);
+                if (parsed != null) {
+                    result = parsed;
+                } else {
+                    System.out.println("  " + line);
+                }
+            }
+            if (process.exitValue() != 0 || result == null) {
+                System.out.println("Fork failed: " + benchmark.getName() + " (exit code " + process.exitValue() + ")");
+                return null;
+            }
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            Fixtures.deleteDirectory(workDir);
+        }
+    }
+
+    /**
+     * Runs a benchmark inside a fork and prints its result.
+     *
+     * @param args The fork arguments: name, rows, warm-up iterations,
+     *             measurement iterations and iteration length in milliseconds
+     * @throws Exception if the benchmark fails
+     */
+    private static void runFork(String[] args) throws Exception {
+        String name = args[1];
+        int rows = Integer.parseInt(args[2]);
+        int warmup = Integer.parseInt(args[3]);
+        int iterations = Integer.parseInt(args[4]);
+        long iterationMillis = Long.parseLong(args[5]);
+
+        Benchmark benchmark = null;
+        for (Benchmark candidate : registry()) {
+            if (candidate.getName().equals(name)) {
+                benchmark = candidate;
+            }
+        }
+        if (benchmark == null) {
+            throw new IllegalArgumentException("Unknown benchmark: " + name);
+        }
+
+        // The code under test prints progress and errors; keep that out of the measurement
+        PrintStream out = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        BenchmarkResult result;
+        try {
+            benchmark.setUp(new File(System.getProperty("bto.data.dir")), rows);
+            result = measure(benchmark, rows, warmup, iterations, iterationMillis);
+        } finally {
+            System.setOut(out);
+        }
+        out.println(result.toLine());
+        out.flush();
+    }
+
+    /**
+     * Measures a benchmark that has been set up.
+     *
+     * @param benchmark The benchmark
+     * @param rows The number of rows in each data file
+     * @param warmup The number of warm-up iterations, ignored for single-shot benchmarks
+     * @param iterations The number of measurement iterations
+     * @param iterationMillis The length of each throughput iteration
+     * @return the result
+     * @throws Exception if the benchmark fails
+     */
+    static BenchmarkResult measure(Benchmark benchmark, int rows, int warmup, int iterations,
+                                   long iterationMillis) throws Exception {
+        boolean singleShot = benchmark.getMode() == Benchmark.Mode.SINGLE_SHOT;
+        ExecutorService workers = benchmark.getThreads() > 1 ? Executors.newFixedThreadPool(benchmark.getThreads()) : null;
+        try {
+            if (!singleShot) {
+                for (int i = 0; i < warmup; i++) {
+                    iterate(benchmark, iterationMillis, workers);
+                }
+            }
+
+            double[] samples = new double[iterations];
+            long[] totals = new long[3];
+            long gcCount = JvmProbe.gcCount();
+            long gcTime = JvmProbe.gcTimeMillis();
+            for (int i = 0; i < iterations; i++) {
+                long[] iteration = iterate(benchmark, singleShot ? 0 : iterationMillis, workers);
+                samples[i] = (double) iteration[1] / iteration[0];
+                totals[0] += iteration[0];
+                totals[1] += iteration[1];
+                totals[2] = iteration[2] < 0 || totals[2] < 0 ? -1 : totals[2] + iteration[2];
+            }
+            return new BenchmarkResult(benchmark.getName(), benchmark.getMode(), rows, benchmark.getThreads(), samples,
+                                       totals[0], totals[2], totals[1], JvmProbe.gcCount() - gcCount,
+                                       JvmProbe.gcTimeMillis() - gcTime);
+        } finally {
+            if (workers != null) {
+                workers.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Runs one iteration, on the calling thread or on all worker threads at once.
+     *
+     * @param benchmark The benchmark
+     * @param millis The length of the iteration
+     * @param workers The worker threads, or null to run on the calling thread
+     * @return the operations, the nanoseconds and the allocated bytes, summed over the threads
+     * @throws Exception if the benchmark fails
+     */
+    private static long[] iterate(Benchmark benchmark, long millis, ExecutorService workers) throws Exception {
+        if (workers == null) {
+            long[] totals = new long[3];
+            iterate(benchmark, millis, totals, null);
+            return totals;
+        }
+
+        // Start all threads together so every one of them runs for the whole iteration
+        int threads = benchmark.getThreads();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(workers.submit(() -> {
+                long[] totals = new long[3];
+                iterate(benchmark, millis, totals, start);
+                return totals;
+            }));
+        }
+        start.countDown();
+
+        long[] totals = new long[3];
+        for (Future<long[]> future : futures) {
+            long[] thread;
+            try {
+                thread = future.get();
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+            }
+            totals[0] += thread[0];
+            totals[1] += thread[1];
+            totals[2] = thread[2] < 0 || totals[2] < 0 ? -1 : totals[2] + thread[2];
+        }
+        return totals;
+    }
+
+    /**
+     * Calls a benchmark repeatedly for the given time, at least once. Only the
+     * calls of {@link Benchmark#run()} are timed.
+     *
+     * @param benchmark The benchmark
+     * @param millis The length of the iteration
+     * @param totals Receives the operations, the nanoseconds and the allocated bytes
+     * @param start Latch to wait for before starting, or null to start at once
+     * @throws Exception if the benchmark fails
+     */
+    private static void iterate(Benchmark benchmark, long millis, long[] totals, CountDownLatch start)
+            throws Exception {
+        if (start != null) {
+            start.await();
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+        do {
+            benchmark.prepare();
+            long allocatedBefore = JvmProbe.allocatedBytes();
+            long begin = System.nanoTime();
+            sink = benchmark.run();
+            long elapsed = System.nanoTime() - begin;
+            long allocatedAfter = JvmProbe.allocatedBytes();
+
+            totals[0]++;
+            totals[1] += elapsed;
+            totals[2] = allocatedBefore < 0 || totals[2] < 0 ? -1 : totals[2] + allocatedAfter - allocatedBefore;
+        } while (System.nanoTime() < deadline);
+    }
+
+    /**
+     * Finds the current commit with git, marking it if there are uncommitted changes.
+     *
+     * @return the short commit ID, or "unknown" if git is not available
+     */
+    private static String detectCommit() {
+        String revision = git("rev-parse", "--short", "HEAD");
+        if (revision == null || revision.isEmpty()) {
+            return "unknown";
+        }
+        String status = git("status", "--porcelain", "--untracked-files=no");
+        return status != null && !status.isEmpty() ? revision + "-dirty" : revision;
+    }
+
+    /**
+     * Runs a git command.
+     *
+     * @param args The git arguments
+     * @return the trimmed output, or null if the command failed
+     */
+    private static String git(String... args) {
+        List<String> command = new ArrayList<>();
+        command.add("git");
+        command.addAll(Arrays.asList(args));
+        try {
+            Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            String output = new String(process.getInputStream().readAllBytes()).trim();
+            return process.waitFor() == 0 ? output : null;
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+}
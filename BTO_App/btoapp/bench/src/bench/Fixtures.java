@@ -0,0 +1,87 @@
+package bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.stream.Stream;
+import utils.DatasetGenerator;
+
+/**
+ * Provides the data files for the benchmarks.
+ *
+ * The files are written by the {@link DatasetGenerator} with a fixed seed,
+ * once per size, and kept for later runs. The reference date, which decides
+ * which projects are open, is the first day of the current month, so the
+ * data stays the same for a month and projects stay open while it is used.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public final class Fixtures {
+
+    /** Seed of the generated data. */
+    public static final long SEED = 42;
+
+    /** Version of the generated data, raised whenever the data changes so cached files are regenerated. */
+    private static final int DATA_VERSION = 3;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private Fixtures() {
+        throw new AssertionError("Cannot be instantiated");
+    }
+
+    /**
+     * Writes the data files unless a complete set for this month already
+     * exists in the directory.
+     *
+     * @param dir The directory to write to
+     * @param rows The number of rows in each file
+     * @throws IOException if the files cannot be written
+     */
+    public static void ensure(File dir, int rows) throws IOException {
+        LocalDate referenceDate = LocalDate.now().withDayOfMonth(1);
+        File marker = new File(dir, ".complete-v" + DATA_VERSION + "-" + referenceDate);
+        if (marker.exists()) {
+            return;
+        }
+        new DatasetGenerator(SEED, referenceDate, rows).write(dir);
+        if (!marker.createNewFile() && !marker.exists()) {
+            throw new IOException("Cannot create " + marker);
+        }
+    }
+
+    /**
+     * Copies the files of a directory, so a run can change them without
+     * touching the generated data.
+     *
+     * @param source The directory to copy
+     * @param target The directory to copy into
+     * @throws IOException if a file cannot be copied
+     */
+    public static void copyDirectory(Path source, Path target) throws IOException {
+        try (Stream<Path> files = Files.list(source)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.copy(file, target.resolve(file.getFileName()), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+
+    /**
+     * Deletes a directory and everything in it.
+     *
+     * @param dir The directory
+     */
+    public static void deleteDirectory(Path dir) {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            System.out.println("Could not delete " + dir + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package bench;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Reads allocation and garbage collection counters of the running JVM.
+ *
+ * Allocation is read per thread from the HotSpot extension of
+ * {@link ThreadMXBean}; on JVMs without it the allocation reported is -1.
+ * Collection counts and times are summed over all collectors.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public final class JvmProbe {
+
+    private static final com.sun.management.ThreadMXBean THREADS = threadBean();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private JvmProbe() {
+        throw new AssertionError("Cannot be instantiated");
+    }
+
+    /**
+     * Gets the bytes allocated so far by the current thread.
+     *
+     * @return the allocated bytes, or -1 if not supported
+     */
+    public static long allocatedBytes() {
+        return THREADS != null ? THREADS.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    /**
+     * Gets the bytes allocated so far by a thread.
+     *
+     * @param threadId The thread ID
+     * @return the allocated bytes, or -1 if not supported
+     */
+    public static long allocatedBytes(long threadId) {
+        return THREADS != null ? THREADS.getThreadAllocatedBytes(threadId) : -1;
+    }
+
+    /**
+     * Gets the number of collections so far.
+     *
+     * @return the collection count
+     */
+    public static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(collector.getCollectionCount(), 0);
+        }
+        return count;
+    }
+
+    /**
+     * Gets the time spent collecting so far.
+     *
+     * @return the collection time in milliseconds
+     */
+    public static long gcTimeMillis() {
+        long time = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            time += Math.max(collector.getCollectionTime(), 0);
+        }
+        return time;
+    }
+
+    /**
+     * Gets the thread bean with allocation counting switched on.
+     *
+     * @return the bean, or null if the JVM does not support it
+     */
+    private static com.sun.management.ThreadMXBean threadBean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        if (!threads.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        threads.setThreadAllocatedMemoryEnabled(true);
+        return threads;
+    }
+}
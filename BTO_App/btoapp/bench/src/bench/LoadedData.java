@@ -0,0 +1,230 @@
+package bench;
+
+import datamanager.ApplicantDataManager;
+import datamanager.ApplicationDataManager;
+import datamanager.EnquiryDataManager;
+import datamanager.ManagerDataManager;
+import datamanager.OfficerDataManager;
+import datamanager.ProjectDataManager;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import model.Applicant;
+import model.HDBManager;
+import model.HDBOfficer;
+import model.Project;
+
+/**
+ * The data managers loaded in the same order as the application does at
+ * start-up, as far as a benchmark needs them.
+ *
+ * The data managers read their files from the directory in the system
+ * property "bto.data.dir", which the runner sets for each fork.
+ *
+ * Loading projects and enquiries looks references up by a linear search,
+ * once per row, so its cost grows with the square of the size. Loading
+ * applications also reads and rewrites the whole applicant file for every
+ * active application. Benchmarks that load these are capped at
+ * {@link #QUADRATIC_MAX_ROWS} and {@link #APPLICATION_LOAD_MAX_ROWS} rows.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public class LoadedData {
+
+    /** Largest size run for benchmarks that load projects or enquiries. */
+    public static final int QUADRATIC_MAX_ROWS = 10_000;
+
+    /** Largest size run for benchmarks that load applications. */
+    public static final int APPLICATION_LOAD_MAX_ROWS = 2_000;
+
+    private ApplicantDataManager applicantDataManager;
+    private OfficerDataManager officerDataManager;
+    private ManagerDataManager managerDataManager;
+    private ProjectDataManager projectDataManager;
+    private ApplicationDataManager applicationDataManager;
+    private EnquiryDataManager enquiryDataManager;
+    private List<Applicant> applicants;
+    private Map<String, HDBManager> managerMap;
+    private Map<String, HDBOfficer> officerMap;
+
+    /**
+     * Loads the applicants, officers and managers.
+     *
+     * @return this data
+     */
+    public LoadedData loadPeople() {
+        applicantDataManager = new ApplicantDataManager();
+        officerDataManager = new OfficerDataManager();
+        managerDataManager = new ManagerDataManager();
+        applicants = applicantDataManager.readAllApplicants();
+        officerDataManager.loadOfficerData();
+        managerDataManager.loadManagerData();
+
+        managerMap = new HashMap<>();
+        for (HDBManager manager : managerDataManager.getAllManagers()) {
+            managerMap.put(manager.getNric().trim(), manager);
+        }
+        officerMap = new HashMap<>();
+        for (HDBOfficer officer : officerDataManager.getAllOfficers()) {
+            officerMap.put(officer.getNric().trim(), officer);
+        }
+        return this;
+    }
+
+    /**
+     * Loads the people and the projects.
+     *
+     * @return this data
+     */
+    public LoadedData loadProjects() {
+        loadPeople();
+        reloadProjects();
+        return this;
+    }
+
+    /**
+     * Loads the people, the projects and the applications.
+     *
+     * @return this data
+     */
+    public LoadedData loadApplications() {
+        loadProjects();
+        applicationDataManager = newApplicationDataManager();
+        applicationDataManager.loadApplicationData();
+        return this;
+    }
+
+    /**
+     * Loads the people, the projects and the enquiries.
+     *
+     * @return this data
+     */
+    public LoadedData loadEnquiries() {
+        loadProjects();
+        enquiryDataManager = newEnquiryDataManager();
+        enquiryDataManager.loadEnquiries();
+        return this;
+    }
+
+    /**
+     * Reads the applicants again, replacing the loaded ones.
+     */
+    public void reloadApplicants() {
+        applicants = applicantDataManager.readAllApplicants();
+    }
+
+    /**
+     * Loads the projects again, replacing the loaded ones.
+     */
+    public void reloadProjects() {
+        projectDataManager = new ProjectDataManager(managerMap, officerMap);
+    }
+
+    /**
+     * Creates an application data manager over the loaded data.
+     *
+     * @return the data manager, not yet loaded
+     */
+    public ApplicationDataManager newApplicationDataManager() {
+        return new ApplicationDataManager(applicantDataManager, projectDataManager, officerDataManager);
+    }
+
+    /**
+     * Creates an enquiry data manager over the loaded applicants and projects.
+     *
+     * @return the data manager, not yet loaded
+     */
+    public EnquiryDataManager newEnquiryDataManager() {
+        Map<String, Applicant> applicantMap = new HashMap<>();
+        for (Applicant applicant : applicants) {
+            applicantMap.put(applicant.getNric().trim(), applicant);
+        }
+        Map<String, Project> projectMap = new HashMap<>();
+        for (Project project : projectDataManager.getAllProjects()) {
+            projectMap.put(project.getProjectName().trim(), project);
+        }
+        return new EnquiryDataManager(applicantMap, projectMap);
+    }
+
+    /**
+     * Gets the applicant data manager.
+     *
+     * @return the data manager
+     */
+    public ApplicantDataManager getApplicantDataManager() {
+        return applicantDataManager;
+    }
+
+    /**
+     * Gets the officer data manager.
+     *
+     * @return the data manager
+     */
+    public OfficerDataManager getOfficerDataManager() {
+        return officerDataManager;
+    }
+
+    /**
+     * Gets the manager data manager.
+     *
+     * @return the data manager
+     */
+    public ManagerDataManager getManagerDataManager() {
+        return managerDataManager;
+    }
+
+    /**
+     * Gets the project data manager.
+     *
+     * @return the data manager
+     */
+    public ProjectDataManager getProjectDataManager() {
+        return projectDataManager;
+    }
+
+    /**
+     * Gets the application data manager.
+     *
+     * @return the data manager, or null if applications were not loaded
+     */
+    public ApplicationDataManager getApplicationDataManager() {
+        return applicationDataManager;
+    }
+
+    /**
+     * Gets the enquiry data manager.
+     *
+     * @return the data manager, or null if enquiries were not loaded
+     */
+    public EnquiryDataManager getEnquiryDataManager() {
+        return enquiryDataManager;
+    }
+
+    /**
+     * Gets the loaded applicants.
+     *
+     * @return the applicants
+     */
+    public List<Applicant> getApplicants() {
+        return applicants;
+    }
+
+    /**
+     * Gets the loaded managers by NRIC.
+     *
+     * @return the managers
+     */
+    public Map<String, HDBManager> getManagerMap() {
+        return managerMap;
+    }
+
+    /**
+     * Gets the loaded officers by NRIC.
+     *
+     * @return the officers
+     */
+    public Map<String, HDBOfficer> getOfficerMap() {
+        return officerMap;
+    }
+}
@@ -0,0 +1,265 @@
+package bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Compares benchmark results with a baseline and fails on regressions.
+ *
+ * A benchmark has regressed in time when Welch's t-test on the per-iteration
+ * samples finds it significantly slower than the baseline and its throughput
+ * has dropped by more than the allowed share. It has regressed in allocation
+ * when it allocates more bytes per operation than the allowed share above the
+ * baseline. A significant change within the threshold is reported but does
+ * not fail the gate, and neither does a difference too small to be told
+ * apart from noise, however large it looks. Results with fewer than two
+ * samples on either side are compared for allocation only, and the report
+ * ends with a warning naming how many went untested, since their time
+ * could have regressed unseen.
+ *
+ * The gate runs after a {@link BenchmarkRunner} run given a baseline, or on
+ * its own to compare two result files, from BTO_App/btoapp:
+ * <pre>
+ *   java -cp out/bench bench.RegressionGate BASELINE.csv CURRENT.csv [options]
+ * </pre>
+ * Options:
+ * <pre>
+ *   --max-drop PCT         throughput drop allowed, in percent (default 10)
+ *   --max-alloc PCT        allocation increase allowed, in percent (default 10)
+ *   --alpha P              significance level of the t-test (default 0.01)
+ * </pre>
+ * The exit code is 1 if any benchmark regressed.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public class RegressionGate {
+
+    /**
+     * Allocation increases of at most this many bytes per operation are
+     * ignored, so an operation that barely allocates cannot fail the gate on
+     * a few bytes.
+     */
+    private static final double ALLOCATION_SLACK_BYTES = 64;
+
+    private double maxThroughputDrop = 10;
+    private double maxAllocationIncrease = 10;
+    private double alpha = 0.01;
+
+    /**
+     * Compares two result files.
+     *
+     * @param args The baseline file, the current file and the gate options
+     * @throws IOException if a result file cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        RegressionGate gate = new RegressionGate();
+        List<String> files = new ArrayList<>();
+        boolean valid = true;
+        try {
+            for (int i = 0; i < args.length && valid; i++) {
+                if (!args[i].startsWith("--")) {
+                    files.add(args[i]);
+                } else if (args[i].equals("--help") || i + 1 >= args.length) {
+                    valid = false;
+                } else if (!gate.parseOption(args[i], args[++i])) {
+                    System.out.println("Unknown option: " + args[i - 1]);
+                    valid = false;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.out.println("Invalid option value: " + e.getMessage());
+            valid = false;
+        }
+        if (!valid || files.size() != 2) {
+            System.out.println("Usage: java bench.RegressionGate BASELINE.csv CURRENT.csv [--max-drop PCT]"
+                               + " [--max-alloc PCT] [--alpha P]");
+            System.exit(2);
+        }
+
+        Baseline baseline = Baseline.read(new File(files.get(0)));
+        Baseline current = Baseline.read(new File(files.get(1)));
+        if (baseline == null || current == null) {
+            System.exit(2);
+        }
+        System.exit(gate.check(baseline, current, System.out) ? 0 : 1);
+    }
+
+    /**
+     * Reads one of the gate's command line options.
+     *
+     * @param option The option name
+     * @param value The option value
+     * @return true if the option belongs to the gate, false if it is unknown
+     * @throws IllegalArgumentException if the value is not valid
+     */
+    boolean parseOption(String option, String value) {
+        switch (option) {
+            case "--max-drop":
+                maxThroughputDrop = parsePercent(value);
+                return true;
+            case "--max-alloc":
+                maxAllocationIncrease = parsePercent(value);
+                return true;
+            case "--alpha":
+                alpha = Double.parseDouble(value);
+                if (!(alpha > 0 && alpha < 1)) {
+                    throw new IllegalArgumentException("alpha must be between 0 and 1: " + value);
+                }
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Compares the current results with the baseline and prints the report.
+     *
+     * @param baseline The baseline results
+     * @param current The current results
+     * @param out Where to print the report
+     * @return true if no benchmark regressed
+     */
+    public boolean check(Baseline baseline, Baseline current, PrintStream out) {
+        out.printf("%nComparing %s with baseline %s%n", current.getCommit(), baseline.getCommit());
+        out.printf(Locale.ROOT, "Fails on a throughput drop above %.1f%% (p < %s) or an allocation increase above %.1f%%%n",
+                   maxThroughputDrop, alpha, maxAllocationIncrease);
+        out.printf("%-44s %9s %3s %13s %13s %8s %8s %12s %12s %8s  %s%n", "Benchmark", "Rows", "Thr", "base ns/op",
+                   "ns/op", "ops/s %", "p", "base B/op", "B/op", "B/op %", "Verdict");
+
+        int regressions = 0;
+        int faster = 0;
+        int slower = 0;
+        int added = 0;
+        int untested = 0;
+        for (Baseline.Entry entry : current.getEntries()) {
+            Baseline.Entry base = baseline.get(entry.getKey());
+            if (base == null) {
+                added++;
+                out.printf("%-44s %9d %3d %13s %13s %8s %8s %12s %12s %8s  %s%n", entry.getBenchmark(),
+                           entry.getRows(), entry.getThreads(), "-", nanos(entry.getNanosPerOp()), "", "", "",
+                           bytes(entry.getBytesPerOp()), "", "new");
+                continue;
+            }
+
+            String verdict;
+            double pValue = Double.NaN;
+            double throughputChange = Double.NaN;
+            double allocationChange = Double.NaN;
+            if (base.getThreads() != entry.getThreads() || base.getMode() != entry.getMode()) {
+                verdict = "not comparable";
+            } else {
+                pValue = Statistics.welchPValue(base.getSamples(), entry.getSamples());
+                throughputChange = base.getNanosPerOp() / entry.getNanosPerOp() - 1;
+                boolean significant = pValue < alpha;
+                boolean throughputRegressed = significant && -throughputChange * 100 > maxThroughputDrop;
+
+                boolean allocationRegressed = false;
+                if (base.getBytesPerOp() >= 0 && entry.getBytesPerOp() >= 0) {
+                    double increase = entry.getBytesPerOp() - base.getBytesPerOp();
+                    allocationChange = base.getBytesPerOp() > 0 ? increase / base.getBytesPerOp() : Double.NaN;
+                    allocationRegressed = increase > Math.max(ALLOCATION_SLACK_BYTES,
+                                                              base.getBytesPerOp() * maxAllocationIncrease / 100);
+                }
+
+                if (throughputRegressed || allocationRegressed) {
+                    regressions++;
+                    verdict = "REGRESSION: " + (throughputRegressed && allocationRegressed ? "throughput, allocation"
+                                                : throughputRegressed ? "throughput" : "allocation");
+                } else if (significant && throughputChange > 0) {
+                    faster++;
+                    verdict = "faster";
+                } else if (significant && throughputChange < 0) {
+                    slower++;
+                    verdict = "slower, within threshold";
+                } else if (Double.isNaN(pValue)) {
+                    untested++;
+                    verdict = "NOT TESTED: too few samples";
+                } else {
+                    verdict = "no significant change";
+                }
+            }
+            out.printf(Locale.ROOT, "%-44s %9d %3d %13s %13s %8s %8s %12s %12s %8s  %s%n", entry.getBenchmark(),
+                       entry.getRows(), entry.getThreads(), nanos(base.getNanosPerOp()),
+                       nanos(entry.getNanosPerOp()), percent(throughputChange), probability(pValue),
+                       bytes(base.getBytesPerOp()), bytes(entry.getBytesPerOp()), percent(allocationChange), verdict);
+        }
+
+        int missing = 0;
+        for (Baseline.Entry base : baseline.getEntries()) {
+            if (current.get(base.getKey()) == null) {
+                missing++;
+            }
+        }
+        out.printf("%d regressed, %d faster, %d slower within the threshold, %d new, %d in the baseline but not run%n",
+                   regressions, faster, slower, added, missing);
+        if (untested > 0) {
+            out.printf("WARNING: %d benchmark(s) had fewer than two samples on a side, so their time was not tested;"
+                       + " run them with more --forks or --iterations%n", untested);
+        }
+        out.println(regressions == 0 ? "Regression gate passed" : "Regression gate FAILED");
+        return regressions == 0;
+    }
+
+    /**
+     * Reads a percentage option.
+     *
+     * @param value The option value
+     * @return the percentage
+     * @throws IllegalArgumentException if the value is negative or not a number
+     */
+    private static double parsePercent(String value) {
+        double percent = Double.parseDouble(value);
+        if (!(percent >= 0)) {
+            throw new IllegalArgumentException("percentage must not be negative: " + value);
+        }
+        return percent;
+    }
+
+    /**
+     * Formats a time per operation for the report.
+     *
+     * @param value The time in nanoseconds
+     * @return the text
+     */
+    private static String nanos(double value) {
+        return Double.isNaN(value) ? "-" : String.format(Locale.ROOT, "%.1f", value);
+    }
+
+    /**
+     * Formats an allocation per operation for the report.
+     *
+     * @param value The bytes, or -1 if unknown
+     * @return the text
+     */
+    private static String bytes(double value) {
+        return value < 0 ? "-" : String.format(Locale.ROOT, "%.0f", value);
+    }
+
+    /**
+     * Formats a relative change for the report.
+     *
+     * @param value The change as a fraction
+     * @return the text, signed and in percent
+     */
+    private static String percent(double value) {
+        return Double.isNaN(value) || Double.isInfinite(value) ? "" : String.format(Locale.ROOT, "%+.1f%%", value * 100);
+    }
+
+    /**
+     * Formats a p-value for the report.
+     *
+     * @param value The p-value
+     * @return the text
+     */
+    private static String probability(double value) {
+        if (Double.isNaN(value)) {
+            return "-";
+        }
+        return value < 0.0001 ? "<0.0001" : String.format(Locale.ROOT, "%.4f", value);
+    }
+}
@@ -0,0 +1,163 @@
+package bench;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Writes benchmark results as a console table, CSV and JSON.
+ *
+ * Every CSV row and the JSON document carry the commit the results were
+ * measured on, so files from different commits can be compared directly. The
+ * raw samples are included so later runs can be tested for significance
+ * rather than compared by mean alone.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public class ResultWriter {
+
+    /** The first line of a results CSV file. */
+    static final String CSV_HEADER = "commit,benchmark,mode,rows,threads,samples,ns_per_op,error_ns,ops_per_s,"
+        + "bytes_per_op,alloc_mb_per_s,gc_count,gc_time_ms,raw_ns_per_op";
+
+    private final String commit;
+    private final String timestamp;
+
+    /**
+     * Constructor for ResultWriter.
+     *
+     * @param commit The commit the results were measured on
+     * @param timestamp When the run started, in ISO-8601 form
+     */
+    public ResultWriter(String commit, String timestamp) {
+        this.commit = commit;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * Prints the results as a table.
+     *
+     * @param results The results
+     */
+    public void printTable(List<BenchmarkResult> results) {
+        System.out.printf("%nCommit %s, %s%n", commit, timestamp);
+        System.out.printf("%-44s %-11s %9s %3s %15s %13s %14s %12s %6s %8s%n", "Benchmark", "Mode", "Rows", "Thr",
+                          "ns/op", "+/- (99.9%)", "ops/s", "B/op", "GCs", "GC ms");
+        for (BenchmarkResult result : results) {
+            System.out.printf(Locale.ROOT, "%-44s %-11s %9d %3d %15.1f %13.1f %14.2f %12.0f %6d %8d%n",
+                              result.getBenchmark(), result.getMode(), result.getRows(), result.getThreads(),
+                              result.getNanosPerOp(),
+                              result.getError(), result.getOpsPerSecond(), result.getBytesPerOp(),
+                              result.getGcCount(), result.getGcTimeMillis());
+        }
+    }
+
+    /**
+     * Writes the results as CSV, one row per benchmark and data size.
+     *
+     * @param file The file to write
+     * @param results The results
+     * @throws IOException if the file cannot be written
+     */
+    public void writeCsv(File file, List<BenchmarkResult> results) throws IOException {
+        try (PrintWriter writer = new PrintWriter(new FileWriter(file))) {
+            writer.println(CSV_HEADER);
+            for (BenchmarkResult result : results) {
+                StringBuilder raw = new StringBuilder();
+                for (double sample : result.getSamples()) {
+                    if (raw.length() > 0) {
+                        raw.append(';');
+                    }
+                    raw.append(format(sample));
+                }
+                writer.println(String.join(",", commit, result.getBenchmark(), result.getMode().name(),
+                                           String.valueOf(result.getRows()), String.valueOf(result.getThreads()),
+                                           String.valueOf(result.getSamples().length),
+                                           format(result.getNanosPerOp()), format(result.getError()),
+                                           format(result.getOpsPerSecond()), format(result.getBytesPerOp()),
+                                           format(result.getAllocationRate()), String.valueOf(result.getGcCount()),
+                                           String.valueOf(result.getGcTimeMillis()), raw.toString()));
+            }
+        }
+    }
+
+    /**
+     * Writes the results as a JSON document with the run details.
+     *
+     * @param file The file to write
+     * @param results The results
+     * @throws IOException if the file cannot be written
+     */
+    public void writeJson(File file, List<BenchmarkResult> results) throws IOException {
+        try (PrintWriter writer = new PrintWriter(new FileWriter(file))) {
+            writer.println("{");
+            writer.println("  \"commit\": " + quote(commit) + ",");
+            writer.println("  \"timestamp\": " + quote(timestamp) + ",");
+            writer.println("  \"jvm\": " + quote(System.getProperty("java.vm.name") + " "
+                                                 + System.getProperty("java.version")) + ",");
+            writer.println("  \"os\": " + quote(System.getProperty("os.name") + " " + System.getProperty("os.arch")) + ",");
+            writer.println("  \"processors\": " + Runtime.getRuntime().availableProcessors() + ",");
+            writer.println("  \"results\": [");
+            for (int i = 0; i < results.size(); i++) {
+                BenchmarkResult result = results.get(i);
+                StringBuilder raw = new StringBuilder();
+                for (double sample : result.getSamples()) {
+                    if (raw.length() > 0) {
+                        raw.append(", ");
+                    }
+                    raw.append(format(sample));
+                }
+                writer.println("    {");
+                writer.println("      \"benchmark\": " + quote(result.getBenchmark()) + ",");
+                writer.println("      \"mode\": " + quote(result.getMode().name()) + ",");
+                writer.println("      \"rows\": " + result.getRows() + ",");
+                writer.println("      \"threads\": " + result.getThreads() + ",");
+                writer.println("      \"nsPerOp\": " + number(result.getNanosPerOp()) + ",");
+                writer.println("      \"errorNs\": " + number(result.getError()) + ",");
+                writer.println("      \"opsPerSecond\": " + number(result.getOpsPerSecond()) + ",");
+                writer.println("      \"bytesPerOp\": " + number(result.getBytesPerOp()) + ",");
+                writer.println("      \"allocMbPerSecond\": " + number(result.getAllocationRate()) + ",");
+                writer.println("      \"gcCount\": " + result.getGcCount() + ",");
+                writer.println("      \"gcTimeMs\": " + result.getGcTimeMillis() + ",");
+                writer.println("      \"samples\": [" + raw + "]");
+                writer.println(i < results.size() - 1 ? "    }," : "    }");
+            }
+            writer.println("  ]");
+            writer.println("}");
+        }
+    }
+
+    /**
+     * Formats a number for CSV.
+     *
+     * @param value The number
+     * @return the text, empty if the number is not defined
+     */
+    private static String format(double value) {
+        return Double.isNaN(value) ? "" : String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    /**
+     * Formats a number for JSON.
+     *
+     * @param value The number
+     * @return the text, null if the number is not defined
+     */
+    private static String number(double value) {
+        return Double.isNaN(value) || Double.isInfinite(value) ? "null" : String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    /**
+     * Quotes a string for JSON.
+     *
+     * @param value The string
+     * @return the quoted string
+     */
+    private static String quote(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+}
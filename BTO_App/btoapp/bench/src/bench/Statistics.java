@@ -0,0 +1,241 @@
+package bench;
+
+/**
+ * Summary statistics over benchmark samples, and Welch's t-test for
+ * comparing two sets of samples whose variances may differ.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public final class Statistics {
+
+    /** Two-sided 99.9% critical values of Student's t for 1 to 30 degrees of freedom. */
+    private static final double[] T_999 = {
+        636.62, 31.60, 12.92, 8.61, 6.87, 5.96, 5.41, 5.04, 4.78, 4.59,
+        4.44, 4.32, 4.22, 4.14, 4.07, 4.01, 3.97, 3.92, 3.88, 3.85,
+        3.82, 3.79, 3.77, 3.75, 3.73, 3.71, 3.69, 3.67, 3.66, 3.65
+    };
+
+    /** Two-sided 99.9% critical value of the normal distribution, used above 30 degrees of freedom. */
+    private static final double Z_999 = 3.29;
+
+    /** Coefficients of the Lanczos approximation of the gamma function, g = 7. */
+    private static final double[] LANCZOS = {
+        0.99999999999980993, 676.5203681218851, -1259.1392167224028, 771.32342877765313,
+        -176.61502916214059, 12.507343278686905, -0.13857109526572012, 9.9843695780195716e-6,
+        1.5056327351493116e-7
+    };
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private Statistics() {
+        throw new AssertionError("Cannot be instantiated");
+    }
+
+    /**
+     * Gets the mean of the samples.
+     *
+     * @param samples The samples
+     * @return the mean, or NaN if there are none
+     */
+    public static double mean(double[] samples) {
+        if (samples.length == 0) {
+            return Double.NaN;
+        }
+        double sum = 0;
+        for (double sample : samples) {
+            sum += sample;
+        }
+        return sum / samples.length;
+    }
+
+    /**
+     * Gets the sample variance.
+     *
+     * @param samples The samples
+     * @return the variance, or 0 if there are fewer than two samples
+     */
+    public static double variance(double[] samples) {
+        if (samples.length < 2) {
+            return 0;
+        }
+        double mean = mean(samples);
+        double sum = 0;
+        for (double sample : samples) {
+            sum += (sample - mean) * (sample - mean);
+        }
+        return sum / (samples.length - 1);
+    }
+
+    /**
+     * Gets the sample standard deviation.
+     *
+     * @param samples The samples
+     * @return the standard deviation
+     */
+    public static double standardDeviation(double[] samples) {
+        return Math.sqrt(variance(samples));
+    }
+
+    /**
+     * Gets the half-width of the 99.9% confidence interval of the mean.
+     *
+     * @param samples The samples
+     * @return the half-width, or NaN if there are fewer than two samples
+     */
+    public static double error(double[] samples) {
+        if (samples.length < 2) {
+            return Double.NaN;
+        }
+        int degreesOfFreedom = samples.length - 1;
+        double critical = degreesOfFreedom <= T_999.length ? T_999[degreesOfFreedom - 1] : Z_999;
+        return critical * standardDeviation(samples) / Math.sqrt(samples.length);
+    }
+
+    /**
+     * Gets Welch's t statistic for the difference between the means of two
+     * sets of samples. It is positive when the second mean is larger.
+     *
+     * @param first The first samples, such as a baseline
+     * @param second The second samples
+     * @return the t statistic, or NaN if either set has fewer than two samples
+     */
+    public static double welchT(double[] first, double[] second) {
+        if (first.length < 2 || second.length < 2) {
+            return Double.NaN;
+        }
+        double difference = mean(second) - mean(first);
+        double standardError = Math.sqrt(variance(first) / first.length + variance(second) / second.length);
+        if (standardError == 0) {
+            return difference == 0 ? 0 : Math.copySign(Double.POSITIVE_INFINITY, difference);
+        }
+        return difference / standardError;
+    }
+
+    /**
+     * Gets the Welch-Satterthwaite degrees of freedom of Welch's t-test.
+     *
+     * @param first The first samples
+     * @param second The second samples
+     * @return the degrees of freedom, or NaN if either set has fewer than two samples
+     */
+    public static double welchDegreesOfFreedom(double[] first, double[] second) {
+        if (first.length < 2 || second.length < 2) {
+            return Double.NaN;
+        }
+        double a = variance(first) / first.length;
+        double b = variance(second) / second.length;
+        if (a + b == 0) {
+            return first.length + second.length - 2;
+        }
+        return (a + b) * (a + b) / (a * a / (first.length - 1) + b * b / (second.length - 1));
+    }
+
+    /**
+     * Gets the two-sided p-value of Welch's t-test, the chance of seeing a
+     * difference at least this large between the means if the two sets of
+     * samples came from distributions with the same mean.
+     *
+     * @param first The first samples
+     * @param second The second samples
+     * @return the p-value, or NaN if either set has fewer than two samples
+     */
+    public static double welchPValue(double[] first, double[] second) {
+        double t = welchT(first, second);
+        if (Double.isNaN(t)) {
+            return Double.NaN;
+        }
+        if (Double.isInfinite(t)) {
+            return 0;
+        }
+        double degreesOfFreedom = welchDegreesOfFreedom(first, second);
+        return regularizedBeta(degreesOfFreedom / (degreesOfFreedom + t * t), degreesOfFreedom / 2, 0.5);
+    }
+
+    /**
+     * Gets the regularized incomplete beta function I<sub>x</sub>(a, b), from
+     * which the tail probability of Student's t distribution follows.
+     *
+     * @param x The upper limit of integration, between 0 and 1
+     * @param a The first shape parameter
+     * @param b The second shape parameter
+     * @return the value of the function
+     */
+    private static double regularizedBeta(double x, double a, double b) {
+        if (x <= 0) {
+            return 0;
+        }
+        if (x >= 1) {
+            return 1;
+        }
+        double front = Math.exp(logGamma(a + b) - logGamma(a) - logGamma(b) + a * Math.log(x) + b * Math.log(1 - x));
+        // The continued fraction converges quickly only below this point; use the symmetry relation above it
+        if (x < (a + 1) / (a + b + 2)) {
+            return front * betaContinuedFraction(x, a, b) / a;
+        }
+        return 1 - front * betaContinuedFraction(1 - x, b, a) / b;
+    }
+
+    /**
+     * Evaluates the continued fraction of the incomplete beta function with
+     * the modified Lentz method.
+     *
+     * @param x The upper limit of integration
+     * @param a The first shape parameter
+     * @param b The second shape parameter
+     * @return the value of the continued fraction
+     */
+    private static double betaContinuedFraction(double x, double a, double b) {
+        final double tiny = 1e-300;
+        double c = 1;
+        double d = 1 - (a + b) * x / (a + 1);
+        d = 1 / nonZero(d, tiny);
+        double result = d;
+        for (int m = 1; m <= 300; m++) {
+            int m2 = 2 * m;
+            double even = m * (b - m) * x / ((a + m2 - 1) * (a + m2));
+            d = 1 / nonZero(1 + even * d, tiny);
+            c = nonZero(1 + even / c, tiny);
+            result *= d * c;
+
+            double odd = -(a + m) * (a + b + m) * x / ((a + m2) * (a + m2 + 1));
+            d = 1 / nonZero(1 + odd * d, tiny);
+            c = nonZero(1 + odd / c, tiny);
+            double delta = d * c;
+            result *= delta;
+            if (Math.abs(delta - 1) < 1e-12) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Keeps a term of the continued fraction away from zero.
+     *
+     * @param value The term
+     * @param tiny The smallest magnitude allowed
+     * @return the term, or tiny if it is smaller than that
+     */
+    private static double nonZero(double value, double tiny) {
+        return Math.abs(value) < tiny ? tiny : value;
+    }
+
+    /**
+     * Gets the natural logarithm of the gamma function with the Lanczos
+     * approximation.
+     *
+     * @param x The argument, at least 0.5
+     * @return ln(gamma(x))
+     */
+    private static double logGamma(double x) {
+        double shifted = x - 1;
+        double sum = LANCZOS[0];
+        for (int i = 1; i < LANCZOS.length; i++) {
+            sum += LANCZOS[i] / (shifted + i);
+        }
+        double t = shifted + 7.5;
+        return 0.5 * Math.log(2 * Math.PI) + (shifted + 0.5) * Math.log(t) - t + Math.log(sum);
+    }
+}
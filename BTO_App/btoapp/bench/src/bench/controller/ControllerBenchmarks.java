@@ -0,0 +1,327 @@
+package bench.controller;
+
+import bench.Benchmark;
+import bench.LoadedData;
+import controller.ApplicationController;
+import controller.AuthenticationController;
+import controller.BookingController;
+import controller.EnquiryController;
+import controller.ProjectController;
+import datamanager.PersistenceQueue;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import model.Applicant;
+import model.Application;
+import model.HDBManager;
+import model.HDBOfficer;
+import model.Project;
+import model.abstracts.AProject;
+import model.enums.ApplicationStatus;
+import service.BallotService;
+import service.BookingCube;
+import service.EligibilityCheckerService;
+import service.ProjectEventLoop;
+
+/**
+ * Benchmarks of the heaviest interactive controller operations.
+ *
+ * The controllers are wired as at start-up over data loaded once per fork,
+ * and each call picks the next applicant, project or manager in turn, so the
+ * calls spread over the whole data set. Every operation is measured with a
+ * single thread and with {@link #THREADS} threads calling at once; each
+ * thread walks its own block of the data.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public final class ControllerBenchmarks {
+
+    /** Number of threads of the multi-threaded variants. */
+    public static final int THREADS = 4;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ControllerBenchmarks() {
+        throw new AssertionError("Cannot be instantiated");
+    }
+
+    /**
+     * Gets all controller benchmarks.
+     *
+     * @return the benchmarks
+     */
+    public static List<Benchmark> all() {
+        List<Benchmark> benchmarks = new ArrayList<>();
+        for (int threads : new int[] {1, THREADS}) {
+            String suffix = threads == 1 ? "" : ".threads" + threads;
+            benchmarks.add(visibleProjects("projects.visibleForApplicant" + suffix, threads));
+            benchmarks.add(applicationsByStatus("applications.byStatus" + suffix, threads));
+            benchmarks.add(bookFlat("booking.bookFlat" + suffix, threads));
+            benchmarks.add(enquiriesForManager("enquiries.forManager" + suffix, threads));
+            benchmarks.add(login("auth.login" + suffix, threads));
+        }
+        return benchmarks;
+    }
+
+    /**
+     * Lists the projects an applicant may see.
+     *
+     * @param name The benchmark name
+     * @param threads The number of threads
+     * @return the benchmark
+     */
+    private static Benchmark visibleProjects(String name, int threads) {
+        return new Benchmark(name, Benchmark.Mode.THROUGHPUT, LoadedData.QUADRATIC_MAX_ROWS, threads) {
+            private ProjectController projectController;
+            private Turns<Applicant> applicants;
+
+            @Override
+            public void setUp(File dataDir, int rows) {
+                LoadedData data = new LoadedData().loadProjects();
+                // Visibility is not stored, so publish the projects as their managers would
+                for (Project project : data.getProjectDataManager().getAllProjects()) {
+                    project.setVisible(true);
+                }
+                projectController = new ProjectController(data.getProjectDataManager());
+                applicants = new Turns<>(data.getApplicants(), threads);
+            }
+
+            @Override
+            public Object run() {
+                return projectController.getVisibleProjectsForApplicant(applicants.next());
+            }
+        };
+    }
+
+    /**
+     * Lists the applications of a project with a given status.
+     *
+     * @param name The benchmark name
+     * @param threads The number of threads
+     * @return the benchmark
+     */
+    private static Benchmark applicationsByStatus(String name, int threads) {
+        return new Benchmark(name, Benchmark.Mode.THROUGHPUT, LoadedData.APPLICATION_LOAD_MAX_ROWS, threads) {
+            private ApplicationController applicationController;
+            private Turns<Project> projects;
+            private final ApplicationStatus[] statuses = ApplicationStatus.values();
+            private final AtomicInteger calls = new AtomicInteger();
+
+            @Override
+            public void setUp(File dataDir, int rows) {
+                LoadedData data = new LoadedData().loadApplications();
+                applicationController = newApplicationController(data);
+                List<Project> applied = new ArrayList<>();
+                for (Project project : data.getProjectDataManager().getAllProjects()) {
+                    if (!project.getApplications().isEmpty()) {
+                        applied.add(project);
+                    }
+                }
+                projects = new Turns<>(applied, threads);
+            }
+
+            @Override
+            public Object run() {
+                ApplicationStatus status = statuses[Math.floorMod(calls.getAndIncrement(), statuses.length)];
+                return applicationController.getApplicationsByStatus(projects.next(), status);
+            }
+        };
+    }
+
+    /**
+     * Books a flat for a successful application.
+     *
+     * The booking is undone before the next call without being measured:
+     * the application is made successful again, the applicant's booking is
+     * cleared and the project is given more units if it has run out. Each
+     * thread books its own applications, and no two threads share a project.
+     *
+     * @param name The benchmark name
+     * @param threads The number of threads
+     * @return the benchmark
+     */
+    private static Benchmark bookFlat(String name, int threads) {
+        return new Benchmark(name, Benchmark.Mode.THROUGHPUT, LoadedData.APPLICATION_LOAD_MAX_ROWS, threads) {
+            private BookingController bookingController;
+            private BookingCube bookingCube;
+            private Turns<Application> applications;
+            private final ThreadLocal<Application> current = new ThreadLocal<>();
+
+            @Override
+            public void setUp(File dataDir, int rows) {
+                LoadedData data = new LoadedData().loadApplications();
+                bookingCube = new BookingCube();
+                bookingCube.rebuild(data.getProjectDataManager().getAllProjects());
+                bookingController = new BookingController(data.getApplicationDataManager(),
+                                                          data.getProjectDataManager(), new ProjectEventLoop(),
+                                                          bookingCube);
+                // One successful application per project, so threads never book in the same project
+                List<Application> successful = new ArrayList<>();
+                Set<Project> booked = new HashSet<>();
+                for (Application application : data.getApplicationDataManager().getAllApplications()) {
+                    if (application.getStatus() == ApplicationStatus.SUCCESSFUL
+                            && !application.getProject().getAssignedOfficers().isEmpty()
+                            && booked.add(application.getProject())) {
+                        successful.add(application);
+                    }
+                }
+                applications = new Turns<>(successful, threads);
+            }
+
+            @Override
+            public void prepare() {
+                Application application = applications.next();
+                if (application.getStatus() == ApplicationStatus.BOOKED) {
+                    bookingCube.recordWithdrawal(application);
+                    application.setStatus(ApplicationStatus.SUCCESSFUL);
+                    application.getApplicant().setBookedProject(null);
+                    application.getApplicant().setBookedFlatType(null);
+                }
+                Project project = application.getProject();
+                if (!project.hasAvailableUnits(application.getSelectedFlatType())) {
+                    for (AProject.FlatTypeInfo info : new ArrayList<>(project.getFlatTypeInfoList())) {
+                        if (info.getFlatType() == application.getSelectedFlatType()) {
+                            project.addFlatType(info.getFlatType(), 1000, info.getSellingPrice());
+                            break;
+                        }
+                    }
+                }
+                current.set(application);
+            }
+
+            @Override
+            public Object run() {
+                Application application = current.get();
+                HDBOfficer officer = application.getProject().getAssignedOfficers().get(0);
+                return bookingController.bookFlat(application.getApplicationId(), officer);
+            }
+        };
+    }
+
+    /**
+     * Lists the enquiries of all projects of a manager.
+     *
+     * @param name The benchmark name
+     * @param threads The number of threads
+     * @return the benchmark
+     */
+    private static Benchmark enquiriesForManager(String name, int threads) {
+        return new Benchmark(name, Benchmark.Mode.THROUGHPUT, LoadedData.QUADRATIC_MAX_ROWS, threads) {
+            private EnquiryController enquiryController;
+            private Turns<HDBManager> managers;
+
+            @Override
+            public void setUp(File dataDir, int rows) {
+                LoadedData data = new LoadedData().loadProjects();
+                // The controller loads the enquiries
+                enquiryController = new EnquiryController(new ProjectController(data.getProjectDataManager()),
+                                                          data.newEnquiryDataManager(), new PersistenceQueue(),
+                                                          new ProjectEventLoop());
+                managers = new Turns<>(data.getManagerDataManager().getAllManagers(), threads);
+            }
+
+            @Override
+            public Object run() {
+                return enquiryController.getAllEnquiriesForManager(managers.next());
+            }
+        };
+    }
+
+    /**
+     * Logs an applicant in and links their application.
+     *
+     * @param name The benchmark name
+     * @param threads The number of threads
+     * @return the benchmark
+     */
+    private static Benchmark login(String name, int threads) {
+        return new Benchmark(name, Benchmark.Mode.THROUGHPUT, LoadedData.APPLICATION_LOAD_MAX_ROWS, threads) {
+            private AuthenticationController authenticationController;
+            private Turns<Applicant> applicants;
+
+            @Override
+            public void setUp(File dataDir, int rows) {
+                LoadedData data = new LoadedData().loadApplications();
+                authenticationController = new AuthenticationController(
+                    data.getApplicantDataManager(), data.getOfficerDataManager(), data.getManagerDataManager(),
+                    data.getApplicationDataManager());
+                applicants = new Turns<>(data.getApplicants(), threads);
+            }
+
+            @Override
+            public Object run() {
+                Applicant applicant = applicants.next();
+                return authenticationController.authenticateAndLinkApplications(applicant.getNric(), "password");
+            }
+        };
+    }
+
+    /**
+     * Creates an application controller as the application does at start-up.
+     *
+     * @param data The loaded data, with applications
+     * @return the controller
+     */
+    private static ApplicationController newApplicationController(LoadedData data) {
+        BookingCube bookingCube = new BookingCube();
+        bookingCube.rebuild(data.getProjectDataManager().getAllProjects());
+        return new ApplicationController(data.getApplicationDataManager(), data.getApplicantDataManager(),
+                                         new EligibilityCheckerService(), new BallotService(),
+                                         new ProjectEventLoop(), bookingCube);
+    }
+
+    /**
+     * Hands out the items of a list in turn. Each thread walks its own
+     * contiguous block of the list, so threads never get the same item and
+     * each sees the same mix of items as a single thread would.
+     *
+     * @param <T> The type of the items
+     */
+    private static class Turns<T> {
+
+        private final List<T> items;
+        private final int blocks;
+        private final AtomicInteger nextBlock = new AtomicInteger();
+        private final ThreadLocal<int[]> position;
+
+        /**
+         * Constructor for Turns.
+         *
+         * @param items The items, at least one per block
+         * @param blocks The number of threads sharing the items
+         */
+        Turns(List<T> items, int blocks) {
+            if (items.size() < blocks) {
+                throw new IllegalArgumentException("Need at least " + blocks + " items, got " + items.size());
+            }
+            this.items = new ArrayList<>(items);
+            this.blocks = blocks;
+            this.position = ThreadLocal.withInitial(() -> {
+                int block = nextBlock.getAndIncrement() % blocks;
+                int from = block * this.items.size() / blocks;
+                int to = (block + 1) * this.items.size() / blocks;
+                return new int[] {from, from, to};
+            });
+        }
+
+        /**
+         * Gets the next item for the calling thread.
+         *
+         * @return the item
+         */
+        T next() {
+            int[] block = position.get();
+            T item = items.get(block[1]);
+            block[1]++;
+            if (block[1] >= block[2]) {
+                block[1] = block[0];
+            }
+            return item;
+        }
+    }
+}
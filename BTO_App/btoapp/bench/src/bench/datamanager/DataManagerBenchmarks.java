@@ -0,0 +1,428 @@
+package bench.datamanager;
+
+import bench.Benchmark;
+import bench.LoadedData;
+import datamanager.ApplicantDataManager;
+import datamanager.ApplicationDataManager;
+import datamanager.EnquiryDataManager;
+import datamanager.ManagerDataManager;
+import datamanager.OfficerDataManager;
+import datamanager.ProjectDataManager;
+import enquiry.Enquiry;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import model.Applicant;
+import model.Project;
+import model.enums.ApplicationStatus;
+import utils.DatasetGenerator;
+
+/**
+ * Benchmarks of the data manager load and save paths.
+ *
+ * Every data file is parsed both cold, as the first call in a fresh JVM, and
+ * warm, after the JIT compiler has settled. Every file is also saved in full,
+ * and the files with a single-record update path are updated one row at a
+ * time, always on a row in the middle of the file.
+ *
+ * Benchmarks that load projects, applications or enquiries, or need them
+ * for set-up, are capped at the sizes given in {@link LoadedData}.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public final class DataManagerBenchmarks {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private DataManagerBenchmarks() {
+        throw new AssertionError("Cannot be instantiated");
+    }
+
+    /**
+     * Gets all data manager benchmarks.
+     *
+     * @return the benchmarks
+     */
+    public static List<Benchmark> all() {
+        List<Benchmark> benchmarks = new ArrayList<>();
+        for (Benchmark.Mode mode : Benchmark.Mode.values()) {
+            String suffix = mode == Benchmark.Mode.SINGLE_SHOT ? ".cold" : ".warm";
+            benchmarks.add(applicantsLoad("applicants.load" + suffix, mode));
+            benchmarks.add(officersLoad("officers.load" + suffix, mode));
+            benchmarks.add(managersLoad("managers.load" + suffix, mode));
+            benchmarks.add(projectsLoad("projects.load" + suffix, mode));
+            benchmarks.add(applicationsLoad("applications.load" + suffix, mode));
+            benchmarks.add(enquiriesLoad("enquiries.load" + suffix, mode));
+        }
+        benchmarks.add(applicantsSave());
+        benchmarks.add(officersSave());
+        benchmarks.add(managersSave());
+        benchmarks.add(applicationsSave());
+        benchmarks.add(enquiriesSave());
+        benchmarks.add(applicantsUpdate());
+        benchmarks.add(projectsUpdate());
+        benchmarks.add(applicationsUpdateStatus());
+        benchmarks.add(enquiriesUpdate());
+        return benchmarks;
+    }
+
+    /**
+     * Parses the applicant file.
+     *
+     * @param name The benchmark name
+     * @param mode How the benchmark is measured
+     * @return the benchmark
+     */
+    private static Benchmark applicantsLoad(String name, Benchmark.Mode mode) {
+        return new Benchmark(name, mode) {
+            private ApplicantDataManager applicantDataManager;
+
+            @Override
+            public void prepare() {
+                applicantDataManager = new ApplicantDataManager();
+            }
+
+            @Override
+            public Object run() {
+                return applicantDataManager.readAllApplicants();
+            }
+        };
+    }
+
+    /**
+     * Parses the officer file.
+     *
+     * @param name The benchmark name
+     * @param mode How the benchmark is measured
+     * @return the benchmark
+     */
+    private static Benchmark officersLoad(String name, Benchmark.Mode mode) {
+        return new Benchmark(name, mode) {
+            private OfficerDataManager officerDataManager;
+
+            @Override
+            public void prepare() {
+                officerDataManager = new OfficerDataManager();
+            }
+
+            @Override
+            public Object run() {
+                officerDataManager.loadOfficerData();
+                return officerDataManager;
+            }
+        };
+    }
+
+    /**
+     * Parses the manager file.
+     *
+     * @param name The benchmark name
+     * @param mode How the benchmark is measured
+     * @return the benchmark
+     */
+    private static Benchmark managersLoad(String name, Benchmark.Mode mode) {
+        return new Benchmark(name, mode) {
+            private ManagerDataManager managerDataManager;
+
+            @Override
+            public void prepare() {
+                managerDataManager = new ManagerDataManager();
+            }
+
+            @Override
+            public Object run() {
+                managerDataManager.loadManagerData();
+                return managerDataManager;
+            }
+        };
+    }
+
+    /**
+     * Parses the project file, linking managers and officers.
+     *
+     * @param name The benchmark name
+     * @param mode How the benchmark is measured
+     * @return the benchmark
+     */
+    private static Benchmark projectsLoad(String name, Benchmark.Mode mode) {
+        return new Benchmark(name, mode, LoadedData.QUADRATIC_MAX_ROWS) {
+            private LoadedData data;
+
+            @Override
+            public void setUp(File dataDir, int rows) {
+                data = new LoadedData().loadPeople();
+            }
+
+            @Override
+            public Object run() {
+                // The constructor loads the projects
+                return new ProjectDataManager(data.getManagerMap(), data.getOfficerMap());
+            }
+        };
+    }
+
+    /**
+     * Parses the application file, linking applicants and projects.
+     *
+     * @param name The benchmark name
+     * @param mode How the benchmark is measured
+     * @return the benchmark
+     */
+    private static Benchmark applicationsLoad(String name, Benchmark.Mode mode) {
+        return new Benchmark(name, mode, LoadedData.APPLICATION_LOAD_MAX_ROWS) {
+            private ApplicationDataManager applicationDataManager;
+
+            @Override
+            public void prepare() {
+                // Loading links applications into the projects, so every call starts from fresh projects
+                applicationDataManager = new LoadedData().loadProjects().newApplicationDataManager();
+            }
+
+            @Override
+            public Object run() {
+                applicationDataManager.loadApplicationData();
+                return applicationDataManager;
+            }
+        };
+    }
+
+    /**
+     * Parses the enquiry file, linking applicants and projects.
+     *
+     * @param name The benchmark name
+     * @param mode How the benchmark is measured
+     * @return the benchmark
+     */
+    private static Benchmark enquiriesLoad(String name, Benchmark.Mode mode) {
+        return new Benchmark(name, mode, LoadedData.QUADRATIC_MAX_ROWS) {
+            private LoadedData data;
+            private EnquiryDataManager enquiryDataManager;
+
+            @Override
+            public void setUp(File dataDir, int rows) {
+                data = new LoadedData().loadProjects();
+            }
+
+            @Override
+            public void prepare() {
+                // Loading links enquiries into the applicants and projects, so every call starts afresh
+                data.reloadApplicants();
+                data.reloadProjects();
+                enquiryDataManager = data.newEnquiryDataManager();
+            }
+
+            @Override
+            public Object run() {
+                return enquiryDataManager.loadEnquiries();
+            }
+        };
+    }
+
+    /**
+     * Saves all applicants.
+     *
+     * @return the benchmark
+     */
+    private static Benchmark applicantsSave() {
+        return new Benchmark("applicants.save", Benchmark.Mode.THROUGHPUT) {
+            private LoadedData data;
+
+            @Override
+            public void setUp(File dataDir, int rows) {
+                data = new LoadedData().loadPeople();
+            }
+
+            @Override
+            public Object run() {
+                return data.getApplicantDataManager().writeApplicants(data.getApplicants());
+            }
+        };
+    }
+
+    /**
+     * Saves all officers.
+     *
+     * @return the benchmark
+     */
+    private static Benchmark officersSave() {
+        return new Benchmark("officers.save", Benchmark.Mode.THROUGHPUT) {
+            private LoadedData data;
+
+            @Override
+            public void setUp(File dataDir, int rows) {
+                data = new LoadedData().loadPeople();
+            }
+
+            @Override
+            public Object run() {
+                return data.getOfficerDataManager().saveOfficerData();
+            }
+        };
+    }
+
+    /**
+     * Saves all managers.
+     *
+     * @return the benchmark
+     */
+    private static Benchmark managersSave() {
+        return new Benchmark("managers.save", Benchmark.Mode.THROUGHPUT) {
+            private LoadedData data;
+
+            @Override
+            public void setUp(File dataDir, int rows) {
+                data = new LoadedData().loadPeople();
+            }
+
+            @Override
+            public Object run() {
+                return data.getManagerDataManager().saveManagerData();
+            }
+        };
+    }
+
+    /**
+     * Saves all applications.
+     *
+     * @return the benchmark
+     */
+    private static Benchmark applicationsSave() {
+        return new Benchmark("applications.save", Benchmark.Mode.THROUGHPUT, LoadedData.APPLICATION_LOAD_MAX_ROWS) {
+            private LoadedData data;
+
+            @Override
+            public void setUp(File dataDir, int rows) {
+                data = new LoadedData().loadApplications();
+            }
+
+            @Override
+            public Object run() {
+                return data.getApplicationDataManager().saveApplicationData();
+            }
+        };
+    }
+
+    /**
+     * Saves all enquiries.
+     *
+     * @return the benchmark
+     */
+    private static Benchmark enquiriesSave() {
+        return new Benchmark("enquiries.save", Benchmark.Mode.THROUGHPUT, LoadedData.QUADRATIC_MAX_ROWS) {
+            private LoadedData data;
+            private List<Enquiry> enquiries;
+
+            @Override
+            public void setUp(File dataDir, int rows) {
+                data = new LoadedData().loadEnquiries();
+                enquiries = data.getEnquiryDataManager().getAllEnquiries();
+            }
+
+            @Override
+            public Object run() {
+                return data.getEnquiryDataManager().saveEnquiries(enquiries);
+            }
+        };
+    }
+
+    /**
+     * Updates one applicant in the applicant file.
+     *
+     * @return the benchmark
+     */
+    private static Benchmark applicantsUpdate() {
+        return new Benchmark("applicants.update", Benchmark.Mode.THROUGHPUT) {
+            private LoadedData data;
+            private Applicant applicant;
+
+            @Override
+            public void setUp(File dataDir, int rows) {
+                data = new LoadedData().loadPeople();
+                applicant = data.getApplicants().get(data.getApplicants().size() / 2);
+            }
+
+            @Override
+            public Object run() {
+                return data.getApplicantDataManager().updateApplicant(applicant);
+            }
+        };
+    }
+
+    /**
+     * Updates one project in the project file.
+     *
+     * @return the benchmark
+     */
+    private static Benchmark projectsUpdate() {
+        return new Benchmark("projects.update", Benchmark.Mode.THROUGHPUT, LoadedData.QUADRATIC_MAX_ROWS) {
+            private LoadedData data;
+            private Project project;
+
+            @Override
+            public void setUp(File dataDir, int rows) {
+                data = new LoadedData().loadProjects();
+                project = data.getProjectDataManager().getProjectByName(DatasetGenerator.projectName(rows / 2));
+            }
+
+            @Override
+            public Object run() {
+                return data.getProjectDataManager().updateProject(project);
+            }
+        };
+    }
+
+    /**
+     * Updates the status of one application in the application file.
+     *
+     * @return the benchmark
+     */
+    private static Benchmark applicationsUpdateStatus() {
+        return new Benchmark("applications.updateStatus", Benchmark.Mode.THROUGHPUT) {
+            private ApplicationDataManager applicationDataManager;
+            private String applicationId;
+            private boolean approve;
+
+            @Override
+            public void setUp(File dataDir, int rows) {
+                // The update works on the file alone, so nothing needs loading
+                applicationDataManager = new ApplicationDataManager(null, null, null);
+                // The status is moved between pending and successful, whatever it was
+                applicationId = DatasetGenerator.applicationId(rows / 2);
+            }
+
+            @Override
+            public Object run() {
+                approve = !approve;
+                return applicationDataManager.updateApplicationStatusInFile(
+                    applicationId, approve ? ApplicationStatus.SUCCESSFUL : ApplicationStatus.PENDING);
+            }
+        };
+    }
+
+    /**
+     * Updates one enquiry and saves the enquiry file.
+     *
+     * @return the benchmark
+     */
+    private static Benchmark enquiriesUpdate() {
+        return new Benchmark("enquiries.update", Benchmark.Mode.THROUGHPUT, LoadedData.QUADRATIC_MAX_ROWS) {
+            private LoadedData data;
+            private Enquiry enquiry;
+
+            @Override
+            public void setUp(File dataDir, int rows) {
+                data = new LoadedData().loadEnquiries();
+                enquiry = data.getEnquiryDataManager().getEnquiryById(DatasetGenerator.enquiryId(rows / 2));
+            }
+
+            @Override
+            public Object run() {
+                // Enquiries have no single-row write, so an update is saved like the controller does
+                data.getEnquiryDataManager().updateEnquiry(enquiry);
+                return data.getEnquiryDataManager().saveEnquiries(data.getEnquiryDataManager().getAllEnquiries());
+            }
+        };
+    }
+}
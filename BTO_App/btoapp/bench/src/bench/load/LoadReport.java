@@ -0,0 +1,131 @@
+package bench.load;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import utils.metrics.Histogram;
+
+/**
+ * Latencies and errors of the actions of a load test, recorded from every
+ * session thread at once.
+ *
+ * Each action, such as "applicant.browse.projects", and each whole session,
+ * such as "applicant.browse", has a latency histogram of its successful
+ * calls, a count of failed calls with the first failure seen, and a count
+ * of calls that left script lines unread.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public class LoadReport {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Records a successful call.
+     *
+     * @param name The action or session
+     * @param nanos The time the call took
+     * @param unreadLines The number of script lines the call left unread
+     */
+    public void recordSuccess(String name, long nanos, int unreadLines) {
+        Entry entry = entry(name);
+        entry.latency.record(nanos);
+        if (unreadLines > 0) {
+            entry.unread.increment();
+        }
+    }
+
+    /**
+     * Records a failed call.
+     *
+     * @param name The action or session
+     * @param error Describes the failure
+     */
+    public void recordError(String name, String error) {
+        Entry entry = entry(name);
+        entry.errors.increment();
+        entry.firstError.compareAndSet(null, error);
+    }
+
+    /**
+     * Prints the report as a table, sorted by name.
+     *
+     * @param out The stream to print to
+     * @param elapsedNanos The wall-clock time of the run, for throughput
+     */
+    public void printTable(PrintStream out, long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        out.printf("%-36s %8s %7s %7s %9s %9s %9s %9s %9s%n",
+                   "Action", "Calls", "Errors", "Unread", "Calls/s", "p50 ms", "p90 ms", "p99 ms", "Max ms");
+        for (Map.Entry<String, Entry> row : new TreeMap<>(entries).entrySet()) {
+            Entry entry = row.getValue();
+            Histogram latency = entry.latency;
+            long calls = latency.getCount() + entry.errors.sum();
+            out.printf(Locale.ROOT, "%-36s %8d %7d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                       row.getKey(), calls, entry.errors.sum(), entry.unread.sum(), calls / seconds,
+                       latency.getP50() / NANOS_PER_MILLI, latency.getP90() / NANOS_PER_MILLI,
+                       latency.getP99() / NANOS_PER_MILLI, latency.getMax() / NANOS_PER_MILLI);
+        }
+        for (Map.Entry<String, Entry> row : new TreeMap<>(entries).entrySet()) {
+            String firstError = row.getValue().firstError.get();
+            if (firstError != null) {
+                out.println("First error of " + row.getKey() + ": " + firstError);
+            }
+        }
+    }
+
+    /**
+     * Writes the report as CSV, one row per action or session.
+     *
+     * @param file The file to write
+     * @param elapsedNanos The wall-clock time of the run, for throughput
+     * @throws IOException if the file cannot be written
+     */
+    public void writeCsv(File file, long elapsedNanos) throws IOException {
+        double seconds = elapsedNanos / 1e9;
+        try (PrintWriter writer = new PrintWriter(file, "UTF-8")) {
+            writer.println("name,calls,errors,unread,calls_per_s,p50_ms,p90_ms,p99_ms,p999_ms,max_ms,mean_ms");
+            for (Map.Entry<String, Entry> row : new TreeMap<>(entries).entrySet()) {
+                Entry entry = row.getValue();
+                Histogram latency = entry.latency;
+                long calls = latency.getCount() + entry.errors.sum();
+                writer.println(String.format(Locale.ROOT, "%s,%d,%d,%d,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f,%.3f",
+                    row.getKey(), calls, entry.errors.sum(), entry.unread.sum(), calls / seconds,
+                    latency.getP50() / NANOS_PER_MILLI, latency.getP90() / NANOS_PER_MILLI,
+                    latency.getP99() / NANOS_PER_MILLI, latency.getP999() / NANOS_PER_MILLI,
+                    latency.getMax() / NANOS_PER_MILLI, latency.getMean() / NANOS_PER_MILLI));
+            }
+        }
+    }
+
+    /**
+     * Gets or creates the entry of an action or session.
+     *
+     * @param name The name
+     * @return the entry
+     */
+    private Entry entry(String name) {
+        Entry entry = entries.get(name);
+        return entry != null ? entry : entries.computeIfAbsent(name, key -> new Entry());
+    }
+
+    /**
+     * The recorded calls of one action or session.
+     */
+    private static final class Entry {
+        private final Histogram latency = new Histogram();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder unread = new LongAdder();
+        private final AtomicReference<String> firstError = new AtomicReference<>();
+    }
+}
@@ -0,0 +1,440 @@
+package bench.load;
+
+import bench.Fixtures;
+import controller.AuthenticationController;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import model.User;
+import model.enums.UserRole;
+import view.LoginView;
+import view.MenuNavigator;
+import view.input.ScriptedInputSource;
+
+/**
+ * Load test of the BTO Management System: many scripted applicant, officer
+ * and manager sessions run at once in one JVM, through the same login view,
+ * menu navigator and views as the console, with their input read from
+ * scripts instead of a terminal.
+ *
+ * The sessions are spread over a fixed number of concurrent users, each
+ * running one session after another without pause. Every session picks a
+ * {@link Scenario} at random, weighted by the mix, and the next user of
+ * the scenario's role in turn that fits the scenario and is not in another
+ * session; if none of the next few users fits, the first free one runs it
+ * anyway. The report gives the calls per second, latency percentiles and
+ * errors of every menu action and session.
+ *
+ * Usage:
+ * <pre>
+ * java -cp out/bench bench.load.LoadTest [--rows N] [--users N] [--sessions N] [--warmup N]
+ *      [--mix NAME=WEIGHT,...] [--seed N] [--data DIR] [--out FILE]
+ * </pre>
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public class LoadTest {
+
+    /** Password of every generated user. */
+    private static final String PASSWORD = "password";
+
+    /** Number of users tried in turn for one that fits the session's scenario. */
+    private static final int USER_SEARCH_LIMIT = 64;
+
+    private int rows = 1000;
+    private int users = 64;
+    private int sessions = 5000;
+    private int warmupSessions = 500;
+    private long seed = Fixtures.SEED;
+    private File dataRoot = new File("bench-data");
+    private File out;
+    private final Map<Scenario, Integer> mix = new EnumMap<>(Scenario.class);
+
+    private LoadTestSystem system;
+    private final Map<UserRole, AtomicInteger> nextUser = new EnumMap<>(UserRole.class);
+    private final Map<String, Integer> busyUsers = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for LoadTest with the default mix of scenarios.
+     */
+    public LoadTest() {
+        for (Scenario scenario : Scenario.values()) {
+            mix.put(scenario, scenario.getDefaultWeight());
+        }
+        for (UserRole role : UserRole.values()) {
+            nextUser.put(role, new AtomicInteger());
+        }
+    }
+
+    /**
+     * Entry point of the load test.
+     *
+     * @param args The command line options
+     * @throws Exception if the data cannot be prepared
+     */
+    public static void main(String[] args) throws Exception {
+        LoadTest loadTest = new LoadTest();
+        if (!loadTest.parseOptions(args)) {
+            System.out.println("Usage: java bench.load.LoadTest [--rows N] [--users N] [--sessions N] [--warmup N]"
+                               + " [--mix NAME=WEIGHT,...] [--seed N] [--data DIR] [--out FILE]");
+            System.exit(2);
+        }
+        System.exit(loadTest.run() ? 0 : 1);
+    }
+
+    /**
+     * Reads the command line options.
+     *
+     * @param args The command line options
+     * @return true if the options are valid
+     */
+    boolean parseOptions(String[] args) {
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (option.equals("--help")) {
+                    return false;
+                }
+                if (i + 1 >= args.length) {
+                    System.out.println("Missing value for " + option);
+                    return false;
+                }
+                String value = args[++i];
+                switch (option) {
+                    case "--rows":
+                        rows = Integer.parseInt(value);
+                        break;
+                    case "--users":
+                        users = Integer.parseInt(value);
+                        break;
+                    case "--sessions":
+                        sessions = Integer.parseInt(value);
+                        break;
+                    case "--warmup":
+                        warmupSessions = Integer.parseInt(value);
+                        break;
+                    case "--mix":
+                        if (!parseMix(value)) {
+                            return false;
+                        }
+                        break;
+                    case "--seed":
+                        seed = Long.parseLong(value);
+                        break;
+                    case "--data":
+                        dataRoot = new File(value);
+                        break;
+                    case "--out":
+                        out = new File(value);
+                        break;
+                    default:
+                        System.out.println("Unknown option: " + option);
+                        return false;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.out.println("Invalid option value: " + e.getMessage());
+            return false;
+        }
+        return users > 0 && sessions > 0 && warmupSessions >= 0;
+    }
+
+    /**
+     * Reads the weights of the scenarios; scenarios left out are not run.
+     *
+     * @param value The weights, such as "applicant.browse=3,officer.book=1"
+     * @return true if every name and weight is valid
+     */
+    private boolean parseMix(String value) {
+        mix.replaceAll((scenario, weight) -> 0);
+        for (String part : value.split(",")) {
+            String[] pair = part.trim().split("=");
+            Scenario scenario = Scenario.byName(pair[0].trim());
+            if (scenario == null || pair.length != 2) {
+                System.out.println("Unknown scenario in mix: " + part);
+                return false;
+            }
+            mix.put(scenario, Integer.parseInt(pair[1].trim()));
+        }
+        return mix.values().stream().anyMatch(weight -> weight > 0);
+    }
+
+    /**
+     * Prepares a private copy of the data, runs the warm-up and measured
+     * sessions and prints the report.
+     *
+     * @return true if every measured session completed without error
+     * @throws IOException if the data or report cannot be written
+     */
+    boolean run() throws IOException {
+        File fixtureDir = new File(dataRoot, String.valueOf(rows));
+        System.out.println("Preparing data files with " + rows + " rows in " + fixtureDir);
+        Fixtures.ensure(fixtureDir, rows);
+        Path workDir = Files.createTempDirectory("bto-load");
+        // Sessions apply, book and send enquiries, so they must not change the generated data
+        Fixtures.copyDirectory(fixtureDir.toPath(), workDir);
+        System.setProperty("bto.data.dir", workDir.toAbsolutePath().toString());
+
+        // The views print every screen; keep that out of the measurement
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        LoadReport report = new LoadReport();
+        LongAdder failedSessions = new LongAdder();
+        long elapsed;
+        try {
+            system = new LoadTestSystem();
+            console.printf("Loaded %d applicants, %d officers and %d managers%n", system.getApplicants().size(),
+                           system.getOfficers().size(), system.getManagers().size());
+
+            console.println("Warming up with " + warmupSessions + " sessions");
+            runSessions(warmupSessions, new LoadReport(), new LongAdder());
+
+            console.println("Running " + sessions + " sessions with " + users + " concurrent users");
+            long start = System.nanoTime();
+            runSessions(sessions, report, failedSessions);
+            elapsed = System.nanoTime() - start;
+            system.shutdown();
+        } finally {
+            System.setOut(console);
+            Fixtures.deleteDirectory(workDir);
+        }
+
+        System.out.printf("%nCompleted %d sessions in %.1f s, %.1f sessions/s, %d failed%n%n", sessions,
+                          elapsed / 1e9, sessions / (elapsed / 1e9), failedSessions.sum());
+        report.printTable(System.out, elapsed);
+        if (out != null) {
+            if (out.getParentFile() != null) {
+                out.getParentFile().mkdirs();
+            }
+            report.writeCsv(out, elapsed);
+            System.out.println("Report written to " + out);
+        }
+        return failedSessions.sum() == 0;
+    }
+
+    /**
+     * Runs sessions on the concurrent users until the given number has run.
+     *
+     * @param count The number of sessions
+     * @param report The report to record into
+     * @param failedSessions Counts the sessions with a failed login or action
+     */
+    private void runSessions(int count, LoadReport report, LongAdder failedSessions) {
+        List<Scenario> planned = plan(count);
+        AtomicInteger next = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        for (int i = 0; i < users; i++) {
+            executor.execute(() -> {
+                for (int session = next.getAndIncrement(); session < planned.size(); session = next.getAndIncrement()) {
+                    if (!runSession(planned.get(session), report)) {
+                        failedSessions.increment();
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Picks the scenario of every session at random, weighted by the mix.
+     * The same seed gives the same sequence.
+     *
+     * @param count The number of sessions
+     * @return the scenarios, in the order the sessions start
+     */
+    private List<Scenario> plan(int count) {
+        List<Scenario> runnable = new ArrayList<>();
+        int totalWeight = 0;
+        for (Map.Entry<Scenario, Integer> entry : mix.entrySet()) {
+            if (entry.getValue() > 0 && !usersOf(entry.getKey().getRole()).isEmpty()) {
+                runnable.add(entry.getKey());
+                totalWeight += entry.getValue();
+            }
+        }
+        Random random = new Random(seed);
+        List<Scenario> planned = new ArrayList<>(count);
+        for (int i = 0; i < count && totalWeight > 0; i++) {
+            int pick = random.nextInt(totalWeight);
+            for (Scenario scenario : runnable) {
+                pick -= mix.get(scenario);
+                if (pick < 0) {
+                    planned.add(scenario);
+                    break;
+                }
+            }
+        }
+        return planned;
+    }
+
+    /**
+     * Runs one session: logs the next user of the scenario's role in, goes
+     * through the scenario's steps and logs out.
+     *
+     * @param scenario The scenario
+     * @param report The report to record into
+     * @return true if the login and every step succeeded
+     */
+    private boolean runSession(Scenario scenario, LoadReport report) {
+        User user = acquireUser(scenario);
+        try {
+            return runSession(scenario, user, report);
+        } finally {
+            release(user);
+        }
+    }
+
+    /**
+     * Takes the next user of the scenario's role that fits it and is not in
+     * another session, or the first free one if none of them fits.
+     *
+     * @param scenario The scenario
+     * @return the user, marked busy until released
+     */
+    private User acquireUser(Scenario scenario) {
+        List<? extends User> candidates = usersOf(scenario.getRole());
+        AtomicInteger next = nextUser.get(scenario.getRole());
+        User fallback = null;
+        for (int tried = 0; tried < Math.min(USER_SEARCH_LIMIT, candidates.size()); tried++) {
+            User user = candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+            if (busyUsers.putIfAbsent(user.getNric(), 1) != null) {
+                continue;
+            }
+            if (scenario.fits(system, user)) {
+                if (fallback != null) {
+                    release(fallback);
+                }
+                return user;
+            }
+            if (fallback == null) {
+                fallback = user;
+            } else {
+                release(user);
+            }
+        }
+        if (fallback != null) {
+            return fallback;
+        }
+        // Every user tried is busy, share one rather than wait
+        User user = candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+        busyUsers.merge(user.getNric(), 1, Integer::sum);
+        return user;
+    }
+
+    /**
+     * Releases a user taken by {@link #acquireUser}.
+     *
+     * @param user The user
+     */
+    private void release(User user) {
+        busyUsers.computeIfPresent(user.getNric(), (nric, sessions) -> sessions > 1 ? sessions - 1 : null);
+    }
+
+    /**
+     * Runs one session of a user.
+     *
+     * @param scenario The scenario
+     * @param user The user
+     * @param report The report to record into
+     * @return true if the login and every step succeeded
+     */
+    private boolean runSession(Scenario scenario, User user, LoadReport report) {
+        AuthenticationController authController = system.getAuthController();
+        ScriptedInputSource input = new ScriptedInputSource(user.getNric(), PASSWORD);
+        String prefix = scenario.getName() + ".";
+        long sessionStart = System.nanoTime();
+
+        String sessionToken;
+        try {
+            sessionToken = new LoginView(authController, input).displayAndLogin();
+        } catch (RuntimeException e) {
+            report.recordError(prefix + "login", describe(e));
+            report.recordError(scenario.getName(), "login failed");
+            return false;
+        }
+        if (sessionToken == null) {
+            report.recordError(prefix + "login", "Invalid credentials for " + user.getNric());
+            report.recordError(scenario.getName(), "login failed");
+            return false;
+        }
+        report.recordSuccess(prefix + "login", System.nanoTime() - sessionStart, input.remaining());
+
+        boolean succeeded = true;
+        try {
+            MenuNavigator navigator = system.newNavigator(sessionToken, input);
+            // Script from the session's own user object, the one the views read
+            User sessionUser = authController.resolveSession(sessionToken);
+            for (Scenario.Step step : scenario.getSteps()) {
+                input.clear();
+                input.add(step.script(system, sessionUser));
+                long start = System.nanoTime();
+                try {
+                    navigator.navigate(step.getOption());
+                    report.recordSuccess(prefix + step.getName(), System.nanoTime() - start, input.remaining());
+                } catch (RuntimeException e) {
+                    report.recordError(prefix + step.getName(), describe(e));
+                    succeeded = false;
+                }
+            }
+        } catch (RuntimeException e) {
+            report.recordError(prefix + "menu", describe(e));
+            succeeded = false;
+        } finally {
+            authController.endSession(sessionToken);
+        }
+
+        if (succeeded) {
+            report.recordSuccess(scenario.getName(), System.nanoTime() - sessionStart, 0);
+        } else {
+            report.recordError(scenario.getName(), "an action failed");
+        }
+        return succeeded;
+    }
+
+    /**
+     * Gets the users of a role.
+     *
+     * @param role The role
+     * @return the loaded users of the role
+     */
+    private List<? extends User> usersOf(UserRole role) {
+        switch (role) {
+            case OFFICER:
+                return system.getOfficers();
+            case MANAGER:
+                return system.getManagers();
+            default:
+                return system.getApplicants();
+        }
+    }
+
+    /**
+     * Describes a failure for the report.
+     *
+     * @param e The exception
+     * @return the exception type and message
+     */
+    private static String describe(RuntimeException e) {
+        return e.getClass().getSimpleName() + ": " + e.getMessage();
+    }
+}
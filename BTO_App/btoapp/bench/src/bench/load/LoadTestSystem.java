@@ -0,0 +1,201 @@
+package bench.load;
+
+import bench.LoadedData;
+import controller.ApplicationController;
+import controller.AuthenticationController;
+import controller.BookingController;
+import controller.EnquiryController;
+import controller.ManagerController;
+import controller.ProjectController;
+import controller.timed.TimedApplicationController;
+import controller.timed.TimedAuthenticationController;
+import controller.timed.TimedBookingController;
+import controller.timed.TimedEnquiryController;
+import controller.timed.TimedProjectController;
+import datamanager.ApplicationDataManager;
+import datamanager.EnquiryDataManager;
+import datamanager.PersistenceQueue;
+import java.util.ArrayList;
+import java.util.List;
+import model.Applicant;
+import model.Application;
+import model.HDBManager;
+import model.HDBOfficer;
+import model.Project;
+import model.User;
+import service.BallotService;
+import service.BookingCube;
+import service.EligibilityCheckerService;
+import service.ProjectEventLoop;
+import service.ReportCache;
+import service.ReportExporter;
+import service.ReportService;
+import view.MenuNavigator;
+import view.interfaces.InputSource;
+
+/**
+ * The controllers and services of the BTO Management System wired as at
+ * start-up, over data loaded from the directory in the system property
+ * "bto.data.dir", and shared by every session of a load test.
+ *
+ * The report scheduler and metrics reporter of the application are left
+ * out, so the load test measures the sessions alone.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public class LoadTestSystem {
+
+    private final PersistenceQueue persistenceQueue;
+    private final ApplicationDataManager applicationDataManager;
+    private final ProjectEventLoop projectEventLoop;
+    private final ProjectController projectController;
+    private final ApplicationController applicationController;
+    private final EnquiryController enquiryController;
+    private final ManagerController managerController;
+    private final AuthenticationController authController;
+    private final BookingController bookingController;
+    private final ReportService reportService;
+    private final List<Applicant> applicants;
+    private final List<HDBOfficer> officers;
+    private final List<HDBManager> managers;
+
+    /**
+     * Constructor for LoadTestSystem. Loads the data and starts the
+     * background threads of the application.
+     */
+    public LoadTestSystem() {
+        persistenceQueue = new PersistenceQueue();
+        projectEventLoop = new ProjectEventLoop();
+
+        LoadedData data = new LoadedData().loadApplications();
+        applicationDataManager = data.getApplicationDataManager();
+        EnquiryDataManager enquiryDataManager = data.newEnquiryDataManager();
+        enquiryDataManager.loadEnquiries();
+
+        // Visibility is not stored, so publish the projects as their managers would
+        for (Project project : data.getProjectDataManager().getAllProjects()) {
+            project.setVisible(true);
+        }
+
+        BookingCube bookingCube = new BookingCube();
+        bookingCube.rebuild(data.getProjectDataManager().getAllProjects());
+
+        projectController = new TimedProjectController(data.getProjectDataManager());
+        authController = new TimedAuthenticationController(data.getApplicantDataManager(), data.getOfficerDataManager(),
+            data.getManagerDataManager(), data.getApplicationDataManager());
+        applicationController = new TimedApplicationController(data.getApplicationDataManager(),
+            data.getApplicantDataManager(), new EligibilityCheckerService(), new BallotService(), projectEventLoop,
+            bookingCube);
+        bookingController = new TimedBookingController(data.getApplicationDataManager(), data.getProjectDataManager(),
+            projectEventLoop, bookingCube);
+        enquiryController = new TimedEnquiryController(projectController, enquiryDataManager, persistenceQueue,
+            projectEventLoop);
+        managerController = new ManagerController(data.getManagerDataManager(), data.getProjectDataManager(),
+            data.getOfficerDataManager(), projectEventLoop);
+        reportService = new ReportService(new ReportExporter(), new ReportCache(), bookingCube);
+
+        applicants = new ArrayList<>(data.getApplicants());
+        officers = new ArrayList<>(data.getOfficerMap().values());
+        managers = new ArrayList<>(data.getManagerMap().values());
+    }
+
+    /**
+     * Creates the menu navigator of a logged-in session.
+     *
+     * @param sessionToken The session of the logged-in user
+     * @param input Source of the session's input
+     * @return the navigator
+     */
+    public MenuNavigator newNavigator(String sessionToken, InputSource input) {
+        return new MenuNavigator(sessionToken, projectController, applicationController, enquiryController,
+            managerController, authController, bookingController, reportService, input);
+    }
+
+    /**
+     * Waits for queued writes and stops the background threads.
+     */
+    public void shutdown() {
+        persistenceQueue.shutdown();
+        projectEventLoop.shutdown();
+    }
+
+    /**
+     * Gets the project controller.
+     *
+     * @return the controller
+     */
+    public ProjectController getProjectController() {
+        return projectController;
+    }
+
+    /**
+     * Gets the application controller.
+     *
+     * @return the controller
+     */
+    public ApplicationController getApplicationController() {
+        return applicationController;
+    }
+
+    /**
+     * Gets the enquiry controller.
+     *
+     * @return the controller
+     */
+    public EnquiryController getEnquiryController() {
+        return enquiryController;
+    }
+
+    /**
+     * Gets the authentication controller.
+     *
+     * @return the controller
+     */
+    public AuthenticationController getAuthController() {
+        return authController;
+    }
+
+    /**
+     * Tells whether a user has a pending or successful application, as
+     * linked to them when they log in.
+     *
+     * @param user The applicant or officer
+     * @return true if the user has an active application
+     */
+    public boolean hasActiveApplication(User user) {
+        for (Application application : applicationDataManager.getApplicationsByApplicant(user.getNric())) {
+            if (application.isActive()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the loaded applicants.
+     *
+     * @return the applicants
+     */
+    public List<Applicant> getApplicants() {
+        return applicants;
+    }
+
+    /**
+     * Gets the loaded officers.
+     *
+     * @return the officers
+     */
+    public List<HDBOfficer> getOfficers() {
+        return officers;
+    }
+
+    /**
+     * Gets the loaded managers.
+     *
+     * @return the managers
+     */
+    public List<HDBManager> getManagers() {
+        return managers;
+    }
+}
@@ -0,0 +1,460 @@
+package bench.load;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import enquiry.Enquiry;
+import model.Applicant;
+import model.Application;
+import model.HDBManager;
+import model.HDBOfficer;
+import model.Project;
+import model.User;
+import model.enums.ApplicationStatus;
+import model.enums.FlatType;
+import model.enums.UserRole;
+import view.Paginator;
+
+/**
+ * A scripted session of the load test: the user logs in, goes through a
+ * fixed list of menu options, answering each view's prompts from a script,
+ * and logs out.
+ *
+ * Each scenario prefers users it fits, for example an applicant without an
+ * application for the apply scenario, and each script is written when its
+ * step starts, from the same data the view is about to show, so it follows
+ * the path the view takes. Script lines left unread, which the report
+ * counts, then point to a view that did not behave as the data says it
+ * should, or to another session changing the data at the same time; a
+ * script that runs out of lines fails the action.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public enum Scenario {
+
+    /** An applicant lists the open projects, views one, and checks their application and enquiries. */
+    APPLICANT_BROWSE("applicant.browse", UserRole.APPLICANT, 40, (system, user) -> true,
+        new Step("projects", 1, Scenario::browseScript),
+        new Step("myApplication", 2, Scenario::myApplicationScript),
+        new Step("myEnquiries", 5, Scenario::myEnquiriesScript)),
+
+    /** An applicant applies for the first open project with a flat type for them and checks the application. */
+    APPLICANT_APPLY("applicant.apply", UserRole.APPLICANT, 15,
+        (system, user) -> !system.hasActiveApplication(user) && applyChoice(system, user) >= 0,
+        new Step("apply", 1, Scenario::applyScript),
+        new Step("myApplication", 2, Scenario::myApplicationScript)),
+
+    /** An applicant sends an enquiry about the first open project and lists their enquiries. */
+    APPLICANT_ENQUIRE("applicant.enquire", UserRole.APPLICANT, 15,
+        (system, user) -> !visibleProjects(system, user).isEmpty(),
+        new Step("enquire", 4, Scenario::enquireScript),
+        new Step("myEnquiries", 5, Scenario::myEnquiriesScript)),
+
+    /** An officer lists the projects and books a flat for the first successful application. */
+    OFFICER_BOOK("officer.book", UserRole.OFFICER, 15, (system, user) -> !bookable(system, user).isEmpty(),
+        new Step("projects", 1, Scenario::browseScript),
+        new Step("book", 5, Scenario::bookScript)),
+
+    /** A manager lists the projects, approves a pending application and reviews the enquiries. */
+    MANAGER_APPROVE("manager.approve", UserRole.MANAGER, 15, (system, user) -> approveChoice(system, user) >= 0,
+        Step.of("projects", 2, "0"),
+        new Step("approve", 7, Scenario::approveScript),
+        new Step("enquiries", 10, Scenario::enquiriesScript));
+
+    private final String name;
+    private final UserRole role;
+    private final int defaultWeight;
+    private final Fit fit;
+    private final List<Step> steps;
+
+    /**
+     * Constructor for Scenario.
+     *
+     * @param name The name used in the report and the --mix option
+     * @param role The role of the users running the scenario
+     * @param defaultWeight The share of sessions running the scenario unless --mix says otherwise
+     * @param fit Tells whether a user can go through the scenario as intended
+     * @param steps The menu options the session goes through, in order
+     */
+    Scenario(String name, UserRole role, int defaultWeight, Fit fit, Step... steps) {
+        this.name = name;
+        this.role = role;
+        this.defaultWeight = defaultWeight;
+        this.fit = fit;
+        this.steps = Collections.unmodifiableList(Arrays.asList(steps));
+    }
+
+    /**
+     * Gets the name of the scenario.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the role of the users running the scenario.
+     *
+     * @return the role
+     */
+    public UserRole getRole() {
+        return role;
+    }
+
+    /**
+     * Gets the share of sessions running the scenario by default.
+     *
+     * @return the weight
+     */
+    public int getDefaultWeight() {
+        return defaultWeight;
+    }
+
+    /**
+     * Tells whether a user can go through the scenario as intended, for
+     * example whether an applicant still has a project to apply for.
+     *
+     * @param system The system under test
+     * @param user The user
+     * @return true if the user fits the scenario
+     */
+    public boolean fits(LoadTestSystem system, User user) {
+        return fit.test(system, user);
+    }
+
+    /**
+     * Gets the menu options the session goes through.
+     *
+     * @return the steps, in order
+     */
+    public List<Step> getSteps() {
+        return steps;
+    }
+
+    /**
+     * Finds a scenario by name.
+     *
+     * @param name The name
+     * @return the scenario, or null if there is none of that name
+     */
+    public static Scenario byName(String name) {
+        for (Scenario scenario : values()) {
+            if (scenario.name.equals(name)) {
+                return scenario;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Writes the script of the project list of an applicant or officer: view
+     * the first project and decline to apply, if any project is listed.
+     *
+     * @param system The system under test
+     * @param user The applicant or officer
+     * @return the script lines
+     */
+    private static String[] browseScript(LoadTestSystem system, User user) {
+        if (visibleProjects(system, user).isEmpty()) {
+            return new String[0];
+        }
+        return user instanceof HDBOfficer ? new String[] {"0"} : new String[] {"1", "", "N"};
+    }
+
+    /**
+     * Writes the script of the application step: view the project found by
+     * {@link #applyChoice}, apply for the first flat type offered and confirm.
+     * Without such a project the applicant views the first project and declines.
+     *
+     * @param system The system under test
+     * @param user The applicant
+     * @return the script lines
+     */
+    private static String[] applyScript(LoadTestSystem system, User user) {
+        int index = applyChoice(system, user);
+        if (index < 0) {
+            return browseScript(system, user);
+        }
+        return new String[] {String.valueOf(index + 1), "", "Y", "1", "Y"};
+    }
+
+    /**
+     * Finds the first listed project in which the application view offers
+     * an applicant a flat type.
+     *
+     * @param system The system under test
+     * @param user The applicant
+     * @return the position of the project in the view's list, or -1 if the
+     *         applicant has an application or nothing to apply for
+     */
+    private static int applyChoice(LoadTestSystem system, User user) {
+        Applicant applicant = (Applicant) user;
+        if (applicant.hasActiveApplication()) {
+            return -1;
+        }
+        List<Project> projects = visibleProjects(system, user);
+        for (int i = 0; i < projects.size(); i++) {
+            for (Project.FlatTypeInfo info : projects.get(i).getFlatTypeInfoList()) {
+                if (info.getNumberOfUnits() > 0
+                        && (applicant.isMarried() || info.getFlatType() == FlatType.TWO_ROOM)) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Writes the script of the enquiry step: pick the first listed project
+     * and send the enquiry, if any project is listed.
+     *
+     * @param system The system under test
+     * @param user The applicant
+     * @return the script lines
+     */
+    private static String[] enquireScript(LoadTestSystem system, User user) {
+        if (visibleProjects(system, user).isEmpty()) {
+            return new String[0];
+        }
+        return new String[] {"1", "Load test enquiry"};
+    }
+
+    /**
+     * Writes the script of the application details: leave them, if the
+     * applicant has an application to show.
+     *
+     * @param system The system under test
+     * @param user The applicant
+     * @return the script lines
+     */
+    private static String[] myApplicationScript(LoadTestSystem system, User user) {
+        return ((Applicant) user).getCurrentApplication() != null ? new String[] {""} : new String[0];
+    }
+
+    /**
+     * Writes the script of the applicant's enquiry list: leave it, if the
+     * applicant has sent any enquiry.
+     *
+     * @param system The system under test
+     * @param user The applicant
+     * @return the script lines
+     */
+    private static String[] myEnquiriesScript(LoadTestSystem system, User user) {
+        if (system.getEnquiryController().getEnquiriesByApplicant((Applicant) user).isEmpty()) {
+            return new String[0];
+        }
+        return new String[] {"0"};
+    }
+
+    /**
+     * Writes the script of the booking step: pick the first successful
+     * application of the officer's project, leave its details and book.
+     *
+     * @param system The system under test
+     * @param user The officer
+     * @return the script lines
+     */
+    private static String[] bookScript(LoadTestSystem system, User user) {
+        if (bookable(system, user).isEmpty()) {
+            return new String[0];
+        }
+        return new String[] {"1", "", "1"};
+    }
+
+    /**
+     * Gets the successful applications an officer can book.
+     *
+     * @param system The system under test
+     * @param user The officer
+     * @return the successful applications of the officer's project, empty if
+     *         the officer is not assigned to one
+     */
+    private static List<Application> bookable(LoadTestSystem system, User user) {
+        HDBOfficer officer = (HDBOfficer) user;
+        if (!officer.isProjectAssigned()) {
+            return Collections.emptyList();
+        }
+        return system.getApplicationController().getApplicationsByStatus(
+            officer.getAssignedProject(), ApplicationStatus.SUCCESSFUL);
+    }
+
+    /**
+     * Writes the script of the approval step: pick the manager's first
+     * project with pending applications, filter on pending applications,
+     * leave the pages and approve the first one. The pending applications
+     * are looked up when the step starts, as the manager would see them on
+     * screen. Without pending applications the manager lists the first
+     * project's empty pending filter.
+     *
+     * @param system The system under test
+     * @param user The manager
+     * @return the script lines
+     */
+    private static String[] approveScript(LoadTestSystem system, User user) {
+        List<Project> projects = system.getProjectController().getProjectsByManager((HDBManager) user);
+        if (projects.isEmpty()) {
+            return new String[0];
+        }
+        int index = approveChoice(system, user);
+        if (index < 0) {
+            return new String[] {"1", "2"};
+        }
+        List<Application> pending = system.getApplicationController().getApplicationsByStatus(
+            projects.get(index), ApplicationStatus.PENDING);
+        String project = String.valueOf(index + 1);
+        String applicationId = pending.get(0).getApplicationId();
+        if (pending.size() > Paginator.DEFAULT_PAGE_SIZE) {
+            return new String[] {project, "2", "D", applicationId, "1"};
+        }
+        return new String[] {project, "2", applicationId, "1"};
+    }
+
+    /**
+     * Finds the first of a manager's projects with pending applications.
+     *
+     * @param system The system under test
+     * @param user The manager
+     * @return the position of the project in the manager's list, or -1 if none has any
+     */
+    private static int approveChoice(LoadTestSystem system, User user) {
+        List<Project> projects = system.getProjectController().getProjectsByManager((HDBManager) user);
+        for (int i = 0; i < projects.size(); i++) {
+            if (!system.getApplicationController().getApplicationsByStatus(
+                    projects.get(i), ApplicationStatus.PENDING).isEmpty()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Writes the script of the manager's enquiry list: filter on unanswered
+     * enquiries and leave the list, as far as the manager's enquiries allow.
+     *
+     * @param system The system under test
+     * @param user The manager
+     * @return the script lines
+     */
+    private static String[] enquiriesScript(LoadTestSystem system, User user) {
+        List<Enquiry> enquiries = system.getEnquiryController().getAllEnquiriesForManager((HDBManager) user);
+        if (enquiries.isEmpty()) {
+            return new String[0];
+        }
+        for (Enquiry enquiry : enquiries) {
+            if (!enquiry.isAnswered()) {
+                return new String[] {"2", "0"};
+            }
+        }
+        return new String[] {"2"};
+    }
+
+    /**
+     * Gets the projects the project list shows an applicant or officer.
+     *
+     * @param system The system under test
+     * @param user The applicant or officer
+     * @return the projects, in the order listed
+     */
+    private static List<Project> visibleProjects(LoadTestSystem system, User user) {
+        return system.getProjectController().getVisibleProjectsForApplicant((Applicant) user);
+    }
+
+    /**
+     * Tells whether a user fits a scenario.
+     */
+    @FunctionalInterface
+    public interface Fit {
+
+        /**
+         * Tests the user.
+         *
+         * @param system The system under test
+         * @param user The user
+         * @return true if the user fits
+         */
+        boolean test(LoadTestSystem system, User user);
+    }
+
+    /**
+     * Writes the script lines of a step for the user running it.
+     */
+    @FunctionalInterface
+    public interface Script {
+
+        /**
+         * Writes the script lines.
+         *
+         * @param system The system under test
+         * @param user The user running the step
+         * @return the lines, in the order the view reads them
+         */
+        String[] lines(LoadTestSystem system, User user);
+    }
+
+    /**
+     * A menu option chosen during a session, with the script that answers
+     * its prompts.
+     */
+    public static final class Step {
+
+        private final String name;
+        private final int option;
+        private final Script script;
+
+        /**
+         * Constructor for Step.
+         *
+         * @param name The name of the step in the report
+         * @param option The menu option
+         * @param script Writes the answers to the prompts of the option
+         */
+        public Step(String name, int option, Script script) {
+            this.name = name;
+            this.option = option;
+            this.script = script;
+        }
+
+        /**
+         * Creates a step with a fixed script.
+         *
+         * @param name The name of the step in the report
+         * @param option The menu option
+         * @param lines The answers to the prompts of the option
+         * @return the step
+         */
+        public static Step of(String name, int option, String... lines) {
+            return new Step(name, option, (system, user) -> lines.clone());
+        }
+
+        /**
+         * Gets the name of the step.
+         *
+         * @return the name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Gets the menu option.
+         *
+         * @return the option
+         */
+        public int getOption() {
+            return option;
+        }
+
+        /**
+         * Writes the script lines of the step.
+         *
+         * @param system The system under test
+         * @param user The user running the step
+         * @return the lines
+         */
+        public String[] script(LoadTestSystem system, User user) {
+            return script.lines(system, user);
+        }
+    }
+}
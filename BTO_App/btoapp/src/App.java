@@ -1,15 +1,28 @@
 import controller.*;
+import controller.timed.*;
 import datamanager.*;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Scanner;
 import model.Applicant;
 import model.Project;
 import model.User;
+import service.BallotService;
+import service.BookingCube;
 import service.EligibilityCheckerService;
+import service.ProjectEventLoop;
+import service.ReportCache;
+import service.ReportExporter;
+import service.ReportScheduler;
+import service.ReportService;
+import utils.log.Log;
+import utils.log.Logger;
+import utils.metrics.MetricsRegistry;
+import utils.metrics.MetricsReporter;
+import utils.metrics.StartupProfiler;
 import view.LoginView;
 import view.MainMenuView;
+import view.input.ConsoleInputSource;
 
 /**
  * The App class initiates the BTO Management System startup.
@@ -18,8 +31,8 @@ import view.MainMenuView;
  * @version 1.0
  */
 public class App {
-    // Scanner for user input
-    private Scanner scanner;
+
+    private static final Logger LOG = Log.getLogger(App.class);
 
     // Controllers and Managers
     private AuthenticationController authController;
@@ -28,23 +41,67 @@ public class App {
     private EnquiryController enquiryController;
     private ManagerController managerController;
     private BookingController bookingController;
+    private ReportService reportService;
+    
+    // Background writer for file persistence
+    private PersistenceQueue persistenceQueue;
+    
+    // Serializes state changes per project
+    private ProjectEventLoop projectEventLoop;
+    
+    // Precomputes reports off-peak
+    private ReportScheduler reportScheduler;
+    
+    // Writes operation metrics to the local metrics log
+    private MetricsReporter metricsReporter;
 
     /**
      * Constructor initializes application components.
      */
     public App() {
+        // Measure each start-up phase when "bto.startup.profile" is set
+        StartupProfiler profiler = StartupProfiler.fromSystemProperties();
+        StartupProfiler.Phase startup = profiler.phase("app");
         try {
-            scanner = new Scanner(System.in);
+            StartupProfiler.Phase background = profiler.phase("background");
+            try {
+                // Start the background writer and make sure queued writes reach disk on exit
+                persistenceQueue = new PersistenceQueue();
+                Runtime.getRuntime().addShutdownHook(new Thread(persistenceQueue::shutdown));
+                
+                projectEventLoop = new ProjectEventLoop();
+                
+                // Publish queue depths with the operation metrics, and log them periodically
+                MetricsRegistry metrics = MetricsRegistry.getInstance();
+                metrics.gauge("persistence.queueDepth", persistenceQueue::getDepth);
+                metrics.gauge("persistence.completedWrites", persistenceQueue::getCompletedWrites);
+                metrics.gauge("persistence.failedWrites", persistenceQueue::getFailedWrites);
+                metrics.gauge("projectLoop.queueDepth", projectEventLoop::getQueueDepth);
+                metricsReporter = new MetricsReporter(metrics);
+                metricsReporter.start();
+                Runtime.getRuntime().addShutdownHook(new Thread(metricsReporter::shutdown));
+            } finally {
+                background.close();
+            }
 
             // Initialize data managers
             ApplicantDataManager applicantDataManager = new ApplicantDataManager();
             OfficerDataManager officerDataManager = new OfficerDataManager();
             ManagerDataManager managerDataManager = new ManagerDataManager();
 
-            // Debug: Check if files exist and load data
-            List<Applicant> applicants = applicantDataManager.readAllApplicants();
-            boolean officersLoaded = officerDataManager.loadOfficerData();
-            boolean managersLoaded = managerDataManager.loadManagerData();
+            List<Applicant> applicants;
+            try (StartupProfiler.Phase phase = profiler.phase("data.applicants")) {
+                applicants = applicantDataManager.readAllApplicants();
+                phase.setRows(applicants.size());
+            }
+            try (StartupProfiler.Phase phase = profiler.phase("data.officers")) {
+                officerDataManager.loadOfficerData();
+                phase.setRows(officerDataManager.getAllOfficers().size());
+            }
+            try (StartupProfiler.Phase phase = profiler.phase("data.managers")) {
+                managerDataManager.loadManagerData();
+                phase.setRows(managerDataManager.getAllManagers().size());
+            }
 
             Map<String, model.HDBManager> managerMap = managerDataManager.getAllManagers().stream()
                 .collect(java.util.stream.Collectors.toMap(
@@ -58,9 +115,14 @@ public class App {
                     o -> o
                 ));
 
-            ProjectDataManager projectDataManager = new ProjectDataManager(managerMap, officerMap);
+            // The project data manager loads the projects in its constructor
+            ProjectDataManager projectDataManager;
+            try (StartupProfiler.Phase phase = profiler.phase("data.projects")) {
+                projectDataManager = new ProjectDataManager(managerMap, officerMap);
+                phase.setRows(projectDataManager.getAllProjects().size());
+            }
 
-            projectController = new ProjectController(projectDataManager);
+            projectController = new TimedProjectController(projectDataManager);
 
             List<Project> projects = projectController.getAllProjects();
 
@@ -74,22 +136,38 @@ public class App {
             ApplicationDataManager applicationDataManager = new ApplicationDataManager(
                 applicantDataManager, projectDataManager, officerDataManager);
 
-            boolean applicationsLoaded = applicationDataManager.loadApplicationData();
+            try (StartupProfiler.Phase phase = profiler.phase("data.applications")) {
+                applicationDataManager.loadApplicationData();
+                phase.setRows(applicationDataManager.getAllApplications().size());
+            }
 
-            authController = new AuthenticationController(
-                applicantDataManager, 
-                officerDataManager, 
-                managerDataManager,
-                applicationDataManager  
-            );
+            // Aggregate the loaded bookings for reports
+            BookingCube bookingCube = new BookingCube();
+            try (StartupProfiler.Phase phase = profiler.phase("reports.bookingCube")) {
+                bookingCube.rebuild(projectController.getAllProjects());
+                phase.setRows(bookingCube.getBookingCount());
+            }
+
+            // The authentication controller loads every user in its constructor
+            try (StartupProfiler.Phase phase = profiler.phase("auth.loadUsers")) {
+                authController = new TimedAuthenticationController(
+                    applicantDataManager, 
+                    officerDataManager, 
+                    managerDataManager,
+                    applicationDataManager  
+                );
+                phase.setRows(managerMap.size() + officerMap.size() + applicants.size());
+            }
 
             // Create EligibilityCheckerService
             EligibilityCheckerService eligibilityService = new EligibilityCheckerService();
 
-            applicationController = new ApplicationController(
-                applicationDataManager, applicantDataManager, eligibilityService);
+            applicationController = new TimedApplicationController(
+                applicationDataManager, applicantDataManager, eligibilityService, new BallotService(),
+                projectEventLoop, bookingCube);
 
-            bookingController = new BookingController(applicationDataManager, projectDataManager);
+            bookingController = new TimedBookingController(applicationDataManager, projectDataManager, projectEventLoop,
+                bookingCube);
 
             Map<String, Applicant> applicantMap = new HashMap<>();
             for (Applicant applicant : applicants) {
@@ -100,18 +178,38 @@ public class App {
 
             EnquiryDataManager enquiryDataManager = new EnquiryDataManager(applicantMap, projectMap);
 
-            enquiryController = new EnquiryController(projectController, enquiryDataManager);
+            // The enquiry controller loads the enquiries in its constructor
+            try (StartupProfiler.Phase phase = profiler.phase("data.enquiries")) {
+                enquiryController = new TimedEnquiryController(projectController, enquiryDataManager, persistenceQueue,
+                    projectEventLoop);
+                phase.setRows(enquiryDataManager.getAllEnquiries().size());
+            }
 
+            StartupProfiler.Phase scheduler = profiler.phase("reports.scheduler");
+            try {
+                reportService = new ReportService(new ReportExporter(), new ReportCache(), bookingCube);
+                
+                // Precompute the usual reports in the background so managers get them instantly
+                reportScheduler = new ReportScheduler(reportService, projectController::getAllProjects);
+                reportScheduler.start();
+                Runtime.getRuntime().addShutdownHook(new Thread(reportScheduler::shutdown));
+            } finally {
+                scheduler.close();
+            }
+            
             managerController = new ManagerController(
                 managerDataManager, 
                 projectDataManager,
-                officerDataManager
+                officerDataManager,
+                projectEventLoop
             );
            
         } catch (Exception e) {
-            System.out.println("ERROR during initialization: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("ERROR during initialization: " + e.getMessage(), e);
+        } finally {
+            startup.close();
         }
+        profiler.finish();
     }
 
     /**
@@ -130,18 +228,19 @@ public class App {
                 if (currentUser == null) {
                     // User canceled login or login failed
                     System.out.println("Would you like to exit the system? (Y/N)");
-                    Scanner scanner = new Scanner(System.in);
-                    String response = scanner.nextLine();
+                    String response = ConsoleInputSource.getInstance().nextLine();
                     if (response.equalsIgnoreCase("Y")) {
                         exitSystem = true;
                     }
                 }
             }
             
+            // Wait for queued writes before leaving
+            persistenceQueue.flush();
+            
             System.out.println("Thank you for using the BTO Management System. Goodbye!");
         } catch (Exception e) {
-            System.out.println("ERROR during startup: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("ERROR during startup: " + e.getMessage(), e);
         }
     }
 
@@ -175,20 +274,25 @@ public class App {
         
         // Login process
         LoginView loginView = new LoginView(authController);
-        User currentUser = loginView.displayAndGetUser();
+        String sessionToken = loginView.displayAndLogin();
+        User currentUser = authController.resolveSession(sessionToken);
     
         // Navigate to user-specific view
         if (currentUser != null) {
             MainMenuView mainMenuView = new MainMenuView(
-                currentUser, 
+                sessionToken, 
                 projectController, 
                 applicationController, 
                 enquiryController,
                 managerController,
                 authController,
-                bookingController
+                bookingController,
+                reportService
             );
             mainMenuView.display();
+            
+            // End the session once the user leaves the main menu
+            authController.endSession(sessionToken);
         }
         
         return currentUser;
@@ -204,8 +308,7 @@ public class App {
             App app = new App();
             app.start();
         } catch (Exception e) {
-            System.out.println("FATAL ERROR: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("FATAL ERROR: " + e.getMessage(), e);
         }
     }
 }
\ No newline at end of file
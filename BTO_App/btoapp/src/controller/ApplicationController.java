@@ -5,16 +5,35 @@ import controller.interfaces.IApplicationController;
 import datamanager.ApplicantDataManager;
 import datamanager.ApplicationDataManager;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import model.Applicant;
 import model.Application;
 import model.HDBManager;
 import model.HDBOfficer;
 import model.Project;
+import model.Report;
+import model.ReportFilter;
 import model.enums.ApplicationStatus;
 import model.enums.FlatType;
+import service.BallotService;
+import service.BookingCube;
 import service.EligibilityCheckerService;
+import service.ProjectEventLoop;
+import utils.IdGenerator;
+import utils.PageSource;
+import utils.log.Level;
+import utils.jfr.ApplicationApprovalEvent;
+import utils.jfr.ApplicationSubmitEvent;
+import utils.log.Log;
+import utils.log.Logger;
 
 /**
  * Controller for managing BTO applications in the system.
@@ -30,10 +49,15 @@ import service.EligibilityCheckerService;
  * to persist and retrieve application information.
  */
 public class ApplicationController extends ABaseController implements IApplicationController {
+
+    private static final Logger LOG = Log.getLogger(ApplicationController.class);
     
     private ApplicationDataManager applicationDataManager;
     private ApplicantDataManager applicantDataManager;
     private EligibilityCheckerService eligibilityService;
+    private BallotService ballotService;
+    private ProjectEventLoop projectEventLoop;
+    private BookingCube bookingCube;
     
     /**
      * Constructor for ApplicationController.
@@ -41,14 +65,23 @@ public class ApplicationController extends ABaseController implements IApplicati
      * @param applicationDataManager The data manager for application operations
      * @param applicantDataManager The data manager for applicant operations
      * @param eligibilityService The service for checking applicant eligibility
+     * @param ballotService The service for balloting oversubscribed projects
+     * @param projectEventLoop The event loop that serializes changes per project
+     * @param bookingCube The cube of booking aggregates to keep up to date
      */
     public ApplicationController(
             ApplicationDataManager applicationDataManager, 
             ApplicantDataManager applicantDataManager,
-            EligibilityCheckerService eligibilityService) {
+            EligibilityCheckerService eligibilityService,
+            BallotService ballotService,
+            ProjectEventLoop projectEventLoop,
+            BookingCube bookingCube) {
         this.applicationDataManager = applicationDataManager;
         this.applicantDataManager = applicantDataManager;
         this.eligibilityService = eligibilityService;
+        this.ballotService = ballotService;
+        this.projectEventLoop = projectEventLoop;
+        this.bookingCube = bookingCube;
     }
     
     /**
@@ -64,7 +97,28 @@ public class ApplicationController extends ABaseController implements IApplicati
      */
     @Override
     public Application submitApplication(Applicant applicant, Project project, FlatType flatType) {
-        System.out.println("Starting application submission for " + applicant.getName());
+        try (ApplicationSubmitEvent event = new ApplicationSubmitEvent()) {
+            event.setProject(project);
+            event.setFlatType(flatType);
+            Application application = projectEventLoop.call(project,
+                () -> submitApplicationOnLoop(applicant, project, flatType));
+            event.setSucceeded(application != null);
+            return application;
+        }
+    }
+    
+    /**
+     * Submits a new application on the event loop of the project.
+     * 
+     * @param applicant The applicant submitting the application
+     * @param project The project being applied to
+     * @param flatType The type of flat selected
+     * @return The created Application object, or null if submission fails
+     */
+    private Application submitApplicationOnLoop(Applicant applicant, Project project, FlatType flatType) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Starting application submission for " + applicant.getName());
+        }
 
         if (applicant instanceof HDBOfficer) {
         HDBOfficer officer = (HDBOfficer) applicant;
@@ -76,14 +130,14 @@ public class ApplicationController extends ABaseController implements IApplicati
         
         // Validate input parameters
         if (!validateInputForSubmission(applicant, project, flatType)) {
-            System.out.println("Input validation failed");
+            LOG.debug("Input validation failed");
             return null;
         }
         
-        System.out.println("Input validation passed");
+        LOG.debug("Input validation passed");
         
         // Create new application with a generated ID
-        String applicationId = generateApplicationId(applicant.getNric(), project.getProjectName());
+        String applicationId = IdGenerator.getInstance().nextId("APP");
         Application application = new Application(applicationId, applicant, project, flatType);
         
         // Add to data manager
@@ -91,10 +145,12 @@ public class ApplicationController extends ABaseController implements IApplicati
         
         if (added) {
             // Update applicant's current application
-            System.out.println("Updating applicant's current application");
+            LOG.debug("Updating applicant's current application");
             applicant.setCurrentApplication(application);
             boolean applicantUpdated = applicantDataManager.updateApplicant(applicant);
-            System.out.println("Applicant update result: " + (applicantUpdated ? "success" : "failed"));
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Applicant update result: " + (applicantUpdated ? "success" : "failed"));
+            }
             
             // Add application to project
             project.addApplication(application);
@@ -102,23 +158,10 @@ public class ApplicationController extends ABaseController implements IApplicati
             return application;
         }
         
-        System.out.println("Application submission failed");
+        LOG.debug("Application submission failed");
         return null;
     }
     
-    /**
-     * Generates an application ID based on NRIC and project name.
-     * 
-     * @param nric The applicant's NRIC
-     * @param projectName The project name
-     * @return A unique application ID
-     */
-    private String generateApplicationId(String nric, String projectName) {
-        String nricPart = nric.substring(1, 8);
-        String projectPart = projectName.substring(0, Math.min(3, projectName.length())).toUpperCase();
-        return "APP-" + nricPart + "-" + projectPart;
-    }
-    
     /**
      * Requests withdrawal of an existing application.
      * 
@@ -130,6 +173,17 @@ public class ApplicationController extends ABaseController implements IApplicati
      */
     @Override
     public boolean requestWithdrawal(String applicationId, Applicant applicant) {
+        return projectEventLoop.call(projectOf(applicationId), () -> requestWithdrawalOnLoop(applicationId, applicant));
+    }
+    
+    /**
+     * Requests withdrawal on the event loop of the application's project.
+     * 
+     * @param applicationId The unique identifier of the application
+     * @param applicant The applicant requesting withdrawal
+     * @return true if withdrawal request is successful, false otherwise
+     */
+    private boolean requestWithdrawalOnLoop(String applicationId, Applicant applicant) {
         // Get the application and validate ownership
         Application application = getAndValidateApplicationOwnership(applicationId, applicant);
         if (application == null) {
@@ -163,6 +217,54 @@ public class ApplicationController extends ABaseController implements IApplicati
         return applicationDataManager.getApplicationsByProject(project.getProjectName());
     }
     
+    /**
+     * Gets the applications of a project a page at a time, sorted by application ID.
+     * 
+     * @param project The project
+     * @param status The status to include, or null to include every status
+     * @return A page source whose cursors are application IDs
+     */
+    @Override
+    public PageSource<Application> getApplicationPages(Project project, ApplicationStatus status) {
+        return applicationDataManager.getApplicationPages(
+            project != null ? project.getProjectName() : null,
+            status != null ? application -> application.getStatus() == status : null);
+    }
+    
+    /**
+     * Gets the booking report entries of a project a page at a time, sorted by application ID.
+     * Each page is read from the project's application index on demand and only its
+     * booked applications are turned into report entries, so no report is built first.
+     * 
+     * @param project The project
+     * @param filter The report filter the entries must pass
+     * @return A page source whose cursors are application IDs
+     */
+    @Override
+    public PageSource<Report.ReportEntry> getBookingReportPages(Project project, ReportFilter filter) {
+        Predicate<Application> booked = application -> application.getStatus() == ApplicationStatus.BOOKED;
+        Predicate<Application> matching = filter == null || filter.isAll() ? booked
+                : booked.and(application -> filter.test(Report.ReportEntry.fromApplication(application)));
+        return applicationDataManager.getApplicationPages(project != null ? project.getProjectName() : null, matching)
+                .map(Report.ReportEntry::fromApplication);
+    }
+    
+    /**
+     * Streams the applications of a project lazily, without building a list.
+     * 
+     * @param project The project to stream applications for
+     * @return A lazy stream of the project's applications
+     */
+    @Override
+    public Stream<Application> streamApplicationsByProject(Project project) {
+        // Validate input
+        if (!validateNotNull(project, "Project")) {
+            return Stream.empty();
+        }
+        
+        return applicationDataManager.streamApplicationsByProject(project.getProjectName());
+    }
+    
     /**
      * Retrieves applications for a project with a specific status.
      * 
@@ -175,16 +277,20 @@ public class ApplicationController extends ABaseController implements IApplicati
         // Get all applications for the project
         List<Application> projectApplications = getApplicationsByProject(project);
         
-        System.out.println("Get applications by status - Found " + projectApplications.size() + 
-                        " applications for project " + project.getProjectName());
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Get applications by status - Found " + projectApplications.size() + 
+                      " applications for project " + project.getProjectName());
+        }
         
         // List all applications for this project with their status
-        System.out.println("Applications in project " + project.getProjectName() + ":");
-        for (Application app : projectApplications) {
-            System.out.println("App ID: " + app.getApplicationId() + 
-                            ", Applicant: " + app.getApplicant().getName() + 
-                            " (" + app.getApplicant().getNric() + ")" +
-                            ", Status: " + app.getStatus());
+        if (LOG.isEnabled(Level.TRACE)) {
+            LOG.trace("Applications in project " + project.getProjectName() + ":");
+            for (Application app : projectApplications) {
+                LOG.trace("App ID: " + app.getApplicationId() + 
+                          ", Applicant: " + app.getApplicant().getName() + 
+                          " (" + app.getApplicant().getNric() + ")" +
+                          ", Status: " + app.getStatus());
+            }
         }
         
         // Filter by status
@@ -192,8 +298,10 @@ public class ApplicationController extends ABaseController implements IApplicati
                 .filter(app -> app.getStatus() == status)
                 .collect(Collectors.toList());
         
-        System.out.println("After filtering, found " + result.size() + 
-                        " applications with status " + status);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("After filtering, found " + result.size() + 
+                      " applications with status " + status);
+        }
         return result;
     }
 
@@ -209,12 +317,34 @@ public class ApplicationController extends ABaseController implements IApplicati
      */
     @Override
     public boolean approveApplication(String applicationId, HDBManager manager) {
-        System.out.println("Starting approval of application: " + applicationId);
+        try (ApplicationApprovalEvent event = new ApplicationApprovalEvent()) {
+            Project project = projectOf(applicationId);
+            event.setProject(project);
+            event.setApplications(1);
+            boolean approved = projectEventLoop.call(project, () -> approveApplicationOnLoop(applicationId, manager));
+            event.setSucceeded(approved);
+            return approved;
+        }
+    }
+    
+    /**
+     * Approves an application on the event loop of its project.
+     * 
+     * @param applicationId The unique identifier of the application
+     * @param manager The HDB Manager approving the application
+     * @return true if the application is successfully approved, false otherwise
+     */
+    private boolean approveApplicationOnLoop(String applicationId, HDBManager manager) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Starting approval of application: " + applicationId);
+        }
         
         // Get the application and validate manager authorization
         Application application = getAndValidateManagerAuthorization(applicationId, manager);
         if (application == null) {
-            System.out.println("Application validation failed for: " + applicationId);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Application validation failed for: " + applicationId);
+            }
             return false;
         }
         
@@ -225,17 +355,23 @@ public class ApplicationController extends ABaseController implements IApplicati
         }
         
         // Log status before approval for debugging
-        System.out.println("Application status before approval: " + application.getStatus());
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Application status before approval: " + application.getStatus());
+        }
         
         // Approve the application
         boolean approved = application.approve();
         
         // Log status after approval for debugging
-        System.out.println("Application status after approval: " + application.getStatus());
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Application status after approval: " + application.getStatus());
+        }
         
         // Update application in memory and file if approval was successful
         if (approved) {
-            System.out.println("Updating application " + applicationId + " in data manager with status: " + application.getStatus());
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Updating application " + applicationId + " in data manager with status: " + application.getStatus());
+            }
             
             // Update in memory
             boolean updated = applicationDataManager.updateApplication(application);
@@ -246,7 +382,7 @@ public class ApplicationController extends ABaseController implements IApplicati
                 return fileUpdated;
             }
         } else {
-            System.out.println("Application approval failed");
+            LOG.debug("Application approval failed");
         }
         
         return approved;
@@ -262,6 +398,17 @@ public class ApplicationController extends ABaseController implements IApplicati
      */
     @Override
     public boolean rejectApplication(String applicationId, HDBManager manager) {
+        return projectEventLoop.call(projectOf(applicationId), () -> rejectApplicationOnLoop(applicationId, manager));
+    }
+    
+    /**
+     * Rejects an application on the event loop of its project.
+     * 
+     * @param applicationId The unique identifier of the application
+     * @param manager The HDB Manager rejecting the application
+     * @return true if the application is successfully rejected, false otherwise
+     */
+    private boolean rejectApplicationOnLoop(String applicationId, HDBManager manager) {
         // Get the application and validate manager authorization
         Application application = getAndValidateManagerAuthorization(applicationId, manager);
         if (application == null) {
@@ -291,6 +438,17 @@ public class ApplicationController extends ABaseController implements IApplicati
      */
     @Override
     public boolean approveWithdrawal(String applicationId, HDBManager manager) {
+        return projectEventLoop.call(projectOf(applicationId), () -> approveWithdrawalOnLoop(applicationId, manager));
+    }
+    
+    /**
+     * Approves a withdrawal on the event loop of the application's project.
+     * 
+     * @param applicationId The unique identifier of the application
+     * @param manager The HDB Manager approving the withdrawal
+     * @return true if the withdrawal is successfully approved, false otherwise
+     */
+    private boolean approveWithdrawalOnLoop(String applicationId, HDBManager manager) {
         // Get the application and validate manager authorization
         Application application = getAndValidateManagerAuthorization(applicationId, manager);
         if (application == null) {
@@ -308,6 +466,9 @@ public class ApplicationController extends ABaseController implements IApplicati
         
         // Update application in data manager if approval was successful
         if (approved) {
+            // Remove the withdrawn booking, if any, from the booking aggregates
+            bookingCube.recordWithdrawal(application);
+            
             // Clear the current application reference from the applicant
             clearCurrentApplicationReference(application);
             
@@ -334,6 +495,17 @@ public class ApplicationController extends ABaseController implements IApplicati
      */
     @Override
     public boolean rejectWithdrawal(String applicationId, HDBManager manager) {
+        return projectEventLoop.call(projectOf(applicationId), () -> rejectWithdrawalOnLoop(applicationId, manager));
+    }
+    
+    /**
+     * Rejects a withdrawal on the event loop of the application's project.
+     * 
+     * @param applicationId The unique identifier of the application
+     * @param manager The HDB Manager rejecting the withdrawal
+     * @return true if the withdrawal is successfully rejected, false otherwise
+     */
+    private boolean rejectWithdrawalOnLoop(String applicationId, HDBManager manager) {
         // Get the application and validate manager authorization
         Application application = getAndValidateManagerAuthorization(applicationId, manager);
         if (application == null) {
@@ -357,6 +529,278 @@ public class ApplicationController extends ABaseController implements IApplicati
         return rejected;
     }
     
+    /**
+     * Approves several applications by an HDB Manager as one batch.
+     * 
+     * Every application is validated in parallel before anything changes. The batch
+     * is all-or-nothing: if any application fails validation, or if there are not
+     * enough units left to approve all of them, no application is approved.
+     * The new statuses are written to file with a single rewrite. A batch must
+     * belong to a single project, see {@link #callOnProject}.
+     * 
+     * @param applicationIds The IDs of the applications to approve
+     * @param manager The HDB Manager approving the applications
+     * @return true if every application was approved, false otherwise
+     */
+    @Override
+    public boolean approveApplications(Collection<String> applicationIds, HDBManager manager) {
+        try (ApplicationApprovalEvent event = new ApplicationApprovalEvent()) {
+            Project project = projectOf(applicationIds);
+            event.setProject(project);
+            event.setApplications(applicationIds != null ? applicationIds.size() : 0);
+            boolean approved = callOnProject(applicationIds, ids -> approveApplicationsOnLoop(ids, manager));
+            event.setSucceeded(approved);
+            return approved;
+        }
+    }
+    
+    /**
+     * Approves a batch of applications on the event loop of their project.
+     * 
+     * @param applicationIds The IDs of the applications to approve
+     * @param manager The HDB Manager approving the applications
+     * @return true if every application was approved, false otherwise
+     */
+    private boolean approveApplicationsOnLoop(Collection<String> applicationIds, HDBManager manager) {
+        List<Application> applications = validateBatch(applicationIds, manager,
+            app -> app.getStatus() == ApplicationStatus.PENDING, "is not pending");
+        if (applications == null) {
+            return false;
+        }
+        
+        // Check that every project has enough units for all approvals in the batch
+        Map<Project, Map<FlatType, Long>> requested = applications.stream()
+                .collect(Collectors.groupingBy(Application::getProject,
+                         Collectors.groupingBy(Application::getSelectedFlatType, Collectors.counting())));
+        
+        for (Map.Entry<Project, Map<FlatType, Long>> projectEntry : requested.entrySet()) {
+            for (Map.Entry<FlatType, Long> flatTypeEntry : projectEntry.getValue().entrySet()) {
+                if (flatTypeEntry.getValue() > getUnallocatedUnits(projectEntry.getKey(), flatTypeEntry.getKey())) {
+                    System.out.println("Not enough " + flatTypeEntry.getKey().getDisplayName() + 
+                                       " units in " + projectEntry.getKey().getProjectName() + 
+                                       " to approve " + flatTypeEntry.getValue() + " applications.");
+                    return false;
+                }
+            }
+        }
+        
+        if (!persistStatuses(applications, ApplicationStatus.SUCCESSFUL)) {
+            return false;
+        }
+        
+        for (Application application : applications) {
+            application.approve();
+        }
+        
+        return true;
+    }
+    
+    /**
+     * Rejects several applications by an HDB Manager as one batch.
+     * 
+     * Every application is validated in parallel before anything changes. The batch
+     * is all-or-nothing, and the new statuses are written to file with a single rewrite.
+     * A batch must belong to a single project, see {@link #callOnProject}.
+     * 
+     * @param applicationIds The IDs of the applications to reject
+     * @param manager The HDB Manager rejecting the applications
+     * @return true if every application was rejected, false otherwise
+     */
+    @Override
+    public boolean rejectApplications(Collection<String> applicationIds, HDBManager manager) {
+        return callOnProject(applicationIds, ids -> rejectApplicationsOnLoop(ids, manager));
+    }
+    
+    /**
+     * Rejects a batch of applications on the event loop of their project.
+     * 
+     * @param applicationIds The IDs of the applications to reject
+     * @param manager The HDB Manager rejecting the applications
+     * @return true if every application was rejected, false otherwise
+     */
+    private boolean rejectApplicationsOnLoop(Collection<String> applicationIds, HDBManager manager) {
+        List<Application> applications = validateBatch(applicationIds, manager,
+            app -> app.getStatus() == ApplicationStatus.PENDING, "is not pending");
+        if (applications == null) {
+            return false;
+        }
+        
+        if (!persistStatuses(applications, ApplicationStatus.UNSUCCESSFUL)) {
+            return false;
+        }
+        
+        for (Application application : applications) {
+            application.reject();
+            clearCurrentApplicationReference(application, false);
+        }
+        
+        return true;
+    }
+    
+    /**
+     * Approves several withdrawal requests by an HDB Manager as one batch.
+     * 
+     * Every application is validated in parallel before anything changes. The batch
+     * is all-or-nothing, and the new statuses are written to file with a single rewrite.
+     * A batch must belong to a single project, see {@link #callOnProject}.
+     * 
+     * @param applicationIds The IDs of the applications to approve withdrawal for
+     * @param manager The HDB Manager approving the withdrawals
+     * @return true if every withdrawal was approved, false otherwise
+     */
+    @Override
+    public boolean approveWithdrawals(Collection<String> applicationIds, HDBManager manager) {
+        return callOnProject(applicationIds, ids -> approveWithdrawalsOnLoop(ids, manager));
+    }
+    
+    /**
+     * Approves a batch of withdrawals on the event loop of their project.
+     * 
+     * @param applicationIds The IDs of the applications to approve withdrawal for
+     * @param manager The HDB Manager approving the withdrawals
+     * @return true if every withdrawal was approved, false otherwise
+     */
+    private boolean approveWithdrawalsOnLoop(Collection<String> applicationIds, HDBManager manager) {
+        List<Application> applications = validateBatch(applicationIds, manager,
+            Application::isWithdrawalRequested, "has no withdrawal request");
+        if (applications == null) {
+            return false;
+        }
+        
+        if (!persistStatuses(applications, ApplicationStatus.UNSUCCESSFUL)) {
+            return false;
+        }
+        
+        for (Application application : applications) {
+            application.approveWithdrawal();
+            bookingCube.recordWithdrawal(application);
+            clearCurrentApplicationReference(application, false);
+        }
+        
+        return true;
+    }
+    
+    /**
+     * Runs a ballot over the pending applications of a project.
+     * 
+     * Validates manager authorization, draws winners for every flat type
+     * according to the tier policy and persists all status changes at once.
+     * 
+     * @param project The project to ballot
+     * @param manager The HDB Manager running the ballot
+     * @param seed The seed for the draw, the same seed reproduces the same outcome
+     * @param tierPolicy Maps an applicant to a priority tier, lower tiers are drawn first
+     * @return The ballot result, or null if the ballot could not be run
+     */
+    @Override
+    public BallotService.Result runBallot(Project project, HDBManager manager, long seed,
+                                          ToIntFunction<Applicant> tierPolicy) {
+        return projectEventLoop.call(project, () -> runBallotOnLoop(project, manager, seed, tierPolicy));
+    }
+    
+    /**
+     * Runs a ballot on the event loop of the project.
+     * 
+     * @param project The project to ballot
+     * @param manager The HDB Manager running the ballot
+     * @param seed The seed for the draw, the same seed reproduces the same outcome
+     * @param tierPolicy Maps an applicant to a priority tier, lower tiers are drawn first
+     * @return The ballot result, or null if the ballot could not be run
+     */
+    private BallotService.Result runBallotOnLoop(Project project, HDBManager manager, long seed,
+                                                 ToIntFunction<Applicant> tierPolicy) {
+        if (!validateNotNull(project, "Project") || !validateNotNull(manager, "Manager")) {
+            return null;
+        }
+        
+        // Check if the manager is in charge of the project
+        if (!project.getManagerInCharge().getNric().equals(manager.getNric())) {
+            System.out.println("Manager is not in charge of this project.");
+            return null;
+        }
+        
+        BallotService.Result result = ballotService.runBallot(project, seed,
+            tierPolicy != null ? tierPolicy : BallotService.EQUAL_PRIORITY);
+        
+        // Persist every winner with a single write instead of one rewrite per application
+        if (result.getTotalWinners() > 0 && !applicationDataManager.saveApplicationData()) {
+            System.out.println("Ballot results could not be saved.");
+        }
+        
+        return result;
+    }
+    
+    /**
+     * Finds the project an application belongs to, so the change can be
+     * routed to that project's event loop.
+     * 
+     * @param applicationId The unique identifier of the application
+     * @return The project, or null if the application does not exist
+     */
+    private Project projectOf(String applicationId) {
+        Application application = applicationId != null
+                ? applicationDataManager.getApplicationById(applicationId) : null;
+        return application != null ? application.getProject() : null;
+    }
+    
+    /**
+     * Finds the single project a batch of applications belongs to.
+     * 
+     * @param applicationIds The IDs of the applications in the batch
+     * @return The shared project, or null if the batch spans several projects
+     */
+    private Project projectOf(Collection<String> applicationIds) {
+        if (applicationIds == null) {
+            return null;
+        }
+        
+        Project shared = null;
+        for (String applicationId : applicationIds) {
+            Project project = projectOf(applicationId);
+            if (project == null || (shared != null && shared != project)) {
+                return null;
+            }
+            shared = project;
+        }
+        return shared;
+    }
+    
+    /**
+     * Runs a batch operation on the event loop of the batch's project.
+     * 
+     * Every status change is serialized with the other changes to its project
+     * on that project's loop. A loop task cannot wait for another project's loop
+     * without risking deadlock, so a batch spanning several projects could not
+     * be applied all-or-nothing and is refused before anything changes. A batch
+     * with an unknown application ID runs as a whole on the caller's thread,
+     * where it fails validation before changing anything.
+     * 
+     * @param applicationIds The IDs of the applications in the batch
+     * @param batch The batch operation
+     * @return true if the operation succeeded, false otherwise
+     */
+    private boolean callOnProject(Collection<String> applicationIds, Predicate<Collection<String>> batch) {
+        if (applicationIds == null || applicationIds.isEmpty()) {
+            return batch.test(applicationIds);
+        }
+        
+        Project shared = null;
+        for (String applicationId : applicationIds) {
+            Project project = projectOf(applicationId);
+            if (project == null) {
+                return batch.test(applicationIds);
+            }
+            if (shared != null && shared != project) {
+                System.out.println("A batch can only change applications of one project. "
+                                   + "Select the applications of each project separately.");
+                return false;
+            }
+            shared = project;
+        }
+        
+        return projectEventLoop.call(shared, () -> batch.test(applicationIds));
+    }
+    
     /**
      * Validates input parameters for application submission.
      * 
@@ -409,7 +853,7 @@ public class ApplicationController extends ABaseController implements IApplicati
             return false;
         }
         
-        System.out.println("All validation checks passed");
+        LOG.debug("All validation checks passed");
         return true;
     }
     
@@ -473,6 +917,87 @@ public class ApplicationController extends ABaseController implements IApplicati
         return application;
     }
     
+    /**
+     * Validates a batch of application IDs in parallel against the manager's authorization
+     * and a state requirement.
+     * 
+     * @param applicationIds The IDs of the applications in the batch
+     * @param manager The manager acting on the batch
+     * @param requirement The state every application must be in
+     * @param requirementMessage Describes a failed requirement, e.g. "is not pending"
+     * @return The validated applications in request order, or null if any of them is invalid
+     */
+    private List<Application> validateBatch(Collection<String> applicationIds, HDBManager manager,
+                                            Predicate<Application> requirement, String requirementMessage) {
+        if (!validateNotNull(applicationIds, "Application IDs") || !validateNotNull(manager, "Manager")) {
+            return null;
+        }
+        
+        if (applicationIds.isEmpty()) {
+            System.out.println("No applications selected.");
+            return null;
+        }
+        
+        // Duplicates would otherwise be counted twice against the available units
+        List<String> uniqueIds = new ArrayList<>(new LinkedHashSet<>(applicationIds));
+        
+        List<Application> applications = uniqueIds.parallelStream()
+                .map(id -> getAndValidateManagerAuthorization(id, manager))
+                .collect(Collectors.toList());
+        
+        boolean valid = true;
+        for (int i = 0; i < applications.size(); i++) {
+            Application application = applications.get(i);
+            if (application == null) {
+                valid = false;
+            } else if (!requirement.test(application)) {
+                System.out.println("Application " + uniqueIds.get(i) + " " + requirementMessage + ".");
+                valid = false;
+            }
+        }
+        
+        return valid ? applications : null;
+    }
+    
+    /**
+     * Writes the new status of every application in a batch with a single file rewrite.
+     * 
+     * @param applications The applications in the batch
+     * @param newStatus The status to write for all of them
+     * @return true if the statuses were written, false otherwise
+     */
+    private boolean persistStatuses(List<Application> applications, ApplicationStatus newStatus) {
+        Map<String, ApplicationStatus> statusUpdates = new HashMap<>();
+        for (Application application : applications) {
+            statusUpdates.put(application.getApplicationId(), newStatus);
+        }
+        return applicationDataManager.updateApplicationStatusesInFile(statusUpdates);
+    }
+    
+    /**
+     * Gets the number of units of a flat type that are not yet offered to a successful applicant.
+     * 
+     * @param project The project
+     * @param flatType The flat type
+     * @return the number of unallocated units
+     */
+    private long getUnallocatedUnits(Project project, FlatType flatType) {
+        int units = 0;
+        for (Project.FlatTypeInfo info : project.getFlatTypeInfoList()) {
+            if (info.getFlatType() == flatType) {
+                units = info.getNumberOfUnits();
+                break;
+            }
+        }
+        
+        long successful = project.getApplications().stream()
+                .filter(app -> app.getSelectedFlatType() == flatType && 
+                               app.getStatus() == ApplicationStatus.SUCCESSFUL)
+                .count();
+        
+        return Math.max(0, units - successful);
+    }
+    
     /**
      * Clears the current application reference from an applicant.
      * Removes the application reference when it is no longer active.
@@ -480,11 +1005,25 @@ public class ApplicationController extends ABaseController implements IApplicati
      * @param application The application to clear from the applicant
      */
     private void clearCurrentApplicationReference(Application application) {
+        clearCurrentApplicationReference(application, true);
+    }
+    
+    /**
+     * Clears the current application reference from an applicant.
+     * Batch operations skip the applicant file rewrite, since the applicant file
+     * does not store the current application.
+     * 
+     * @param application The application to clear from the applicant
+     * @param updateApplicantFile Whether to rewrite the applicant in the applicant file
+     */
+    private void clearCurrentApplicationReference(Application application, boolean updateApplicantFile) {
         Applicant applicant = application.getApplicant();
         if (applicant.getCurrentApplication() != null && 
             applicant.getCurrentApplication().getApplicationId().equals(application.getApplicationId())) {
             applicant.setCurrentApplication(null);
-            applicantDataManager.updateApplicant(applicant);
+            if (updateApplicantFile) {
+                applicantDataManager.updateApplicant(applicant);
+            }
         }
     }
 }
\ No newline at end of file
@@ -13,6 +13,8 @@ import model.HDBManager;
 import model.HDBOfficer;
 import model.User;
 import model.enums.ApplicationStatus;
+import utils.log.Log;
+import utils.log.Logger;
 
 /**
  * Authentication Controller for the BTO Management System.
@@ -26,6 +28,8 @@ import model.enums.ApplicationStatus;
  * @version 1.0
  */
 public class AuthenticationController extends AAuthenticationController {
+
+    private static final Logger LOG = Log.getLogger(AuthenticationController.class);
     
     private ApplicantDataManager applicantDataManager;
     private OfficerDataManager officerDataManager;
@@ -92,7 +96,9 @@ public class AuthenticationController extends AAuthenticationController {
         
         // If user exists and credentials are valid
         if (user != null && user.authenticate(nric, password)) {
-            System.out.println("Authentication successful for " + user.getName());
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Authentication successful for " + user.getName());
+            }
             
             // Link applications for applicants OR officers (who can also be applicants)
             if ((user instanceof Applicant || user instanceof HDBOfficer) && applicationDataManager != null) {
@@ -102,7 +108,9 @@ public class AuthenticationController extends AAuthenticationController {
             return user;
         }
         
-        System.out.println("Authentication failed for NRIC: " + nric);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Authentication failed for NRIC: " + nric);
+        }
         return null;
     }
     
@@ -159,18 +167,22 @@ public class AuthenticationController extends AAuthenticationController {
      */
     @Override
     public boolean changePassword(String nric, String oldPassword, String newPassword) {
-        System.out.println("Attempting password change for NRIC: " + nric);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Attempting password change for NRIC: " + nric);
+        }
         
         // Validate input
         if (nric == null || oldPassword == null || newPassword == null) {
-            System.out.println("Invalid input parameters for password change");
+            LOG.debug("Invalid input parameters for password change");
             return false;
         }
         
         // First, verify the user exists in the userMap
         User user = userMap.get(nric);
         if (user == null) {
-            System.out.println("User not found for NRIC: " + nric);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("User not found for NRIC: " + nric);
+            }
             return false;
         }
         
@@ -202,12 +214,13 @@ public class AuthenticationController extends AAuthenticationController {
                     return true;
                 }
             } catch (Exception e) {
-                System.out.println("Error during password change process: " + e.getMessage());
-                e.printStackTrace();
+                LOG.error("Error during password change process: " + e.getMessage(), e);
                 return false;
             }
         } else {
-            System.out.println("Password change failed for NRIC: " + nric);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Password change failed for NRIC: " + nric);
+            }
         }
         
         return false;
@@ -11,6 +11,11 @@ import model.HDBOfficer;
 import model.Project;
 import model.enums.ApplicationStatus;
 import model.enums.FlatType;
+import service.BookingCube;
+import service.ProjectEventLoop;
+import utils.jfr.BookingEvent;
+import utils.log.Log;
+import utils.log.Logger;
 
 /**
  * Controller for managing flat bookings in the BTO system.
@@ -43,19 +48,41 @@ import model.enums.FlatType;
  * @version 1.0
  */
 public class BookingController extends ABaseController implements IBookingController {
+
+    private static final Logger LOG = Log.getLogger(BookingController.class);
     
     private ApplicationDataManager applicationDataManager;
     private ProjectDataManager projectDataManager;
+    private ProjectEventLoop projectEventLoop;
+    private BookingCube bookingCube;
     
     /**
      * Constructor for BookingController.
      * 
      * @param applicationDataManager The data manager for application operations
      * @param projectDataManager The data manager for project operations
+     * @param projectEventLoop The event loop that serializes changes per project
+     * @param bookingCube The cube of booking aggregates to keep up to date
      */
-    public BookingController(ApplicationDataManager applicationDataManager, ProjectDataManager projectDataManager) {
+    public BookingController(ApplicationDataManager applicationDataManager, ProjectDataManager projectDataManager,
+                             ProjectEventLoop projectEventLoop, BookingCube bookingCube) {
         this.applicationDataManager = applicationDataManager;
         this.projectDataManager = projectDataManager;
+        this.projectEventLoop = projectEventLoop;
+        this.bookingCube = bookingCube;
+    }
+    
+    /**
+     * Finds the project an application belongs to, so the booking can be
+     * routed to that project's event loop.
+     * 
+     * @param applicationId Unique identifier of the application
+     * @return The project, or null if the application does not exist
+     */
+    private Project projectOf(String applicationId) {
+        Application application = applicationId != null
+                ? applicationDataManager.getApplicationById(applicationId) : null;
+        return application != null ? application.getProject() : null;
     }
 
     /**
@@ -73,6 +100,26 @@ public class BookingController extends ABaseController implements IBookingContro
      */
     @Override
     public boolean bookFlat(String applicationId, HDBOfficer officer) {
+        try (BookingEvent event = new BookingEvent()) {
+            Application application = applicationId != null
+                    ? applicationDataManager.getApplicationById(applicationId) : null;
+            Project project = application != null ? application.getProject() : null;
+            event.setProject(project);
+            event.setFlatType(application != null ? application.getSelectedFlatType() : null);
+            boolean booked = projectEventLoop.call(project, () -> bookFlatOnLoop(applicationId, officer));
+            event.setSucceeded(booked);
+            return booked;
+        }
+    }
+    
+    /**
+     * Books a flat on the event loop of the application's project.
+     * 
+     * @param applicationId Unique identifier of the application
+     * @param officer HDB Officer processing the booking
+     * @return true if the flat is successfully booked, false otherwise
+     */
+    private boolean bookFlatOnLoop(String applicationId, HDBOfficer officer) {
         // Validate input parameters
         if (!validateNotNullOrEmpty(applicationId, "Application ID") || 
             !validateNotNull(officer, "Officer")) {
@@ -115,7 +162,9 @@ public class BookingController extends ABaseController implements IBookingContro
             return false;
         }
 
-        System.out.println(" Attempting to book flat for application: " + applicationId);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Attempting to book flat for application: " + applicationId);
+        }
         
         // Book the flat
         boolean booked = application.bookFlat();
@@ -128,13 +177,16 @@ public class BookingController extends ABaseController implements IBookingContro
             
             // Update flat availability
             updateFlatAvailability(project.getProjectName(), flatType);
+            bookingCube.recordBooking(application);
             
             // Save changes
             applicationDataManager.updateAndSaveApplication(application);
             projectDataManager.updateProject(project);
         }
         
-        System.out.println(" Booking result: " + booked);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Booking result: " + booked);
+        }
         return booked;
     }
     
@@ -150,6 +202,17 @@ public class BookingController extends ABaseController implements IBookingContro
      */
     @Override
     public boolean updateFlatAvailability(String projectId, FlatType flatType) {
+        return projectEventLoop.call(projectId != null ? projectDataManager.getProjectByName(projectId) : null, () -> updateFlatAvailabilityOnLoop(projectId, flatType));
+    }
+    
+    /**
+     * Updates flat availability on the event loop of the project.
+     * 
+     * @param projectId Unique identifier of the project
+     * @param flatType Type of flat being booked
+     * @return true if flat availability is successfully updated, false otherwise
+     */
+    private boolean updateFlatAvailabilityOnLoop(String projectId, FlatType flatType) {
         // Validate input parameters
         if (!validateNotNullOrEmpty(projectId, "Project ID") || 
             !validateNotNull(flatType, "Flat Type")) {
@@ -3,15 +3,20 @@ package controller;
 import controller.abstracts.ABaseController;
 import controller.interfaces.IEnquiryController;
 import datamanager.EnquiryDataManager;
+import datamanager.PersistenceQueue;
 import enquiry.Enquiry;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
-import java.util.UUID;
 import model.Applicant;
 import model.HDBManager;
 import model.HDBOfficer;
 import model.Project;
+import service.ProjectEventLoop;
+import utils.IdGenerator;
+import utils.jfr.EnquiryCreateEvent;
+import utils.log.Log;
+import utils.log.Logger;
 
 /**
  * Controller for managing enquiries in the BTO Management System.
@@ -29,9 +34,13 @@ import model.Project;
  * @version 1.0
  */
 public class EnquiryController extends ABaseController implements IEnquiryController {
+
+    private static final Logger LOG = Log.getLogger(EnquiryController.class);
     
     private ProjectController projectController;
     private EnquiryDataManager enquiryDataManager;
+    private PersistenceQueue persistenceQueue;
+    private ProjectEventLoop projectEventLoop;
     
     /**
      * Constructor for EnquiryController.
@@ -39,10 +48,15 @@ public class EnquiryController extends ABaseController implements IEnquiryContro
      * 
      * @param projectController Controller for managing project-related operations
      * @param enquiryDataManager Manager for handling enquiry data operations
+     * @param persistenceQueue Queue that writes enquiry changes to file in the background
+     * @param projectEventLoop Event loop that serializes changes per project
      */
-    public EnquiryController(ProjectController projectController, EnquiryDataManager enquiryDataManager) {
+    public EnquiryController(ProjectController projectController, EnquiryDataManager enquiryDataManager,
+                             PersistenceQueue persistenceQueue, ProjectEventLoop projectEventLoop) {
         this.projectController = projectController;
         this.enquiryDataManager = enquiryDataManager;
+        this.persistenceQueue = persistenceQueue;
+        this.projectEventLoop = projectEventLoop;
         
         // Load enquiries from data manager
         loadEnquiries();
@@ -54,6 +68,42 @@ public class EnquiryController extends ABaseController implements IEnquiryContro
     private void loadEnquiries() {
         List<Enquiry> enquiries = enquiryDataManager.loadEnquiries();
     }
+    
+    /**
+     * Enqueues a write of the enquiries.
+     * The write reads the enquiries when it runs, not when it is submitted, so
+     * changes made on other projects' loops in between are never overwritten by
+     * an older copy, and waiting writes coalesce into one write of the latest state.
+     */
+    private void persistEnquiries() {
+        persistenceQueue.submit("EnquiryList",
+            () -> enquiryDataManager.saveEnquiries(enquiryDataManager.getAllEnquiries()));
+    }
+
+    /**
+     * Finds a project by name so a change can be routed to its event loop.
+     * 
+     * @param projectName The project name, may be null or empty
+     * @return The project, or null if there is none
+     */
+    private Project projectNamed(String projectName) {
+        if (projectName == null || projectName.trim().isEmpty()) {
+            return null;
+        }
+        return projectController.getProjectById(projectName);
+    }
+    
+    /**
+     * Finds the project an enquiry is about so a change can be routed to its event loop.
+     * General enquiries have no project and run on the caller's thread.
+     * 
+     * @param enquiryId Unique identifier of the enquiry
+     * @return The project, or null if there is none
+     */
+    private Project projectOfEnquiry(String enquiryId) {
+        Enquiry enquiry = enquiryId != null ? enquiryDataManager.getEnquiryById(enquiryId) : null;
+        return enquiry != null ? enquiry.getProject() : null;
+    }
 
     /**
      * Creates a new enquiry for an applicant.
@@ -68,33 +118,55 @@ public class EnquiryController extends ABaseController implements IEnquiryContro
      */
     @Override
     public Enquiry createEnquiry(Applicant applicant, String projectName, String enquiryText) {
+        try (EnquiryCreateEvent event = new EnquiryCreateEvent()) {
+            Project project = projectNamed(projectName);
+            event.setProject(project);
+            Enquiry enquiry = projectEventLoop.call(project, () -> createEnquiryOnLoop(applicant, projectName, enquiryText));
+            event.setSucceeded(enquiry != null);
+            return enquiry;
+        }
+    }
+    
+    /**
+     * Creates a new enquiry on the event loop of the project it is about.
+     * 
+     * @param applicant The applicant creating the enquiry
+     * @param projectName Optional project name related to the enquiry
+     * @param enquiryText The text content of the enquiry
+     * @return The created Enquiry object, or null if creation fails
+     */
+    private Enquiry createEnquiryOnLoop(Applicant applicant, String projectName, String enquiryText) {
         // Validate input
         if (applicant == null) {
-            System.out.println(" Cannot create enquiry - applicant is null");
+            LOG.debug("Cannot create enquiry - applicant is null");
             return null;
         }
         
         if (enquiryText == null || enquiryText.trim().isEmpty()) {
-            System.out.println(" Cannot create enquiry - text is empty");
+            LOG.debug("Cannot create enquiry - text is empty");
             return null;
         }
         
-        System.out.println(" Creating enquiry for applicant: " + applicant.getName() + 
-                          " about project: " + projectName);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Creating enquiry for applicant: " + applicant.getName() + 
+                        " about project: " + projectName);
+        }
         
         // Get project (optional)
         Project project = null;
         if (projectName != null && !projectName.trim().isEmpty()) {
             project = projectController.getProjectById(projectName);
             if (project == null) {
-                System.out.println(" Project not found: " + projectName);
-            } else {
-                System.out.println(" Found project: " + project.getProjectName());
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Project not found: " + projectName);
+                }
+            } else if (LOG.isDebugEnabled()) {
+                LOG.debug("Found project: " + project.getProjectName());
             }
         }
         
         // Generate unique ID
-        String enquiryId = "ENQ-" + UUID.randomUUID().toString().substring(0, 8);
+        String enquiryId = IdGenerator.getInstance().nextId("ENQ");
         
         // Create enquiry
         Enquiry enquiry = new Enquiry(enquiryId, applicant, project, enquiryText, new Date());
@@ -112,12 +184,14 @@ public class EnquiryController extends ABaseController implements IEnquiryContro
             }
             
             // Save all enquiries to ensure persistence
-            enquiryDataManager.saveEnquiries(enquiryDataManager.getAllEnquiries());
+            persistEnquiries();
             
-            System.out.println(" Enquiry added successfully: " + enquiryId);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Enquiry added successfully: " + enquiryId);
+            }
             return enquiry;
         } else {
-            System.out.println(" Failed to add enquiry");
+            LOG.debug("Failed to add enquiry");
             return null;
         }
     }
@@ -134,10 +208,24 @@ public class EnquiryController extends ABaseController implements IEnquiryContro
      */
     @Override
     public boolean updateEnquiry(String enquiryId, String newEnquiryText, Applicant applicant) {
+        return projectEventLoop.call(projectOfEnquiry(enquiryId), () -> updateEnquiryOnLoop(enquiryId, newEnquiryText, applicant));
+    }
+    
+    /**
+     * Updates an enquiry on the event loop of its project.
+     * 
+     * @param enquiryId Unique identifier of the enquiry
+     * @param newEnquiryText Updated text for the enquiry
+     * @param applicant The applicant modifying the enquiry
+     * @return true if the update is successful, false otherwise
+     */
+    private boolean updateEnquiryOnLoop(String enquiryId, String newEnquiryText, Applicant applicant) {
         // Find the enquiry
         Enquiry enquiry = enquiryDataManager.getEnquiryById(enquiryId);
         if (enquiry == null) {
-            System.out.println(" Enquiry not found for update: " + enquiryId);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Enquiry not found for update: " + enquiryId);
+            }
             return false;
         }
         
@@ -152,11 +240,13 @@ public class EnquiryController extends ABaseController implements IEnquiryContro
         
         // Save changes
         boolean updated = enquiryDataManager.updateEnquiry(enquiry);
-        System.out.println(" Enquiry update result: " + updated);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Enquiry update result: " + updated);
+        }
         
         if (updated) {
             // Save all enquiries to ensure persistence
-            enquiryDataManager.saveEnquiries(enquiryDataManager.getAllEnquiries());
+            persistEnquiries();
         }
         
         return updated;
@@ -173,10 +263,23 @@ public class EnquiryController extends ABaseController implements IEnquiryContro
      */
     @Override
     public boolean deleteEnquiry(String enquiryId, Applicant applicant) {
+        return projectEventLoop.call(projectOfEnquiry(enquiryId), () -> deleteEnquiryOnLoop(enquiryId, applicant));
+    }
+    
+    /**
+     * Deletes an enquiry on the event loop of its project.
+     * 
+     * @param enquiryId Unique identifier of the enquiry
+     * @param applicant The applicant deleting the enquiry
+     * @return true if the deletion is successful, false otherwise
+     */
+    private boolean deleteEnquiryOnLoop(String enquiryId, Applicant applicant) {
         // Find the enquiry
         Enquiry enquiry = enquiryDataManager.getEnquiryById(enquiryId);
         if (enquiry == null) {
-            System.out.println(" Enquiry not found for deletion: " + enquiryId);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Enquiry not found for deletion: " + enquiryId);
+            }
             return false;
         }
         
@@ -196,11 +299,13 @@ public class EnquiryController extends ABaseController implements IEnquiryContro
         
         // Delete the enquiry
         boolean deleted = enquiryDataManager.deleteEnquiry(enquiryId);
-        System.out.println(" Enquiry deletion result: " + deleted);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Enquiry deletion result: " + deleted);
+        }
         
         if (deleted) {
             // Save all enquiries to ensure persistence
-            enquiryDataManager.saveEnquiries(enquiryDataManager.getAllEnquiries());
+            persistEnquiries();
         }
         
         return deleted;
@@ -218,10 +323,24 @@ public class EnquiryController extends ABaseController implements IEnquiryContro
      */
     @Override
     public boolean replyToEnquiryAsOfficer(String enquiryId, String replyText, HDBOfficer officer) {
+        return projectEventLoop.call(projectOfEnquiry(enquiryId), () -> replyToEnquiryAsOfficerOnLoop(enquiryId, replyText, officer));
+    }
+    
+    /**
+     * Replies to an enquiry as an officer on the event loop of its project.
+     * 
+     * @param enquiryId Unique identifier of the enquiry
+     * @param replyText The response text
+     * @param officer The HDB Officer responding
+     * @return true if the reply is successfully added, false otherwise
+     */
+    private boolean replyToEnquiryAsOfficerOnLoop(String enquiryId, String replyText, HDBOfficer officer) {
         // Find the enquiry
         Enquiry enquiry = enquiryDataManager.getEnquiryById(enquiryId);
         if (enquiry == null) {
-            System.out.println(" Enquiry not found for reply: " + enquiryId);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Enquiry not found for reply: " + enquiryId);
+            }
             return false;
         }
         
@@ -230,11 +349,13 @@ public class EnquiryController extends ABaseController implements IEnquiryContro
         
         // Save changes
         boolean updated = enquiryDataManager.updateEnquiry(enquiry);
-        System.out.println(" Officer reply result: " + updated);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Officer reply result: " + updated);
+        }
         
         if (updated) {
             // Save all enquiries to ensure persistence
-            enquiryDataManager.saveEnquiries(enquiryDataManager.getAllEnquiries());
+            persistEnquiries();
         }
         
         return updated;
@@ -252,10 +373,24 @@ public class EnquiryController extends ABaseController implements IEnquiryContro
      */
     @Override
     public boolean replyToEnquiryAsManager(String enquiryId, String replyText, HDBManager manager) {
+        return projectEventLoop.call(projectOfEnquiry(enquiryId), () -> replyToEnquiryAsManagerOnLoop(enquiryId, replyText, manager));
+    }
+    
+    /**
+     * Replies to an enquiry as a manager on the event loop of its project.
+     * 
+     * @param enquiryId Unique identifier of the enquiry
+     * @param replyText The response text
+     * @param manager The HDB Manager responding
+     * @return true if the reply is successfully added, false otherwise
+     */
+    private boolean replyToEnquiryAsManagerOnLoop(String enquiryId, String replyText, HDBManager manager) {
         // Find the enquiry
         Enquiry enquiry = enquiryDataManager.getEnquiryById(enquiryId);
         if (enquiry == null) {
-            System.out.println(" Enquiry not found for reply: " + enquiryId);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Enquiry not found for reply: " + enquiryId);
+            }
             return false;
         }
         
@@ -264,11 +399,13 @@ public class EnquiryController extends ABaseController implements IEnquiryContro
         
         // Save changes
         boolean updated = enquiryDataManager.updateEnquiry(enquiry);
-        System.out.println(" Manager reply result: " + updated);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Manager reply result: " + updated);
+        }
         
         if (updated) {
             // Save all enquiries to ensure persistence
-            enquiryDataManager.saveEnquiries(enquiryDataManager.getAllEnquiries());
+            persistEnquiries();
         }
         
         return updated;
@@ -283,13 +420,15 @@ public class EnquiryController extends ABaseController implements IEnquiryContro
     @Override
     public List<Enquiry> getEnquiriesByApplicant(Applicant applicant) {
         if (applicant == null) {
-            System.out.println(" Cannot get enquiries - applicant is null");
+            LOG.debug("Cannot get enquiries - applicant is null");
             return new ArrayList<>();
         }
         
         // Refresh from data manager to ensure we have the latest
-        System.out.println(" Getting enquiries for applicant: " + applicant.getName() + 
-                          " (NRIC: " + applicant.getNric() + ")");
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Getting enquiries for applicant: " + applicant.getName() + 
+                        " (NRIC: " + applicant.getNric() + ")");
+        }
         
         List<Enquiry> enquiries = enquiryDataManager.getEnquiriesByApplicant(applicant.getNric());
         
@@ -304,7 +443,9 @@ public class EnquiryController extends ABaseController implements IEnquiryContro
             }
         }
         
-        System.out.println(" Found " + result.size() + " enquiries for applicant");
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Found " + result.size() + " enquiries for applicant");
+        }
         return result;
     }
     
@@ -327,24 +468,30 @@ public class EnquiryController extends ABaseController implements IEnquiryContro
     @Override
     public List<Enquiry> getEnquiriesForOfficer(String projectId, HDBOfficer officer) {
         if (projectId == null || officer == null) {
-            System.out.println(" Invalid parameters for getEnquiriesForOfficer");
+            LOG.debug("Invalid parameters for getEnquiriesForOfficer");
             return new ArrayList<>();
         }
         
         Project project = projectController.getProjectById(projectId);
         if (project == null) {
-            System.out.println(" Project not found: " + projectId);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Project not found: " + projectId);
+            }
             return new ArrayList<>();
         }
         
         // Check if officer is assigned to project
         if (!officer.isAssignedToProject(project)) {
-            System.out.println(" Officer not assigned to project: " + projectId);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Officer not assigned to project: " + projectId);
+            }
             return new ArrayList<>();
         }
         
         List<Enquiry> enquiries = project.getEnquiries();
-        System.out.println(" Found " + enquiries.size() + " enquiries for project: " + projectId);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Found " + enquiries.size() + " enquiries for project: " + projectId);
+        }
         
         return enquiries;
     }
@@ -358,7 +505,7 @@ public class EnquiryController extends ABaseController implements IEnquiryContro
     @Override
     public List<Enquiry> getAllEnquiriesForManager(HDBManager manager) {
         if (manager == null) {
-            System.out.println(" Manager is null");
+            LOG.debug("Manager is null");
             return new ArrayList<>();
         }
         
@@ -372,8 +519,10 @@ public class EnquiryController extends ABaseController implements IEnquiryContro
             allEnquiries.addAll(project.getEnquiries());
         }
         
-        System.out.println(" Found " + allEnquiries.size() + " enquiries for manager: " + 
-                           manager.getName());
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Found " + allEnquiries.size() + " enquiries for manager: " + 
+                         manager.getName());
+        }
         
         return allEnquiries;
     }
@@ -387,18 +536,22 @@ public class EnquiryController extends ABaseController implements IEnquiryContro
     @Override
     public List<Enquiry> getEnquiriesByProject(String projectId) {
         if (projectId == null) {
-            System.out.println(" Project ID is null");
+            LOG.debug("Project ID is null");
             return new ArrayList<>();
         }
         
         Project project = projectController.getProjectById(projectId);
         if (project == null) {
-            System.out.println(" Project not found: " + projectId);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Project not found: " + projectId);
+            }
             return new ArrayList<>();
         }
         
         List<Enquiry> enquiries = project.getEnquiries();
-        System.out.println(" Found " + enquiries.size() + " enquiries for project: " + projectId);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Found " + enquiries.size() + " enquiries for project: " + projectId);
+        }
         
         return enquiries;
     }
@@ -420,7 +573,9 @@ public class EnquiryController extends ABaseController implements IEnquiryContro
             }
         }
         
-        System.out.println(" Found " + answeredEnquiries.size() + " answered enquiries");
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Found " + answeredEnquiries.size() + " answered enquiries");
+        }
         
         return answeredEnquiries;
     }
@@ -442,7 +597,9 @@ public class EnquiryController extends ABaseController implements IEnquiryContro
             }
         }
         
-        System.out.println(" Found " + unansweredEnquiries.size() + " unanswered enquiries");
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Found " + unansweredEnquiries.size() + " unanswered enquiries");
+        }
         
         return unansweredEnquiries;
     }
@@ -10,6 +10,7 @@ import java.util.List;
 import model.HDBManager;
 import model.HDBOfficer;
 import model.Project;
+import service.ProjectEventLoop;
 
 /**
  * Controller for managing HDB Manager operations in the BTO system.
@@ -27,6 +28,7 @@ public class ManagerController extends ABaseController implements IManagerContro
     private ManagerDataManager managerDataManager;
     private ProjectDataManager projectDataManager;
     private OfficerDataManager officerDataManager;
+    private ProjectEventLoop projectEventLoop;
     
     /**
      * Constructor for ManagerController.
@@ -34,13 +36,16 @@ public class ManagerController extends ABaseController implements IManagerContro
      * @param managerDataManager The data manager for manager operations
      * @param projectDataManager The data manager for project operations
      * @param officerDataManager The data manager for officer operations
+     * @param projectEventLoop The event loop that serializes changes per project
      */
     public ManagerController(ManagerDataManager managerDataManager, 
                            ProjectDataManager projectDataManager,
-                           OfficerDataManager officerDataManager) {
+                           OfficerDataManager officerDataManager,
+                           ProjectEventLoop projectEventLoop) {
         this.managerDataManager = managerDataManager;
         this.projectDataManager = projectDataManager;
         this.officerDataManager = officerDataManager;
+        this.projectEventLoop = projectEventLoop;
     }
     
     /**
@@ -56,6 +61,17 @@ public class ManagerController extends ABaseController implements IManagerContro
     */
     @Override
     public boolean approveOfficerRegistration(HDBOfficer officer, HDBManager manager) {
+        return projectEventLoop.call(officer != null ? officer.getAssignedProject() : null, () -> approveOfficerRegistrationOnLoop(officer, manager));
+    }
+    
+    /**
+     * Approves an officer registration on the event loop of the officer's project.
+     * 
+    * @param officer The HDB Officer being registered
+    * @param manager The HDB Manager approving the registration
+    * @return true if registration is successfully approved, false otherwise
+     */
+    private boolean approveOfficerRegistrationOnLoop(HDBOfficer officer, HDBManager manager) {
         // Validate input parameters
         if (!validateNotNull(officer, "Officer") || 
             !validateNotNull(manager, "Manager")) {
@@ -13,6 +13,9 @@ import model.HDBManager;
 import model.HDBOfficer;
 import model.Project;
 import model.enums.FlatType;
+import utils.log.Level;
+import utils.log.Log;
+import utils.log.Logger;
 /**
  * Controller for managing BTO projects in the system.
  * Implements IProjectController and extends ABaseController.
@@ -29,6 +32,8 @@ import model.enums.FlatType;
  * @version 1.0
  */
 public class ProjectController extends ABaseController implements IProjectController {
+
+    private static final Logger LOG = Log.getLogger(ProjectController.class);
     
     private ProjectDataManager projectDataManager;
     
@@ -69,7 +74,7 @@ public class ProjectController extends ABaseController implements IProjectContro
             !validateNotNullOrEmpty(neighborhood, "Neighborhood") ||
             flatTypes == null || numberOfUnits == null || sellingPrices == null ||
             openingDate == null || closingDate == null || manager == null) {
-            System.out.println("Project creation validation failed");
+            LOG.debug("Project creation validation failed");
             return null;
         }
         
@@ -86,14 +91,15 @@ public class ProjectController extends ABaseController implements IProjectContro
         // Create project through manager or directly
         Project project = null;
         try {
-            System.out.println("Create project through manager: " + manager.getName());
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Create project through manager: " + manager.getName());
+            }
             project = manager.createProject(projectName, neighborhood, 
                                            flatTypes, numberOfUnits, 
                                            sellingPrices, openingDate, 
                                            closingDate, officerSlots);
         } catch (Exception e) {
-            System.out.println("Error creating project through manager: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("Error creating project through manager: " + e.getMessage(), e);
             
             // Create project directly
             project = new Project(projectName, neighborhood, flatTypes, numberOfUnits, 
@@ -102,11 +108,13 @@ public class ProjectController extends ABaseController implements IProjectContro
         
         // Add project to data manager
         if (project != null) {
-            System.out.println("Project created: " + project.getProjectName());
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Project created: " + project.getProjectName());
+            }
             boolean added = projectDataManager.addProject(project);
             
         } else {
-            System.out.println("Failed to create project");
+            LOG.debug("Failed to create project");
         }
         
         return project;
@@ -134,14 +142,16 @@ public class ProjectController extends ABaseController implements IProjectContro
             !validateNotNullOrEmpty(projectName, "Project Name") ||
             !validateNotNullOrEmpty(neighborhood, "Neighborhood") ||
             openingDate == null || closingDate == null || manager == null) {
-            System.out.println("Invalid input parameters for project update");
+            LOG.debug("Invalid input parameters for project update");
             return false;
         }
         
         // Find the project
         Project project = getProjectById(projectId);
         if (project == null) {
-            System.out.println("Project not found for update: " + projectId);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Project not found for update: " + projectId);
+            }
             return false;
         }
         
@@ -170,7 +180,7 @@ public class ProjectController extends ABaseController implements IProjectContro
             updated = manager.updateProject(project, projectName, neighborhood, 
                                         openingDate, closingDate, officerSlots);
         } catch (Exception e) {
-            System.out.println(" Error updating project through manager: " + e.getMessage());
+            LOG.warn("Error updating project through manager: " + e.getMessage());
             
             // Update project directly
             try {
@@ -181,7 +191,7 @@ public class ProjectController extends ABaseController implements IProjectContro
                 project.setOfficerSlots(officerSlots);
                 updated = true;
             } catch (Exception ex) {
-                System.out.println(" Error updating project directly: " + ex.getMessage());
+                LOG.error("Error updating project directly: " + ex.getMessage());
                 updated = false;
             }
         }
@@ -213,12 +223,16 @@ public class ProjectController extends ABaseController implements IProjectContro
             return false;
         }
         
-        System.out.println("Attempting to delete project: " + projectId);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Attempting to delete project: " + projectId);
+        }
         
         // Find the project
         Project project = getProjectById(projectId);
         if (project == null) {
-            System.out.println(" Project not found for deletion: " + projectId);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Project not found for deletion: " + projectId);
+            }
             return false;
         }
         
@@ -234,7 +248,9 @@ public class ProjectController extends ABaseController implements IProjectContro
          * to set all applications for this project to UNSUCCESSFUL
          */
         try {
-            System.out.println(" Updating applications for project: " + projectId);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Updating applications for project: " + projectId);
+            }
             
             // Read the application file directly
             String applicationFilePath = utils.FilePathConfig.APPLICATION_LIST_PATH;
@@ -259,7 +275,9 @@ public class ProjectController extends ABaseController implements IProjectContro
                         // If this application is for the project being deleted,
                         // update its status to UNSUCCESSFUL
                         if (lineProjectName.equals(projectId)) {
-                            System.out.println(" Found application for project " + projectId + ": " + line);
+                            if (LOG.isEnabled(Level.TRACE)) {
+                                LOG.trace("Found application for project " + projectId + ": " + line);
+                            }
                             
                             // Construct updated line with UNSUCCESSFUL status
                             StringBuilder updatedLine = new StringBuilder();
@@ -274,7 +292,9 @@ public class ProjectController extends ABaseController implements IProjectContro
                             
                             // Add the updated line
                             fileLines.add(updatedLine.toString());
-                            System.out.println(" Updated application to UNSUCCESSFUL: " + updatedLine.toString());
+                            if (LOG.isEnabled(Level.TRACE)) {
+                                LOG.trace("Updated application to UNSUCCESSFUL: " + updatedLine.toString());
+                            }
                         } else {
                             // Keep other applications unchanged
                             fileLines.add(line);
@@ -294,11 +314,10 @@ public class ProjectController extends ABaseController implements IProjectContro
                 }
             }
             
-            System.out.println("Successfully updated applications to UNSUCCESSFUL for deleted project");
+            LOG.debug("Successfully updated applications to UNSUCCESSFUL for deleted project");
             
         } catch (IOException e) {
-            System.out.println("ERROR: Failed to update applications for deleted project: " + e.getMessage());
-            e.printStackTrace();
+            LOG.error("ERROR: Failed to update applications for deleted project: " + e.getMessage(), e);
             // Continue with project deletion even if application update fails
         }
         
@@ -332,12 +351,16 @@ public class ProjectController extends ABaseController implements IProjectContro
             return false;
         }
         
-        System.out.println(" Toggling visibility for project: " + projectId + " to: " + visible);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Toggling visibility for project: " + projectId + " to: " + visible);
+        }
         
         // Find the project
         Project project = getProjectById(projectId);
         if (project == null) {
-            System.out.println(" Project not found for visibility toggle: " + projectId);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Project not found for visibility toggle: " + projectId);
+            }
             return false;
         }
         
@@ -353,12 +376,14 @@ public class ProjectController extends ABaseController implements IProjectContro
         try {
             toggled = manager.toggleProjectVisibility(project, visible);
         } catch (Exception e) {
-            System.out.println(" Error toggling visibility through manager: " + e.getMessage());
+            LOG.warn("Error toggling visibility through manager: " + e.getMessage());
             
             // Update visibility directly
             project.setVisible(visible);
             toggled = projectDataManager.updateProject(project);
-            System.out.println(" Project visibility toggled directly: " + toggled);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Project visibility toggled directly: " + toggled);
+            }
         }
         
         return toggled;
@@ -379,12 +404,16 @@ public class ProjectController extends ABaseController implements IProjectContro
             return false;
         }
         
-        System.out.println(" Registering officer for project: " + projectId);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Registering officer for project: " + projectId);
+        }
         
         // Find the project
         Project project = getProjectById(projectId);
         if (project == null) {
-            System.out.println(" Project not found for officer registration: " + projectId);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Project not found for officer registration: " + projectId);
+            }
             return false;
         }
         
@@ -400,7 +429,7 @@ public class ProjectController extends ABaseController implements IProjectContro
         try {
             registered = officer.registerForProject(project);
         } catch (Exception e) {
-            System.out.println(" Error registering officer through officer method: " + e.getMessage());
+            LOG.warn("Error registering officer through officer method: " + e.getMessage());
             
             // Try direct registration
             registered = project.addOfficer(officer);
@@ -409,7 +438,9 @@ public class ProjectController extends ABaseController implements IProjectContro
             }
         }
         
-        System.out.println(" Officer registration result: " + registered);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Officer registration result: " + registered);
+        }
         return registered;
     }
 
@@ -427,10 +458,9 @@ public class ProjectController extends ABaseController implements IProjectContro
         }
         
         Project project = projectDataManager.getProjectByName(projectId);
-        if (project == null) {
-            System.out.println(" Project not found by ID: " + projectId);
-        } else {
-            System.out.println(" Retrieved project: " + project.getProjectName());
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(project == null ? "Project not found by ID: " + projectId
+                                      : "Retrieved project: " + project.getProjectName());
         }
         
         return project;
@@ -457,7 +487,7 @@ public class ProjectController extends ABaseController implements IProjectContro
     public List<Project> getProjectsByManager(HDBManager manager) {
         // Validate input
         if (manager == null) {
-            System.out.println("Project received non-existent manager");
+            LOG.warn("Project received non-existent manager");
             return new ArrayList<>();
         }
         
@@ -466,8 +496,10 @@ public class ProjectController extends ABaseController implements IProjectContro
                    p.getManagerInCharge().getNric().equals(manager.getNric()))
             .collect(Collectors.toList());
         
-        System.out.println("Found " + projects.size() + 
-                          " projects for manager: " + manager.getName());
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Found " + projects.size() + 
+                        " projects for manager: " + manager.getName());
+        }
         
         return projects;
     }
@@ -485,21 +517,22 @@ public class ProjectController extends ABaseController implements IProjectContro
     */
     @Override
     public List<Project> getVisibleProjectsForApplicant(Applicant applicant) {
-
         // For HDB Officers, print debug info about their assignments
     if (applicant instanceof HDBOfficer) {
         HDBOfficer officer = (HDBOfficer) applicant;
-        System.out.println("Officer check - Name: " + officer.getName());
-        System.out.println("Officer check - Assigned project: " + 
-                        (officer.getAssignedProject() != null ? 
-                        officer.getAssignedProject().getProjectName() : "none"));
-        System.out.println("Officer check - Registration approved: " + 
-                        officer.isRegistrationApproved());
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Officer check - Name: " + officer.getName());
+            LOG.debug("Officer check - Assigned project: " + 
+                      (officer.getAssignedProject() != null ? 
+                      officer.getAssignedProject().getProjectName() : "none"));
+            LOG.debug("Officer check - Registration approved: " + 
+                      officer.isRegistrationApproved());
+        }
     }
 
         // Validate input
         if (applicant == null) {
-            System.out.println("There is no such applicant");
+            LOG.debug("There is no such applicant");
             return new ArrayList<>();
         }
         
@@ -507,31 +540,40 @@ public class ProjectController extends ABaseController implements IProjectContro
         boolean isSingle = !applicant.isMarried();
         int age = applicant.getAge();
         
-        System.out.println("Getting visible projects for " + applicant.getName() + 
-                         " (isSingle=" + isSingle + ", age=" + age + ")");
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Getting visible projects for " + applicant.getName() + 
+                       " (isSingle=" + isSingle + ", age=" + age + ")");
+        }
         
         // Get all projects first for debugging
         List<Project> allProjects = projectDataManager.getAllProjects();
-        System.out.println("Total projects available: " + allProjects.size());
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Total projects available: " + allProjects.size());
+        }
         
         // For each project, print detailed eligibility check
         List<Project> eligibleProjects = new ArrayList<>();
+        boolean debug = LOG.isDebugEnabled();
         
         for (Project project : allProjects) {
-            System.out.println("\nChecking eligibility for project: " + project.getProjectName());
+            if (debug) {
+                LOG.debug("Checking eligibility for project: " + project.getProjectName());
+            }
             
             // Check if applicant is an officer handling this project
             if (applicant instanceof HDBOfficer) {
                 HDBOfficer officer = (HDBOfficer) applicant;
                 if (officer.isAssignedToProject(project)) {
-                    System.out.println("Project failed officer eligibility check - Officer is handling this project");
+                    LOG.debug("Project failed officer eligibility check - Officer is handling this project");
                     continue;
                 }
             }
             
             // Check visibility
             if (!project.isVisible()) {
-                System.out.println("Project is not set to be visible by manager in charge. " + project.isVisible());
+                if (debug) {
+                    LOG.debug("Project is not set to be visible by manager in charge. " + project.isVisible());
+                }
                 continue;
             }
             
@@ -540,13 +582,15 @@ public class ProjectController extends ABaseController implements IProjectContro
             boolean inPeriod = now.after(project.getApplicationOpeningDate()) && 
                               now.before(project.getApplicationClosingDate());
             
-            System.out.println("Date check - Current: " + now + 
-                              ", Opening: " + project.getApplicationOpeningDate() +
-                              ", Closing: " + project.getApplicationClosingDate() +
-                              ", In period: " + inPeriod);
+            if (debug) {
+                LOG.debug("Date check - Current: " + now + 
+                          ", Opening: " + project.getApplicationOpeningDate() +
+                          ", Closing: " + project.getApplicationClosingDate() +
+                          ", In period: " + inPeriod);
+            }
             
             if (!inPeriod) {
-                System.out.println("Project failed application period check");
+                LOG.debug("Project failed application period check");
                 continue;
             }
             
@@ -556,7 +600,9 @@ public class ProjectController extends ABaseController implements IProjectContro
             if (isSingle) {
                 // Single applicants must be 35+ and project must have 2-Room flats
                 if (age < 35) {
-                    System.out.println("Single applicant too young (age: " + age + ")");
+                    if (debug) {
+                        LOG.debug("Single applicant too young (age: " + age + ")");
+                    }
                     continue;
                 }
                 
@@ -564,15 +610,17 @@ public class ProjectController extends ABaseController implements IProjectContro
                     .anyMatch(info -> {
                         boolean matches = info.getFlatType() == FlatType.TWO_ROOM && 
                                       info.getNumberOfUnits() > 0;
-                        System.out.println("Checking for 2-Room - FlatType: " + 
-                                          info.getFlatType().getDisplayName() + 
-                                          ", Units: " + info.getNumberOfUnits() +
-                                          ", Matches: " + matches);
+                        if (debug) {
+                            LOG.debug("Checking for 2-Room - FlatType: " + 
+                                      info.getFlatType().getDisplayName() + 
+                                      ", Units: " + info.getNumberOfUnits() +
+                                      ", Matches: " + matches);
+                        }
                         return matches;
                     });
                 
                 if (!has2Room) {
-                    System.out.println("No available 2-Room flats for single applicant");
+                    LOG.debug("No available 2-Room flats for single applicant");
                     continue;
                 }
                 
@@ -580,7 +628,9 @@ public class ProjectController extends ABaseController implements IProjectContro
             } else {
                 // Married applicants must be 21+
                 if (age < 21) {
-                    System.out.println("Married applicant too young (age: " + age + ")");
+                    if (debug) {
+                        LOG.debug("Married applicant too young (age: " + age + ")");
+                    }
                     continue;
                 }
                 
@@ -588,12 +638,14 @@ public class ProjectController extends ABaseController implements IProjectContro
             }
             
             if (eligible) {
-                System.out.println("Project is eligible for applicant");
+                LOG.debug("Project is eligible for applicant");
                 eligibleProjects.add(project);
             }
         }
         
-        System.out.println(" Found " + eligibleProjects.size() + " eligible projects");
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Found " + eligibleProjects.size() + " eligible projects");
+        }
         return eligibleProjects;
     }
     
@@ -612,13 +664,17 @@ public class ProjectController extends ABaseController implements IProjectContro
         
         Project project = getProjectById(projectId);
         if (project == null) {
-            System.out.println("Project not found: " + projectId);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Project not found: " + projectId);
+            }
             return new ArrayList<>();
         }
         
         List<HDBOfficer> officers = project.getAssignedOfficers();
-        System.out.println("Found " + officers.size() + 
-                          " officers for project: " + projectId);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Found " + officers.size() + 
+                        " officers for project: " + projectId);
+        }
         
         return officers;
     }
@@ -638,12 +694,16 @@ public class ProjectController extends ABaseController implements IProjectContro
         
         Project project = getProjectById(projectId);
         if (project == null) {
-            System.out.println("Project not found: " + projectId);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Project not found: " + projectId);
+            }
             return 0;
         }
         
         int remainingSlots = project.getRemainingOfficerSlots();
-        System.out.println("Remaining officer slots for " + projectId + ": " + remainingSlots);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Remaining officer slots for " + projectId + ": " + remainingSlots);
+        }
         
         return remainingSlots;
     }
@@ -1,13 +1,16 @@
 package controller.abstracts;
 
 import controller.interfaces.IAuthenticationController;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import model.Applicant;
 import model.HDBManager;
 import model.HDBOfficer;
 import model.User;
 import model.enums.UserRole;
+import service.SessionRegistry;
+import utils.log.Log;
+import utils.log.Logger;
 
 /**
  * Abstract class for Authentication Controller in the BTO Management System.
@@ -21,21 +24,34 @@ import model.enums.UserRole;
  * 
  * The class uses a Map to store and manage users, allowing quick lookup by NRIC.
  * It supports different user types: Applicant, HDB Officer, and HDB Manager.
+ * Logged-in users are tracked per session rather than as a single current user,
+ * so several users can be logged in at the same time.
  * 
  * @author Your Name
  * @version 1.0
  */
 public abstract class AAuthenticationController extends ABaseController implements IAuthenticationController {
+
+    private static final Logger LOG = Log.getLogger(AAuthenticationController.class);
     
     protected Map<String, User> userMap;
-    protected User currentUser;
+    protected SessionRegistry sessionRegistry;
     
     /**
      * Constructor for AAuthenticationController.
      */
     public AAuthenticationController() {
-        userMap = new HashMap<>();
-        currentUser = null;
+        this(new SessionRegistry());
+    }
+    
+    /**
+     * Constructor for AAuthenticationController with a specific session registry.
+     * 
+     * @param sessionRegistry The registry that tracks logged-in sessions
+     */
+    public AAuthenticationController(SessionRegistry sessionRegistry) {
+        userMap = new ConcurrentHashMap<>();
+        this.sessionRegistry = sessionRegistry;
     }
     
     /**
@@ -43,10 +59,9 @@ public abstract class AAuthenticationController extends ABaseController implemen
      */
     @Override
     public User login(String nric, String password) {
- 
         // Validate input
         if (!validateNotNullOrEmpty(nric, "NRIC") || !validateNotNullOrEmpty(password, "Password")) {
-            System.out.println("Invalid input - NRIC or password empty");
+            LOG.debug("Invalid input - NRIC or password empty");
             return null;
         }
         
@@ -56,21 +71,23 @@ public abstract class AAuthenticationController extends ABaseController implemen
         // Check if user exists
         User user = userMap.get(nric);
         if (user == null) {
-            System.out.println("User not found for NRIC: " + nric);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("User not found for NRIC: " + nric);
+            }
             return null;
         }
         
-        System.out.println("Found user: " + user.getName());
-        System.out.println("Stored password: " + user.getPassword());
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Found user: " + user.getName());
+        }
         
         // Validate password
         if (user.authenticate(nric, password)) {
-            System.out.println("Authentication successful");
-            currentUser = user;
+            LOG.debug("Authentication successful");
             return user;
         }
         
-        System.out.println("Authentication failed - password mismatch");
+        LOG.debug("Authentication failed - password mismatch");
         return null;
     }
     
@@ -173,19 +190,31 @@ public abstract class AAuthenticationController extends ABaseController implemen
     }
     
     /**
-     * Gets the current logged-in user.
-     * 
-     * @return The current user, or null if no user is logged in
+     * {@inheritDoc}
+     */
+    @Override
+    public String createSession(User user) {
+        if (!validateNotNull(user, "User")) {
+            return null;
+        }
+        
+        return sessionRegistry.createSession(user);
+    }
+    
+    /**
+     * {@inheritDoc}
      */
-    public User getCurrentUser() {
-        return currentUser;
+    @Override
+    public User resolveSession(String sessionToken) {
+        return sessionRegistry.validate(sessionToken);
     }
     
     /**
-     * Logs out the current user.
+     * {@inheritDoc}
      */
-    public void logout() {
-        currentUser = null;
+    @Override
+    public void endSession(String sessionToken) {
+        sessionRegistry.invalidate(sessionToken);
     }
     
     /**
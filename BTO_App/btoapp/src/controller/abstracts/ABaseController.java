@@ -1,5 +1,8 @@
 package controller.abstracts;
 
+import utils.log.Log;
+import utils.log.Logger;
+
 /**
  * Abstract base class for controllers in the BTO Management System.
  * Provides common functionality such as error handling and result reporting.
@@ -14,6 +17,8 @@ package controller.abstracts;
  * @version 1.0
  */
 public abstract class ABaseController {
+
+    private static final Logger LOG = Log.getLogger(ABaseController.class);
     
     /**
      * Enumeration of possible operation result types.
@@ -187,7 +192,9 @@ public abstract class ABaseController {
      */
     protected <T> T handleResult(OperationResult result, T successValue, T failureValue) {
         if (result.isSuccess()) {
-            System.out.println("Operation successful: " + result.getMessage());
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Operation successful: " + result.getMessage());
+            }
             return successValue;
         } else {
             System.out.println("Operation failed (" + result.getType() + "): " + result.getMessage());
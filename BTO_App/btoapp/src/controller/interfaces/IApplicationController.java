@@ -1,11 +1,18 @@
 package controller.interfaces;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
 import model.Applicant;
 import model.Application;
 import model.Project;
+import model.Report;
+import model.ReportFilter;
 import model.enums.ApplicationStatus;
 import model.enums.FlatType;
+import service.BallotService;
+import utils.PageSource;
 
 /**
  * Interface for Application Controller in the BTO Management System.
@@ -43,6 +50,32 @@ public interface IApplicationController {
      * @return A list of applications for the specified project
      */
     List<Application> getApplicationsByProject(Project project);
+
+    /**
+     * Gets the applications of a project a page at a time, sorted by application ID.
+     *
+     * @param project The project
+     * @param status The status to include, or null to include every status
+     * @return A page source whose cursors are application IDs
+     */
+    PageSource<Application> getApplicationPages(Project project, ApplicationStatus status);
+
+    /**
+     * Gets the booking report entries of a project a page at a time, sorted by application ID.
+     *
+     * @param project The project
+     * @param filter The report filter the entries must pass
+     * @return A page source whose cursors are application IDs
+     */
+    PageSource<Report.ReportEntry> getBookingReportPages(Project project, ReportFilter filter);
+    
+    /**
+     * Streams the applications of a project lazily, without building a list.
+     * 
+     * @param project The project to stream applications for
+     * @return A lazy stream of the project's applications
+     */
+    Stream<Application> streamApplicationsByProject(Project project);
     
     /**
      * Gets applications by status for a specific project.
@@ -89,4 +122,46 @@ public interface IApplicationController {
      * @return true if the withdrawal rejection was successful, false otherwise
      */
     boolean rejectWithdrawal(String applicationId, model.HDBManager manager);
+    
+    /**
+     * Approves several applications as one all-or-nothing batch. A batch spanning several
+     * projects is refused without changing anything.
+     * 
+     * @param applicationIds The IDs of the applications to approve
+     * @param manager The manager approving the applications
+     * @return true if every application was approved, false otherwise
+     */
+    boolean approveApplications(Collection<String> applicationIds, model.HDBManager manager);
+    
+    /**
+     * Rejects several applications as one all-or-nothing batch. A batch spanning several
+     * projects is refused without changing anything.
+     * 
+     * @param applicationIds The IDs of the applications to reject
+     * @param manager The manager rejecting the applications
+     * @return true if every application was rejected, false otherwise
+     */
+    boolean rejectApplications(Collection<String> applicationIds, model.HDBManager manager);
+    
+    /**
+     * Approves several withdrawal requests as one all-or-nothing batch. A batch spanning several
+     * projects is refused without changing anything.
+     * 
+     * @param applicationIds The IDs of the applications to approve withdrawal for
+     * @param manager The manager approving the withdrawals
+     * @return true if every withdrawal was approved, false otherwise
+     */
+    boolean approveWithdrawals(Collection<String> applicationIds, model.HDBManager manager);
+    
+    /**
+     * Runs a ballot over the pending applications of a project.
+     * 
+     * @param project The project to ballot
+     * @param manager The manager running the ballot
+     * @param seed The seed for the draw
+     * @param tierPolicy Maps an applicant to a priority tier, lower tiers are drawn first
+     * @return The ballot result, or null if the ballot could not be run
+     */
+    BallotService.Result runBallot(Project project, model.HDBManager manager, long seed,
+                                   ToIntFunction<Applicant> tierPolicy);
 }
\ No newline at end of file
@@ -24,6 +24,29 @@ public interface IAuthenticationController {
      */
     User login(String nric, String password);
     
+    /**
+     * Starts a session for an authenticated user.
+     * 
+     * @param user The authenticated user
+     * @return An opaque session token identifying the session
+     */
+    String createSession(User user);
+    
+    /**
+     * Resolves the user acting in a session.
+     * 
+     * @param sessionToken The session token
+     * @return The user, or null if the session is unknown or has expired
+     */
+    User resolveSession(String sessionToken);
+    
+    /**
+     * Ends a session.
+     * 
+     * @param sessionToken The session token
+     */
+    void endSession(String sessionToken);
+    
     /**
      * Changes a user's password.
      * 
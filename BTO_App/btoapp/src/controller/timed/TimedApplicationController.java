@@ -0,0 +1,193 @@
+package controller.timed;
+
+import controller.ApplicationController;
+import datamanager.ApplicantDataManager;
+import datamanager.ApplicationDataManager;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+import model.Applicant;
+import model.Application;
+import model.HDBManager;
+import model.Project;
+import model.Report;
+import model.ReportFilter;
+import model.enums.ApplicationStatus;
+import model.enums.FlatType;
+import service.BallotService;
+import service.BookingCube;
+import service.EligibilityCheckerService;
+import service.ProjectEventLoop;
+import utils.PageSource;
+import utils.metrics.Instrumentation;
+
+/**
+ * Application controller that times each of its operations.
+ *
+ * Every operation is run through {@link Instrumentation#timed(String, java.util.function.Supplier)},
+ * so its calls and latency are recorded in the metrics registry, and in the
+ * current trace when one is sampled, under "application." followed by the method name.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public class TimedApplicationController extends ApplicationController {
+
+    /**
+     * Constructor for TimedApplicationController.
+     *
+     * @param applicationDataManager Data manager for applications
+     * @param applicantDataManager Data manager for applicants
+     * @param eligibilityService Service for checking eligibility
+     * @param ballotService Service for running ballots
+     * @param projectEventLoop Event loop that serializes each project's updates
+     * @param bookingCube Booking cube kept up to date with bookings
+     */
+    public TimedApplicationController(
+            ApplicationDataManager applicationDataManager,
+            ApplicantDataManager applicantDataManager,
+            EligibilityCheckerService eligibilityService,
+            BallotService ballotService,
+            ProjectEventLoop projectEventLoop,
+            BookingCube bookingCube) {
+        super(applicationDataManager, applicantDataManager, eligibilityService, ballotService, projectEventLoop,
+              bookingCube);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Application submitApplication(Applicant applicant, Project project, FlatType flatType) {
+        return Instrumentation.timed("application.submitApplication",
+                                     () -> super.submitApplication(applicant, project, flatType));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean requestWithdrawal(String applicationId, Applicant applicant) {
+        return Instrumentation.timed("application.requestWithdrawal",
+                                     () -> super.requestWithdrawal(applicationId, applicant));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Application> getApplicationsByProject(Project project) {
+        return Instrumentation.timed("application.getApplicationsByProject",
+                                     () -> super.getApplicationsByProject(project));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PageSource<Application> getApplicationPages(Project project, ApplicationStatus status) {
+        return Instrumentation.timed("application.getApplicationPages",
+                                     () -> super.getApplicationPages(project, status));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PageSource<Report.ReportEntry> getBookingReportPages(Project project, ReportFilter filter) {
+        return Instrumentation.timed("application.getBookingReportPages",
+                                     () -> super.getBookingReportPages(project, filter));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Stream<Application> streamApplicationsByProject(Project project) {
+        return Instrumentation.timed("application.streamApplicationsByProject",
+                                     () -> super.streamApplicationsByProject(project));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Application> getApplicationsByStatus(Project project, ApplicationStatus status) {
+        return Instrumentation.timed("application.getApplicationsByStatus",
+                                     () -> super.getApplicationsByStatus(project, status));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean approveApplication(String applicationId, HDBManager manager) {
+        return Instrumentation.timed("application.approveApplication",
+                                     () -> super.approveApplication(applicationId, manager));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean rejectApplication(String applicationId, HDBManager manager) {
+        return Instrumentation.timed("application.rejectApplication",
+                                     () -> super.rejectApplication(applicationId, manager));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean approveWithdrawal(String applicationId, HDBManager manager) {
+        return Instrumentation.timed("application.approveWithdrawal",
+                                     () -> super.approveWithdrawal(applicationId, manager));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean rejectWithdrawal(String applicationId, HDBManager manager) {
+        return Instrumentation.timed("application.rejectWithdrawal",
+                                     () -> super.rejectWithdrawal(applicationId, manager));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean approveApplications(Collection<String> applicationIds, HDBManager manager) {
+        return Instrumentation.timed("application.approveApplications",
+                                     () -> super.approveApplications(applicationIds, manager));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean rejectApplications(Collection<String> applicationIds, HDBManager manager) {
+        return Instrumentation.timed("application.rejectApplications",
+                                     () -> super.rejectApplications(applicationIds, manager));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean approveWithdrawals(Collection<String> applicationIds, HDBManager manager) {
+        return Instrumentation.timed("application.approveWithdrawals",
+                                     () -> super.approveWithdrawals(applicationIds, manager));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public BallotService.Result runBallot(Project project, HDBManager manager, long seed,
+                                          ToIntFunction<Applicant> tierPolicy) {
+        return Instrumentation.timed("application.runBallot",
+                                     () -> super.runBallot(project, manager, seed, tierPolicy));
+    }
+}
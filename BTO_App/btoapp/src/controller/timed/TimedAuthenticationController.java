@@ -0,0 +1,145 @@
+package controller.timed;
+
+import controller.AuthenticationController;
+import datamanager.ApplicantDataManager;
+import datamanager.ApplicationDataManager;
+import datamanager.ManagerDataManager;
+import datamanager.OfficerDataManager;
+import model.Applicant;
+import model.HDBManager;
+import model.HDBOfficer;
+import model.User;
+import model.enums.UserRole;
+import utils.metrics.Instrumentation;
+
+/**
+ * Authentication controller that times each of its operations.
+ *
+ * Every operation is run through {@link Instrumentation#timed(String, java.util.function.Supplier)},
+ * so its calls and latency are recorded in the metrics registry, and in the
+ * current trace when one is sampled, under "auth." followed by the method name.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public class TimedAuthenticationController extends AuthenticationController {
+
+    /**
+     * Constructor for TimedAuthenticationController.
+     *
+     * @param applicantDataManager Data manager for applicants
+     * @param officerDataManager Data manager for officers
+     * @param managerDataManager Data manager for managers
+     * @param applicationDataManager Data manager for applications
+     */
+    public TimedAuthenticationController(ApplicantDataManager applicantDataManager,
+                                         OfficerDataManager officerDataManager,
+                                         ManagerDataManager managerDataManager,
+                                         ApplicationDataManager applicationDataManager) {
+        super(applicantDataManager, officerDataManager, managerDataManager, applicationDataManager);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public User login(String nric, String password) {
+        return Instrumentation.timed("auth.login", () -> super.login(nric, password));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean validateNRICFormat(String nric) {
+        return Instrumentation.timed("auth.validateNRICFormat", () -> super.validateNRICFormat(nric));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public User getUserByNRIC(String nric) {
+        return Instrumentation.timed("auth.getUserByNRIC", () -> super.getUserByNRIC(nric));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Applicant getApplicantByNRIC(String nric) {
+        return Instrumentation.timed("auth.getApplicantByNRIC", () -> super.getApplicantByNRIC(nric));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public HDBOfficer getOfficerByNRIC(String nric) {
+        return Instrumentation.timed("auth.getOfficerByNRIC", () -> super.getOfficerByNRIC(nric));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public HDBManager getManagerByNRIC(String nric) {
+        return Instrumentation.timed("auth.getManagerByNRIC", () -> super.getManagerByNRIC(nric));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public UserRole getUserRole(String nric) {
+        return Instrumentation.timed("auth.getUserRole", () -> super.getUserRole(nric));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String createSession(User user) {
+        return Instrumentation.timed("auth.createSession", () -> super.createSession(user));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public User resolveSession(String sessionToken) {
+        return Instrumentation.timed("auth.resolveSession", () -> super.resolveSession(sessionToken));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void endSession(String sessionToken) {
+        Instrumentation.timed("auth.endSession", () -> super.endSession(sessionToken));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean loadUserData(String filePath) {
+        return Instrumentation.timed("auth.loadUserData", () -> super.loadUserData(filePath));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean saveUserData(String filePath) {
+        return Instrumentation.timed("auth.saveUserData", () -> super.saveUserData(filePath));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean changePassword(String nric, String oldPassword, String newPassword) {
+        return Instrumentation.timed("auth.changePassword", () -> super.changePassword(nric, oldPassword, newPassword));
+    }
+}
@@ -0,0 +1,53 @@
+package controller.timed;
+
+import controller.BookingController;
+import datamanager.ApplicationDataManager;
+import datamanager.ProjectDataManager;
+import model.HDBOfficer;
+import model.enums.FlatType;
+import service.BookingCube;
+import service.ProjectEventLoop;
+import utils.metrics.Instrumentation;
+
+/**
+ * Booking controller that times each of its operations.
+ *
+ * Every operation is run through {@link Instrumentation#timed(String, java.util.function.Supplier)},
+ * so its calls and latency are recorded in the metrics registry, and in the
+ * current trace when one is sampled, under "booking." followed by the method name.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public class TimedBookingController extends BookingController {
+
+    /**
+     * Constructor for TimedBookingController.
+     *
+     * @param applicationDataManager Data manager for applications
+     * @param projectDataManager Data manager for projects
+     * @param projectEventLoop Event loop that serializes each project's updates
+     * @param bookingCube Booking cube kept up to date with bookings
+     */
+    public TimedBookingController(ApplicationDataManager applicationDataManager, ProjectDataManager projectDataManager,
+                                  ProjectEventLoop projectEventLoop, BookingCube bookingCube) {
+        super(applicationDataManager, projectDataManager, projectEventLoop, bookingCube);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean bookFlat(String applicationId, HDBOfficer officer) {
+        return Instrumentation.timed("booking.bookFlat", () -> super.bookFlat(applicationId, officer));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean updateFlatAvailability(String projectId, FlatType flatType) {
+        return Instrumentation.timed("booking.updateFlatAvailability",
+                                     () -> super.updateFlatAvailability(projectId, flatType));
+    }
+}
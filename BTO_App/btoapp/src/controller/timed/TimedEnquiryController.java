@@ -0,0 +1,133 @@
+package controller.timed;
+
+import controller.EnquiryController;
+import controller.ProjectController;
+import datamanager.EnquiryDataManager;
+import datamanager.PersistenceQueue;
+import enquiry.Enquiry;
+import java.util.List;
+import model.Applicant;
+import model.HDBManager;
+import model.HDBOfficer;
+import service.ProjectEventLoop;
+import utils.metrics.Instrumentation;
+
+/**
+ * Enquiry controller that times each of its operations.
+ *
+ * Every operation is run through {@link Instrumentation#timed(String, java.util.function.Supplier)},
+ * so its calls and latency are recorded in the metrics registry, and in the
+ * current trace when one is sampled, under "enquiry." followed by the method name.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public class TimedEnquiryController extends EnquiryController {
+
+    /**
+     * Constructor for TimedEnquiryController.
+     *
+     * @param projectController Controller for projects
+     * @param enquiryDataManager Data manager for enquiries
+     * @param persistenceQueue Queue that writes enquiries to disk
+     * @param projectEventLoop Event loop that serializes each project's updates
+     */
+    public TimedEnquiryController(ProjectController projectController, EnquiryDataManager enquiryDataManager,
+                                  PersistenceQueue persistenceQueue, ProjectEventLoop projectEventLoop) {
+        super(projectController, enquiryDataManager, persistenceQueue, projectEventLoop);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Enquiry createEnquiry(Applicant applicant, String projectName, String enquiryText) {
+        return Instrumentation.timed("enquiry.createEnquiry",
+                                     () -> super.createEnquiry(applicant, projectName, enquiryText));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean updateEnquiry(String enquiryId, String newEnquiryText, Applicant applicant) {
+        return Instrumentation.timed("enquiry.updateEnquiry",
+                                     () -> super.updateEnquiry(enquiryId, newEnquiryText, applicant));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean deleteEnquiry(String enquiryId, Applicant applicant) {
+        return Instrumentation.timed("enquiry.deleteEnquiry", () -> super.deleteEnquiry(enquiryId, applicant));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean replyToEnquiryAsOfficer(String enquiryId, String replyText, HDBOfficer officer) {
+        return Instrumentation.timed("enquiry.replyToEnquiryAsOfficer",
+                                     () -> super.replyToEnquiryAsOfficer(enquiryId, replyText, officer));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean replyToEnquiryAsManager(String enquiryId, String replyText, HDBManager manager) {
+        return Instrumentation.timed("enquiry.replyToEnquiryAsManager",
+                                     () -> super.replyToEnquiryAsManager(enquiryId, replyText, manager));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Enquiry> getEnquiriesByApplicant(Applicant applicant) {
+        return Instrumentation.timed("enquiry.getEnquiriesByApplicant", () -> super.getEnquiriesByApplicant(applicant));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Enquiry> getEnquiriesForOfficer(String projectId, HDBOfficer officer) {
+        return Instrumentation.timed("enquiry.getEnquiriesForOfficer",
+                                     () -> super.getEnquiriesForOfficer(projectId, officer));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Enquiry> getAllEnquiriesForManager(HDBManager manager) {
+        return Instrumentation.timed("enquiry.getAllEnquiriesForManager",
+                                     () -> super.getAllEnquiriesForManager(manager));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Enquiry> getEnquiriesByProject(String projectId) {
+        return Instrumentation.timed("enquiry.getEnquiriesByProject", () -> super.getEnquiriesByProject(projectId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Enquiry> getAnsweredEnquiries(String projectId) {
+        return Instrumentation.timed("enquiry.getAnsweredEnquiries", () -> super.getAnsweredEnquiries(projectId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Enquiry> getUnansweredEnquiries(String projectId) {
+        return Instrumentation.timed("enquiry.getUnansweredEnquiries", () -> super.getUnansweredEnquiries(projectId));
+    }
+}
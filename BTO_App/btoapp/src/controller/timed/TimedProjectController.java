@@ -0,0 +1,136 @@
+package controller.timed;
+
+import controller.ProjectController;
+import datamanager.ProjectDataManager;
+import java.util.Date;
+import java.util.List;
+import model.Applicant;
+import model.HDBManager;
+import model.HDBOfficer;
+import model.Project;
+import model.enums.FlatType;
+import utils.metrics.Instrumentation;
+
+/**
+ * Project controller that times each of its operations.
+ *
+ * Every operation is run through {@link Instrumentation#timed(String, java.util.function.Supplier)},
+ * so its calls and latency are recorded in the metrics registry, and in the
+ * current trace when one is sampled, under "project." followed by the method name.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public class TimedProjectController extends ProjectController {
+
+    /**
+     * Constructor for TimedProjectController.
+     *
+     * @param projectDataManager Data manager for projects
+     */
+    public TimedProjectController(ProjectDataManager projectDataManager) {
+        super(projectDataManager);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Project createProject(String projectName, String neighborhood,
+                                 List<FlatType> flatTypes, List<Integer> numberOfUnits,
+                                 List<Double> sellingPrices, Date openingDate,
+                                 Date closingDate, HDBManager manager, int officerSlots) {
+        return Instrumentation.timed("project.createProject",
+                                     () -> super.createProject(projectName, neighborhood, flatTypes, numberOfUnits,
+                                                               sellingPrices, openingDate, closingDate, manager,
+                                                               officerSlots));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean updateProject(String projectId, String projectName, String neighborhood,
+                                 Date openingDate, Date closingDate, int officerSlots, HDBManager manager) {
+        return Instrumentation.timed("project.updateProject",
+                                     () -> super.updateProject(projectId, projectName, neighborhood, openingDate,
+                                                               closingDate, officerSlots, manager));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean deleteProject(String projectId, HDBManager manager) {
+        return Instrumentation.timed("project.deleteProject", () -> super.deleteProject(projectId, manager));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean toggleProjectVisibility(String projectId, boolean visible, HDBManager manager) {
+        return Instrumentation.timed("project.toggleProjectVisibility",
+                                     () -> super.toggleProjectVisibility(projectId, visible, manager));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean registerOfficerForProject(String projectId, HDBOfficer officer) {
+        return Instrumentation.timed("project.registerOfficerForProject",
+                                     () -> super.registerOfficerForProject(projectId, officer));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Project getProjectById(String projectId) {
+        return Instrumentation.timed("project.getProjectById", () -> super.getProjectById(projectId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Project> getAllProjects() {
+        return Instrumentation.timed("project.getAllProjects", () -> super.getAllProjects());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Project> getProjectsByManager(HDBManager manager) {
+        return Instrumentation.timed("project.getProjectsByManager", () -> super.getProjectsByManager(manager));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Project> getVisibleProjectsForApplicant(Applicant applicant) {
+        return Instrumentation.timed("project.getVisibleProjectsForApplicant",
+                                     () -> super.getVisibleProjectsForApplicant(applicant));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<HDBOfficer> getApprovedOfficersForProject(String projectId) {
+        return Instrumentation.timed("project.getApprovedOfficersForProject",
+                                     () -> super.getApprovedOfficersForProject(projectId));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getRemainingOfficerSlots(String projectId) {
+        return Instrumentation.timed("project.getRemainingOfficerSlots",
+                                     () -> super.getRemainingOfficerSlots(projectId));
+    }
+}
@@ -10,6 +10,11 @@ import java.util.ArrayList;
 import java.util.List;
 import model.Applicant;
 import utils.FilePathConfig;
+import utils.jfr.DataLoadEvent;
+import utils.jfr.DataSaveEvent;
+import utils.log.Log;
+import utils.log.Logger;
+import utils.metrics.Instrumentation;
 
 /**
  * ApplicantDataManager handles the interaction between the application and the ApplicantList.txt file.
@@ -19,6 +24,8 @@ import utils.FilePathConfig;
  * @version 1.0
  */
 public class ApplicantDataManager {
+
+    private static final Logger LOG = Log.getLogger(ApplicantDataManager.class);
     
     private String filePath;
     private static final String DELIMITER = "\t";
@@ -45,41 +52,52 @@ public class ApplicantDataManager {
      * @return A list of Applicant objects
      */
     public List<Applicant> readAllApplicants() {
-        List<Applicant> applicants = new ArrayList<>();
-        
-        File file = new File(filePath);
-        
-        if (!file.exists()) {
-            return applicants;
-        }
-        
-        try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
-            String line;
-            boolean isHeader = true;
+        return Instrumentation.timed("data.applicants.load", this::readApplicantFile);
+    }
+
+    /**
+     * Reads the applicants from the file.
+     *
+     * @return A list of Applicant objects
+     */
+    private List<Applicant> readApplicantFile() {
+        try (DataLoadEvent event = new DataLoadEvent("applicants", filePath)) {
+            List<Applicant> applicants = new ArrayList<>();
             
-            while ((line = reader.readLine()) != null) {
-                if (isHeader) {
-                    isHeader = false;
-                    continue; // Skip the header row
-                }
+            File file = new File(filePath);
+            
+            if (!file.exists()) {
+                return applicants;
+            }
+            
+            try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
+                String line;
+                boolean isHeader = true;
                 
-                String[] parts = line.split(DELIMITER);
-                if (parts.length >= 5) {
-                    String name = parts[0];
-                    String nric = parts[1];
-                    int age = Integer.parseInt(parts[2]);
-                    String maritalStatus = parts[3];
-                    String password = parts[4];
+                while ((line = reader.readLine()) != null) {
+                    if (isHeader) {
+                        isHeader = false;
+                        continue; // Skip the header row
+                    }
                     
-                    Applicant applicant = new Applicant(name, nric, age, maritalStatus, password);
-                    applicants.add(applicant);
+                    String[] parts = line.split(DELIMITER);
+                    if (parts.length >= 5) {
+                        String name = parts[0];
+                        String nric = parts[1];
+                        int age = Integer.parseInt(parts[2]);
+                        String maritalStatus = parts[3];
+                        String password = parts[4];
+                        
+                        Applicant applicant = new Applicant(name, nric, age, maritalStatus, password);
+                        applicants.add(applicant);
+                    }
                 }
+            } catch (IOException e) {
+                LOG.error("ERROR reading applicant data: " + e.getMessage(), e);
             }
-        } catch (IOException e) {
-            System.out.println("ERROR reading applicant data: " + e.getMessage());
-            e.printStackTrace();
+            event.setRows(applicants.size());
+            return applicants;
         }
-        return applicants;
     }
     
     /**
@@ -89,6 +107,16 @@ public class ApplicantDataManager {
      * @return The applicant if found, null otherwise
      */
     public Applicant findApplicantByNRIC(String nric) {
+        return Instrumentation.timed("data.applicants.find", () -> findApplicantInFile(nric));
+    }
+
+    /**
+     * Looks up an applicant in the file.
+     *
+     * @param nric The NRIC to search for
+     * @return The applicant if found, null otherwise
+     */
+    private Applicant findApplicantInFile(String nric) {
         List<Applicant> applicants = readAllApplicants();
         
         for (Applicant applicant : applicants) {
@@ -106,7 +134,17 @@ public class ApplicantDataManager {
      * @param applicant The applicant to update
      * @return true if the applicant was updated successfully, false otherwise
      */
-    public boolean updateApplicant(Applicant applicant) {
+    public synchronized boolean updateApplicant(Applicant applicant) {
+        return Instrumentation.timed("data.applicants.update", () -> updateApplicantInFile(applicant));
+    }
+
+    /**
+     * Replaces an applicant in the file.
+     *
+     * @param applicant The applicant to update
+     * @return true if the applicant was updated successfully, false otherwise
+     */
+    private boolean updateApplicantInFile(Applicant applicant) {
         List<Applicant> applicants = readAllApplicants();
         
         for (int i = 0; i < applicants.size(); i++) {
@@ -125,31 +163,42 @@ public class ApplicantDataManager {
      * @param applicants The list of applicants to write
      * @return true if the applicants were written successfully, false otherwise
      */
-    public boolean writeApplicants(List<Applicant> applicants) {
-        
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath))) {
-            // Write header
-            writer.write("Name" + DELIMITER + "NRIC" + DELIMITER + "Age" + DELIMITER + 
-                        "Marital Status" + DELIMITER + "Password");
-            writer.newLine();
-            
-            // Write applicant data
-            for (Applicant applicant : applicants) {
-                writer.write(
-                    applicant.getName() + DELIMITER +
-                    applicant.getNric() + DELIMITER +
-                    applicant.getAge() + DELIMITER +
-                    applicant.getMaritalStatus() + DELIMITER +
-                    applicant.getPassword()
-                );
+    public synchronized boolean writeApplicants(List<Applicant> applicants) {
+        return Instrumentation.timed("data.applicants.save", () -> writeApplicantFile(applicants));
+    }
+
+    /**
+     * Writes the applicants to the file.
+     *
+     * @param applicants The list of applicants to write
+     * @return true if the applicants were written successfully, false otherwise
+     */
+    private boolean writeApplicantFile(List<Applicant> applicants) {
+        try (DataSaveEvent event = new DataSaveEvent("applicants", filePath)) {
+            event.setRows(applicants.size());
+            try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath))) {
+                // Write header
+                writer.write("Name" + DELIMITER + "NRIC" + DELIMITER + "Age" + DELIMITER + 
+                            "Marital Status" + DELIMITER + "Password");
                 writer.newLine();
+                
+                // Write applicant data
+                for (Applicant applicant : applicants) {
+                    writer.write(
+                        applicant.getName() + DELIMITER +
+                        applicant.getNric() + DELIMITER +
+                        applicant.getAge() + DELIMITER +
+                        applicant.getMaritalStatus() + DELIMITER +
+                        applicant.getPassword()
+                    );
+                    writer.newLine();
+                }
+            
+                return true;
+            } catch (IOException e) {
+                LOG.error("Error writing applicant data: " + e.getMessage(), e);
+                return false;
             }
-        
-            return true;
-        } catch (IOException e) {
-            System.out.println("Error writing applicant data: " + e.getMessage());
-            e.printStackTrace();
-            return false;
         }
     }
 
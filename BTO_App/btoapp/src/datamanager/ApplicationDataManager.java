@@ -10,8 +10,15 @@ import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 import model.Applicant;
 import model.Application;
 import model.HDBOfficer;
@@ -19,6 +26,15 @@ import model.Project;
 import model.enums.ApplicationStatus;
 import model.enums.FlatType;
 import utils.FilePathConfig;
+import utils.IdGenerator;
+import utils.PageSource;
+import utils.SortedMapPageSource;
+import utils.jfr.DataLoadEvent;
+import utils.jfr.DataSaveEvent;
+import utils.log.Level;
+import utils.log.Log;
+import utils.log.Logger;
+import utils.metrics.Instrumentation;
 
 /**
  * ApplicationDataManager handles the reading and writing of application data
@@ -30,10 +46,13 @@ import utils.FilePathConfig;
  */
 public class ApplicationDataManager {
 
+    private static final Logger LOG = Log.getLogger(ApplicationDataManager.class);
+
     private static final String DELIMITER = "\t";
     private static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat("dd/MM/yyyy");
     
     private Map<String, Application> applicationMap;
+    private Map<String, NavigableMap<String, Application>> applicationsByProject;
     private ApplicantDataManager applicantDataManager;
     private ProjectDataManager projectDataManager;
     private OfficerDataManager officerDataManager;
@@ -43,7 +62,8 @@ public class ApplicationDataManager {
     * Constructor for ApplicationDataManager.
     * 
     * Initializes the data manager with:
-    * - A new HashMap to store applications
+    * - A new ConcurrentHashMap to store applications, shared by all project event loops
+    * - A per-project index of applications sorted by ID, used for paging
     * - References to related data managers
     * - Configured file path for application list storage
     * 
@@ -52,7 +72,8 @@ public class ApplicationDataManager {
     * @param officerDataManager Manager for handling officer-related data
     */
     public ApplicationDataManager(ApplicantDataManager applicantDataManager, ProjectDataManager projectDataManager, OfficerDataManager officerDataManager) {
-        this.applicationMap = new HashMap<>();
+        this.applicationMap = new ConcurrentHashMap<>();
+        this.applicationsByProject = new ConcurrentHashMap<>();
         this.applicantDataManager = applicantDataManager;
         this.projectDataManager = projectDataManager;
         this.officerDataManager = officerDataManager;
@@ -83,148 +104,207 @@ public class ApplicationDataManager {
      * @return true if the data was successfully loaded, false otherwise
      */
     public boolean loadApplicationData() {
-        applicationMap.clear();
-        
-        try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
-            // Skip header line
-            String headerLine = reader.readLine();
+        return Instrumentation.timed("data.applications.load", this::readApplicationFile);
+    }
+
+    /**
+     * Reads the applications from the file.
+     *
+     * @return true if the data was successfully loaded, false otherwise
+     */
+    private boolean readApplicationFile() {
+        try (DataLoadEvent event = new DataLoadEvent("applications", filePath)) {
+            applicationMap.clear();
+            applicationsByProject.clear();
             
-            String line;
-            int lineNumber = 2; // Start from line 2 after header
-            while ((line = reader.readLine()) != null) {
-                // Skip empty lines
-                if (line.trim().isEmpty()) {
-                    lineNumber++;
-                    continue;
-                }
-                
-                String[] parts = line.split("\t");
-                
-                // Skip lines with insufficient data
-                if (parts.length < 4) {
-                    lineNumber++;
-                    continue;
-                }
-                
-                // Trim all parts to remove whitespace
-                String applicantNric = parts[0].trim();
-                String projectName = parts[1].trim();
-                String statusStr = parts[2].trim();
-                String flatTypeStr = parts[3].trim();
-                String bookingDateStr = parts.length > 4 ? parts[4].trim() : "";
-                
-                // Validate and parse application status
-                ApplicationStatus status;
-                try {
-                    status = ApplicationStatus.valueOf(statusStr.toUpperCase());
-                } catch (IllegalArgumentException e) {
-                    System.out.println("Invalid application status on line " + lineNumber + 
-                                       ": " + statusStr);
-                    lineNumber++;
-                    continue;
-                }
-                
-                // Parse flat type using custom fromString method
-                FlatType flatType = FlatType.fromString(flatTypeStr);
-                if (flatType == null) {
-                    System.out.println("Invalid flat type on line " + lineNumber + 
-                                       ": " + flatTypeStr);
-                    lineNumber++;
-                    continue;
-                }
-                
-                // Get the applicant and project objects
-                Applicant applicant = applicantDataManager.findApplicantByNRIC(applicantNric);
+            try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
+                // Skip header line, keeping every line read in case IDs have to be written back
+                List<String> fileLines = new ArrayList<>();
+                fileLines.add(reader.readLine());
                 
-                // If applicant not found, try finding as an officer
-                if (applicant == null) {
-                    HDBOfficer officer = officerDataManager.getOfficerByNric(applicantNric);
-                    if (officer != null) {
-                        // Convert officer to applicant if needed
-                        applicant = new Applicant(
-                            officer.getName(), 
-                            officer.getNric(), 
-                            officer.getAge(), 
-                            officer.getMaritalStatus(), 
-                            officer.getPassword()
-                        );
+                String line;
+                int lineNumber = 2; // Start from line 2 after header
+                boolean idsAssigned = false;
+                while ((line = reader.readLine()) != null) {
+                    fileLines.add(line);
+                    
+                    // Skip empty lines
+                    if (line.trim().isEmpty()) {
+                        lineNumber++;
+                        continue;
                     }
-                }
-                
-                Project project = projectDataManager.getProjectByName(projectName);
-                
-                // Skip if either applicant or project is not found
-                if (applicant == null || project == null) {
-                    lineNumber++;
-                    continue;
-                }
-                
-                // Generate application ID
-                String applicationId = generateApplicationId(applicantNric, projectName);
-                
-                // Create application object
-                Application application = new Application(applicationId, applicant, project, flatType);
-                
-                // Set application status
-                switch (status) {
-                    case PENDING:
-                        // Do nothing for pending status
-                        break;
-                    case SUCCESSFUL:
-                        application.approve();
-                        break;
-                    case BOOKED:
-                        application.approve();
-                        application.bookFlat();
-                        applicant.setBookedProject(project);
-                        applicant.setBookedFlatType(flatType);
-                        if (!bookingDateStr.isEmpty()) {
-                            try {
-                                Date bookingDate = new SimpleDateFormat("dd/MM/yyyy").parse(bookingDateStr);
-                                application.setBookingDate(bookingDate);
-                            } catch (ParseException e) {
-                                System.out.println("Invalid booking date format on line " + lineNumber + 
-                                                ": " + bookingDateStr);
-                                // Set current date as fallback
+                    
+                    String[] parts = line.split("\t");
+                    
+                    // Skip lines with insufficient data
+                    if (parts.length < 4) {
+                        lineNumber++;
+                        continue;
+                    }
+                    
+                    // Trim all parts to remove whitespace
+                    String applicantNric = parts[0].trim();
+                    String projectName = parts[1].trim();
+                    String statusStr = parts[2].trim();
+                    String flatTypeStr = parts[3].trim();
+                    String bookingDateStr = parts.length > 4 ? parts[4].trim() : "";
+                    String applicationIdStr = parts.length > 5 ? parts[5].trim() : "";
+                    
+                    // Validate and parse application status
+                    ApplicationStatus status;
+                    try {
+                        status = ApplicationStatus.valueOf(statusStr.toUpperCase());
+                    } catch (IllegalArgumentException e) {
+                        LOG.warn("Invalid application status on line " + lineNumber + 
+                                           ": " + statusStr);
+                        lineNumber++;
+                        continue;
+                    }
+                    
+                    // Parse flat type using custom fromString method
+                    FlatType flatType = FlatType.fromString(flatTypeStr);
+                    if (flatType == null) {
+                        LOG.warn("Invalid flat type on line " + lineNumber + 
+                                           ": " + flatTypeStr);
+                        lineNumber++;
+                        continue;
+                    }
+                    
+                    // Get the applicant and project objects
+                    Applicant applicant = applicantDataManager.findApplicantByNRIC(applicantNric);
+                    
+                    // If applicant not found, try finding as an officer
+                    if (applicant == null) {
+                        HDBOfficer officer = officerDataManager.getOfficerByNric(applicantNric);
+                        if (officer != null) {
+                            // Convert officer to applicant if needed
+                            applicant = new Applicant(
+                                officer.getName(), 
+                                officer.getNric(), 
+                                officer.getAge(), 
+                                officer.getMaritalStatus(), 
+                                officer.getPassword()
+                            );
+                        }
+                    }
+                    
+                    Project project = projectDataManager.getProjectByName(projectName);
+                    
+                    // Skip if either applicant or project is not found
+                    if (applicant == null || project == null) {
+                        lineNumber++;
+                        continue;
+                    }
+                    
+                    // Use the stored application ID, or assign one to rows saved before IDs were stored
+                    String applicationId = applicationIdStr;
+                    if (applicationId.isEmpty()) {
+                        applicationId = IdGenerator.getInstance().nextId("APP");
+                        fileLines.set(fileLines.size() - 1, withApplicationId(parts, applicationId));
+                        idsAssigned = true;
+                    }
+                    
+                    // Create application object
+                    Application application = new Application(applicationId, applicant, project, flatType);
+                    
+                    // Set application status
+                    switch (status) {
+                        case PENDING:
+                            // Do nothing for pending status
+                            break;
+                        case SUCCESSFUL:
+                            application.approve();
+                            break;
+                        case BOOKED:
+                            application.approve();
+                            application.bookFlat();
+                            applicant.setBookedProject(project);
+                            applicant.setBookedFlatType(flatType);
+                            if (!bookingDateStr.isEmpty()) {
+                                try {
+                                    Date bookingDate = new SimpleDateFormat("dd/MM/yyyy").parse(bookingDateStr);
+                                    application.setBookingDate(bookingDate);
+                                } catch (ParseException e) {
+                                    LOG.warn("Invalid booking date format on line " + lineNumber + 
+                                                    ": " + bookingDateStr);
+                                    // Set current date as fallback
+                                    application.setBookingDate(new Date());
+                                    LOG.warn("Using current date as fallback");
+                                }
+                            } else {
+                                // If no booking date was provided, set the current date
                                 application.setBookingDate(new Date());
-                                System.out.println("Using current date as fallback");
                             }
-                        } else {
-                            // If no booking date was provided, set the current date
-                            application.setBookingDate(new Date());
-                        }
-                        break;
-                    case UNSUCCESSFUL:
-                        application.reject();
-                        break;
+                            break;
+                        case UNSUCCESSFUL:
+                            application.reject();
+                            break;
+                    }
+                    
+                    // Store in map
+                    applicationMap.put(applicationId, application);
+                    index(application);
+                    
+                    // Update applicant's current application reference
+                    if (application.isActive()) {
+                        applicant.setCurrentApplication(application);
+                        applicantDataManager.updateApplicant(applicant);
+                    }
+                    
+                    // Add application to project
+                    project.addApplication(application);
+                    
+                    lineNumber++;
                 }
                 
-                // Store in map
-                applicationMap.put(applicationId, application);
-                
-                // Update applicant's current application reference
-                if (application.isActive()) {
-                    applicant.setCurrentApplication(application);
-                    applicantDataManager.updateApplicant(applicant);
+                // Store newly assigned IDs so status updates can find the rows again. Only the
+                // ID column changes, rows that were skipped above are written back as they were.
+                if (idsAssigned) {
+                    writeLines(fileLines);
                 }
                 
-                // Add application to project
-                project.addApplication(application);
-                
-                lineNumber++;
+                event.setRows(applicationMap.size());
+                return !applicationMap.isEmpty();
+            } catch (IOException e) {
+                LOG.error("Error loading application data: " + e.getMessage(), e);
+                return false;
             }
-            
-            for (String key : applicationMap.keySet()) {
-                Application app = applicationMap.get(key);
+        }
+    }
+    /**
+     * Builds a file line with the application ID column set, leaving the other columns as they were.
+     * 
+     * @param parts The columns of the original line
+     * @param applicationId The application ID to store
+     * @return the new line
+     */
+    private static String withApplicationId(String[] parts, String applicationId) {
+        StringBuilder newLine = new StringBuilder();
+        for (int i = 0; i < 5; i++) {
+            newLine.append(i < parts.length ? parts[i] : "").append(DELIMITER);
+        }
+        newLine.append(applicationId);
+        for (int i = 6; i < parts.length; i++) {
+            newLine.append(DELIMITER).append(parts[i]);
+        }
+        return newLine.toString();
+    }
+    
+    /**
+     * Writes lines to the application file, replacing its contents.
+     * 
+     * @param fileLines The lines, header first
+     * @throws IOException if the file cannot be written
+     */
+    private void writeLines(List<String> fileLines) throws IOException {
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath))) {
+            for (String fileLine : fileLines) {
+                writer.write(fileLine);
+                writer.newLine();
             }
-            
-            return !applicationMap.isEmpty();
-        } catch (IOException e) {
-            System.out.println("Error loading application data: " + e.getMessage());
-            e.printStackTrace();
-            return false;
         }
     }
+
     /**
      * Updates a single application's status directly in the file without rewriting everything.
      * 
@@ -233,82 +313,109 @@ public class ApplicationDataManager {
      * @return true if successful, false otherwise
      */
     public boolean updateApplicationStatusInFile(String applicationId, ApplicationStatus newStatus) {
-        
-        try {
-            // First, read the current file contents
-            List<String> fileLines = new ArrayList<>();
-            String headerLine = null;
-            
-            try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
-                // Read header line
-                headerLine = reader.readLine();
-                fileLines.add(headerLine);
-                
-                // Read rest of file
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    fileLines.add(line);
-                }
+        Map<String, ApplicationStatus> statusUpdates = new HashMap<>();
+        statusUpdates.put(applicationId, newStatus);
+        return updateApplicationStatusesInFile(statusUpdates);
+    }
+
+    /**
+     * Updates the status of several applications with a single read and rewrite of the file.
+     * Nothing is written unless every application is found in the file.
+     * 
+     * @param statusUpdates Map of application ID to the new status to set
+     * @return true if successful, false otherwise
+     */
+    public synchronized boolean updateApplicationStatusesInFile(Map<String, ApplicationStatus> statusUpdates) {
+        return Instrumentation.timed("data.applications.updateStatus",
+                                     () -> rewriteApplicationStatuses(statusUpdates));
+    }
+
+    /**
+     * Rewrites the file with the new statuses.
+     *
+     * @param statusUpdates Map of application ID to the new status to set
+     * @return true if successful, false otherwise
+     */
+    private boolean rewriteApplicationStatuses(Map<String, ApplicationStatus> statusUpdates) {
+        try (DataSaveEvent event = new DataSaveEvent("applications", filePath)) {
+            if (statusUpdates == null || statusUpdates.isEmpty()) {
+                return true;
             }
             
-            // Now, find and update the specific application line
-            boolean found = false;
-            for (int i = 1; i < fileLines.size(); i++) {  // Start at 1 to skip header
-                String line = fileLines.get(i);
-                String[] parts = line.split(DELIMITER);
+            try {
+                // First, read the current file contents
+                List<String> fileLines = new ArrayList<>();
+                String headerLine = null;
                 
-                if (parts.length >= 3) {
-                    // Check if this line contains our application
-                    // We don't have the ID directly in the file, so we need to construct it
-                    String nric = parts[0].trim();
-                    String projectName = parts[1].trim();
+                try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
+                    // Read header line
+                    headerLine = reader.readLine();
+                    fileLines.add(headerLine);
                     
-                    // Generate the application ID
-                    String lineAppId = generateApplicationId(nric, projectName);
+                    // Read rest of file
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        fileLines.add(line);
+                    }
+                }
+                
+                // Now, find and update the lines of the requested applications
+                Set<String> found = new HashSet<>();
+                for (int i = 1; i < fileLines.size(); i++) {  // Start at 1 to skip header
+                    String line = fileLines.get(i);
+                    String[] parts = line.split(DELIMITER);
                     
-                    if (lineAppId.equals(applicationId)) {
-                        
-                        // Construct the updated line with new status
-                        StringBuilder newLine = new StringBuilder();
-                        newLine.append(parts[0]).append(DELIMITER);  // NRIC
-                        newLine.append(parts[1]).append(DELIMITER);  // Project
-                        newLine.append(newStatus.name()).append(DELIMITER);  // New Status
+                    if (parts.length >= 6) {
+                        // Check if this line contains one of our applications
+                        String lineAppId = parts[5].trim();
+                        ApplicationStatus newStatus = statusUpdates.get(lineAppId);
                         
-                        // Keep the rest of the parts the same
-                        for (int j = 3; j < parts.length; j++) {
-                            newLine.append(parts[j]);
-                            if (j < parts.length - 1) {
-                                newLine.append(DELIMITER);
+                        if (newStatus != null) {
+                            
+                            // Construct the updated line with new status
+                            StringBuilder newLine = new StringBuilder();
+                            newLine.append(parts[0]).append(DELIMITER);  // NRIC
+                            newLine.append(parts[1]).append(DELIMITER);  // Project
+                            newLine.append(newStatus.name()).append(DELIMITER);  // New Status
+                            
+                            // Keep the rest of the parts the same
+                            for (int j = 3; j < parts.length; j++) {
+                                newLine.append(parts[j]);
+                                if (j < parts.length - 1) {
+                                    newLine.append(DELIMITER);
+                                }
                             }
+                            
+                            // Update the line in our list
+                            fileLines.set(i, newLine.toString());
+                            found.add(lineAppId);
                         }
-                        
-                        // Update the line in our list
-                        fileLines.set(i, newLine.toString());
-                        found = true;
-                        break;
                     }
                 }
-            }
-            
-            if (!found) {
-                System.out.println("Application not found in file: " + applicationId);
-                return false;
-            }
-            
-            // Write the updated file contents back
-            try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath))) {
-                for (String line : fileLines) {
-                    writer.write(line);
-                    writer.newLine();
+                
+                if (found.size() < statusUpdates.size()) {
+                    LOG.warn("Only " + found.size() + " of " + statusUpdates.size() + 
+                                       " applications found in file, nothing was updated");
+                    return false;
+                }
+                
+                // Write the updated file contents back
+                event.setRows(fileLines.size() - 1);
+                try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath))) {
+                    for (String line : fileLines) {
+                        writer.write(line);
+                        writer.newLine();
+                    }
+                }
+                
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Successfully updated status of " + found.size() + " application(s)");
                 }
+                return true;
+            } catch (IOException e) {
+                LOG.error("ERROR updating application status in file: " + e.getMessage(), e);
+                return false;
             }
-            
-            System.out.println("Successfully updated application status");
-            return true;
-        } catch (IOException e) {
-            System.out.println("ERROR updating application status in file: " + e.getMessage());
-            e.printStackTrace();
-            return false;
         }
     }
 
@@ -317,53 +424,65 @@ public class ApplicationDataManager {
      * 
      * @return true if the data was successfully saved, false otherwise
      */
-    public boolean saveApplicationData() {
-        
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath))) {
-            // Write header
-            writer.write("Applicant NRIC" + DELIMITER + "Project Name" + DELIMITER + 
-                        "Application Status" + DELIMITER + "Flat Type" + DELIMITER + "Booking Date");
-            writer.newLine();
-            
-            // Create a backup copy of the current application statuses
-            Map<String, ApplicationStatus> statusBackup = new HashMap<>();
-            for (String appId : applicationMap.keySet()) {
-                Application app = applicationMap.get(appId);
-                statusBackup.put(appId, app.getStatus());
-            }
-            
-            // Write application data one by one
-            for (String appId : applicationMap.keySet()) {
-                Application application = applicationMap.get(appId);
-                ApplicationStatus status = statusBackup.get(appId);
+    public synchronized boolean saveApplicationData() {
+        return Instrumentation.timed("data.applications.save", this::writeApplicationFile);
+    }
+
+    /**
+     * Writes the applications to the file.
+     *
+     * @return true if the data was successfully saved, false otherwise
+     */
+    private boolean writeApplicationFile() {
+        try (DataSaveEvent event = new DataSaveEvent("applications", filePath)) {
+            event.setRows(applicationMap.size());
+            try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath))) {
+                // Write header
+                writer.write("Applicant NRIC" + DELIMITER + "Project Name" + DELIMITER + 
+                            "Application Status" + DELIMITER + "Flat Type" + DELIMITER + "Booking Date" + DELIMITER +
+                            "Application ID");
+                writer.newLine();
                 
-                writer.write(application.getApplicant().getNric() + DELIMITER);
-                writer.write(application.getProject().getProjectName() + DELIMITER);
-                writer.write(status.name() + DELIMITER);
-                writer.write(application.getSelectedFlatType().getDisplayName() + DELIMITER);
+                // Create a backup copy of the current application statuses
+                Map<String, ApplicationStatus> statusBackup = new HashMap<>();
+                for (String appId : applicationMap.keySet()) {
+                    Application app = applicationMap.get(appId);
+                    statusBackup.put(appId, app.getStatus());
+                }
                 
-                // Write booking date if booked
-                if (status == ApplicationStatus.BOOKED) {
-                    SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy");
-                    Date bookingDate = application.getBookingDate();
-                    if (bookingDate != null) {
-                        writer.write(dateFormat.format(bookingDate));
+                // Write application data one by one
+                for (String appId : applicationMap.keySet()) {
+                    Application application = applicationMap.get(appId);
+                    ApplicationStatus status = statusBackup.get(appId);
+                    
+                    writer.write(application.getApplicant().getNric() + DELIMITER);
+                    writer.write(application.getProject().getProjectName() + DELIMITER);
+                    writer.write(status.name() + DELIMITER);
+                    writer.write(application.getSelectedFlatType().getDisplayName() + DELIMITER);
+                    
+                    // Write booking date if booked
+                    if (status == ApplicationStatus.BOOKED) {
+                        SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy");
+                        Date bookingDate = application.getBookingDate();
+                        if (bookingDate != null) {
+                            writer.write(dateFormat.format(bookingDate));
+                        } else {
+                            writer.write("");
+                        }
                     } else {
                         writer.write("");
                     }
-                } else {
-                    writer.write("");
+                    writer.write(DELIMITER + application.getApplicationId());
+                    
+                    writer.newLine();
                 }
                 
-                writer.newLine();
+                LOG.debug("Successfully saved applications");
+                return true;
+            } catch (IOException e) {
+                LOG.error("ERROR saving application data: " + e.getMessage(), e);
+                return false;
             }
-            
-            System.out.println("Successfully saved applications");
-            return true;
-        } catch (IOException e) {
-            System.out.println("ERROR saving application data: " + e.getMessage());
-            e.printStackTrace();
-            return false;
         }
     }
     
@@ -379,6 +498,7 @@ public class ApplicationDataManager {
         }
         
         applicationMap.put(application.getApplicationId(), application);
+        index(application);
         return saveApplicationData();
     }
     
@@ -390,17 +510,18 @@ public class ApplicationDataManager {
      */
     public boolean updateApplication(Application application) {
         if (application == null || application.getApplicationId() == null) {
-            System.out.println("Cannot update null application or application with null ID");
+            LOG.warn("Cannot update null application or application with null ID");
             return false;
         }
         
         if (!applicationMap.containsKey(application.getApplicationId())) {
-            System.out.println("Application with ID " + application.getApplicationId() + " not found.");
+            LOG.warn("Application with ID " + application.getApplicationId() + " not found.");
             return false;
         }
         
         // Update the specific application in the map
         applicationMap.put(application.getApplicationId(), application);
+        index(application);
         
         // Instead of saving all applications immediately, return true to indicate the update was successful
         // Let the caller decide if and when to save all applications
@@ -442,9 +563,11 @@ public class ApplicationDataManager {
         List<Application> projectApplications = new ArrayList<>();
         
         for (Application application : applicationMap.values()) {
-            System.out.println("Checking application - Project: " + 
-                            (application.getProject() != null ? 
-                            application.getProject().getProjectName() : "null"));
+            if (LOG.isEnabled(Level.TRACE)) {
+                LOG.trace("Checking application - Project: " + 
+                          (application.getProject() != null ? 
+                          application.getProject().getProjectName() : "null"));
+            }
             
             if (application.getProject() != null && 
                 application.getProject().getProjectName().equals(projectName)) {
@@ -452,12 +575,58 @@ public class ApplicationDataManager {
             }
         }
         
-        System.out.println("Found " + projectApplications.size() + 
-                        " applications for project: " + projectName);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Found " + projectApplications.size() + 
+                      " applications for project: " + projectName);
+        }
         
         return projectApplications;
     }
     
+    /**
+     * Streams the applications of a specific project.
+     * 
+     * Applications are pulled lazily from the project's index as the stream is consumed,
+     * so only the project's own applications are visited and no intermediate list is built.
+     * 
+     * @param projectName The name of the project
+     * @return A lazy stream of applications for the specified project, in application ID order
+     */
+    public Stream<Application> streamApplicationsByProject(String projectName) {
+        NavigableMap<String, Application> applications = projectName != null
+                ? applicationsByProject.get(projectName) : null;
+        return applications != null ? applications.values().stream() : Stream.empty();
+    }
+    
+    /**
+     * Gets the applications of a project a page at a time, sorted by application ID.
+     * Each page is read from the project's index on demand, so no list of all
+     * applications is built.
+     * 
+     * @param projectName The name of the project
+     * @param filter Selects the applications to include, or null to include all
+     * @return A page source whose cursors are application IDs
+     */
+    public PageSource<Application> getApplicationPages(String projectName, Predicate<Application> filter) {
+        NavigableMap<String, Application> applications = projectName != null
+                ? applicationsByProject.getOrDefault(projectName, new ConcurrentSkipListMap<>())
+                : new ConcurrentSkipListMap<>();
+        return new SortedMapPageSource<>(applications, filter);
+    }
+    
+    /**
+     * Adds an application to the index of its project.
+     * 
+     * @param application The application to index
+     */
+    private void index(Application application) {
+        if (application.getProject() != null && application.getProject().getProjectName() != null) {
+            applicationsByProject
+                .computeIfAbsent(application.getProject().getProjectName(), name -> new ConcurrentSkipListMap<>())
+                .put(application.getApplicationId(), application);
+        }
+    }
+    
     /**
      * Gets all applications for a specific applicant.
      * 
@@ -474,24 +643,14 @@ public class ApplicationDataManager {
             }
         }
         
-        System.out.println("Found " + applicantApplications.size() + 
-                        " applications for NRIC: " + applicantNric);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Found " + applicantApplications.size() + 
+                      " applications for NRIC: " + applicantNric);
+        }
         
         return applicantApplications;
     }
     
-    /**
-     * Helper method to generate an application ID.
-     * 
-     * @param nric The NRIC of the applicant
-     * @param projectName The name of the project
-     * @return A unique application ID
-     */
-    private String generateApplicationId(String nric, String projectName) {
-        return "APP-" + nric.substring(1, 8) + "-" + 
-               projectName.substring(0, Math.min(3, projectName.length())).toUpperCase();
-    }
-    
     /**
      * Gets all applications in the system.
      * 
@@ -10,12 +10,17 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import model.Applicant;
 import model.Project;
 import utils.FilePathConfig;
+import utils.jfr.DataLoadEvent;
+import utils.jfr.DataSaveEvent;
+import utils.log.Log;
+import utils.log.Logger;
+import utils.metrics.Instrumentation;
 
 /**
 * Data manager for handling enquiry-related operations in the BTO Management System.
@@ -33,6 +38,8 @@ import utils.FilePathConfig;
 * @version 1.0
 */
 public class EnquiryDataManager extends DataManager {
+
+    private static final Logger LOG = Log.getLogger(EnquiryDataManager.class);
     
     private static final String DELIMITER = "\t";
     private Map<String, Enquiry> enquiryMap;
@@ -44,7 +51,7 @@ public class EnquiryDataManager extends DataManager {
     * Constructor for EnquiryDataManager.
     * 
     * Initializes the data manager with:
-    * - A new HashMap to store enquiries
+    * - A new ConcurrentHashMap to store enquiries, shared by all project event loops
     * - Lists of applicants and projects for flexible lookup
     * - Configured file path for enquiry list storage
     * 
@@ -54,7 +61,7 @@ public class EnquiryDataManager extends DataManager {
     * @param projectsMap Map of projects with project name as key
     */
     public EnquiryDataManager(Map<String, Applicant> applicantsMap, Map<String, Project> projectsMap) {
-        this.enquiryMap = new HashMap<>();
+        this.enquiryMap = new ConcurrentHashMap<>();
         this.applicantsList = new ArrayList<>();
         this.projectsList = new ArrayList<>();
         this.filePath = FilePathConfig.ENQUIRY_LIST_PATH;
@@ -80,53 +87,63 @@ public class EnquiryDataManager extends DataManager {
     * @return List of loaded Enquiry objects
     */
     public List<Enquiry> loadEnquiries() {
-        enquiryMap.clear();
-        
-        try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
-            String line;
-            
-            // Skip header line
-            String header = reader.readLine();
-            if (header != null) {
-                // Remove any BOM characters
-                if (header.startsWith("\uFEFF")) {
-                    header = header.substring(1);
-                }
-            }
+        return Instrumentation.timed("data.enquiries.load", this::readEnquiryFile);
+    }
+
+    /**
+     * Reads the enquiries from the file.
+     *
+     * @return List of loaded Enquiry objects
+     */
+    private List<Enquiry> readEnquiryFile() {
+        try (DataLoadEvent event = new DataLoadEvent("enquiries", filePath)) {
+            enquiryMap.clear();
             
-            int lineCount = 0;
-            while ((line = reader.readLine()) != null) {
-                if (line.trim().isEmpty()) {
-                    continue;
-                }
+            try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
+                String line;
                 
-                lineCount++;
+                // Skip header line
+                String header = reader.readLine();
+                if (header != null) {
+                    // Remove any BOM characters
+                    if (header.startsWith("\uFEFF")) {
+                        header = header.substring(1);
+                    }
+                }
                 
-                try {
-                    String[] parts;
-                    if (line.contains("\t")) {
-                        parts = line.split("\t");
-                    } else {
-                        parts = line.split("\\s{2,}");
+                int lineCount = 0;
+                while ((line = reader.readLine()) != null) {
+                    if (line.trim().isEmpty()) {
+                        continue;
                     }
                     
-                    Enquiry enquiry = parseEnquiryFromLine(parts);
-                    if (enquiry != null) {
-                        enquiryMap.put(enquiry.getEnquiryId(), enquiry);
-                    } else {
-                        System.out.println("Failed to parse enquiry from line");
+                    lineCount++;
+                    
+                    try {
+                        String[] parts;
+                        if (line.contains("\t")) {
+                            parts = line.split("\t");
+                        } else {
+                            parts = line.split("\\s{2,}");
+                        }
+                        
+                        Enquiry enquiry = parseEnquiryFromLine(parts);
+                        if (enquiry != null) {
+                            enquiryMap.put(enquiry.getEnquiryId(), enquiry);
+                        } else {
+                            LOG.warn("Failed to parse enquiry from line");
+                        }
+                    } catch (Exception e) {
+                        LOG.warn("Error parsing enquiry: " + e.getMessage(), e);
                     }
-                } catch (Exception e) {
-                    System.out.println("Error parsing enquiry: " + e.getMessage());
-                    e.printStackTrace();
                 }
+        
+                event.setRows(enquiryMap.size());
+                return new ArrayList<>(enquiryMap.values());
+            } catch (IOException e) {
+                LOG.error("Error loading enquiry data: " + e.getMessage(), e);
+                return new ArrayList<>();
             }
-    
-            return new ArrayList<>(enquiryMap.values());
-        } catch (IOException e) {
-            System.out.println("Error loading enquiry data: " + e.getMessage());
-            e.printStackTrace();
-            return new ArrayList<>();
         }
     }
 
@@ -141,7 +158,7 @@ public class EnquiryDataManager extends DataManager {
     */
     private Enquiry parseEnquiryFromLine(String[] parts) {
         if (parts.length < 6) {
-            System.out.println("Invalid enquiry data format (not enough fields): " + parts.length);
+            LOG.warn("Invalid enquiry data format (not enough fields): " + parts.length);
             return null;
         }
         
@@ -156,7 +173,7 @@ public class EnquiryDataManager extends DataManager {
             // List-based lookup instead of map lookup
             Applicant applicant = findApplicantInList(applicantNric);
             if (applicant == null) {
-                System.out.println("Applicant not found for: " + applicantNric);
+                LOG.warn("Applicant not found for: " + applicantNric);
                 return null;
             }
             
@@ -165,7 +182,7 @@ public class EnquiryDataManager extends DataManager {
             if (!projectName.isEmpty()) {
                 project = findProjectInList(projectName);
                 if (project == null) {
-                    System.out.println("Project not found: " + projectName);
+                    LOG.warn("Project not found: " + projectName);
                 }
             }
             
@@ -175,7 +192,7 @@ public class EnquiryDataManager extends DataManager {
             try {
                 submissionDate = dateFormat.parse(timestampStr);
             } catch (ParseException e) {
-                System.out.println("Error parsing date: " + e.getMessage());
+                LOG.warn("Error parsing date: " + e.getMessage());
                 submissionDate = new Date();
             }
             
@@ -199,8 +216,7 @@ public class EnquiryDataManager extends DataManager {
             
             return enquiry;
         } catch (Exception e) {
-            System.out.println("Error in parseEnquiryFromLine: " + e.getMessage());
-            e.printStackTrace();
+            LOG.warn("Error in parseEnquiryFromLine: " + e.getMessage(), e);
             return null;
         }
     }
@@ -242,7 +258,9 @@ public class EnquiryDataManager extends DataManager {
             }
         }
         
-        System.out.println("No applicant found with NRIC: " + normalizedNric);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("No applicant found with NRIC: " + normalizedNric);
+        }
         return null;
     }
 
@@ -303,62 +321,74 @@ public class EnquiryDataManager extends DataManager {
     * @return true if save is successful, false otherwise
     */
     public boolean saveEnquiries(List<Enquiry> enquiries) {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath))) {
-            // Write header
-            writer.write("Enquiry ID\tApplicant NRIC\tProject Name\tEnquiry Text\tTimestamp\tStatus\tResponder\tReply");
-            writer.newLine();
-            
-            // Write enquiry data
-            SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy HH:mm");
-            
-            for (Enquiry enquiry : enquiries) {
-                writer.write(enquiry.getEnquiryId() + DELIMITER);
-                writer.write(enquiry.getApplicant().getNric() + DELIMITER);
-                
-                // Project name (may be null)
-                if (enquiry.getProject() != null) {
-                    writer.write(enquiry.getProject().getProjectName());
-                }
-                writer.write(DELIMITER);
-                
-                // Enquiry text
-                writer.write(enquiry.getEnquiryText() + DELIMITER);
-                
-                // Timestamp
-                writer.write(dateFormat.format(enquiry.getSubmissionDate()) + DELIMITER);
+        return Instrumentation.timed("data.enquiries.save", () -> writeEnquiryFile(enquiries));
+    }
+
+    /**
+     * Writes the enquiries to the file.
+     *
+     * @param enquiries List of Enquiry objects to save
+     * @return true if save is successful, false otherwise
+     */
+    private boolean writeEnquiryFile(List<Enquiry> enquiries) {
+        try (DataSaveEvent event = new DataSaveEvent("enquiries", filePath)) {
+            event.setRows(enquiries.size());
+            try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath))) {
+                // Write header
+                writer.write("Enquiry ID\tApplicant NRIC\tProject Name\tEnquiry Text\tTimestamp\tStatus\tResponder\tReply");
+                writer.newLine();
                 
-                // Status
-                writer.write((enquiry.isAnswered() ? "Responded" : "Open") + DELIMITER);
+                // Write enquiry data
+                SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy HH:mm");
                 
-                // Responder and Reply (if any)
-                if (enquiry.isAnswered()) {
-                    writer.write("System" + DELIMITER); // Default responder
-                    writer.write(enquiry.getReply());
+                for (Enquiry enquiry : enquiries) {
+                    writer.write(enquiry.getEnquiryId() + DELIMITER);
+                    writer.write(enquiry.getApplicant().getNric() + DELIMITER);
+                    
+                    // Project name (may be null)
+                    if (enquiry.getProject() != null) {
+                        writer.write(enquiry.getProject().getProjectName());
+                    }
+                    writer.write(DELIMITER);
+                    
+                    // Enquiry text
+                    writer.write(enquiry.getEnquiryText() + DELIMITER);
+                    
+                    // Timestamp
+                    writer.write(dateFormat.format(enquiry.getSubmissionDate()) + DELIMITER);
+                    
+                    // Status
+                    writer.write((enquiry.isAnswered() ? "Responded" : "Open") + DELIMITER);
+                    
+                    // Responder and Reply (if any)
+                    if (enquiry.isAnswered()) {
+                        writer.write("System" + DELIMITER); // Default responder
+                        writer.write(enquiry.getReply());
+                    }
+                    
+                    writer.newLine();
                 }
                 
-                writer.newLine();
+                return true;
+            } catch (IOException e) {
+                LOG.error("Error saving enquiry data: " + e.getMessage(), e);
+                return false;
             }
-            
-            return true;
-        } catch (IOException e) {
-            System.out.println("Error saving enquiry data: " + e.getMessage());
-            e.printStackTrace();
-            return false;
         }
     }
     
     /**
     * Adds a new enquiry to the data manager.
     * 
-    * Associates the enquiry with its applicant and project (if applicable),
-    * adds it to the internal map, and saves to file.
+    * Associates the enquiry with its applicant and project (if applicable)
+    * and adds it to the internal map. Saving is left to the caller.
     * 
     * @param enquiry Enquiry to add
     * @return true if addition is successful, false otherwise
     */
     public boolean addEnquiry(Enquiry enquiry) {
         if (enquiry == null || enquiry.getEnquiryId() == null) {
-            System.out.println("Cannot add null enquiry or enquiry with null ID");
+            LOG.warn("Cannot add null enquiry or enquiry with null ID");
             return false;
         }
         
@@ -372,14 +402,13 @@ public class EnquiryDataManager extends DataManager {
             enquiry.getProject().addEnquiry(enquiry);
         }
         
-        // Save to file
-        return saveEnquiries(getAllEnquiries());
+        return true;
     }
     
     /**
     * Updates an existing enquiry in the data manager.
     * 
-    * Replaces the existing enquiry in the internal map and saves to file.
+    * Replaces the existing enquiry in the internal map. Saving is left to the caller.
     * 
     * @param enquiry Enquiry to update
     * @return true if update is successful, false otherwise
@@ -395,8 +424,7 @@ public class EnquiryDataManager extends DataManager {
         
         enquiryMap.put(enquiry.getEnquiryId(), enquiry);
         
-        // Save to file
-        return saveEnquiries(getAllEnquiries());
+        return true;
     }
     
     /**
@@ -407,6 +435,8 @@ public class EnquiryDataManager extends DataManager {
     * - Applicant's enquiry list
     * - Project's enquiry list (if applicable)
     * 
+    * Saving is left to the caller.
+    * 
     * @param enquiryId ID of the enquiry to delete
     * @return true if deletion is successful, false otherwise
     */
@@ -428,8 +458,7 @@ public class EnquiryDataManager extends DataManager {
         // Remove from map
         enquiryMap.remove(enquiryId);
         
-        // Save to file
-        return saveEnquiries(getAllEnquiries());
+        return true;
     }
     
     /**
@@ -11,6 +11,11 @@ import java.util.List;
 import java.util.Map;
 import model.HDBManager;
 import utils.FilePathConfig;
+import utils.jfr.DataLoadEvent;
+import utils.jfr.DataSaveEvent;
+import utils.log.Log;
+import utils.log.Logger;
+import utils.metrics.Instrumentation;
 
 /**
  * Data manager for handling HDB Manager data operations.
@@ -20,6 +25,8 @@ import utils.FilePathConfig;
  * @version 1.0
  */
 public class ManagerDataManager {
+
+    private static final Logger LOG = Log.getLogger(ManagerDataManager.class);
     
     private Map<String, HDBManager> managerMap;
     private String filePath;
@@ -62,50 +69,62 @@ public class ManagerDataManager {
      * @return true if the data was successfully loaded, false otherwise
      */
     public boolean loadManagerData() {
-        try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
-            String line;
-            // Skip header line if it exists
-            if ((line = reader.readLine()) != null && line.contains("Name") && line.contains("NRIC")) {
-                // Skip the header
-            }
-            
-            while ((line = reader.readLine()) != null) {
-                String[] parts = line.split("\t");
-                
-                if (parts.length < 5) {
-                    continue;
-                }
-                
-                String name = parts[0];
-                String nric = parts[1];
-                
-                if (!validateNRICFormat(nric)) {
-                    System.out.println("Invalid NRIC format for manager: " + nric);
-                    continue;
+        return Instrumentation.timed("data.managers.load", this::readManagerFile);
+    }
+
+    /**
+     * Reads the managers from the file.
+     *
+     * @return true if the data was successfully loaded, false otherwise
+     */
+    private boolean readManagerFile() {
+        try (DataLoadEvent event = new DataLoadEvent("managers", filePath)) {
+            try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
+                String line;
+                // Skip header line if it exists
+                if ((line = reader.readLine()) != null && line.contains("Name") && line.contains("NRIC")) {
+                    // Skip the header
                 }
                 
-                int age;
-                try {
-                    age = Integer.parseInt(parts[2]);
-                } catch (NumberFormatException e) {
-                    System.out.println("Invalid age format for manager: " + parts[2]);
-                    continue;
+                while ((line = reader.readLine()) != null) {
+                    String[] parts = line.split("\t");
+                    
+                    if (parts.length < 5) {
+                        continue;
+                    }
+                    
+                    String name = parts[0];
+                    String nric = parts[1];
+                    
+                    if (!validateNRICFormat(nric)) {
+                        LOG.warn("Invalid NRIC format for manager: " + nric);
+                        continue;
+                    }
+                    
+                    int age;
+                    try {
+                        age = Integer.parseInt(parts[2]);
+                    } catch (NumberFormatException e) {
+                        LOG.warn("Invalid age format for manager: " + parts[2]);
+                        continue;
+                    }
+                    
+                    String maritalStatus = parts[3];
+                    String password = parts[4];
+                    
+                    // Create manager
+                    HDBManager manager = new HDBManager(name, nric, age, maritalStatus, password);
+                    
+                    // Add manager to map
+                    managerMap.put(nric.toUpperCase(), manager);
                 }
                 
-                String maritalStatus = parts[3];
-                String password = parts[4];
-                
-                // Create manager
-                HDBManager manager = new HDBManager(name, nric, age, maritalStatus, password);
-                
-                // Add manager to map
-                managerMap.put(nric.toUpperCase(), manager);
+                event.setRows(managerMap.size());
+                return true;
+            } catch (IOException e) {
+                LOG.error("Error loading manager data: " + e.getMessage());
+                return false;
             }
-            
-            return true;
-        } catch (IOException e) {
-            System.out.println("Error loading manager data: " + e.getMessage());
-            return false;
         }
     }
     
@@ -115,25 +134,37 @@ public class ManagerDataManager {
      * @return true if the data was successfully saved, false otherwise
      */
     public boolean saveManagerData() {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath))) {
-            // Write header
-            writer.write("Name\tNRIC\tAge\tMarital Status\tPassword");
-            writer.newLine();
-            
-            // Write managers
-            for (HDBManager manager : managerMap.values()) {
-                writer.write(manager.getName() + "\t");
-                writer.write(manager.getNric() + "\t");
-                writer.write(manager.getAge() + "\t");
-                writer.write(manager.getMaritalStatus() + "\t");
-                writer.write(manager.getPassword());
+        return Instrumentation.timed("data.managers.save", this::writeManagerFile);
+    }
+
+    /**
+     * Writes the managers to the file.
+     *
+     * @return true if the data was successfully saved, false otherwise
+     */
+    private boolean writeManagerFile() {
+        try (DataSaveEvent event = new DataSaveEvent("managers", filePath)) {
+            event.setRows(managerMap.size());
+            try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath))) {
+                // Write header
+                writer.write("Name\tNRIC\tAge\tMarital Status\tPassword");
                 writer.newLine();
+                
+                // Write managers
+                for (HDBManager manager : managerMap.values()) {
+                    writer.write(manager.getName() + "\t");
+                    writer.write(manager.getNric() + "\t");
+                    writer.write(manager.getAge() + "\t");
+                    writer.write(manager.getMaritalStatus() + "\t");
+                    writer.write(manager.getPassword());
+                    writer.newLine();
+                }
+                
+                return true;
+            } catch (IOException e) {
+                LOG.error("Error saving manager data: " + e.getMessage());
+                return false;
             }
-            
-            return true;
-        } catch (IOException e) {
-            System.out.println("Error saving manager data: " + e.getMessage());
-            return false;
         }
     }
     /**
@@ -153,7 +184,7 @@ public class ManagerDataManager {
      */
     public boolean updateManager(HDBManager manager) {
         if (manager == null || !validateNRICFormat(manager.getNric())) {
-            System.out.println("Invalid manager or NRIC format");
+            LOG.warn("Invalid manager or NRIC format");
             return false;
         }
         
@@ -161,7 +192,9 @@ public class ManagerDataManager {
         
         // If the manager doesn't exist, add a log message
         if (!managerMap.containsKey(nric)) {
-            System.out.println("Manager not found in map. Adding new manager: " + nric);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Manager not found in map. Adding new manager: " + nric);
+            }
         }
         
         // Always update/add the manager to the map
@@ -6,11 +6,16 @@ import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import model.HDBOfficer;
 import utils.FilePathConfig;
+import utils.jfr.DataLoadEvent;
+import utils.jfr.DataSaveEvent;
+import utils.log.Log;
+import utils.log.Logger;
+import utils.metrics.Instrumentation;
 
 /**
  * Data manager for handling HDBOfficer data operations.
@@ -20,6 +25,8 @@ import utils.FilePathConfig;
  * @version 1.0
  */
 public class OfficerDataManager {
+
+    private static final Logger LOG = Log.getLogger(OfficerDataManager.class);
     
     private Map<String, HDBOfficer> officersMap;
     private String filePath;
@@ -29,7 +36,7 @@ public class OfficerDataManager {
      * Initializes the officers map.
      */
     public OfficerDataManager() {
-        this.officersMap = new HashMap<>();
+        this.officersMap = new ConcurrentHashMap<>();
         this.filePath = FilePathConfig.OFFICER_LIST_PATH;
     }
     
@@ -39,44 +46,56 @@ public class OfficerDataManager {
      * @return true if the data was successfully loaded, false otherwise
      */
     public boolean loadOfficerData() {
-        try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
-            String line;
-            // Skip header line
-            reader.readLine();
-            
-            while ((line = reader.readLine()) != null) {
-                String[] parts = line.split("\t");
-                
-                // Ensure we have all required data
-                if (parts.length < 5) {
-                    continue;
-                }
-                
-                String name = parts[0];
-                String nric = parts[1].toUpperCase(); // Convert NRIC to uppercase
+        return Instrumentation.timed("data.officers.load", this::readOfficerFile);
+    }
+
+    /**
+     * Reads the officers from the file.
+     *
+     * @return true if the data was successfully loaded, false otherwise
+     */
+    private boolean readOfficerFile() {
+        try (DataLoadEvent event = new DataLoadEvent("officers", filePath)) {
+            try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
+                String line;
+                // Skip header line
+                reader.readLine();
                 
-                // Parse age
-                int age;
-                try {
-                    age = Integer.parseInt(parts[2]);
-                } catch (NumberFormatException e) {
-                    System.out.println("Invalid age format for officer: " + name);
-                    continue;
+                while ((line = reader.readLine()) != null) {
+                    String[] parts = line.split("\t");
+                    
+                    // Ensure we have all required data
+                    if (parts.length < 5) {
+                        continue;
+                    }
+                    
+                    String name = parts[0];
+                    String nric = parts[1].toUpperCase(); // Convert NRIC to uppercase
+                    
+                    // Parse age
+                    int age;
+                    try {
+                        age = Integer.parseInt(parts[2]);
+                    } catch (NumberFormatException e) {
+                        LOG.warn("Invalid age format for officer: " + name);
+                        continue;
+                    }
+                    
+                    String maritalStatus = parts[3];
+                    String password = parts[4];
+                    
+                    // Create HDBOfficer object
+                    HDBOfficer officer = new HDBOfficer(name, nric, age, maritalStatus, password);
+                    
+                    // Add to map using uppercase NRIC
+                    officersMap.put(nric, officer);
                 }
-                
-                String maritalStatus = parts[3];
-                String password = parts[4];
-                
-                // Create HDBOfficer object
-                HDBOfficer officer = new HDBOfficer(name, nric, age, maritalStatus, password);
-                
-                // Add to map using uppercase NRIC
-                officersMap.put(nric, officer);
+                event.setRows(officersMap.size());
+                return true;
+            } catch (IOException e) {
+                LOG.error("Error loading officer data: " + e.getMessage());
+                return false;
             }
-            return true;
-        } catch (IOException e) {
-            System.out.println("Error loading officer data: " + e.getMessage());
-            return false;
         }
     }
     
@@ -85,27 +104,39 @@ public class OfficerDataManager {
      * 
      * @return true if the data was successfully saved, false otherwise
      */
-    public boolean saveOfficerData() {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath))) {
-            // Write header
-            writer.write("Name\tNRIC\tAge\tMarital Status\tPassword");
-            writer.newLine();
-            
-            // Write officers
-            for (HDBOfficer officer : officersMap.values()) {
-                writer.write(String.format("%s\t%s\t%d\t%s\t%s",
-                                          officer.getName(),
-                                          officer.getNric(),
-                                          officer.getAge(),
-                                          officer.getMaritalStatus(),
-                                          officer.getPassword()));
+    public synchronized boolean saveOfficerData() {
+        return Instrumentation.timed("data.officers.save", this::writeOfficerFile);
+    }
+
+    /**
+     * Writes the officers to the file.
+     *
+     * @return true if the data was successfully saved, false otherwise
+     */
+    private boolean writeOfficerFile() {
+        try (DataSaveEvent event = new DataSaveEvent("officers", filePath)) {
+            event.setRows(officersMap.size());
+            try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath))) {
+                // Write header
+                writer.write("Name\tNRIC\tAge\tMarital Status\tPassword");
                 writer.newLine();
+                
+                // Write officers
+                for (HDBOfficer officer : officersMap.values()) {
+                    writer.write(String.format("%s\t%s\t%d\t%s\t%s",
+                                              officer.getName(),
+                                              officer.getNric(),
+                                              officer.getAge(),
+                                              officer.getMaritalStatus(),
+                                              officer.getPassword()));
+                    writer.newLine();
+                }
+                
+                return true;
+            } catch (IOException e) {
+                LOG.error("Error saving officer data: " + e.getMessage());
+                return false;
             }
-            
-            return true;
-        } catch (IOException e) {
-            System.out.println("Error saving officer data: " + e.getMessage());
-            return false;
         }
     }
     
@@ -117,7 +148,7 @@ public class OfficerDataManager {
      */
     public boolean updateOfficer(HDBOfficer officer) {
         if (officer == null || !validateNRICFormat(officer.getNric())) {
-            System.out.println("Invalid officer or NRIC format");
+            LOG.warn("Invalid officer or NRIC format");
             return false;
         }
         
@@ -125,7 +156,9 @@ public class OfficerDataManager {
         
         // If the officer doesn't exist, add a log message
         if (!officersMap.containsKey(nric)) {
-            System.out.println("Officer not found. Adding new officer: " + nric);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Officer not found. Adding new officer: " + nric);
+            }
         }
         
         // Always update/add the officer to the map
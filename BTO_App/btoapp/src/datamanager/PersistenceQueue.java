@@ -0,0 +1,271 @@
+package datamanager;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import utils.log.Log;
+import utils.log.Logger;
+import utils.trace.Tracer;
+
+/**
+ * Bounded, single-writer queue for file writes in the BTO Management System.
+ *
+ * Controllers enqueue a write under a key (usually the file it rewrites) and return
+ * immediately, while one background thread performs the writes in order. A write
+ * submitted for a key that is still waiting replaces the waiting one, so a burst of
+ * changes to the same file costs a single rewrite. When the number of distinct
+ * waiting keys reaches the capacity, submitters block until the writer catches up.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public class PersistenceQueue {
+
+    private static final Logger LOG = Log.getLogger(PersistenceQueue.class);
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private final int capacity;
+    private final Map<String, BooleanSupplier> pendingWrites;
+    private final ReentrantLock lock;
+    private final Condition notEmpty;
+    private final Condition notFull;
+    private final Condition idle;
+    private final Thread writerThread;
+
+    private boolean running;
+    private boolean writing;
+    private long completedWrites;
+    private long coalescedWrites;
+    private long failedWrites;
+
+    /**
+     * Constructor for PersistenceQueue with the default capacity.
+     */
+    public PersistenceQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor for PersistenceQueue.
+     * Starts the background writer thread.
+     *
+     * @param capacity The maximum number of distinct keys that may wait to be written
+     */
+    public PersistenceQueue(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1");
+        }
+
+        this.capacity = capacity;
+        this.pendingWrites = new LinkedHashMap<>();
+        this.lock = new ReentrantLock();
+        this.notEmpty = lock.newCondition();
+        this.notFull = lock.newCondition();
+        this.idle = lock.newCondition();
+        this.running = true;
+
+        this.writerThread = new Thread(this::runWriter, "persistence-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * Enqueues a write. Replaces any write still waiting under the same key,
+     * and blocks while the queue is full. The write runs in the trace of the
+     * caller, if any.
+     *
+     * @param key Identifies what the write persists, e.g. the file name
+     * @param write The write to perform, returning true on success
+     * @return true if the write was enqueued, false if the queue has been shut down
+     */
+    public boolean submit(String key, BooleanSupplier write) {
+        lock.lock();
+        try {
+            while (running && !pendingWrites.containsKey(key) && pendingWrites.size() >= capacity) {
+                notFull.awaitUninterruptibly();
+            }
+
+            if (!running) {
+                return false;
+            }
+
+            if (pendingWrites.put(key, Tracer.wrap(write)) != null) {
+                coalescedWrites++;
+            }
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Blocks until every write enqueued so far has been performed.
+     *
+     * @param timeout The maximum time to wait
+     * @param unit The unit of the timeout
+     * @return true if the queue drained, false if the timeout elapsed first
+     */
+    public boolean flush(long timeout, TimeUnit unit) {
+        long remaining = unit.toNanos(timeout);
+        lock.lock();
+        try {
+            while (!pendingWrites.isEmpty() || writing) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = idle.awaitNanos(remaining);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Blocks until every write enqueued so far has been performed.
+     */
+    public void flush() {
+        flush(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Performs all waiting writes and stops the writer thread.
+     * Writes submitted after shutdown are rejected.
+     */
+    public void shutdown() {
+        flush();
+
+        lock.lock();
+        try {
+            running = false;
+            notEmpty.signalAll();
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Gets the number of writes waiting to be performed.
+     *
+     * @return the queue depth
+     */
+    public int getDepth() {
+        lock.lock();
+        try {
+            return pendingWrites.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of writes performed so far.
+     *
+     * @return the number of completed writes
+     */
+    public long getCompletedWrites() {
+        lock.lock();
+        try {
+            return completedWrites;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of writes that replaced a waiting write for the same key.
+     *
+     * @return the number of coalesced writes
+     */
+    public long getCoalescedWrites() {
+        lock.lock();
+        try {
+            return coalescedWrites;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the number of writes that reported failure or threw an exception.
+     *
+     * @return the number of failed writes
+     */
+    public long getFailedWrites() {
+        lock.lock();
+        try {
+            return failedWrites;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Main loop of the writer thread. Takes the oldest waiting write and performs it
+     * outside the lock, so submitters are never blocked by disk I/O unless the queue is full.
+     */
+    private void runWriter() {
+        while (true) {
+            String key;
+            BooleanSupplier write;
+
+            lock.lock();
+            try {
+                while (running && pendingWrites.isEmpty()) {
+                    notEmpty.awaitUninterruptibly();
+                }
+
+                if (pendingWrites.isEmpty()) {
+                    return;
+                }
+
+                Iterator<Map.Entry<String, BooleanSupplier>> iterator = pendingWrites.entrySet().iterator();
+                Map.Entry<String, BooleanSupplier> next = iterator.next();
+                iterator.remove();
+                key = next.getKey();
+                write = next.getValue();
+                writing = true;
+                notFull.signal();
+            } finally {
+                lock.unlock();
+            }
+
+            boolean succeeded;
+            try {
+                succeeded = write.getAsBoolean();
+            } catch (RuntimeException e) {
+                LOG.error("ERROR writing " + key + ": " + e.getMessage(), e);
+                succeeded = false;
+            }
+
+            lock.lock();
+            try {
+                writing = false;
+                completedWrites++;
+                if (!succeeded) {
+                    failedWrites++;
+                    LOG.error("ERROR: Failed to persist " + key);
+                }
+                idle.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -18,6 +18,11 @@ import model.HDBOfficer;
 import model.Project;
 import model.enums.FlatType;
 import utils.FilePathConfig;
+import utils.jfr.DataLoadEvent;
+import utils.jfr.DataSaveEvent;
+import utils.log.Log;
+import utils.log.Logger;
+import utils.metrics.Instrumentation;
 
 /**
 * Data manager for Project entities in the BTO Management System.
@@ -33,6 +38,8 @@ import utils.FilePathConfig;
 * @version 1.0
 */
 public class ProjectDataManager extends DataManager {
+
+    private static final Logger LOG = Log.getLogger(ProjectDataManager.class);
     
     private Map<String, Project> projectMap;
     private Map<String, HDBManager> managerMap;
@@ -73,57 +80,67 @@ public class ProjectDataManager extends DataManager {
     * @return List of loaded Project objects
     */
     public List<Project> loadProjects() {
-        File file = new File(filePath);
-        
-        if (!file.exists()) {
-            return new ArrayList<>();
-        }
-        
-        try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
-            String line;
-            boolean isHeader = true;
+        return Instrumentation.timed("data.projects.load", this::readProjectFile);
+    }
+
+    /**
+     * Reads the projects from the file.
+     *
+     * @return List of loaded Project objects
+     */
+    private List<Project> readProjectFile() {
+        try (DataLoadEvent event = new DataLoadEvent("projects", filePath)) {
+            File file = new File(filePath);
             
-            while ((line = reader.readLine()) != null) {
-                if (isHeader) {
-                    isHeader = false;
-                    continue; // Skip the header row
-                }
-                
-                if (line.trim().isEmpty()) {
-                    continue;
-                }
+            if (!file.exists()) {
+                return new ArrayList<>();
+            }
+            
+            try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
+                String line;
+                boolean isHeader = true;
                 
-                try {
-                    Project project = parseProjectFromLine(line);
-                    if (project != null) {
-                        projectMap.put(project.getProjectName(), project);
-                        
-                        // Fix the officer-project relationship
-                        List<HDBOfficer> officers = project.getAssignedOfficers();
-                        for (HDBOfficer officer : officers) {
-                            // Update the officer's assigned project
-                            officer.setAssignedProject(project); 
-                            officer.setRegistrationApproved(true);
+                while ((line = reader.readLine()) != null) {
+                    if (isHeader) {
+                        isHeader = false;
+                        continue; // Skip the header row
+                    }
+                    
+                    if (line.trim().isEmpty()) {
+                        continue;
+                    }
+                    
+                    try {
+                        Project project = parseProjectFromLine(line);
+                        if (project != null) {
+                            projectMap.put(project.getProjectName(), project);
                             
-                            // Also update in officer map
-                            if (officerMap.containsKey(officer.getNric())) {
-                                officerMap.put(officer.getNric(), officer);
+                            // Fix the officer-project relationship
+                            List<HDBOfficer> officers = project.getAssignedOfficers();
+                            for (HDBOfficer officer : officers) {
+                                // Update the officer's assigned project
+                                officer.setAssignedProject(project); 
+                                officer.setRegistrationApproved(true);
+                                
+                                // Also update in officer map
+                                if (officerMap.containsKey(officer.getNric())) {
+                                    officerMap.put(officer.getNric(), officer);
+                                }
                             }
+                        } else {
+                            LOG.warn("Failed to parse project from line");
                         }
-                    } else {
-                        System.out.println("Failed to parse project from line");
+                    } catch (Exception e) {
+                        LOG.warn("Error parsing project: " + e.getMessage(), e);
                     }
-                } catch (Exception e) {
-                    System.out.println("Error parsing project: " + e.getMessage());
-                    e.printStackTrace();
                 }
+                
+                event.setRows(projectMap.size());
+                return new ArrayList<>(projectMap.values());
+            } catch (IOException e) {
+                LOG.error("ERROR reading project data: " + e.getMessage(), e);
+                return new ArrayList<>();
             }
-            
-            return new ArrayList<>(projectMap.values());
-        } catch (IOException e) {
-            System.out.println("ERROR reading project data: " + e.getMessage());
-            e.printStackTrace();
-            return new ArrayList<>();
         }
     }
 
@@ -191,9 +208,9 @@ public class ProjectDataManager extends DataManager {
                     openingDate = dateFormat.parse(parts[8].trim());
                     closingDate = dateFormat.parse(parts[9].trim());
                 } catch (ParseException e2) {
-                    System.out.println("Error parsing dates: " + e2.getMessage());
-                    System.out.println("Opening date string: '" + parts[8].trim() + "'");
-                    System.out.println("Closing date string: '" + parts[9].trim() + "'");
+                    LOG.warn("Error parsing dates: " + e2.getMessage());
+                    LOG.warn("Opening date string: '" + parts[8].trim() + "'");
+                    LOG.warn("Closing date string: '" + parts[9].trim() + "'");
                     return null;
                 }
             }
@@ -246,8 +263,7 @@ public class ProjectDataManager extends DataManager {
             
             return project;
         } catch (Exception e) {
-            System.out.println("Error in parseProjectFromLine: " + e.getMessage());
-            e.printStackTrace();
+            LOG.warn("Error in parseProjectFromLine: " + e.getMessage(), e);
             return null;
         }
     }
@@ -268,7 +284,7 @@ public class ProjectDataManager extends DataManager {
                 return officer;
             }
         }
-        System.out.println("Officer not found by name: " + name);
+        LOG.warn("Officer not found by name: " + name);
         return null;
     }
     
@@ -295,8 +311,10 @@ public class ProjectDataManager extends DataManager {
         Project project = projectMap.get(projectName);
         
         if (project == null) {
-            System.out.println("Project not found by name: " + projectName);
-            System.out.println("Available projects: " + String.join(", ", projectMap.keySet()));
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Project not found by name: " + projectName);
+                LOG.debug("Available projects: " + String.join(", ", projectMap.keySet()));
+            }
         }
         
         return project;
@@ -314,7 +332,9 @@ public class ProjectDataManager extends DataManager {
         if (project != null && project.getProjectName() != null) {
             projectMap.put(project.getProjectName(), project);
             
-            System.out.println("Added project " + project.getProjectName());
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Added project " + project.getProjectName());
+            }
             return saveProjects();
         }
         return false;
@@ -328,6 +348,16 @@ public class ProjectDataManager extends DataManager {
     * @return true if update is successful, false otherwise
     */
     public boolean updateProject(Project project) {
+        return Instrumentation.timed("data.projects.update", () -> replaceProject(project));
+    }
+
+    /**
+     * Replaces a project in the map and saves the projects.
+     *
+     * @param project Project to update
+     * @return true if update is successful, false otherwise
+     */
+    private boolean replaceProject(Project project) {
         if (project != null && project.getProjectName() != null) {
             projectMap.put(project.getProjectName(), project);
             return saveProjects();
@@ -346,79 +376,92 @@ public class ProjectDataManager extends DataManager {
     * 
     * @return true if save is successful, false otherwise
     */
-    private boolean saveProjects() {
-        try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath))) {
-            // Write header
-            writer.write("Project Name\tNeighborhood\tType 1\tNumber of units for Type 1\tSelling price for Type 1\tType 2\tNumber of units for Type 2\tSelling price for Type 2\tApplication opening date\tApplication closing date\tManager\tOfficer Slot\tOfficer");
-            writer.newLine();
-            
-            // Write project data
-            SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy");
-            
-            for (Project project : projectMap.values()) {
-                // Project name and neighborhood
-                writer.write(project.getProjectName() + "\t");
-                writer.write(project.getNeighborhood() + "\t");
+    private synchronized boolean saveProjects() {
+        return Instrumentation.timed("data.projects.save", this::writeProjectFile);
+    }
+
+    /**
+     * Writes the projects to the file.
+     *
+     * @return true if save is successful, false otherwise
+     */
+    private boolean writeProjectFile() {
+        try (DataSaveEvent event = new DataSaveEvent("projects", filePath)) {
+            event.setRows(projectMap.size());
+            try (BufferedWriter writer = new BufferedWriter(new FileWriter(filePath))) {
+                // Write header
+                writer.write("Project Name\tNeighborhood\tType 1\tNumber of units for Type 1\tSelling price for Type 1\tType 2\tNumber of units for Type 2\tSelling price for Type 2\tApplication opening date\tApplication closing date\tManager\tOfficer Slot\tOfficer");
+                writer.newLine();
                 
-                // Flat types information
-                List<Project.FlatTypeInfo> flatTypeInfoList = project.getFlatTypeInfoList();
+                // Write project data
+                SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy");
                 
-                // Add 2-Room info if available
-                boolean hasTwoRoom = false;
-                for (Project.FlatTypeInfo info : flatTypeInfoList) {
-                    if (info.getFlatType() == FlatType.TWO_ROOM) {
-                        writer.write("2-Room\t" + info.getNumberOfUnits() + "\t" + info.getSellingPrice() + "\t");
-                        hasTwoRoom = true;
-                        break;
+                for (Project project : projectMap.values()) {
+                    // Project name and neighborhood
+                    writer.write(project.getProjectName() + "\t");
+                    writer.write(project.getNeighborhood() + "\t");
+                    
+                    // Flat types information
+                    List<Project.FlatTypeInfo> flatTypeInfoList = project.getFlatTypeInfoList();
+                    
+                    // Add 2-Room info if available
+                    boolean hasTwoRoom = false;
+                    for (Project.FlatTypeInfo info : flatTypeInfoList) {
+                        if (info.getFlatType() == FlatType.TWO_ROOM) {
+                            writer.write("2-Room\t" + info.getNumberOfUnits() + "\t" + info.getSellingPrice() + "\t");
+                            hasTwoRoom = true;
+                            break;
+                        }
                     }
-                }
-                if (!hasTwoRoom) {
-                    writer.write("\t0\t0\t");
-                }
-                
-                // Add 3-Room info if available
-                boolean hasThreeRoom = false;
-                for (Project.FlatTypeInfo info : flatTypeInfoList) {
-                    if (info.getFlatType() == FlatType.THREE_ROOM) {
-                        writer.write("3-Room\t" + info.getNumberOfUnits() + "\t" + info.getSellingPrice() + "\t");
-                        hasThreeRoom = true;
-                        break;
+                    if (!hasTwoRoom) {
+                        writer.write("\t0\t0\t");
                     }
-                }
-                if (!hasThreeRoom) {
-                    writer.write("\t0\t0\t");
-                }
-                
-                // Application dates
-                writer.write(dateFormat.format(project.getApplicationOpeningDate()) + "\t");
-                writer.write(dateFormat.format(project.getApplicationClosingDate()) + "\t");
-                
-                // Manager and officer slots
-                writer.write(project.getManagerInCharge().getName() + "\t");
-                writer.write(project.getOfficerSlots() + "\t");
-                
-                // Officer list
-                List<HDBOfficer> officers = project.getAssignedOfficers();
-                if (!officers.isEmpty()) {
-                    writer.write("\"");
-                    for (int i = 0; i < officers.size(); i++) {
-                        if (i > 0) {
-                            writer.write(",");
+                    
+                    // Add 3-Room info if available
+                    boolean hasThreeRoom = false;
+                    for (Project.FlatTypeInfo info : flatTypeInfoList) {
+                        if (info.getFlatType() == FlatType.THREE_ROOM) {
+                            writer.write("3-Room\t" + info.getNumberOfUnits() + "\t" + info.getSellingPrice() + "\t");
+                            hasThreeRoom = true;
+                            break;
+                        }
+                    }
+                    if (!hasThreeRoom) {
+                        writer.write("\t0\t0\t");
+                    }
+                    
+                    // Application dates
+                    writer.write(dateFormat.format(project.getApplicationOpeningDate()) + "\t");
+                    writer.write(dateFormat.format(project.getApplicationClosingDate()) + "\t");
+                    
+                    // Manager and officer slots
+                    writer.write(project.getManagerInCharge().getName() + "\t");
+                    writer.write(project.getOfficerSlots() + "\t");
+                    
+                    // Officer list
+                    List<HDBOfficer> officers = project.getAssignedOfficers();
+                    if (!officers.isEmpty()) {
+                        writer.write("\"");
+                        for (int i = 0; i < officers.size(); i++) {
+                            if (i > 0) {
+                                writer.write(",");
+                            }
+                            writer.write(officers.get(i).getName());
                         }
-                        writer.write(officers.get(i).getName());
+                        writer.write("\"");
                     }
-                    writer.write("\"");
+                    
+                    writer.newLine();
                 }
                 
-                writer.newLine();
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Saved " + projectMap.size() + " projects");
+                }
+                return true;
+            } catch (IOException e) {
+                LOG.error("ERROR: Failed to save projects to file: " + e.getMessage(), e);
+                return false;
             }
-            
-            System.out.println("Saved " + projectMap.size() + " projects");
-            return true;
-        } catch (IOException e) {
-            System.out.println("ERROR: Failed to save projects to file: " + e.getMessage());
-            e.printStackTrace();
-            return false;
         }
     }
     
@@ -435,7 +478,9 @@ public class ProjectDataManager extends DataManager {
             
             // Remove project from the map
             projectMap.remove(projectId);
-            System.out.println("Project removed. There is " + projectMap.size()+ "projects left");
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Project removed. There is " + projectMap.size()+ "projects left");
+            }
             
             // Save projects file
             boolean saved = saveProjects();
@@ -7,6 +7,7 @@ import java.util.stream.Collectors;
 import model.Applicant;
 import model.HDBOfficer;
 import model.Project;
+import utils.IdGenerator;
 
 /**
  * The {@code EnquiryEditor} class manages enquiries for a specific BTO project.
@@ -39,15 +40,10 @@ public class EnquiryEditor implements RepliableEditorInterface {
     /**
      * Helper method to generate an enquiry ID.
      * 
-     * @param nric The NRIC of the applicant
-     * @param projectName The name of the project
      * @return A unique enquiry ID
      */
-    private String generateEnquiryId(String nric, String projectName) {
-        // Simple ID generation - in a real system, this would be more sophisticated
-        return "ENQ-" + nric.substring(1, 8) + "-" + 
-               projectName.substring(0, Math.min(3, projectName.length())).toUpperCase() + 
-               "-" + System.currentTimeMillis() % 10000;
+    private String generateEnquiryId() {
+        return IdGenerator.getInstance().nextId("ENQ");
     }
 
     /**
@@ -60,7 +56,7 @@ public class EnquiryEditor implements RepliableEditorInterface {
     @Override
     public Repliable create(String content, Applicant applicant) {
 
-        String enquiryId = generateEnquiryId(applicant.getNric(), project.getProjectName());
+        String enquiryId = generateEnquiryId();
         Enquiry enquiry = new Enquiry(enquiryId,applicant, project,content,null);
         enquiries.add(enquiry);
         applicant.addEnquiry(enquiry);
@@ -6,6 +6,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import model.enums.FlatType;
+import utils.log.Log;
+import utils.log.Logger;
 
 /**
  * Class representing an applicant in the BTO Management System.
@@ -15,6 +17,8 @@ import model.enums.FlatType;
  * @version 1.0
  */
 public class Applicant extends User {
+
+    private static final Logger LOG = Log.getLogger(Applicant.class);
     
     private Application currentApplication;
     private FlatType bookedFlatType;
@@ -63,10 +67,14 @@ public class Applicant extends User {
     */
     public void removeEnquiry(Enquiry enquiry) {
         if (enquiry != null) {
-            System.out.println("Removing enquiry " + enquiry.getEnquiryId() + 
-                            " from applicant " + getName());
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Removing enquiry " + enquiry.getEnquiryId() + 
+                          " from applicant " + getName());
+            }
             boolean removed = enquiries.remove(enquiry);
-            System.out.println("Removal result: " + removed);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Removal result: " + removed);
+            }
         }
     }
 
@@ -76,8 +84,10 @@ public class Applicant extends User {
      * @return a list of enquiries made by the applicant
      */
     public List<Enquiry> getEnquiries() {
-        System.out.println("Getting enquiries for applicant " + getName() + 
-                        ", count: " + enquiries.size());
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Getting enquiries for applicant " + getName() + 
+                      ", count: " + enquiries.size());
+        }
         return new ArrayList<>(enquiries);
     }
 
@@ -4,6 +4,9 @@ import java.util.Date;
 import model.abstracts.AApplication;
 import model.enums.ApplicationStatus;
 import model.enums.FlatType;
+import utils.IdGenerator;
+import utils.log.Log;
+import utils.log.Logger;
 
 /**
  * Class representing a BTO application in the system.
@@ -14,6 +17,8 @@ import model.enums.FlatType;
  */
 public class Application extends AApplication {
 
+    private static final Logger LOG = Log.getLogger(Application.class);
+
     private Date bookingDate;
     
     /**
@@ -30,25 +35,17 @@ public class Application extends AApplication {
     }
     
     /**
-     * Generates a unique application ID based on applicant NRIC and project name.
+     * Generates a unique application ID.
      * 
      * @param applicant The applicant
      * @param project The project
      * @return A generated application ID
      */
     private static String generateId(Applicant applicant, Project project) {
-        if (applicant != null && project != null) {
-            String nricPart = applicant.getNric().substring(1, 8);
-            String projectPart = project.getProjectName()
-                .substring(0, Math.min(3, project.getProjectName().length()))
-                .toUpperCase();
-            
-            String newId = "APP-" + nricPart + "-" + projectPart;
-            return newId;
-        } else {
-            System.out.println("Cannot generate application ID - missing applicant or project");
-            return "APP-UNKNOWN";
+        if (applicant == null || project == null) {
+            LOG.debug("Generating application ID without applicant or project");
         }
+        return IdGenerator.getInstance().nextId("APP");
     }
     
     /**
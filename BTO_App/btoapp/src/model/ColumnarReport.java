@@ -0,0 +1,431 @@
+package model;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TimeZone;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import model.enums.ApplicationStatus;
+import model.enums.FlatType;
+
+/**
+ * Column-oriented booking report in the BTO Management System.
+ *
+ * Instead of one {@link Report.ReportEntry} object per row, each field is kept in
+ * its own array: ages as {@code int[]}, flat types as {@code byte[]} ordinals,
+ * marital status as {@code byte[]} codes into a small dictionary and booking dates
+ * as {@code int[]} epoch days. Names and NRICs are the only object columns.
+ * Filters and aggregates scan the primitive arrays sequentially, which keeps them
+ * in cache, lets the JIT vectorize the loops and uses far less memory than rows.
+ *
+ * Row objects are only created on demand, for display or export.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public class ColumnarReport {
+
+    /**
+     * Epoch day stored for entries without a booking date.
+     */
+    public static final int NO_DATE = Integer.MIN_VALUE;
+
+    private static final byte NO_FLAT_TYPE = -1;
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+    private static final FlatType[] FLAT_TYPES = FlatType.values();
+
+    private final Project project;
+    private final int size;
+    private final String[] names;
+    private final String[] nrics;
+    private final int[] ages;
+    private final byte[] flatTypes;
+    private final byte[] maritalCodes;
+    private final String[] maritalDictionary;
+    private final int[] bookingDays;
+
+    /**
+     * Private constructor, use {@link Builder} or the factory methods.
+     *
+     * @param builder The builder holding the columns
+     */
+    private ColumnarReport(Builder builder) {
+        this.project = builder.project;
+        this.size = builder.size;
+        this.names = Arrays.copyOf(builder.names, size);
+        this.nrics = Arrays.copyOf(builder.nrics, size);
+        this.ages = Arrays.copyOf(builder.ages, size);
+        this.flatTypes = Arrays.copyOf(builder.flatTypes, size);
+        this.maritalCodes = Arrays.copyOf(builder.maritalCodes, size);
+        this.maritalDictionary = Arrays.copyOf(builder.maritalDictionary, builder.dictionarySize);
+        this.bookingDays = Arrays.copyOf(builder.bookingDays, size);
+    }
+
+    /**
+     * Builds a columnar report by appending rows one at a time.
+     */
+    public static class Builder {
+        private final Project project;
+        private final TimeZone timeZone;
+        private int size;
+        private String[] names;
+        private String[] nrics;
+        private int[] ages;
+        private byte[] flatTypes;
+        private byte[] maritalCodes;
+        private String[] maritalDictionary;
+        private int dictionarySize;
+        private int[] bookingDays;
+
+        /**
+         * Constructor for Builder.
+         *
+         * @param project The project the report is about
+         * @param expectedRows Initial capacity, the columns grow as needed
+         */
+        public Builder(Project project, int expectedRows) {
+            int capacity = Math.max(16, expectedRows);
+            this.project = project;
+            this.timeZone = TimeZone.getDefault();
+            this.names = new String[capacity];
+            this.nrics = new String[capacity];
+            this.ages = new int[capacity];
+            this.flatTypes = new byte[capacity];
+            this.maritalCodes = new byte[capacity];
+            this.maritalDictionary = new String[4];
+            this.bookingDays = new int[capacity];
+        }
+
+        /**
+         * Appends an application as a row, without creating a report entry. Only
+         * a booked application has a booking date, other rows are left without one.
+         *
+         * @param application The application to append
+         * @return this builder
+         */
+        public Builder add(Application application) {
+            Applicant applicant = application.getApplicant();
+            Date bookingDate = application.getStatus() == ApplicationStatus.BOOKED
+                               ? application.getBookingDate() : null;
+            return add(applicant.getName(), applicant.getNric(), applicant.getAge(),
+                       applicant.getMaritalStatus(), application.getSelectedFlatType(),
+                       bookingDate != null ? toEpochDay(bookingDate.getTime()) : NO_DATE);
+        }
+
+        /**
+         * Appends a row from its column values.
+         *
+         * @param name The applicant's name
+         * @param nric The applicant's NRIC
+         * @param age The applicant's age
+         * @param maritalStatus The applicant's marital status
+         * @param flatType The flat type booked, may be null
+         * @param bookingDay The booking date in epoch days, or {@link #NO_DATE}
+         * @return this builder
+         */
+        public Builder add(String name, String nric, int age, String maritalStatus,
+                           FlatType flatType, int bookingDay) {
+            if (size == ages.length) {
+                grow();
+            }
+
+            names[size] = name;
+            nrics[size] = nric;
+            ages[size] = age;
+            flatTypes[size] = flatType != null ? (byte) flatType.ordinal() : NO_FLAT_TYPE;
+            maritalCodes[size] = encodeMaritalStatus(maritalStatus);
+            bookingDays[size] = bookingDay;
+            size++;
+            return this;
+        }
+
+        /**
+         * Finishes the report.
+         *
+         * @return the columnar report, with arrays trimmed to the row count
+         */
+        public ColumnarReport build() {
+            return new ColumnarReport(this);
+        }
+
+        /**
+         * Looks up or adds a marital status in the dictionary.
+         *
+         * @param maritalStatus The marital status
+         * @return its code
+         */
+        private byte encodeMaritalStatus(String maritalStatus) {
+            for (int i = 0; i < dictionarySize; i++) {
+                if (Objects.equals(maritalDictionary[i], maritalStatus)) {
+                    return (byte) i;
+                }
+            }
+
+            if (dictionarySize == Byte.MAX_VALUE) {
+                throw new IllegalStateException("Too many distinct marital status values");
+            }
+            if (dictionarySize == maritalDictionary.length) {
+                maritalDictionary = Arrays.copyOf(maritalDictionary, dictionarySize * 2);
+            }
+            maritalDictionary[dictionarySize] = maritalStatus;
+            return (byte) dictionarySize++;
+        }
+
+        /**
+         * Doubles the capacity of every column.
+         */
+        private void grow() {
+            int capacity = ages.length * 2;
+            names = Arrays.copyOf(names, capacity);
+            nrics = Arrays.copyOf(nrics, capacity);
+            ages = Arrays.copyOf(ages, capacity);
+            flatTypes = Arrays.copyOf(flatTypes, capacity);
+            maritalCodes = Arrays.copyOf(maritalCodes, capacity);
+            bookingDays = Arrays.copyOf(bookingDays, capacity);
+        }
+
+        /**
+         * Converts a time to a local epoch day in the default time zone.
+         *
+         * @param epochMillis The time in epoch milliseconds
+         * @return the epoch day
+         */
+        private int toEpochDay(long epochMillis) {
+            return (int) Math.floorDiv(epochMillis + timeZone.getOffset(epochMillis), MILLIS_PER_DAY);
+        }
+    }
+
+    /**
+     * Builds the columns directly from the booked applications in a stream,
+     * without creating report entries.
+     *
+     * @param project The project the report is about
+     * @param applications The applications of the project
+     * @return the columnar report
+     */
+    public static ColumnarReport fromApplications(Project project, Stream<Application> applications) {
+        Builder builder = new Builder(project, 16);
+        Iterator<Application> iterator = applications.iterator();
+        while (iterator.hasNext()) {
+            Application application = iterator.next();
+            if (application.getStatus() == ApplicationStatus.BOOKED) {
+                builder.add(application);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Finds the rows matching a filter. Each condition of the filter narrows the
+     * selection with one sequential pass over its primitive column.
+     *
+     * @param filter The filter
+     * @return the matching row numbers in ascending order
+     */
+    public int[] select(ReportFilter filter) {
+        if (filter == null || filter.isAll()) {
+            return IntStream.range(0, size).toArray();
+        }
+
+        boolean[] selected = new boolean[size];
+        Arrays.fill(selected, true);
+        filter.narrow(this, selected);
+
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            count += selected[i] ? 1 : 0;
+        }
+
+        int[] rows = new int[count];
+        int next = 0;
+        for (int i = 0; i < size; i++) {
+            if (selected[i]) {
+                rows[next++] = i;
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Counts the rows matching a filter.
+     *
+     * @param filter The filter
+     * @return the number of matching rows
+     */
+    public int count(ReportFilter filter) {
+        return filter == null || filter.isAll() ? size : select(filter).length;
+    }
+
+    /**
+     * Counts the matching rows per flat type.
+     *
+     * @param filter The filter
+     * @return counts indexed by {@link FlatType#ordinal()}
+     */
+    public int[] countByFlatType(ReportFilter filter) {
+        int[] counts = new int[FLAT_TYPES.length];
+        for (int row : select(filter)) {
+            byte flatType = flatTypes[row];
+            if (flatType != NO_FLAT_TYPE) {
+                counts[flatType]++;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Counts the matching rows per marital status.
+     *
+     * @param filter The filter
+     * @return counts keyed by marital status, in order of first appearance
+     */
+    public Map<String, Integer> countByMaritalStatus(ReportFilter filter) {
+        int[] counts = new int[maritalDictionary.length];
+        for (int row : select(filter)) {
+            counts[maritalCodes[row]]++;
+        }
+
+        Map<String, Integer> result = new LinkedHashMap<>();
+        for (int code = 0; code < maritalDictionary.length; code++) {
+            if (counts[code] > 0) {
+                result.put(maritalDictionary[code], counts[code]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Computes the average age of the matching rows.
+     *
+     * @param filter The filter
+     * @return the average age, or 0 if no rows match
+     */
+    public double averageAge(ReportFilter filter) {
+        int[] rows = select(filter);
+        if (rows.length == 0) {
+            return 0;
+        }
+
+        long total = 0;
+        for (int row : rows) {
+            total += ages[row];
+        }
+        return (double) total / rows.length;
+    }
+
+    /**
+     * Materializes one row as a report entry.
+     *
+     * @param row The row number
+     * @return the report entry
+     */
+    public Report.ReportEntry getEntry(int row) {
+        return new Report.ReportEntry(names[row], nrics[row], ages[row], maritalDictionary[maritalCodes[row]],
+                                      getFlatType(row), getBookingDate(row));
+    }
+
+    /**
+     * Streams the matching rows as report entries, creating each one only when consumed.
+     *
+     * @param filter The filter
+     * @return a stream of report entries
+     */
+    public Stream<Report.ReportEntry> stream(ReportFilter filter) {
+        return Arrays.stream(select(filter)).mapToObj(this::getEntry);
+    }
+
+    /**
+     * Gets the flat type of a row.
+     *
+     * @param row The row number
+     * @return the flat type, or null if unknown
+     */
+    public FlatType getFlatType(int row) {
+        byte flatType = flatTypes[row];
+        return flatType != NO_FLAT_TYPE ? FLAT_TYPES[flatType] : null;
+    }
+
+    /**
+     * Gets the booking date of a row, at the start of the day in the default time zone.
+     *
+     * @param row The row number
+     * @return the booking date, or null if there is none
+     */
+    public Date getBookingDate(int row) {
+        if (bookingDays[row] == NO_DATE) {
+            return null;
+        }
+        return Date.from(LocalDate.ofEpochDay(bookingDays[row]).atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
+
+    /**
+     * Returns the project the report is about.
+     *
+     * @return the project
+     */
+    public Project getProject() {
+        return project;
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return the number of rows
+     */
+    public int size() {
+        return size;
+    }
+
+    // Column access for filter kernels in this package
+
+    /**
+     * Returns the age column.
+     *
+     * @return the ages, one per row
+     */
+    int[] ages() {
+        return ages;
+    }
+
+    /**
+     * Returns the flat type column.
+     *
+     * @return the flat type ordinals, one per row, -1 if unknown
+     */
+    byte[] flatTypes() {
+        return flatTypes;
+    }
+
+    /**
+     * Returns the marital status code column.
+     *
+     * @return the marital status codes, one per row
+     */
+    byte[] maritalCodes() {
+        return maritalCodes;
+    }
+
+    /**
+     * Returns the marital status dictionary.
+     *
+     * @return the distinct marital status values, indexed by code
+     */
+    String[] maritalDictionary() {
+        return maritalDictionary;
+    }
+
+    /**
+     * Returns the booking date column.
+     *
+     * @return the booking dates in epoch days, one per row
+     */
+    int[] bookingDays() {
+        return bookingDays;
+    }
+}
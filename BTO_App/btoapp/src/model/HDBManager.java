@@ -18,7 +18,6 @@ import model.enums.UserRole;
 public class HDBManager extends User {
     
     private List<Project> createdProjects;
-    private List<Report> generatedReports;
     
     /**
      * Constructor for HDBManager.
@@ -32,7 +31,6 @@ public class HDBManager extends User {
     public HDBManager(String name, String nric, int age, String maritalStatus, String password) {
         super(name, nric, age, maritalStatus, password);
         this.createdProjects = new ArrayList<>();
-        this.generatedReports = new ArrayList<>();
         setRole(UserRole.MANAGER);
     }
     
@@ -198,7 +196,19 @@ public class HDBManager extends User {
     }
     
     /**
-     * Generates a report for a project.
+     * Checks if the manager may generate reports for a project.
+     * 
+     * @param project The project
+     * @return true if the project is managed by this manager, false otherwise
+     */
+    public boolean canGenerateReport(Project project) {
+        return project != null && project.getManagerInCharge() != null
+               && project.getManagerInCharge().getNric().equals(this.getNric());
+    }
+    
+    /**
+     * Generates a report for a project. The report is not kept by the manager,
+     * use the report service to keep and reuse generated reports.
      * 
      * @param project The project to generate a report for
      * @param reportTitle The title of the report
@@ -206,7 +216,7 @@ public class HDBManager extends User {
      */
     public Report generateReport(Project project, String reportTitle) {
         // Check if the project is managed by this manager
-        if (!project.getManagerInCharge().getNric().equals(this.getNric())) {
+        if (!canGenerateReport(project)) {
             return null;
         }
         
@@ -222,9 +232,6 @@ public class HDBManager extends User {
             .filter(app -> app.getStatus() == ApplicationStatus.BOOKED)
             .collect(Collectors.toList()));
         
-        // Add to generated reports
-        generatedReports.add(report);
-        
         return report;
     }
 }
\ No newline at end of file
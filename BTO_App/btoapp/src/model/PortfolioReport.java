@@ -0,0 +1,258 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import model.abstracts.AProject;
+import model.enums.AgeBand;
+import model.enums.FlatType;
+
+/**
+ * Class representing a report across many projects in the BTO Management System.
+ * Holds the bookings, take-up rate per flat type and the age and marital status
+ * breakdowns of a portfolio of projects, plus one summary line per project.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public class PortfolioReport {
+
+    private final String reportTitle;
+    private final Date generationDate;
+    private final Aggregate totals;
+
+    /**
+     * Partial aggregate over some of the projects. Each worker fills its own
+     * aggregate and aggregates are merged pairwise, so no locking is needed.
+     */
+    public static class Aggregate {
+        private final long[] bookedByFlatType = new long[FlatType.values().length];
+        private final long[] remainingByFlatType = new long[FlatType.values().length];
+        private final long[] bookedByAgeBand = new long[AgeBand.values().length];
+        private final Map<String, Long> bookedByMaritalStatus = new TreeMap<>();
+        private final List<ProjectSummary> projects = new ArrayList<>();
+
+        /**
+         * Adds the bookings and remaining units of a project. The bookings
+         * are counted elsewhere, such as in the booking cube, so no
+         * applications are scanned.
+         *
+         * @param project The project to add
+         * @param booked The project's bookings per flat type, indexed by ordinal
+         * @param bookedByAge The project's bookings per age band, indexed by ordinal
+         * @param bookedByMarital The project's bookings per marital status
+         */
+        public void add(Project project, long[] booked, long[] bookedByAge, Map<String, Long> bookedByMarital) {
+            long[] remaining = new long[remainingByFlatType.length];
+            for (AProject.FlatTypeInfo info : project.getFlatTypeInfoList()) {
+                remaining[info.getFlatType().ordinal()] += info.getNumberOfUnits();
+            }
+
+            for (int i = 0; i < bookedByAgeBand.length; i++) {
+                bookedByAgeBand[i] += bookedByAge[i];
+            }
+            bookedByMarital.forEach((status, count) -> bookedByMaritalStatus.merge(status, count, Long::sum));
+
+            long bookings = 0;
+            long units = 0;
+            for (int i = 0; i < booked.length; i++) {
+                bookedByFlatType[i] += booked[i];
+                remainingByFlatType[i] += remaining[i];
+                bookings += booked[i];
+                units += booked[i] + remaining[i];
+            }
+            projects.add(new ProjectSummary(project.getProjectName(), project.getNeighborhood(), bookings, units));
+        }
+
+        /**
+         * Merges another aggregate into this one.
+         *
+         * @param other The aggregate to merge
+         * @return this aggregate
+         */
+        public Aggregate merge(Aggregate other) {
+            for (int i = 0; i < bookedByFlatType.length; i++) {
+                bookedByFlatType[i] += other.bookedByFlatType[i];
+                remainingByFlatType[i] += other.remainingByFlatType[i];
+            }
+            for (int i = 0; i < bookedByAgeBand.length; i++) {
+                bookedByAgeBand[i] += other.bookedByAgeBand[i];
+            }
+            other.bookedByMaritalStatus.forEach((status, count) -> bookedByMaritalStatus.merge(status, count, Long::sum));
+            projects.addAll(other.projects);
+            return this;
+        }
+    }
+
+    /**
+     * Summary line for one project in the portfolio.
+     */
+    public static class ProjectSummary {
+        private final String projectName;
+        private final String neighborhood;
+        private final long bookings;
+        private final long units;
+
+        /**
+         * Constructor for ProjectSummary.
+         *
+         * @param projectName The name of the project
+         * @param neighborhood The neighborhood of the project
+         * @param bookings The number of booked flats
+         * @param units The number of flats, booked or still available
+         */
+        public ProjectSummary(String projectName, String neighborhood, long bookings, long units) {
+            this.projectName = projectName;
+            this.neighborhood = neighborhood;
+            this.bookings = bookings;
+            this.units = units;
+        }
+
+        /**
+         * Gets the name of the project.
+         *
+         * @return the project name
+         */
+        public String getProjectName() {
+            return projectName;
+        }
+
+        /**
+         * Gets the neighborhood of the project.
+         *
+         * @return the neighborhood
+         */
+        public String getNeighborhood() {
+            return neighborhood;
+        }
+
+        /**
+         * Gets the number of booked flats.
+         *
+         * @return the number of bookings
+         */
+        public long getBookings() {
+            return bookings;
+        }
+
+        /**
+         * Gets the share of the project's flats that have been booked.
+         *
+         * @return the take-up rate between 0 and 1, or 0 if the project has no flats
+         */
+        public double getTakeUpRate() {
+            return units == 0 ? 0 : (double) bookings / units;
+        }
+    }
+
+    /**
+     * Constructor for PortfolioReport.
+     *
+     * @param reportTitle The title of the report
+     * @param generationDate The date the report was generated
+     * @param totals The merged aggregate of every project in the portfolio
+     */
+    public PortfolioReport(String reportTitle, Date generationDate, Aggregate totals) {
+        this.reportTitle = reportTitle;
+        this.generationDate = generationDate;
+        this.totals = totals;
+        totals.projects.sort((a, b) -> a.projectName.compareToIgnoreCase(b.projectName));
+    }
+
+    /**
+     * Gets the title of the report.
+     *
+     * @return the report title
+     */
+    public String getReportTitle() {
+        return reportTitle;
+    }
+
+    /**
+     * Gets the date the report was generated.
+     *
+     * @return the generation date
+     */
+    public Date getGenerationDate() {
+        return generationDate;
+    }
+
+    /**
+     * Gets the number of projects in the portfolio.
+     *
+     * @return the project count
+     */
+    public int getProjectCount() {
+        return totals.projects.size();
+    }
+
+    /**
+     * Gets the total number of booked flats.
+     *
+     * @return the number of bookings
+     */
+    public long getTotalBookings() {
+        long total = 0;
+        for (long booked : totals.bookedByFlatType) {
+            total += booked;
+        }
+        return total;
+    }
+
+    /**
+     * Gets the number of booked flats of a type.
+     *
+     * @param flatType The flat type
+     * @return the number of bookings
+     */
+    public long getBookings(FlatType flatType) {
+        return totals.bookedByFlatType[flatType.ordinal()];
+    }
+
+    /**
+     * Gets the share of flats of a type that have been booked across the portfolio.
+     *
+     * @param flatType The flat type
+     * @return the take-up rate between 0 and 1, or 0 if no flats of the type are offered
+     */
+    public double getTakeUpRate(FlatType flatType) {
+        long booked = totals.bookedByFlatType[flatType.ordinal()];
+        long units = booked + totals.remainingByFlatType[flatType.ordinal()];
+        return units == 0 ? 0 : (double) booked / units;
+    }
+
+    /**
+     * Gets the number of bookings per age band.
+     *
+     * @return the bookings by age band, in band order
+     */
+    public Map<AgeBand, Long> getBookingsByAgeBand() {
+        Map<AgeBand, Long> result = new LinkedHashMap<>();
+        for (AgeBand band : AgeBand.values()) {
+            result.put(band, totals.bookedByAgeBand[band.ordinal()]);
+        }
+        return result;
+    }
+
+    /**
+     * Gets the number of bookings per marital status.
+     *
+     * @return the bookings by marital status, sorted by status
+     */
+    public Map<String, Long> getBookingsByMaritalStatus() {
+        return Collections.unmodifiableMap(totals.bookedByMaritalStatus);
+    }
+
+    /**
+     * Gets the summary line of every project, sorted by project name.
+     *
+     * @return the project summaries
+     */
+    public List<ProjectSummary> getProjectSummaries() {
+        return Collections.unmodifiableList(totals.projects);
+    }
+}
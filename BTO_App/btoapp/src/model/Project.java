@@ -3,20 +3,29 @@ package model;
 import enquiry.Enquiry;
 import java.util.ArrayList;
 import java.util.Date;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import model.abstracts.AProject;
+import model.enums.ApplicationStatus;
 import model.enums.FlatType;
+import utils.log.Log;
+import utils.log.Logger;
 
 /**
  * Class representing a BTO project in the system.
  * Extends AProject abstract class and manages project details, applications, and enquiries.
  */
 public class Project extends AProject {
+
+    private static final Logger LOG = Log.getLogger(Project.class);
     
+    // Changed on the project's event loop and read from report and scheduler threads,
+    // so both sets must allow iteration while another thread adds to them
     private Set<Application> applications;
     private Set<Enquiry> enquiries;
+    private final AtomicLong bookingVersion = new AtomicLong();
     
     /**
      * Basic constructor for Project.
@@ -31,9 +40,11 @@ public class Project extends AProject {
     public Project(String projectName, String neighborhood, Date applicationOpeningDate, 
                   Date applicationClosingDate, HDBManager managerInCharge, int officerSlots) {
         super(projectName, neighborhood, applicationOpeningDate, applicationClosingDate, managerInCharge, officerSlots);
-        this.applications = new HashSet<>();
-        this.enquiries = new HashSet<>();
-        System.out.println("DEBUG: Created project with basic constructor: " + projectName);
+        this.applications = ConcurrentHashMap.newKeySet();
+        this.enquiries = ConcurrentHashMap.newKeySet();
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Created project with basic constructor: " + projectName);
+        }
     }
     
     /**
@@ -55,8 +66,8 @@ public class Project extends AProject {
                   HDBManager managerInCharge, int officerSlots) {
         super(projectName, neighborhood, applicationOpeningDate, applicationClosingDate, 
               managerInCharge, officerSlots);
-        this.applications = new HashSet<>();
-        this.enquiries = new HashSet<>();
+        this.applications = ConcurrentHashMap.newKeySet();
+        this.enquiries = ConcurrentHashMap.newKeySet();
         
         // Add flat types
         if (flatTypes != null && numberOfUnits != null && sellingPrices != null) {
@@ -79,13 +90,37 @@ public class Project extends AProject {
      */
     public boolean addApplication(Application application) {
         if (application != null) {
-            return applications.add(application);
+            boolean added = applications.add(application);
+            if (added && application.getStatus() == ApplicationStatus.BOOKED) {
+                markBookingsChanged();
+            }
+            return added;
         }
         return false;
     }
 
     /**
-     * Returns a list of all applications for this project.
+     * Returns the version of the project's bookings. The version changes whenever
+     * a flat is booked or a booking is withdrawn, so anything derived from the
+     * bookings can tell whether it is still current.
+     *
+     * @return the booking version
+     */
+    public long getBookingVersion() {
+        return bookingVersion.get();
+    }
+
+    /**
+     * Records that the project's bookings have changed.
+     */
+    public void markBookingsChanged() {
+        bookingVersion.incrementAndGet();
+    }
+
+    /**
+     * Returns a list of all applications for this project. The list is a copy
+     * that is safe to take while applications are being added; it holds every
+     * application added before the call and possibly some added during it.
      *
      * @return list of applications
      */
@@ -102,7 +137,7 @@ public class Project extends AProject {
         if (enquiry != null) {
             enquiries.add(enquiry);
         } else {
-            System.out.println("Attempted to add empty enquiry to project " + 
+            LOG.warn("Attempted to add empty enquiry to project " + 
                                getProjectName());
         }
     }
@@ -2,6 +2,7 @@ package model;
 
 import java.util.Date;
 import model.enums.FlatType;
+import utils.IdGenerator;
 
 /**
  * Class representing a receipt for a flat booking in the BTO Management System.
@@ -38,7 +39,7 @@ public class Receipt {
     public Receipt(String applicationId, String applicantName, String applicantNric, 
                   int applicantAge, String maritalStatus, FlatType flatType,
                   String projectName, String neighborhood) {
-        this.receiptId = "RCPT-" + applicationId + "-" + System.currentTimeMillis() % 10000;
+        this.receiptId = IdGenerator.getInstance().nextId("RCPT");
         this.applicationId = applicationId;
         this.applicantName = applicantName;
         this.applicantNric = applicantNric;
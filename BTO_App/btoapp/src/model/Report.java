@@ -3,13 +3,23 @@ package model;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import model.enums.ApplicationStatus;
 import model.enums.FlatType;
+import utils.PageSource;
+import utils.SortedMapPageSource;
 
 /**
  * Class representing a report in the BTO Management System.
  * Generated by HDB Managers for project analysis.
  * 
+ * Filtering a report does not copy its entries. The filtered report is a view
+ * over the original entries with a {@link ReportFilter}, and filtering a view
+ * again fuses both filters so the entries are still scanned only once.
+ * 
  * @author Your Name
  * @version 1.0
  */
@@ -20,6 +30,11 @@ public class Report {
     private String reportTitle;
     private Date generationDate;
     private List<ReportEntry> entries;
+    private ReportFilter filter;
+    private long bookingVersion;
+    
+    // Entry count above which views are evaluated in parallel
+    private static final int PARALLEL_THRESHOLD = 10_000;
     
     /**
      * Inner class representing a single entry in a report.
@@ -52,6 +67,24 @@ public class Report {
             this.bookingDate = bookingDate;
         }
         
+        /**
+         * Creates a report entry from a booked application.
+         * 
+         * @param application The application to create the entry from
+         * @return The report entry
+         */
+        public static ReportEntry fromApplication(Application application) {
+            Applicant applicant = application.getApplicant();
+            return new ReportEntry(
+                applicant.getName(),
+                applicant.getNric(),
+                applicant.getAge(),
+                applicant.getMaritalStatus(),
+                application.getSelectedFlatType(),
+                application.getStatus() == ApplicationStatus.BOOKED ? application.getBookingDate() : null
+            );
+        }
+        
         // Getters
         
          /**
@@ -98,6 +131,15 @@ public class Report {
         public FlatType getFlatType() {
             return flatType;
         }
+        
+        /**
+         * Returns the date recorded for the booking.
+         *
+         * @return the booking date
+         */
+        public Date getBookingDate() {
+            return bookingDate;
+        }
     }
     
     /**
@@ -114,6 +156,26 @@ public class Report {
         this.reportTitle = reportTitle;
         this.generationDate = generationDate;
         this.entries = new ArrayList<>();
+        this.filter = ReportFilter.all();
+        this.bookingVersion = project != null ? project.getBookingVersion() : 0;
+    }
+    
+    /**
+     * Constructor for a filtered view over another report's entries.
+     * 
+     * @param reportId The ID of the view
+     * @param source The report whose entries are viewed
+     * @param reportTitle The title of the view
+     * @param filter The combined filter of the view
+     */
+    private Report(String reportId, Report source, String reportTitle, ReportFilter filter) {
+        this.reportId = reportId;
+        this.project = source.project;
+        this.reportTitle = reportTitle;
+        this.generationDate = new Date();
+        this.entries = source.entries;
+        this.filter = filter;
+        this.bookingVersion = source.bookingVersion;
     }
     
     /**
@@ -122,77 +184,73 @@ public class Report {
      * @param entry The entry to add
      */
     public void addEntry(ReportEntry entry) {
+        if (isView()) {
+            throw new UnsupportedOperationException("Cannot add entries to a filtered report");
+        }
         entries.add(entry);
     }
     
     /**
      * Creates report entries from a list of applications.
      * 
+     * Every entry is held in memory. For large projects use
+     * {@link service.ReportStreamWriter}, which writes entries as they are read.
+     * 
      * @param applications The list of applications to create entries from
      */
     public void populateFromApplications(List<Application> applications) {
         for (Application app : applications) {
             if (app.getStatus() == ApplicationStatus.BOOKED) {
-                Applicant applicant = app.getApplicant();
-                
-                ReportEntry entry = new ReportEntry(
-                    applicant.getName(),
-                    applicant.getNric(),
-                    applicant.getAge(),
-                    applicant.getMaritalStatus(),
-                    app.getSelectedFlatType(),
-                    app.getApplicationDate()
-                );
-                
-                addEntry(entry);
+                addEntry(ReportEntry.fromApplication(app));
             }
         }
     }
     
+    /**
+     * Filters the report entries with a composable filter.
+     * 
+     * @param reportFilter The filter to apply
+     * @param idSuffix Suffix appended to the report ID
+     * @return A view of this report containing only the matching entries
+     */
+    public Report where(ReportFilter reportFilter, String idSuffix) {
+        return new Report(
+            reportId + "-FILTER-" + idSuffix,
+            this,
+            reportTitle + " (Filtered by " + reportFilter.getDescription() + ")",
+            filter.and(reportFilter)
+        );
+    }
+    
+    /**
+     * Filters the report entries with a composable filter.
+     * 
+     * @param reportFilter The filter to apply
+     * @return A view of this report containing only the matching entries
+     */
+    public Report where(ReportFilter reportFilter) {
+        return where(reportFilter, reportFilter.getKey().toUpperCase());
+    }
+    
     /**
      * Filters the report entries by marital status.
      * 
      * @param maritalStatus The marital status to filter by
-     * @return A new report with filtered entries
+     * @return A view of this report with the filtered entries
      */
     public Report filterByMaritalStatus(String maritalStatus) {
-        Report filteredReport = new Report(
-            reportId + "-FILTER-" + maritalStatus.toUpperCase(),
-            project,
-            reportTitle + " (Filtered by " + maritalStatus + ")",
-            new Date()
-        );
-        
-        for (ReportEntry entry : entries) {
-            if (entry.getMaritalStatus().equalsIgnoreCase(maritalStatus)) {
-                filteredReport.addEntry(entry);
-            }
-        }
-        
-        return filteredReport;
+        return where(ReportFilter.maritalStatus(maritalStatus), maritalStatus.toUpperCase());
     }
     
     /**
      * Filters the report entries by flat type.
      * 
      * @param flatType The flat type to filter by
-     * @return A new report with filtered entries
+     * @return A view of this report with the filtered entries
      */
     public Report filterByFlatType(FlatType flatType) {
-        Report filteredReport = new Report(
-            reportId + "-FILTER-" + flatType.getDisplayName().toUpperCase().replace("-", ""),
-            project,
-            reportTitle + " (Filtered by " + flatType.getDisplayName() + ")",
-            new Date()
-        );
-        
-        for (ReportEntry entry : entries) {
-            if (entry.getFlatType() == flatType) {
-                filteredReport.addEntry(entry);
-            }
-        }
-        
-        return filteredReport;
+        return where(ReportFilter.flatType(flatType),
+                     flatType.getDisplayName().toUpperCase().replace("-", ""));
     }
     
     /**
@@ -200,23 +258,82 @@ public class Report {
      * 
      * @param minAge The minimum age to include
      * @param maxAge The maximum age to include
-     * @return A new report with filtered entries
+     * @return A view of this report with the filtered entries
      */
     public Report filterByAgeRange(int minAge, int maxAge) {
-        Report filteredReport = new Report(
-            reportId + "-FILTER-AGE-" + minAge + "-" + maxAge,
-            project,
-            reportTitle + " (Filtered by Age " + minAge + "-" + maxAge + ")",
-            new Date()
-        );
-        
-        for (ReportEntry entry : entries) {
-            if (entry.getApplicantAge() >= minAge && entry.getApplicantAge() <= maxAge) {
-                filteredReport.addEntry(entry);
-            }
+        return where(ReportFilter.ageRange(minAge, maxAge), "AGE-" + minAge + "-" + maxAge);
+    }
+    
+    /**
+     * Streams the matching entries without copying them.
+     * 
+     * @return A sequential stream of the report entries
+     */
+    public Stream<ReportEntry> stream() {
+        return filter.isAll() ? entries.stream() : entries.stream().filter(filter);
+    }
+    
+    /**
+     * Streams the matching entries in parallel without copying them.
+     * 
+     * @return A parallel stream of the report entries
+     */
+    public Stream<ReportEntry> parallelStream() {
+        return filter.isAll() ? entries.parallelStream() : entries.parallelStream().filter(filter);
+    }
+    
+    /**
+     * Gets the matching entries of this report's own snapshot a page at a time,
+     * sorted by NRIC, which is unique among a project's bookings. Screens showing
+     * a current report page from the application index instead, see
+     * {@link controller.ApplicationController#getBookingReportPages}; this is for
+     * reports kept after the project's bookings changed.
+     * 
+     * @return A page source whose cursors are NRICs
+     */
+    public PageSource<ReportEntry> pages() {
+        NavigableMap<String, ReportEntry> byNric = new TreeMap<>();
+        stream().forEach(entry -> byNric.put(entry.getApplicantNric(), entry));
+        return new SortedMapPageSource<>(byNric, null);
+    }
+    
+    /**
+     * Counts the matching entries without copying them.
+     * 
+     * @return the number of entries in the report
+     */
+    public long getEntryCount() {
+        if (filter.isAll()) {
+            return entries.size();
         }
-        
-        return filteredReport;
+        return (entries.size() > PARALLEL_THRESHOLD ? parallelStream() : stream()).count();
+    }
+    
+    /**
+     * Gets the filter applied to this report.
+     * 
+     * @return the filter, which accepts every entry for an unfiltered report
+     */
+    public ReportFilter getFilter() {
+        return filter;
+    }
+    
+    /**
+     * Checks whether the project's bookings are unchanged since this report was built.
+     * 
+     * @return true if the report still matches the project's bookings
+     */
+    public boolean isCurrent() {
+        return project == null || bookingVersion == project.getBookingVersion();
+    }
+    
+    /**
+     * Checks whether this report is a filtered view over another report.
+     * 
+     * @return true if the report is a view
+     */
+    public boolean isView() {
+        return !filter.isAll();
     }
     
     // Getters
@@ -263,6 +380,11 @@ public class Report {
      * @return the list of report entries
      */
     public List<ReportEntry> getEntries() {
-        return new ArrayList<>(entries);
+        if (filter.isAll()) {
+            return new ArrayList<>(entries);
+        }
+        // Parallel collection keeps the original entry order
+        return (entries.size() > PARALLEL_THRESHOLD ? parallelStream() : stream())
+                .collect(Collectors.toList());
     }
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+package model;
+
+import java.util.Date;
+
+/**
+ * Class representing a precomputed report in the BTO Management System.
+ *
+ * An artifact records the report, a version number that goes up each time the
+ * same report is materialized again, when it was materialized and the booking
+ * version of the project at that time. The artifact is stale once the
+ * project's bookings have changed since.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public class ReportArtifact {
+
+    private final Report report;
+    private final long version;
+    private final long bookingVersion;
+    private final Date materializedAt;
+
+    /**
+     * Constructor for ReportArtifact.
+     *
+     * @param report The precomputed report
+     * @param version The artifact version, starting at 1
+     * @param bookingVersion The booking version of the project the report was built from
+     * @param materializedAt When the report was materialized
+     */
+    public ReportArtifact(Report report, long version, long bookingVersion, Date materializedAt) {
+        this.report = report;
+        this.version = version;
+        this.bookingVersion = bookingVersion;
+        this.materializedAt = materializedAt;
+    }
+
+    /**
+     * Gets the precomputed report.
+     *
+     * @return the report
+     */
+    public Report getReport() {
+        return report;
+    }
+
+    /**
+     * Gets the artifact version.
+     *
+     * @return the version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the booking version of the project the report was built from.
+     *
+     * @return the booking version
+     */
+    public long getBookingVersion() {
+        return bookingVersion;
+    }
+
+    /**
+     * Gets when the report was materialized.
+     *
+     * @return the materialization date
+     */
+    public Date getMaterializedAt() {
+        return materializedAt;
+    }
+
+    /**
+     * Checks whether the project's bookings have changed since the report was built.
+     *
+     * @return true if the report is out of date
+     */
+    public boolean isStale() {
+        return report.getProject().getBookingVersion() != bookingVersion;
+    }
+}
@@ -0,0 +1,246 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import model.enums.FlatType;
+
+/**
+ * Composable filter over report entries in the BTO Management System.
+ *
+ * Filters combined with {@link #and(ReportFilter)} are fused into one predicate
+ * that checks every condition in a single pass and stops at the first condition
+ * that fails. Conditions are ordered so that the cheapest comparisons run first.
+ * Filters are immutable and can be shared between threads.
+ *
+ * Every condition also has a column kernel, so the same filter can run over the
+ * primitive arrays of a {@link ColumnarReport} instead of row objects.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public final class ReportFilter implements Predicate<Report.ReportEntry> {
+
+    private static final ReportFilter ALL = new ReportFilter(Collections.emptyList());
+
+    private final List<Condition> conditions;
+
+    /**
+     * Narrows a row selection using the columns of a columnar report.
+     */
+    private interface ColumnKernel {
+        /**
+         * Clears the selection of every row that fails the condition.
+         *
+         * @param report The columnar report
+         * @param selected One flag per row, true while the row is still selected
+         */
+        void narrow(ColumnarReport report, boolean[] selected);
+    }
+
+    /**
+     * A single condition with a relative cost used to order evaluation.
+     */
+    private static final class Condition {
+        private final int cost;
+        private final String key;
+        private final String description;
+        private final Predicate<Report.ReportEntry> predicate;
+        private final ColumnKernel kernel;
+
+        /**
+         * Constructor for Condition.
+         *
+         * @param cost Relative cost of evaluating the condition, lower runs first
+         * @param key Stable text identifying the condition
+         * @param description Human readable description
+         * @param predicate The test applied to each entry
+         * @param kernel The same test applied to a whole column
+         */
+        Condition(int cost, String key, String description, Predicate<Report.ReportEntry> predicate,
+                  ColumnKernel kernel) {
+            this.cost = cost;
+            this.key = key;
+            this.description = description;
+            this.predicate = predicate;
+            this.kernel = kernel;
+        }
+    }
+
+    /**
+     * Private constructor, use the factory methods.
+     *
+     * @param conditions The conditions, already ordered by cost
+     */
+    private ReportFilter(List<Condition> conditions) {
+        this.conditions = conditions;
+    }
+
+    /**
+     * Gets a filter that accepts every entry.
+     *
+     * @return the filter
+     */
+    public static ReportFilter all() {
+        return ALL;
+    }
+
+    /**
+     * Gets a filter on marital status, ignoring case.
+     *
+     * @param maritalStatus The marital status to keep
+     * @return the filter
+     */
+    public static ReportFilter maritalStatus(String maritalStatus) {
+        return of(new Condition(2, "marital=" + maritalStatus.toUpperCase(), maritalStatus,
+            entry -> maritalStatus.equalsIgnoreCase(entry.getMaritalStatus()),
+            (report, selected) -> {
+                // Resolve the dictionary once, then compare codes only
+                String[] dictionary = report.maritalDictionary();
+                boolean[] matches = new boolean[dictionary.length];
+                for (int code = 0; code < dictionary.length; code++) {
+                    matches[code] = maritalStatus.equalsIgnoreCase(dictionary[code]);
+                }
+                byte[] codes = report.maritalCodes();
+                for (int i = 0; i < selected.length; i++) {
+                    selected[i] &= matches[codes[i]];
+                }
+            }));
+    }
+
+    /**
+     * Gets a filter on flat type.
+     *
+     * @param flatType The flat type to keep
+     * @return the filter
+     */
+    public static ReportFilter flatType(FlatType flatType) {
+        return of(new Condition(0, "flatType=" + flatType.name(), flatType.getDisplayName(),
+            entry -> entry.getFlatType() == flatType,
+            (report, selected) -> {
+                byte ordinal = (byte) flatType.ordinal();
+                byte[] flatTypes = report.flatTypes();
+                for (int i = 0; i < selected.length; i++) {
+                    selected[i] &= flatTypes[i] == ordinal;
+                }
+            }));
+    }
+
+    /**
+     * Gets a filter on an inclusive age range.
+     *
+     * @param minAge The minimum age to keep
+     * @param maxAge The maximum age to keep
+     * @return the filter
+     */
+    public static ReportFilter ageRange(int minAge, int maxAge) {
+        return of(new Condition(1, "age=" + minAge + "-" + maxAge, "Age " + minAge + "-" + maxAge,
+            entry -> entry.getApplicantAge() >= minAge && entry.getApplicantAge() <= maxAge,
+            (report, selected) -> {
+                int[] ages = report.ages();
+                for (int i = 0; i < selected.length; i++) {
+                    selected[i] &= ages[i] >= minAge & ages[i] <= maxAge;
+                }
+            }));
+    }
+
+    /**
+     * Combines this filter with another. Entries must satisfy both.
+     *
+     * @param other The other filter
+     * @return the combined filter
+     */
+    public ReportFilter and(ReportFilter other) {
+        if (other == null || other.conditions.isEmpty()) {
+            return this;
+        }
+        if (conditions.isEmpty()) {
+            return other;
+        }
+
+        List<Condition> combined = new ArrayList<>(conditions.size() + other.conditions.size());
+        combined.addAll(conditions);
+        combined.addAll(other.conditions);
+        // Stable sort keeps the order in which equally cheap conditions were added
+        combined.sort(Comparator.comparingInt(condition -> condition.cost));
+        return new ReportFilter(Collections.unmodifiableList(combined));
+    }
+
+    /**
+     * Tests an entry against every condition, stopping at the first that fails.
+     *
+     * @param entry The entry to test
+     * @return true if the entry satisfies all conditions
+     */
+    @Override
+    public boolean test(Report.ReportEntry entry) {
+        for (int i = 0; i < conditions.size(); i++) {
+            if (!conditions.get(i).predicate.test(entry)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Narrows a row selection over a columnar report, one column pass per condition.
+     *
+     * @param report The columnar report
+     * @param selected One flag per row, true while the row is still selected
+     */
+    void narrow(ColumnarReport report, boolean[] selected) {
+        for (Condition condition : conditions) {
+            condition.kernel.narrow(report, selected);
+        }
+    }
+
+    /**
+     * Checks whether this filter accepts every entry.
+     *
+     * @return true if the filter has no conditions
+     */
+    public boolean isAll() {
+        return conditions.isEmpty();
+    }
+
+    /**
+     * Gets a stable key for the filter, for example to look up cached results.
+     * Filters with the same conditions have the same key regardless of the order
+     * they were combined in.
+     *
+     * @return the key, empty for a filter that accepts everything
+     */
+    public String getKey() {
+        List<String> keys = new ArrayList<>(conditions.size());
+        for (Condition condition : conditions) {
+            keys.add(condition.key);
+        }
+        Collections.sort(keys);
+        return String.join("&", keys);
+    }
+
+    /**
+     * Gets a human readable description of the filter, such as "Married, 3-Room".
+     *
+     * @return the description, empty for a filter that accepts everything
+     */
+    public String getDescription() {
+        List<String> descriptions = new ArrayList<>(conditions.size());
+        for (Condition condition : conditions) {
+            descriptions.add(condition.description);
+        }
+        return String.join(", ", descriptions);
+    }
+
+    /**
+     * Creates a filter with one condition.
+     *
+     * @param condition The condition
+     * @return the filter
+     */
+    private static ReportFilter of(Condition condition) {
+        return new ReportFilter(Collections.singletonList(condition));
+    }
+}
@@ -77,6 +77,7 @@ public abstract class AApplication {
         // Only change status if the application is already SUCCESSFUL
         if (status == ApplicationStatus.SUCCESSFUL) {
             status = ApplicationStatus.BOOKED;
+            markProjectBookingsChanged();
             return true;
         }
         return false;
@@ -106,6 +107,7 @@ public abstract class AApplication {
             // If the application is already booked, increment the unit count for that flat type
             if (status == ApplicationStatus.BOOKED) {
                 // Logic to add back the unit to the project would go here
+                markProjectBookingsChanged();
             }
             status = ApplicationStatus.UNSUCCESSFUL;
             withdrawalRequested = false;
@@ -189,7 +191,21 @@ public abstract class AApplication {
      * @param status The new status for the application
      */
     public void setStatus(ApplicationStatus status) {
+        boolean bookingChanged = this.status != status
+                && (this.status == ApplicationStatus.BOOKED || status == ApplicationStatus.BOOKED);
         this.status = status;
+        if (bookingChanged) {
+            markProjectBookingsChanged();
+        }
+    }
+    
+    /**
+     * Tells the project that one of its bookings was added or removed.
+     */
+    private void markProjectBookingsChanged() {
+        if (project != null) {
+            project.markBookingsChanged();
+        }
     }
     
     /**
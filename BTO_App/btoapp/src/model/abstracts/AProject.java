@@ -6,6 +6,8 @@ import java.util.List;
 import model.HDBManager;
 import model.HDBOfficer;
 import model.enums.FlatType;
+import utils.log.Log;
+import utils.log.Logger;
 
 /**
  * Abstract class representing a BTO project in the system.
@@ -15,6 +17,8 @@ import model.enums.FlatType;
  * @version 1.0
  */
 public abstract class AProject {
+
+    private static final Logger LOG = Log.getLogger(AProject.class);
     
     private String projectName;
     private String neighborhood;
@@ -73,9 +77,11 @@ public abstract class AProject {
         public void decrementUnits() {
             if (numberOfUnits > 0) {
                 numberOfUnits--;
-                System.out.println("DEBUG: Decremented units. New count: " + numberOfUnits);
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Decremented units. New count: " + numberOfUnits);
+                }
             } else {
-                System.out.println("DEBUG: Cannot decrement. No units available.");
+                LOG.debug("Cannot decrement. No units available.");
             }
         }
 
@@ -156,22 +162,30 @@ public abstract class AProject {
     public boolean decrementUnit(FlatType flatType) {
         for (FlatTypeInfo info : flatTypeInfoList) {
             if (info.getFlatType() == flatType) {
-                System.out.println("DEBUG: Found flat type " + flatType + 
-                                   " with current units: " + info.getNumberOfUnits());
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Found flat type " + flatType + 
+                                 " with current units: " + info.getNumberOfUnits());
+                }
                 
                 if (info.getNumberOfUnits() > 0) {
                     info.decrementUnits();
-                    System.out.println("DEBUG: Successfully decremented units. New count: " + 
-                                       info.getNumberOfUnits());
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("Successfully decremented units. New count: " + 
+                                     info.getNumberOfUnits());
+                    }
                     return true;
                 } else {
-                    System.out.println("DEBUG: No available units for " + flatType);
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("No available units for " + flatType);
+                    }
                     return false;
                 }
             }
         }
         
-        System.out.println("DEBUG: Flat type " + flatType + " not found in project");
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Flat type " + flatType + " not found in project");
+        }
         return false;
     }
     /**
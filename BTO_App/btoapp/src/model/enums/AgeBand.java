@@ -0,0 +1,101 @@
+package model.enums;
+
+/**
+ * Enumeration for the applicant age bands used to break down bookings in reports.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public enum AgeBand {
+    /**
+     * Applicants younger than 35.
+     * Only married couples can apply at this age.
+     */
+    UNDER_35("Below 35", Integer.MIN_VALUE, 34),
+
+    /**
+     * Applicants aged 35 to 44.
+     */
+    FROM_35_TO_44("35-44", 35, 44),
+
+    /**
+     * Applicants aged 45 to 54.
+     */
+    FROM_45_TO_54("45-54", 45, 54),
+
+    /**
+     * Applicants aged 55 and above.
+     */
+    FROM_55("55 and above", 55, Integer.MAX_VALUE);
+
+    private static final AgeBand[] VALUES = values();
+
+    private final String displayName;
+    private final int minAge;
+    private final int maxAge;
+
+    /**
+     * Constructor for AgeBand enum.
+     *
+     * @param displayName The human-readable name to display for this band
+     * @param minAge The lowest age in the band
+     * @param maxAge The highest age in the band
+     */
+    AgeBand(String displayName, int minAge, int maxAge) {
+        this.displayName = displayName;
+        this.minAge = minAge;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * Gets the display name of the age band.
+     *
+     * @return The human-readable display name
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Gets the lowest age in the band.
+     *
+     * @return the minimum age
+     */
+    public int getMinAge() {
+        return minAge;
+    }
+
+    /**
+     * Gets the highest age in the band.
+     *
+     * @return the maximum age
+     */
+    public int getMaxAge() {
+        return maxAge;
+    }
+
+    /**
+     * Returns the string representation of this enum value.
+     *
+     * @return The display name of this age band
+     */
+    @Override
+    public String toString() {
+        return displayName;
+    }
+
+    /**
+     * Gets the band an age falls into.
+     *
+     * @param age The age
+     * @return The matching age band
+     */
+    public static AgeBand of(int age) {
+        for (AgeBand band : VALUES) {
+            if (age <= band.maxAge) {
+                return band;
+            }
+        }
+        return FROM_55;
+    }
+}
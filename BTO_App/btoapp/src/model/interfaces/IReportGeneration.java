@@ -6,6 +6,8 @@ import model.Application;
 import model.Project;
 import model.Receipt;
 import model.Report;
+import model.ReportArtifact;
+import model.ReportFilter;
 import model.enums.FlatType;
 
 /**
@@ -60,6 +62,33 @@ public interface IReportGeneration {
      */
     Report generateAgeRangeReport(Project project, int minAge, int maxAge);
     
+    /**
+     * Generates a report of all booked flats that pass a filter.
+     * 
+     * @param project The project to generate a report for
+     * @param filter The filter to apply
+     * @return The generated report
+     */
+    Report generateReport(Project project, ReportFilter filter);
+    
+    /**
+     * Stores a precomputed report as the next version of its artifact.
+     * 
+     * @param report The report to store
+     * @param bookingVersion The booking version of the project the report was built from
+     * @return The stored artifact
+     */
+    ReportArtifact storeArtifact(Report report, long bookingVersion);
+    
+    /**
+     * Gets the latest precomputed version of a report.
+     * 
+     * @param project The project of the report
+     * @param filter The filter of the report
+     * @return The latest artifact, or null if the report has not been precomputed
+     */
+    ReportArtifact getLatestArtifact(Project project, ReportFilter filter);
+    
     /**
      * Gets a list of all reports for a project.
      * 
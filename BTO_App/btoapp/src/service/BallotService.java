@@ -0,0 +1,335 @@
+package service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.ToIntFunction;
+import model.Applicant;
+import model.Application;
+import model.Project;
+import model.enums.ApplicationStatus;
+import model.enums.FlatType;
+
+/**
+ * Service class for balloting oversubscribed BTO projects.
+ *
+ * For every flat type in a project, pending applications are grouped into
+ * priority tiers and drawn tier by tier using a seeded shuffle, so the same
+ * seed always produces the same outcome. Winners are moved to SUCCESSFUL;
+ * everyone else stays PENDING and is returned as an ordered waiting queue.
+ *
+ * Flat types and projects are drawn independently on a fork-join pool.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public class BallotService {
+
+    /**
+     * Tier policy that gives every applicant the same priority.
+     */
+    public static final ToIntFunction<Applicant> EQUAL_PRIORITY = applicant -> 0;
+
+    /**
+     * Tier policy that draws married applicants before singles.
+     */
+    public static final ToIntFunction<Applicant> MARRIED_FIRST = applicant -> applicant.isMarried() ? 0 : 1;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructor for BallotService using the common fork-join pool.
+     */
+    public BallotService() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor for BallotService with a specific fork-join pool.
+     *
+     * @param pool The pool used to run draws in parallel
+     */
+    public BallotService(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Outcome of the ballot for a single flat type in a project.
+     */
+    public static class FlatTypeResult {
+        private final FlatType flatType;
+        private final int capacity;
+        private final List<Application> winners;
+        private final List<Application> waitingQueue;
+
+        /**
+         * Constructor for FlatTypeResult.
+         *
+         * @param flatType The flat type that was balloted
+         * @param capacity The number of units that could be offered
+         * @param winners The applications drawn as successful, in draw order
+         * @param waitingQueue The remaining applications, in queue order
+         */
+        public FlatTypeResult(FlatType flatType, int capacity,
+                              List<Application> winners, List<Application> waitingQueue) {
+            this.flatType = flatType;
+            this.capacity = capacity;
+            this.winners = winners;
+            this.waitingQueue = waitingQueue;
+        }
+
+        /**
+         * Gets the flat type.
+         *
+         * @return the flat type
+         */
+        public FlatType getFlatType() {
+            return flatType;
+        }
+
+        /**
+         * Gets the number of units that were available for the draw.
+         *
+         * @return the capacity
+         */
+        public int getCapacity() {
+            return capacity;
+        }
+
+        /**
+         * Gets the winning applications in draw order.
+         *
+         * @return the winners
+         */
+        public List<Application> getWinners() {
+            return Collections.unmodifiableList(winners);
+        }
+
+        /**
+         * Gets the applications left in the waiting queue, first in line first.
+         *
+         * @return the waiting queue
+         */
+        public List<Application> getWaitingQueue() {
+            return Collections.unmodifiableList(waitingQueue);
+        }
+    }
+
+    /**
+     * Outcome of the ballot for one project.
+     */
+    public static class Result {
+        private final Project project;
+        private final long seed;
+        private final Map<FlatType, FlatTypeResult> flatTypeResults;
+
+        /**
+         * Constructor for Result.
+         *
+         * @param project The project that was balloted
+         * @param seed The seed used for the draw
+         * @param flatTypeResults The per flat type outcomes
+         */
+        public Result(Project project, long seed, Map<FlatType, FlatTypeResult> flatTypeResults) {
+            this.project = project;
+            this.seed = seed;
+            this.flatTypeResults = flatTypeResults;
+        }
+
+        /**
+         * Gets the project.
+         *
+         * @return the project
+         */
+        public Project getProject() {
+            return project;
+        }
+
+        /**
+         * Gets the seed used for the draw.
+         *
+         * @return the seed
+         */
+        public long getSeed() {
+            return seed;
+        }
+
+        /**
+         * Gets the per flat type outcomes.
+         *
+         * @return map of flat type to its outcome
+         */
+        public Map<FlatType, FlatTypeResult> getFlatTypeResults() {
+            return Collections.unmodifiableMap(flatTypeResults);
+        }
+
+        /**
+         * Gets the total number of winners across all flat types.
+         *
+         * @return the number of winners
+         */
+        public int getTotalWinners() {
+            int total = 0;
+            for (FlatTypeResult result : flatTypeResults.values()) {
+                total += result.getWinners().size();
+            }
+            return total;
+        }
+    }
+
+    /**
+     * Runs the ballot for a single project.
+     *
+     * @param project The project to ballot
+     * @param seed The seed for the draw
+     * @param tierPolicy Maps an applicant to a priority tier, lower tiers are drawn first
+     * @return The ballot result
+     */
+    public Result runBallot(Project project, long seed, ToIntFunction<Applicant> tierPolicy) {
+        return pool.invoke(ForkJoinTask.adapt(() -> drawProject(project, seed, tierPolicy)));
+    }
+
+    /**
+     * Runs the ballot for several projects in parallel.
+     *
+     * @param projects The projects to ballot
+     * @param seed The seed for the draw
+     * @param tierPolicy Maps an applicant to a priority tier, lower tiers are drawn first
+     * @return The ballot results keyed by project name, in the given project order
+     */
+    public Map<String, Result> runBallots(List<Project> projects, long seed, ToIntFunction<Applicant> tierPolicy) {
+        List<ForkJoinTask<Result>> tasks = new ArrayList<>();
+        for (Project project : projects) {
+            tasks.add(ForkJoinTask.adapt(() -> drawProject(project, seed, tierPolicy)));
+        }
+
+        pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+
+        Map<String, Result> results = new LinkedHashMap<>();
+        for (ForkJoinTask<Result> task : tasks) {
+            Result result = task.join();
+            results.put(result.getProject().getProjectName(), result);
+        }
+        return results;
+    }
+
+    /**
+     * Draws every flat type of a project, forking one task per flat type.
+     *
+     * @param project The project to ballot
+     * @param seed The seed for the draw
+     * @param tierPolicy The tier policy
+     * @return The ballot result
+     */
+    private Result drawProject(Project project, long seed, ToIntFunction<Applicant> tierPolicy) {
+        Map<FlatType, List<Application>> pendingByType = new EnumMap<>(FlatType.class);
+        Map<FlatType, Integer> successfulByType = new EnumMap<>(FlatType.class);
+
+        for (Application application : project.getApplications()) {
+            FlatType flatType = application.getSelectedFlatType();
+            if (application.getStatus() == ApplicationStatus.PENDING && !application.isWithdrawalRequested()) {
+                pendingByType.computeIfAbsent(flatType, k -> new ArrayList<>()).add(application);
+            } else if (application.getStatus() == ApplicationStatus.SUCCESSFUL) {
+                successfulByType.merge(flatType, 1, Integer::sum);
+            }
+        }
+
+        Map<FlatType, ForkJoinTask<FlatTypeResult>> tasks = new EnumMap<>(FlatType.class);
+        for (Map.Entry<FlatType, List<Application>> entry : pendingByType.entrySet()) {
+            FlatType flatType = entry.getKey();
+            // Units already offered to successful applicants are not up for the draw
+            int capacity = Math.max(0, getUnits(project, flatType)
+                                       - successfulByType.getOrDefault(flatType, 0));
+            long flatTypeSeed = mixSeed(seed, project.getProjectName(), flatType);
+            tasks.put(flatType, ForkJoinTask.adapt(
+                () -> drawFlatType(flatType, entry.getValue(), capacity, flatTypeSeed, tierPolicy)));
+        }
+
+        ForkJoinTask.invokeAll(tasks.values());
+
+        Map<FlatType, FlatTypeResult> results = new EnumMap<>(FlatType.class);
+        for (Map.Entry<FlatType, ForkJoinTask<FlatTypeResult>> entry : tasks.entrySet()) {
+            results.put(entry.getKey(), entry.getValue().join());
+        }
+        return new Result(project, seed, results);
+    }
+
+    /**
+     * Draws the applications for one flat type and applies the outcome.
+     *
+     * @param flatType The flat type being drawn
+     * @param applications The pending applications for this flat type
+     * @param capacity The number of units available
+     * @param seed The seed for this flat type
+     * @param tierPolicy The tier policy
+     * @return The flat type result
+     */
+    private FlatTypeResult drawFlatType(FlatType flatType, List<Application> applications, int capacity,
+                                        long seed, ToIntFunction<Applicant> tierPolicy) {
+        // Sort first so that the shuffle does not depend on hash set iteration order
+        applications.sort(Comparator.comparing(Application::getApplicationId));
+
+        Map<Integer, List<Application>> tiers = new TreeMap<>();
+        for (Application application : applications) {
+            int tier = tierPolicy.applyAsInt(application.getApplicant());
+            tiers.computeIfAbsent(tier, k -> new ArrayList<>()).add(application);
+        }
+
+        Random random = new Random(seed);
+        List<Application> drawOrder = new ArrayList<>(applications.size());
+        for (List<Application> tier : tiers.values()) {
+            Collections.shuffle(tier, random);
+            drawOrder.addAll(tier);
+        }
+
+        int winnerCount = Math.min(capacity, drawOrder.size());
+        List<Application> winners = new ArrayList<>(drawOrder.subList(0, winnerCount));
+        List<Application> waitingQueue = new ArrayList<>(drawOrder.subList(winnerCount, drawOrder.size()));
+
+        for (Application winner : winners) {
+            winner.approve();
+        }
+
+        return new FlatTypeResult(flatType, capacity, winners, waitingQueue);
+    }
+
+    /**
+     * Gets the number of remaining units for a flat type in a project.
+     *
+     * @param project The project
+     * @param flatType The flat type
+     * @return the number of units, or 0 if the project does not offer the flat type
+     */
+    private int getUnits(Project project, FlatType flatType) {
+        for (Project.FlatTypeInfo info : project.getFlatTypeInfoList()) {
+            if (info.getFlatType() == flatType) {
+                return info.getNumberOfUnits();
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Derives an independent seed for a project and flat type from the ballot seed,
+     * so each draw is reproducible no matter which thread runs it.
+     *
+     * @param seed The ballot seed
+     * @param projectName The project name
+     * @param flatType The flat type
+     * @return the derived seed
+     */
+    private static long mixSeed(long seed, String projectName, FlatType flatType) {
+        long z = seed + 0x9E3779B97F4A7C15L * (projectName.hashCode() * 31L + flatType.ordinal() + 1);
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,410 @@
+package service;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import model.Applicant;
+import model.Application;
+import model.Project;
+import model.abstracts.AProject;
+import model.enums.AgeBand;
+import model.enums.ApplicationStatus;
+import model.enums.FlatType;
+
+/**
+ * Pre-aggregated cube of bookings in the BTO Management System.
+ *
+ * Bookings are counted along four dimensions: project, flat type, age band and
+ * marital status. Each cell holds the number of bookings and the revenue from
+ * the selling prices of the booked flats. The cube is updated when a flat is
+ * booked or a booking is withdrawn, so reports read the cells instead of
+ * scanning applications.
+ *
+ * Queries take one value per dimension, and null means every value of that
+ * dimension (a roll-up). Cells are atomic, so queries may run while bookings
+ * are being recorded.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public class BookingCube {
+
+    /** Largest number of distinct marital statuses, further statuses are counted as the last one. */
+    public static final int MARITAL_STATUS_CAPACITY = 8;
+
+    private static final int FLAT_TYPES = FlatType.values().length;
+    private static final int AGE_BANDS = AgeBand.values().length;
+    private static final int CELLS = FLAT_TYPES * AGE_BANDS * MARITAL_STATUS_CAPACITY;
+
+    private final Map<Project, Cells> projects;
+    private final Map<Application, Booking> bookings;
+    private final Map<String, Integer> maritalCodes;
+    private final String[] maritalNames;
+
+    /**
+     * The dimensions a query can be grouped by.
+     */
+    public enum Dimension {
+        PROJECT, FLAT_TYPE, AGE_BAND, MARITAL_STATUS
+    }
+
+    /**
+     * The measures of one cell or of a roll-up of cells.
+     */
+    public static class Measures {
+        private final long bookings;
+        private final long revenueCents;
+
+        /**
+         * Constructor for Measures.
+         *
+         * @param bookings The number of bookings
+         * @param revenueCents The revenue in cents
+         */
+        public Measures(long bookings, long revenueCents) {
+            this.bookings = bookings;
+            this.revenueCents = revenueCents;
+        }
+
+        /**
+         * Gets the number of bookings.
+         *
+         * @return the number of bookings
+         */
+        public long getBookings() {
+            return bookings;
+        }
+
+        /**
+         * Gets the revenue from the booked flats.
+         *
+         * @return the revenue
+         */
+        public double getRevenue() {
+            return revenueCents / 100.0;
+        }
+    }
+
+    /**
+     * Booking counts and revenue of one project, one slot per
+     * flat type, age band and marital status combination.
+     */
+    private static class Cells {
+        private final AtomicLongArray bookings = new AtomicLongArray(CELLS);
+        private final AtomicLongArray revenueCents = new AtomicLongArray(CELLS);
+    }
+
+    /**
+     * A recorded booking, kept so a withdrawal subtracts exactly what was added.
+     */
+    private static class Booking {
+        private final Cells cells;
+        private final int cell;
+        private final long revenueCents;
+
+        /**
+         * Constructor for Booking.
+         *
+         * @param cells The cells of the project
+         * @param cell The index of the cell
+         * @param revenueCents The revenue added, in cents
+         */
+        Booking(Cells cells, int cell, long revenueCents) {
+            this.cells = cells;
+            this.cell = cell;
+            this.revenueCents = revenueCents;
+        }
+    }
+
+    /**
+     * Constructor for BookingCube.
+     */
+    public BookingCube() {
+        this.projects = new ConcurrentHashMap<>();
+        this.bookings = new ConcurrentHashMap<>();
+        this.maritalCodes = new ConcurrentHashMap<>();
+        this.maritalNames = new String[MARITAL_STATUS_CAPACITY];
+    }
+
+    /**
+     * Rebuilds the cube from the booked applications of the given projects.
+     *
+     * @param allProjects The projects to load
+     */
+    public void rebuild(Collection<Project> allProjects) {
+        projects.clear();
+        bookings.clear();
+        for (Project project : allProjects) {
+            projects.computeIfAbsent(project, key -> new Cells());
+            for (Application application : project.getApplications()) {
+                if (application.getStatus() == ApplicationStatus.BOOKED) {
+                    recordBooking(application);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds a booked application to the cube. Recording the same application
+     * twice has no effect.
+     *
+     * @param application The booked application
+     * @return true if the booking was added, false if it was already recorded or incomplete
+     */
+    public boolean recordBooking(Application application) {
+        if (application == null || application.getProject() == null
+                || application.getApplicant() == null || application.getSelectedFlatType() == null) {
+            return false;
+        }
+
+        Project project = application.getProject();
+        Applicant applicant = application.getApplicant();
+        FlatType flatType = application.getSelectedFlatType();
+        Cells cells = projects.computeIfAbsent(project, key -> new Cells());
+        int cell = cellOf(flatType.ordinal(), AgeBand.of(applicant.getAge()).ordinal(),
+                          maritalCode(applicant.getMaritalStatus()));
+        Booking booking = new Booking(cells, cell, Math.round(sellingPrice(project, flatType) * 100));
+
+        if (bookings.putIfAbsent(application, booking) != null) {
+            return false;
+        }
+        cells.bookings.incrementAndGet(cell);
+        cells.revenueCents.addAndGet(cell, booking.revenueCents);
+        return true;
+    }
+
+    /**
+     * Removes a withdrawn booking from the cube. Applications that were never
+     * recorded are ignored, so this is safe to call for every withdrawal.
+     *
+     * @param application The application whose booking was withdrawn
+     * @return true if a booking was removed, false otherwise
+     */
+    public boolean recordWithdrawal(Application application) {
+        Booking booking = application != null ? bookings.remove(application) : null;
+        if (booking == null) {
+            return false;
+        }
+        booking.cells.bookings.decrementAndGet(booking.cell);
+        booking.cells.revenueCents.addAndGet(booking.cell, -booking.revenueCents);
+        return true;
+    }
+
+    /**
+     * Gets the measures of a slice of the cube.
+     *
+     * @param project The project, or null for all projects
+     * @param flatType The flat type, or null for all flat types
+     * @param ageBand The age band, or null for all age bands
+     * @param maritalStatus The marital status, or null for all marital statuses
+     * @return the measures of the slice
+     */
+    public Measures query(Project project, FlatType flatType, AgeBand ageBand, String maritalStatus) {
+        long[] totals = new long[2];
+        forEachCell(project, flatType, ageBand, maritalStatus,
+            (owner, cell, count, cents) -> {
+                totals[0] += count;
+                totals[1] += cents;
+            });
+        return new Measures(totals[0], totals[1]);
+    }
+
+    /**
+     * Groups a slice of the cube by one dimension.
+     *
+     * @param groupBy The dimension to group by
+     * @param project The project, or null for all projects
+     * @param flatType The flat type, or null for all flat types
+     * @param ageBand The age band, or null for all age bands
+     * @param maritalStatus The marital status, or null for all marital statuses
+     * @return the measures of each group with at least one booking, keyed by display name
+     */
+    public Map<String, Measures> rollUp(Dimension groupBy, Project project, FlatType flatType,
+                                        AgeBand ageBand, String maritalStatus) {
+        Map<String, long[]> groups = new LinkedHashMap<>();
+        if (groupBy == Dimension.FLAT_TYPE) {
+            for (FlatType type : FlatType.values()) {
+                groups.put(type.getDisplayName(), new long[2]);
+            }
+        } else if (groupBy == Dimension.AGE_BAND) {
+            for (AgeBand band : AgeBand.values()) {
+                groups.put(band.getDisplayName(), new long[2]);
+            }
+        }
+
+        forEachCell(project, flatType, ageBand, maritalStatus, (owner, cell, count, cents) -> {
+            String key;
+            switch (groupBy) {
+                case PROJECT:
+                    key = owner.getProjectName();
+                    break;
+                case FLAT_TYPE:
+                    key = FlatType.values()[cell / (AGE_BANDS * MARITAL_STATUS_CAPACITY)].getDisplayName();
+                    break;
+                case AGE_BAND:
+                    key = AgeBand.values()[cell / MARITAL_STATUS_CAPACITY % AGE_BANDS].getDisplayName();
+                    break;
+                default:
+                    key = maritalNames[cell % MARITAL_STATUS_CAPACITY];
+                    break;
+            }
+            long[] totals = groups.computeIfAbsent(key, name -> new long[2]);
+            totals[0] += count;
+            totals[1] += cents;
+        });
+
+        Map<String, Measures> result = new LinkedHashMap<>();
+        for (Map.Entry<String, long[]> group : groups.entrySet()) {
+            if (group.getValue()[0] > 0) {
+                result.put(group.getKey(), new Measures(group.getValue()[0], group.getValue()[1]));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the number of bookings recorded in the cube.
+     *
+     * @return the number of bookings
+     */
+    public int getBookingCount() {
+        return bookings.size();
+    }
+
+    /**
+     * Receives the non-empty cells of a slice.
+     */
+    private interface CellVisitor {
+        /**
+         * Visits one cell.
+         *
+         * @param project The project the cell belongs to
+         * @param cell The index of the cell
+         * @param bookings The number of bookings in the cell
+         * @param revenueCents The revenue of the cell in cents
+         */
+        void visit(Project project, int cell, long bookings, long revenueCents);
+    }
+
+    /**
+     * Visits every non-empty cell that matches a slice.
+     *
+     * @param project The project, or null for all projects
+     * @param flatType The flat type, or null for all flat types
+     * @param ageBand The age band, or null for all age bands
+     * @param maritalStatus The marital status, or null for all marital statuses
+     * @param visitor Receives each matching cell
+     */
+    private void forEachCell(Project project, FlatType flatType, AgeBand ageBand, String maritalStatus,
+                             CellVisitor visitor) {
+        int marital = -1;
+        if (maritalStatus != null) {
+            Integer code = maritalCodes.get(maritalStatus.trim().toUpperCase());
+            if (code == null) {
+                return;
+            }
+            marital = code;
+        }
+
+        int flatFrom = flatType != null ? flatType.ordinal() : 0;
+        int flatTo = flatType != null ? flatType.ordinal() + 1 : FLAT_TYPES;
+        int ageFrom = ageBand != null ? ageBand.ordinal() : 0;
+        int ageTo = ageBand != null ? ageBand.ordinal() + 1 : AGE_BANDS;
+        int maritalFrom = marital >= 0 ? marital : 0;
+        int maritalTo = marital >= 0 ? marital + 1 : MARITAL_STATUS_CAPACITY;
+
+        if (project != null) {
+            // One project's slice, found directly rather than by scanning every project
+            Cells cells = projects.get(project);
+            if (cells != null) {
+                forEachCell(project, cells, flatFrom, flatTo, ageFrom, ageTo, maritalFrom, maritalTo, visitor);
+            }
+            return;
+        }
+        for (Map.Entry<Project, Cells> entry : projects.entrySet()) {
+            forEachCell(entry.getKey(), entry.getValue(), flatFrom, flatTo, ageFrom, ageTo, maritalFrom, maritalTo,
+                        visitor);
+        }
+    }
+
+    /**
+     * Visits the non-empty cells of one project within ranges of each dimension.
+     *
+     * @param project The project
+     * @param cells The cells of the project
+     * @param flatFrom First flat type ordinal, inclusive
+     * @param flatTo Last flat type ordinal, exclusive
+     * @param ageFrom First age band ordinal, inclusive
+     * @param ageTo Last age band ordinal, exclusive
+     * @param maritalFrom First marital status code, inclusive
+     * @param maritalTo Last marital status code, exclusive
+     * @param visitor Receives each non-empty cell
+     */
+    private static void forEachCell(Project project, Cells cells, int flatFrom, int flatTo, int ageFrom, int ageTo,
+                                    int maritalFrom, int maritalTo, CellVisitor visitor) {
+        for (int f = flatFrom; f < flatTo; f++) {
+            for (int a = ageFrom; a < ageTo; a++) {
+                for (int m = maritalFrom; m < maritalTo; m++) {
+                    int cell = cellOf(f, a, m);
+                    long count = cells.bookings.get(cell);
+                    if (count != 0) {
+                        visitor.visit(project, cell, count, cells.revenueCents.get(cell));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the index of a cell.
+     *
+     * @param flatType The flat type ordinal
+     * @param ageBand The age band ordinal
+     * @param marital The marital status code
+     * @return the cell index
+     */
+    private static int cellOf(int flatType, int ageBand, int marital) {
+        return (flatType * AGE_BANDS + ageBand) * MARITAL_STATUS_CAPACITY + marital;
+    }
+
+    /**
+     * Gets the code of a marital status, assigning the next free code to a new status.
+     *
+     * @param maritalStatus The marital status
+     * @return the code
+     */
+    private int maritalCode(String maritalStatus) {
+        String name = maritalStatus != null ? maritalStatus.trim() : "Unknown";
+        Integer code = maritalCodes.get(name.toUpperCase());
+        if (code != null) {
+            return code;
+        }
+        synchronized (maritalNames) {
+            return maritalCodes.computeIfAbsent(name.toUpperCase(), key -> {
+                int next = Math.min(maritalCodes.size(), MARITAL_STATUS_CAPACITY - 1);
+                if (maritalNames[next] == null) {
+                    maritalNames[next] = name;
+                }
+                return next;
+            });
+        }
+    }
+
+    /**
+     * Gets the selling price of a flat type in a project.
+     *
+     * @param project The project
+     * @param flatType The flat type
+     * @return the selling price, or 0 if the project does not offer the flat type
+     */
+    private static double sellingPrice(Project project, FlatType flatType) {
+        for (AProject.FlatTypeInfo info : project.getFlatTypeInfoList()) {
+            if (info.getFlatType() == flatType) {
+                return info.getSellingPrice();
+            }
+        }
+        return 0;
+    }
+}
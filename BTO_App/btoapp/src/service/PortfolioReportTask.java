@@ -0,0 +1,116 @@
+package service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.RecursiveTask;
+import model.PortfolioReport;
+import model.Project;
+import model.enums.AgeBand;
+import model.enums.FlatType;
+
+/**
+ * Fork-join task that aggregates a range of projects for a portfolio report.
+ * The bookings of each project are read from the booking cube rather than
+ * counted from its applications.
+ *
+ * Ranges larger than the threshold are split in half, one half is forked and
+ * the other computed in the current thread, then the two partial aggregates
+ * are merged.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public class PortfolioReportTask extends RecursiveTask<PortfolioReport.Aggregate> {
+
+    private static final long serialVersionUID = 1L;
+
+    /** Number of projects aggregated in one task without splitting further. */
+    public static final int DEFAULT_THRESHOLD = 4;
+
+    private final List<Project> projects;
+    private final BookingCube bookingCube;
+    private final int from;
+    private final int to;
+    private final int threshold;
+
+    /**
+     * Constructor for PortfolioReportTask covering every project in the list.
+     *
+     * @param projects The projects to aggregate
+     * @param bookingCube The cube holding the bookings of the projects
+     */
+    public PortfolioReportTask(List<Project> projects, BookingCube bookingCube) {
+        this(projects, bookingCube, 0, projects.size(), DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Constructor for PortfolioReportTask covering a range of the list.
+     *
+     * @param projects The projects to aggregate
+     * @param bookingCube The cube holding the bookings of the projects
+     * @param from Index of the first project, inclusive
+     * @param to Index of the last project, exclusive
+     * @param threshold Largest range aggregated without splitting
+     */
+    public PortfolioReportTask(List<Project> projects, BookingCube bookingCube, int from, int to, int threshold) {
+        this.projects = projects;
+        this.bookingCube = bookingCube;
+        this.from = from;
+        this.to = to;
+        this.threshold = Math.max(1, threshold);
+    }
+
+    /**
+     * Aggregates the range, splitting it if it is larger than the threshold.
+     *
+     * @return the aggregate of the range
+     */
+    @Override
+    protected PortfolioReport.Aggregate compute() {
+        if (to - from <= threshold) {
+            PortfolioReport.Aggregate aggregate = new PortfolioReport.Aggregate();
+            for (int i = from; i < to; i++) {
+                add(aggregate, projects.get(i));
+            }
+            return aggregate;
+        }
+
+        int middle = (from + to) >>> 1;
+        PortfolioReportTask left = new PortfolioReportTask(projects, bookingCube, from, middle, threshold);
+        PortfolioReportTask right = new PortfolioReportTask(projects, bookingCube, middle, to, threshold);
+        left.fork();
+        PortfolioReport.Aggregate rightResult = right.compute();
+        return left.join().merge(rightResult);
+    }
+
+    /**
+     * Adds a project to an aggregate, with its bookings rolled up from the cube.
+     *
+     * @param aggregate The aggregate
+     * @param project The project
+     */
+    private void add(PortfolioReport.Aggregate aggregate, Project project) {
+        Map<String, BookingCube.Measures> byFlatType =
+            bookingCube.rollUp(BookingCube.Dimension.FLAT_TYPE, project, null, null, null);
+        long[] booked = new long[FlatType.values().length];
+        for (FlatType flatType : FlatType.values()) {
+            BookingCube.Measures measures = byFlatType.get(flatType.getDisplayName());
+            booked[flatType.ordinal()] = measures != null ? measures.getBookings() : 0;
+        }
+
+        Map<String, BookingCube.Measures> byAgeBand =
+            bookingCube.rollUp(BookingCube.Dimension.AGE_BAND, project, null, null, null);
+        long[] bookedByAge = new long[AgeBand.values().length];
+        for (AgeBand band : AgeBand.values()) {
+            BookingCube.Measures measures = byAgeBand.get(band.getDisplayName());
+            bookedByAge[band.ordinal()] = measures != null ? measures.getBookings() : 0;
+        }
+
+        Map<String, Long> bookedByMarital = new TreeMap<>();
+        bookingCube.rollUp(BookingCube.Dimension.MARITAL_STATUS, project, null, null, null)
+            .forEach((status, measures) -> bookedByMarital.put(status, measures.getBookings()));
+
+        aggregate.add(project, booked, bookedByAge, bookedByMarital);
+    }
+}
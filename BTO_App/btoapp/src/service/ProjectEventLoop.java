@@ -0,0 +1,216 @@
+package service;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import model.Project;
+import utils.trace.Tracer;
+
+/**
+ * Serializes state transitions per project in the BTO Management System.
+ *
+ * Every project owns a mailbox. Tasks posted to a mailbox run one at a time, in
+ * submission order, so all application, booking, officer registration and enquiry
+ * changes for a project are applied by a single writer without locks. Mailboxes of
+ * different projects are drained concurrently on a shared pool sized to the number
+ * of cores, so throughput grows with the number of projects.
+ *
+ * A task must not call {@link #call} for a different project. The pool has a fixed
+ * number of threads and call() blocks one of them until the other project's task
+ * has run, so two projects calling into each other, or more such calls than there
+ * are threads, would deadlock the loop. Work that spans projects is split by
+ * project and run from outside the loop instead.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public class ProjectEventLoop {
+
+    // Tasks run per turn before a mailbox yields its thread to other projects
+    private static final int BATCH_SIZE = 64;
+
+    private final ExecutorService executor;
+    private final Map<Project, Mailbox> mailboxes;
+    private final ThreadLocal<Mailbox> currentMailbox;
+    private final AtomicInteger queuedTasks;
+
+    /**
+     * Constructor for ProjectEventLoop using one thread per available core.
+     */
+    public ProjectEventLoop() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor for ProjectEventLoop.
+     *
+     * @param threads The number of threads draining mailboxes
+     */
+    public ProjectEventLoop(int threads) {
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "project-loop-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.mailboxes = new ConcurrentHashMap<>();
+        this.currentMailbox = new ThreadLocal<>();
+        this.queuedTasks = new AtomicInteger();
+    }
+
+    /**
+     * Mailbox of a single project. At most one thread drains it at any time.
+     */
+    private class Mailbox implements Runnable {
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+        /**
+         * Posts a task and schedules the mailbox if it is not already scheduled.
+         *
+         * @param task The task to run
+         */
+        void post(Runnable task) {
+            queuedTasks.incrementAndGet();
+            tasks.add(task);
+            schedule();
+        }
+
+        /**
+         * Schedules the mailbox on the executor unless it is already scheduled.
+         */
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                executor.execute(this);
+            }
+        }
+
+        /**
+         * Drains up to a batch of tasks, then reschedules itself if more arrived.
+         */
+        @Override
+        public void run() {
+            currentMailbox.set(this);
+            try {
+                for (int i = 0; i < BATCH_SIZE; i++) {
+                    Runnable task = tasks.poll();
+                    if (task == null) {
+                        break;
+                    }
+                    queuedTasks.decrementAndGet();
+                    task.run();
+                }
+            } finally {
+                currentMailbox.remove();
+                scheduled.set(false);
+            }
+
+            if (!tasks.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+
+    /**
+     * Posts a task to a project's mailbox. The task runs in the trace of the
+     * caller, if any.
+     *
+     * @param project The project whose state the task changes
+     * @param task The task to run
+     * @param <T> The result type
+     * @return A future completed with the task's result
+     */
+    public <T> CompletableFuture<T> submit(Project project, Supplier<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Supplier<T> traced = Tracer.wrap(task);
+        mailboxFor(project).post(() -> {
+            try {
+                future.complete(traced.get());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Runs a task on a project's mailbox and waits for its result.
+     *
+     * Tasks without a project run on the calling thread. A task that is already
+     * running on the same project's mailbox also runs inline, so nested calls,
+     * such as a booking that updates flat availability, cannot deadlock. Nested
+     * calls for a different project are refused, as they could deadlock the pool.
+     *
+     * @param project The project whose state the task changes, may be null
+     * @param task The task to run
+     * @param <T> The result type
+     * @return The task's result
+     * @throws IllegalStateException if called from a task of a different project
+     */
+    public <T> T call(Project project, Supplier<T> task) {
+        if (project == null || isOnLoop(project)) {
+            return task.get();
+        }
+        if (currentMailbox.get() != null) {
+            throw new IllegalStateException("Cannot call into project " + project.getProjectName()
+                                            + " from another project's event loop");
+        }
+
+        try {
+            return submit(project, task).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Checks whether the calling thread is currently running a task for a project.
+     *
+     * @param project The project to check
+     * @return true if the caller is on the project's mailbox, false otherwise
+     */
+    public boolean isOnLoop(Project project) {
+        Mailbox current = currentMailbox.get();
+        return project != null && current != null && current == mailboxes.get(project);
+    }
+
+    /**
+     * Gets the number of tasks waiting in all mailboxes, not counting those running.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return queuedTasks.get();
+    }
+
+    /**
+     * Stops accepting new mailbox turns. Tasks already queued are still run.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Gets or creates the mailbox of a project.
+     *
+     * @param project The project
+     * @return the mailbox
+     */
+    private Mailbox mailboxFor(Project project) {
+        return mailboxes.computeIfAbsent(project, p -> new Mailbox());
+    }
+}
@@ -0,0 +1,319 @@
+package service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import model.ColumnarReport;
+import model.Project;
+import model.Report;
+import model.ReportFilter;
+
+/**
+ * Bounded cache of generated reports in the BTO Management System.
+ *
+ * Reports are keyed on the project, the filter key and the project's booking
+ * version. Booking a flat or withdrawing a booking bumps the version, so the
+ * next lookup for that project misses and every older report of the project is
+ * dropped, while reports of other projects stay cached. When the cache is full
+ * the least recently used report is evicted.
+ *
+ * The columnar form of each project's bookings is cached the same way, one per
+ * project, so summaries aggregate over primitive columns without rebuilding them.
+ *
+ * All methods are synchronized, report building happens outside the lock.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public class ReportCache {
+
+    /** Default number of reports kept. */
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private final int capacity;
+    private final LinkedHashMap<Key, Report> reports;
+    private final LinkedHashMap<Key, ColumnarReport> columnarReports;
+    private final Map<String, Key> keysById;
+    private long hits;
+    private long misses;
+
+    /**
+     * Identifies a cached report.
+     */
+    private static final class Key {
+        private final Project project;
+        private final String filterKey;
+        private final long bookingVersion;
+
+        /**
+         * Constructor for Key.
+         *
+         * @param project The project, compared by identity
+         * @param filterKey The filter key
+         * @param bookingVersion The booking version of the project
+         */
+        Key(Project project, String filterKey, long bookingVersion) {
+            this.project = project;
+            this.filterKey = filterKey;
+            this.bookingVersion = bookingVersion;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return project == key.project
+                   && bookingVersion == key.bookingVersion
+                   && filterKey.equals(key.filterKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(project), filterKey, bookingVersion);
+        }
+    }
+
+    /**
+     * Constructor for ReportCache with the default capacity.
+     */
+    public ReportCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor for ReportCache.
+     *
+     * @param capacity The maximum number of reports to keep
+     */
+    public ReportCache(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.keysById = new HashMap<>();
+        this.reports = new LinkedHashMap<Key, Report>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Report> eldest) {
+                if (size() > ReportCache.this.capacity) {
+                    keysById.remove(eldest.getValue().getReportId());
+                    return true;
+                }
+                return false;
+            }
+        };
+        this.columnarReports = new LinkedHashMap<Key, ColumnarReport>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, ColumnarReport> eldest) {
+                return size() > ReportCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * Gets the current report for a project and filter, building it on a miss.
+     * The version is read before building, so a booking made while the report
+     * is built makes the next lookup miss rather than serve the older report.
+     *
+     * @param project The project
+     * @param filter The filter the report applies
+     * @param builder Builds the report on a miss, may return null
+     * @return the cached or newly built report, or null if the builder returned null
+     */
+    public Report get(Project project, ReportFilter filter, Supplier<Report> builder) {
+        Key key = new Key(project, filter.getKey(), project.getBookingVersion());
+        Report report = lookup(key);
+        if (report != null) {
+            return report;
+        }
+
+        report = builder.get();
+        if (report != null) {
+            store(key, report);
+        }
+        return report;
+    }
+
+    /**
+     * Gets the current columnar booking report of a project, building it on a miss.
+     *
+     * @param project The project
+     * @param builder Builds the columnar report on a miss
+     * @return the cached or newly built columnar report
+     */
+    public ColumnarReport getColumnar(Project project, Supplier<ColumnarReport> builder) {
+        Key key = new Key(project, "", project.getBookingVersion());
+        ColumnarReport columns = lookupColumnar(key);
+        if (columns != null) {
+            return columns;
+        }
+
+        columns = builder.get();
+        if (columns != null) {
+            storeColumnar(key, columns);
+        }
+        return columns;
+    }
+
+    /**
+     * Gets a cached report by its ID, if it is still current.
+     *
+     * @param reportId The report ID
+     * @return the report, or null if it is not cached or its project's bookings have changed
+     */
+    public synchronized Report getById(String reportId) {
+        Key key = keysById.get(reportId);
+        if (key == null || key.bookingVersion != key.project.getBookingVersion()) {
+            return null;
+        }
+        return reports.get(key);
+    }
+
+    /**
+     * Gets the current cached reports of a project, most recently used last.
+     *
+     * @param project The project
+     * @return the reports
+     */
+    public synchronized List<Report> getReports(Project project) {
+        long version = project.getBookingVersion();
+        List<Report> result = new ArrayList<>();
+        for (Map.Entry<Key, Report> entry : reports.entrySet()) {
+            if (entry.getKey().project == project && entry.getKey().bookingVersion == version) {
+                result.add(entry.getValue());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes every cached report of a project.
+     *
+     * @param project The project
+     */
+    public synchronized void invalidate(Project project) {
+        removeIf(project, Long.MAX_VALUE);
+    }
+
+    /**
+     * Removes every cached report.
+     */
+    public synchronized void clear() {
+        reports.clear();
+        columnarReports.clear();
+        keysById.clear();
+    }
+
+    /**
+     * Gets the number of cached reports.
+     *
+     * @return the number of reports
+     */
+    public synchronized int size() {
+        return reports.size();
+    }
+
+    /**
+     * Gets the number of lookups served from the cache.
+     *
+     * @return the hit count
+     */
+    public synchronized long getHitCount() {
+        return hits;
+    }
+
+    /**
+     * Gets the number of lookups that had to build a report.
+     *
+     * @return the miss count
+     */
+    public synchronized long getMissCount() {
+        return misses;
+    }
+
+    /**
+     * Looks up a report and counts the hit or miss. A miss drops the project's
+     * reports from older booking versions.
+     *
+     * @param key The key
+     * @return the report, or null on a miss
+     */
+    private synchronized Report lookup(Key key) {
+        Report report = reports.get(key);
+        if (report != null) {
+            hits++;
+            return report;
+        }
+        misses++;
+        removeIf(key.project, key.bookingVersion);
+        return null;
+    }
+
+    /**
+     * Stores a report, unless the project's bookings changed while it was built.
+     *
+     * @param key The key the report was built for
+     * @param report The report
+     */
+    private synchronized void store(Key key, Report report) {
+        if (key.bookingVersion != key.project.getBookingVersion()) {
+            return;
+        }
+        reports.put(key, report);
+        keysById.put(report.getReportId(), key);
+    }
+
+    /**
+     * Looks up a columnar report and counts the hit or miss.
+     *
+     * @param key The key
+     * @return the columnar report, or null on a miss
+     */
+    private synchronized ColumnarReport lookupColumnar(Key key) {
+        ColumnarReport columns = columnarReports.get(key);
+        if (columns != null) {
+            hits++;
+            return columns;
+        }
+        misses++;
+        removeIf(key.project, key.bookingVersion);
+        return null;
+    }
+
+    /**
+     * Stores a columnar report, unless the project's bookings changed while it was built.
+     *
+     * @param key The key the columnar report was built for
+     * @param columns The columnar report
+     */
+    private synchronized void storeColumnar(Key key, ColumnarReport columns) {
+        if (key.bookingVersion != key.project.getBookingVersion()) {
+            return;
+        }
+        columnarReports.put(key, columns);
+    }
+
+    /**
+     * Removes the reports of a project built for a version older than the given one.
+     *
+     * @param project The project
+     * @param version Reports with a lower booking version are removed
+     */
+    private void removeIf(Project project, long version) {
+        Iterator<Map.Entry<Key, Report>> iterator = reports.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Key, Report> entry = iterator.next();
+            if (entry.getKey().project == project && entry.getKey().bookingVersion < version) {
+                keysById.remove(entry.getValue().getReportId());
+                iterator.remove();
+            }
+        }
+        columnarReports.keySet().removeIf(key -> key.project == project && key.bookingVersion < version);
+    }
+}
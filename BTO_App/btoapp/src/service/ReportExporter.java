@@ -0,0 +1,645 @@
+package service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.TimeZone;
+import java.util.zip.GZIPOutputStream;
+import model.Report;
+import model.enums.FlatType;
+import utils.jfr.ReportExportEvent;
+import utils.log.Log;
+import utils.log.Logger;
+
+/**
+ * Exports reports to files in the BTO Management System.
+ *
+ * Supports CSV, JSON lines and a compact binary format, each optionally gzipped.
+ * Entries are encoded byte by byte straight into a reusable buffer that is drained
+ * through a file channel, so no string is built per row and memory use does not
+ * depend on the number of entries.
+ *
+ * The binary format is big-endian: the magic bytes "BTOR", a version byte, the
+ * report ID, project name and title as length-prefixed UTF-8 strings and the
+ * generation time in epoch milliseconds. Each entry follows a 1 tag byte and the
+ * stream ends with a 0 tag byte and the number of entries as a long.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public class ReportExporter {
+
+    private static final Logger LOG = Log.getLogger(ReportExporter.class);
+
+    /**
+     * Export file formats.
+     */
+    public enum Format {
+        CSV,
+        JSONL,
+        BINARY;
+
+        /**
+         * Picks a format from a file name, ignoring a trailing ".gz".
+         * ".jsonl" and ".ndjson" map to JSONL, ".bin" to BINARY and anything else to CSV.
+         *
+         * @param fileName The file name
+         * @return the format
+         */
+        public static Format fromFileName(String fileName) {
+            String name = stripGzipSuffix(fileName.toLowerCase());
+            if (name.endsWith(".jsonl") || name.endsWith(".ndjson")) {
+                return JSONL;
+            }
+            if (name.endsWith(".bin")) {
+                return BINARY;
+            }
+            return CSV;
+        }
+    }
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final byte[] MAGIC = {'B', 'T', 'O', 'R'};
+    private static final byte BINARY_VERSION = 1;
+    private static final long NO_DATE = Long.MIN_VALUE;
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    /**
+     * Exports a report, choosing the format from the file extension.
+     * A trailing ".gz" turns on gzip compression.
+     *
+     * @param report The report to export
+     * @param filePath The path to export the report to
+     * @return the number of entries written, or -1 if the export failed
+     */
+    public long export(Report report, String filePath) {
+        return export(report, filePath, Format.fromFileName(filePath), isGzipFileName(filePath));
+    }
+
+    /**
+     * Exports a report in a specific format.
+     *
+     * @param report The report to export
+     * @param filePath The path to export the report to
+     * @param format The file format
+     * @param gzip Whether to gzip the output
+     * @return the number of entries written, or -1 if the export failed
+     */
+    public long export(Report report, String filePath, Format format, boolean gzip) {
+        if (report == null || filePath == null || filePath.trim().isEmpty()) {
+            System.out.println("Report and file path are required for export.");
+            return -1;
+        }
+
+        Path path = Paths.get(filePath);
+        try (ReportExportEvent event = new ReportExportEvent()) {
+            event.setProject(report.getProject());
+            event.setFormat(gzip ? format.name() + ".gz" : format.name());
+            long rows = exportEntries(report.getReportId(), report.getProject().getProjectName(),
+                                      report.getReportTitle(), report.getGenerationDate(),
+                                      report.stream().iterator(), path, format, gzip);
+            event.setRows(rows);
+            if (event.isEnabled()) {
+                event.setBytesWritten(path.toFile().length());
+            }
+            event.setSucceeded(true);
+            return rows;
+        } catch (IOException e) {
+            LOG.error("Error exporting report: " + e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * Exports entries as they are produced, for reports too large to materialize.
+     *
+     * @param reportId The report ID, used by the binary header
+     * @param projectName The project name, used by the binary header
+     * @param reportTitle The report title, used by the binary header
+     * @param generationDate The generation date, used by the binary header
+     * @param entries The entries to export
+     * @param path The file to write
+     * @param format The file format
+     * @param gzip Whether to gzip the output
+     * @return the number of entries written
+     * @throws IOException if the file cannot be written
+     */
+    public long exportEntries(String reportId, String projectName, String reportTitle, Date generationDate,
+                              Iterator<Report.ReportEntry> entries, Path path, Format format,
+                              boolean gzip) throws IOException {
+        try (Encoder encoder = new Encoder(path, gzip)) {
+            long count = 0;
+            switch (format) {
+                case CSV:
+                    encoder.putAscii("Name,NRIC,Age,Marital Status,Flat Type,Booking Date\n");
+                    while (entries.hasNext()) {
+                        encoder.putCsvRow(entries.next());
+                        count++;
+                    }
+                    break;
+                case JSONL:
+                    while (entries.hasNext()) {
+                        encoder.putJsonRow(entries.next());
+                        count++;
+                    }
+                    break;
+                case BINARY:
+                    encoder.putBinaryHeader(reportId, projectName, reportTitle, generationDate);
+                    while (entries.hasNext()) {
+                        encoder.putBinaryRow(entries.next());
+                        count++;
+                    }
+                    encoder.putBinaryTrailer(count);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported format: " + format);
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Checks whether a file name asks for gzip compression.
+     *
+     * @param fileName The file name
+     * @return true if the name ends with ".gz"
+     */
+    public static boolean isGzipFileName(String fileName) {
+        return fileName.toLowerCase().endsWith(".gz");
+    }
+
+    /**
+     * Checks whether a file name has an extension this exporter recognises.
+     *
+     * @param fileName The file name
+     * @return true for .csv, .jsonl, .ndjson and .bin, optionally followed by .gz
+     */
+    public static boolean isExportFileName(String fileName) {
+        String name = stripGzipSuffix(fileName.toLowerCase());
+        return name.endsWith(".csv") || name.endsWith(".jsonl")
+            || name.endsWith(".ndjson") || name.endsWith(".bin");
+    }
+
+    /**
+     * Removes a trailing ".gz" from a lower case file name.
+     *
+     * @param name The file name
+     * @return the name without ".gz"
+     */
+    private static String stripGzipSuffix(String name) {
+        return name.endsWith(".gz") ? name.substring(0, name.length() - 3) : name;
+    }
+
+    /**
+     * Encodes values into a heap buffer and drains it to the file when full.
+     */
+    private static class Encoder implements Closeable {
+        private final FileChannel channel;
+        private final OutputStream gzipStream;
+        private final ByteBuffer buffer;
+        private final byte[] digits;
+        private final TimeZone timeZone;
+
+        /**
+         * Constructor for Encoder. Creates or truncates the file.
+         *
+         * @param path The file to write
+         * @param gzip Whether to gzip the output
+         * @throws IOException if the file cannot be opened
+         */
+        Encoder(Path path, boolean gzip) throws IOException {
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            this.gzipStream = gzip ? new GZIPOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE) : null;
+            this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            this.digits = new byte[20];
+            this.timeZone = TimeZone.getDefault();
+        }
+
+        /**
+         * Writes one entry as a CSV line.
+         *
+         * @param entry The entry
+         * @throws IOException if the file cannot be written
+         */
+        void putCsvRow(Report.ReportEntry entry) throws IOException {
+            putCsvField(entry.getApplicantName());
+            put((byte) ',');
+            putCsvField(entry.getApplicantNric());
+            put((byte) ',');
+            putLong(entry.getApplicantAge());
+            put((byte) ',');
+            putCsvField(entry.getMaritalStatus());
+            put((byte) ',');
+            putCsvField(flatTypeName(entry.getFlatType()));
+            put((byte) ',');
+            if (entry.getBookingDate() != null) {
+                putIsoDate(entry.getBookingDate().getTime());
+            }
+            put((byte) '\n');
+        }
+
+        /**
+         * Writes one entry as a JSON object on its own line.
+         *
+         * @param entry The entry
+         * @throws IOException if the file cannot be written
+         */
+        void putJsonRow(Report.ReportEntry entry) throws IOException {
+            putAscii("{\"name\":");
+            putJsonString(entry.getApplicantName());
+            putAscii(",\"nric\":");
+            putJsonString(entry.getApplicantNric());
+            putAscii(",\"age\":");
+            putLong(entry.getApplicantAge());
+            putAscii(",\"maritalStatus\":");
+            putJsonString(entry.getMaritalStatus());
+            putAscii(",\"flatType\":");
+            putJsonString(flatTypeName(entry.getFlatType()));
+            putAscii(",\"bookingDate\":");
+            if (entry.getBookingDate() != null) {
+                put((byte) '"');
+                putIsoDate(entry.getBookingDate().getTime());
+                put((byte) '"');
+            } else {
+                putAscii("null");
+            }
+            putAscii("}\n");
+        }
+
+        /**
+         * Writes the binary header.
+         *
+         * @param reportId The report ID
+         * @param projectName The project name
+         * @param reportTitle The report title
+         * @param generationDate The generation date
+         * @throws IOException if the file cannot be written
+         */
+        void putBinaryHeader(String reportId, String projectName, String reportTitle,
+                             Date generationDate) throws IOException {
+            ensure(MAGIC.length + 1);
+            buffer.put(MAGIC);
+            buffer.put(BINARY_VERSION);
+            putBinaryString(reportId);
+            putBinaryString(projectName);
+            putBinaryString(reportTitle);
+            ensure(Long.BYTES);
+            buffer.putLong(generationDate != null ? generationDate.getTime() : NO_DATE);
+        }
+
+        /**
+         * Writes one entry in the binary format.
+         * Marital status is a code byte: 0 single, 1 married, 2 followed by the text.
+         * Flat type is its ordinal, or -1 if unknown.
+         *
+         * @param entry The entry
+         * @throws IOException if the file cannot be written
+         */
+        void putBinaryRow(Report.ReportEntry entry) throws IOException {
+            put((byte) 1);
+            putBinaryString(entry.getApplicantName());
+            putBinaryString(entry.getApplicantNric());
+
+            ensure(Short.BYTES + 1);
+            buffer.putShort((short) entry.getApplicantAge());
+            String maritalStatus = entry.getMaritalStatus();
+            if ("Single".equalsIgnoreCase(maritalStatus)) {
+                buffer.put((byte) 0);
+            } else if ("Married".equalsIgnoreCase(maritalStatus)) {
+                buffer.put((byte) 1);
+            } else {
+                buffer.put((byte) 2);
+                putBinaryString(maritalStatus);
+            }
+
+            ensure(1 + Long.BYTES);
+            buffer.put(entry.getFlatType() != null ? (byte) entry.getFlatType().ordinal() : (byte) -1);
+            buffer.putLong(entry.getBookingDate() != null ? entry.getBookingDate().getTime() : NO_DATE);
+        }
+
+        /**
+         * Writes the binary end marker and entry count.
+         *
+         * @param count The number of entries written
+         * @throws IOException if the file cannot be written
+         */
+        void putBinaryTrailer(long count) throws IOException {
+            ensure(1 + Long.BYTES);
+            buffer.put((byte) 0);
+            buffer.putLong(count);
+        }
+
+        /**
+         * Writes a string that only contains ASCII characters.
+         *
+         * @param value The string
+         * @throws IOException if the file cannot be written
+         */
+        void putAscii(String value) throws IOException {
+            for (int i = 0; i < value.length(); i++) {
+                put((byte) value.charAt(i));
+            }
+        }
+
+        /**
+         * Writes a CSV field, quoting it if it contains a comma, quote or line break.
+         *
+         * @param value The field value, null is written as empty
+         * @throws IOException if the file cannot be written
+         */
+        private void putCsvField(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+
+            if (quote) {
+                put((byte) '"');
+            }
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    put((byte) '"');
+                }
+                i = putChar(value, i);
+            }
+            if (quote) {
+                put((byte) '"');
+            }
+        }
+
+        /**
+         * Writes a JSON string literal with escaping.
+         *
+         * @param value The string, null is written as null
+         * @throws IOException if the file cannot be written
+         */
+        private void putJsonString(String value) throws IOException {
+            if (value == null) {
+                putAscii("null");
+                return;
+            }
+
+            put((byte) '"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"' || c == '\\') {
+                    put((byte) '\\');
+                    put((byte) c);
+                } else if (c == '\n') {
+                    putAscii("\\n");
+                } else if (c == '\r') {
+                    putAscii("\\r");
+                } else if (c == '\t') {
+                    putAscii("\\t");
+                } else if (c < 0x20) {
+                    putAscii("\\u00");
+                    put(hexDigit(c >> 4));
+                    put(hexDigit(c & 0xF));
+                } else {
+                    i = putChar(value, i);
+                }
+            }
+            put((byte) '"');
+        }
+
+        /**
+         * Writes a string as an unsigned 16-bit UTF-8 length followed by its bytes.
+         *
+         * @param value The string, null is written as empty
+         * @throws IOException if the file cannot be written
+         */
+        private void putBinaryString(String value) throws IOException {
+            String text = value != null ? value : "";
+            int length = utf8Length(text);
+            if (length > 0xFFFF) {
+                throw new IOException("String too long for binary export");
+            }
+
+            ensure(Short.BYTES);
+            buffer.putShort((short) length);
+            for (int i = 0; i < text.length(); i++) {
+                i = putChar(text, i);
+            }
+        }
+
+        /**
+         * Writes the character at an index as UTF-8, combining surrogate pairs.
+         *
+         * @param value The string
+         * @param index The index of the character
+         * @return the index of the last character consumed
+         * @throws IOException if the file cannot be written
+         */
+        private int putChar(String value, int index) throws IOException {
+            char c = value.charAt(index);
+            ensure(4);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | (c >> 6)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && index + 1 < value.length()
+                       && Character.isLowSurrogate(value.charAt(index + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(index + 1));
+                buffer.put((byte) (0xF0 | (codePoint >> 18)));
+                buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+                return index + 1;
+            } else if (Character.isSurrogate(c)) {
+                // Unpaired surrogates cannot be encoded
+                buffer.put((byte) '?');
+            } else {
+                buffer.put((byte) (0xE0 | (c >> 12)));
+                buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            }
+            return index;
+        }
+
+        /**
+         * Counts the UTF-8 bytes {@link #putChar} will write for a string.
+         *
+         * @param value The string
+         * @return the number of bytes
+         */
+        private static int utf8Length(String value) {
+            int length = 0;
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c < 0x80) {
+                    length += 1;
+                } else if (c < 0x800) {
+                    length += 2;
+                } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                           && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    length += 4;
+                    i++;
+                } else if (Character.isSurrogate(c)) {
+                    length += 1;
+                } else {
+                    length += 3;
+                }
+            }
+            return length;
+        }
+
+        /**
+         * Writes a number in decimal.
+         *
+         * @param value The number
+         * @throws IOException if the file cannot be written
+         */
+        private void putLong(long value) throws IOException {
+            if (value == Long.MIN_VALUE) {
+                putAscii("-9223372036854775808");
+                return;
+            }
+            if (value < 0) {
+                put((byte) '-');
+                value = -value;
+            }
+
+            int position = digits.length;
+            do {
+                digits[--position] = (byte) ('0' + value % 10);
+                value /= 10;
+            } while (value > 0);
+
+            ensure(digits.length - position);
+            buffer.put(digits, position, digits.length - position);
+        }
+
+        /**
+         * Writes a time as an ISO local date (yyyy-MM-dd) in the default time zone.
+         *
+         * @param epochMillis The time in epoch milliseconds
+         * @throws IOException if the file cannot be written
+         */
+        private void putIsoDate(long epochMillis) throws IOException {
+            long epochDay = Math.floorDiv(epochMillis + timeZone.getOffset(epochMillis), MILLIS_PER_DAY);
+
+            // Civil date from days since 1970-01-01 (proleptic Gregorian calendar)
+            long z = epochDay + 719468;
+            long era = Math.floorDiv(z, 146097);
+            long dayOfEra = z - era * 146097;
+            long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+            long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+            long monthPart = (5 * dayOfYear + 2) / 153;
+            long day = dayOfYear - (153 * monthPart + 2) / 5 + 1;
+            long month = monthPart < 10 ? monthPart + 3 : monthPart - 9;
+            long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+            putLong(year);
+            put((byte) '-');
+            putTwoDigits((int) month);
+            put((byte) '-');
+            putTwoDigits((int) day);
+        }
+
+        /**
+         * Writes a number from 0 to 99 as two digits.
+         *
+         * @param value The number
+         * @throws IOException if the file cannot be written
+         */
+        private void putTwoDigits(int value) throws IOException {
+            put((byte) ('0' + value / 10));
+            put((byte) ('0' + value % 10));
+        }
+
+        /**
+         * Writes a single byte.
+         *
+         * @param value The byte
+         * @throws IOException if the file cannot be written
+         */
+        private void put(byte value) throws IOException {
+            ensure(1);
+            buffer.put(value);
+        }
+
+        /**
+         * Makes room for a number of bytes, draining the buffer if needed.
+         *
+         * @param bytes The number of bytes about to be written
+         * @throws IOException if the file cannot be written
+         */
+        private void ensure(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                drain();
+            }
+        }
+
+        /**
+         * Writes the buffered bytes to the file and clears the buffer.
+         *
+         * @throws IOException if the file cannot be written
+         */
+        private void drain() throws IOException {
+            if (gzipStream != null) {
+                gzipStream.write(buffer.array(), buffer.arrayOffset(), buffer.position());
+                buffer.clear();
+                return;
+            }
+
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        /**
+         * Drains the remaining bytes and closes the file.
+         *
+         * @throws IOException if the file cannot be written
+         */
+        @Override
+        public void close() throws IOException {
+            try {
+                drain();
+                if (gzipStream != null) {
+                    gzipStream.close();
+                }
+            } finally {
+                channel.close();
+            }
+        }
+
+        /**
+         * Gets the display name of a flat type.
+         *
+         * @param flatType The flat type
+         * @return the display name, or null if the flat type is unknown
+         */
+        private static String flatTypeName(FlatType flatType) {
+            return flatType != null ? flatType.getDisplayName() : null;
+        }
+
+        /**
+         * Gets the lower case hex digit for a value from 0 to 15.
+         *
+         * @param value The value
+         * @return the hex digit
+         */
+        private static byte hexDigit(int value) {
+            return (byte) (value < 10 ? '0' + value : 'a' + value - 10);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import model.Project;
+import model.Report;
+import model.ReportArtifact;
+import model.ReportFilter;
+import model.enums.AgeBand;
+import model.enums.FlatType;
+import model.interfaces.IReportGeneration;
+import utils.log.Log;
+import utils.log.Logger;
+
+/**
+ * Precomputes reports in the background in the BTO Management System.
+ *
+ * A configured set of reports is materialized for every project once shortly
+ * after start-up and then every night at an off-peak time. The work runs on a
+ * single daemon thread with the lowest priority, so it gives way to users.
+ * Reports whose artifact is still current are skipped, and each new report is
+ * stored through {@link IReportGeneration} as the next version of its artifact.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public class ReportScheduler {
+
+    private static final Logger LOG = Log.getLogger(ReportScheduler.class);
+
+    /** Default time of day of the nightly run. */
+    public static final LocalTime DEFAULT_RUN_TIME = LocalTime.of(2, 0);
+
+    private static final long START_UP_DELAY_SECONDS = 5;
+
+    private final IReportGeneration reportGeneration;
+    private final Supplier<List<Project>> projects;
+    private final List<ReportFilter> reportFilters;
+    private final LocalTime runTime;
+    private final ScheduledExecutorService executor;
+    private final AtomicInteger lastRunCount;
+
+    /**
+     * Constructor for ReportScheduler with the default reports and run time.
+     *
+     * @param reportGeneration Generates and stores the reports
+     * @param projects Supplies the projects to report on at each run
+     */
+    public ReportScheduler(IReportGeneration reportGeneration, Supplier<List<Project>> projects) {
+        this(reportGeneration, projects, defaultReportFilters(), DEFAULT_RUN_TIME);
+    }
+
+    /**
+     * Constructor for ReportScheduler.
+     *
+     * @param reportGeneration Generates and stores the reports
+     * @param projects Supplies the projects to report on at each run
+     * @param reportFilters The reports to precompute for each project, one per filter
+     * @param runTime Time of day of the nightly run
+     */
+    public ReportScheduler(IReportGeneration reportGeneration, Supplier<List<Project>> projects,
+                           List<ReportFilter> reportFilters, LocalTime runTime) {
+        this.reportGeneration = reportGeneration;
+        this.projects = projects;
+        this.reportFilters = Collections.unmodifiableList(new ArrayList<>(reportFilters));
+        this.runTime = runTime;
+        this.lastRunCount = new AtomicInteger();
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "report-scheduler");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+
+    /**
+     * Gets the reports precomputed by default: all bookings, bookings by flat
+     * type, by marital status and by age band.
+     *
+     * @return the report filters
+     */
+    public static List<ReportFilter> defaultReportFilters() {
+        List<ReportFilter> filters = new ArrayList<>();
+        filters.add(ReportFilter.all());
+        for (FlatType flatType : FlatType.values()) {
+            filters.add(ReportFilter.flatType(flatType));
+        }
+        filters.add(ReportFilter.maritalStatus("Single"));
+        filters.add(ReportFilter.maritalStatus("Married"));
+        for (AgeBand band : AgeBand.values()) {
+            filters.add(ReportFilter.ageRange(Math.max(band.getMinAge(), 0), Math.min(band.getMaxAge(), 150)));
+        }
+        return filters;
+    }
+
+    /**
+     * Starts the scheduler: one run shortly after start-up, then one every night.
+     */
+    public void start() {
+        executor.schedule(this::runSafely, START_UP_DELAY_SECONDS, TimeUnit.SECONDS);
+        executor.scheduleAtFixedRate(this::runSafely, delayUntilNextRun(LocalDateTime.now()).toMillis(),
+                                     TimeUnit.DAYS.toMillis(1), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the scheduler. A run in progress is interrupted.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Materializes every configured report that is missing or out of date.
+     * A report that fails to build is logged and skipped.
+     *
+     * @return the number of reports materialized
+     */
+    public int runNow() {
+        int count = 0;
+        for (Project project : projects.get()) {
+            for (ReportFilter filter : reportFilters) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return count;
+                }
+                ReportArtifact latest = reportGeneration.getLatestArtifact(project, filter);
+                if (latest != null && !latest.isStale()) {
+                    continue;
+                }
+                // Read the version first, so bookings made while building leave the artifact stale
+                long bookingVersion = project.getBookingVersion();
+                try {
+                    Report report = reportGeneration.generateReport(project, filter);
+                    if (report != null) {
+                        reportGeneration.storeArtifact(report, bookingVersion);
+                        count++;
+                    }
+                } catch (RuntimeException e) {
+                    // One failing report must not stop the rest of the run
+                    LOG.error("Error precomputing a report for " + project.getProjectName() + ": " + e.getMessage(), e);
+                }
+            }
+        }
+        lastRunCount.set(count);
+        return count;
+    }
+
+    /**
+     * Gets the number of reports materialized by the last run.
+     *
+     * @return the number of reports
+     */
+    public int getLastRunCount() {
+        return lastRunCount.get();
+    }
+
+    /**
+     * Gets the time until the next nightly run.
+     *
+     * @param now The current time
+     * @return the delay
+     */
+    private Duration delayUntilNextRun(LocalDateTime now) {
+        LocalDateTime next = now.toLocalDate().atTime(runTime);
+        if (!next.isAfter(now)) {
+            next = next.plusDays(1);
+        }
+        return Duration.between(now, next);
+    }
+
+    /**
+     * Runs the materialization, reporting errors instead of letting them cancel
+     * the schedule.
+     */
+    private void runSafely() {
+        try {
+            runNow();
+        } catch (RuntimeException e) {
+            LOG.error("Error precomputing reports: " + e.getMessage());
+        }
+    }
+}
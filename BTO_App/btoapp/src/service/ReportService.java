@@ -0,0 +1,327 @@
+package service;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import model.Applicant;
+import model.Application;
+import model.ColumnarReport;
+import model.PortfolioReport;
+import model.Project;
+import model.Receipt;
+import model.Report;
+import model.ReportArtifact;
+import model.ReportFilter;
+import model.enums.ApplicationStatus;
+import model.enums.FlatType;
+import model.interfaces.IReportGeneration;
+import utils.jfr.ReportGenerateEvent;
+
+/**
+ * Service class for generating, keeping and exporting reports in the BTO Management System.
+ *
+ * Generated reports are kept in a {@link ReportCache}, so asking for the same
+ * report again is free until a booking or withdrawal changes the project.
+ * Reports precomputed in the background are kept separately as versioned
+ * artifacts, one latest version per project and filter.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public class ReportService implements IReportGeneration {
+
+    private final ReportExporter reportExporter;
+    private final ReportCache reportCache;
+    private final BookingCube bookingCube;
+    private final Map<Project, Map<String, ReportArtifact>> artifacts;
+    private final AtomicLong reportSequence;
+
+    /**
+     * Constructor for ReportService.
+     */
+    public ReportService() {
+        this(new ReportExporter());
+    }
+
+    /**
+     * Constructor for ReportService with a specific exporter.
+     *
+     * @param reportExporter The exporter used to write reports to files
+     */
+    public ReportService(ReportExporter reportExporter) {
+        this(reportExporter, new ReportCache());
+    }
+
+    /**
+     * Constructor for ReportService with a specific exporter and cache.
+     *
+     * @param reportExporter The exporter used to write reports to files
+     * @param reportCache The cache used to keep generated reports
+     */
+    public ReportService(ReportExporter reportExporter, ReportCache reportCache) {
+        this(reportExporter, reportCache, new BookingCube());
+    }
+
+    /**
+     * Constructor for ReportService with a specific exporter, cache and booking cube.
+     *
+     * @param reportExporter The exporter used to write reports to files
+     * @param reportCache The cache used to keep generated reports
+     * @param bookingCube The cube of booking aggregates used for breakdowns
+     */
+    public ReportService(ReportExporter reportExporter, ReportCache reportCache, BookingCube bookingCube) {
+        this.reportExporter = reportExporter;
+        this.reportCache = reportCache;
+        this.bookingCube = bookingCube;
+        this.artifacts = new ConcurrentHashMap<>();
+        this.reportSequence = new AtomicLong();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Receipt generateBookingReceipt(Application application) {
+        if (application == null || application.getStatus() != ApplicationStatus.BOOKED) {
+            return null;
+        }
+
+        Applicant applicant = application.getApplicant();
+        Project project = application.getProject();
+        return new Receipt(
+            application.getApplicationId(),
+            applicant.getName(),
+            applicant.getNric(),
+            applicant.getAge(),
+            applicant.getMaritalStatus(),
+            application.getSelectedFlatType(),
+            project.getProjectName(),
+            project.getNeighborhood()
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Report generateProjectBookingReport(Project project) {
+        if (project == null) {
+            return null;
+        }
+
+        return cached(project, ReportFilter.all(), () -> {
+            Report report = new Report(nextReportId(project), project, "Project Booking Report", new Date());
+            report.populateFromApplications(project.getApplications());
+            return report;
+        });
+    }
+
+    /**
+     * Gets the columnar booking report of a project, for filtering and aggregating
+     * over primitive columns. The columns are built straight from the project's
+     * applications and kept in the report cache until its bookings change.
+     * 
+     * @param project The project to generate a report for
+     * @return The columnar report, or null if the project is null
+     */
+    public ColumnarReport generateColumnarBookingReport(Project project) {
+        if (project == null) {
+            return null;
+        }
+        
+        return reportCache.getColumnar(project,
+            () -> ColumnarReport.fromApplications(project, project.getApplications().stream()));
+    }
+
+    /**
+     * Generates a report across many projects. The projects are split between
+     * the threads of the common fork-join pool and the partial aggregates merged.
+     * 
+     * @param projects The projects to include
+     * @param reportTitle The title of the report
+     * @return The portfolio report, or null if the list is null
+     */
+    public PortfolioReport generatePortfolioReport(List<Project> projects, String reportTitle) {
+        if (projects == null) {
+            return null;
+        }
+        
+        PortfolioReport.Aggregate totals =
+            ForkJoinPool.commonPool().invoke(new PortfolioReportTask(projects, bookingCube));
+        return new PortfolioReport(reportTitle, new Date(), totals);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Report generateMaritalStatusReport(Project project, String maritalStatus) {
+        return cached(project, ReportFilter.maritalStatus(maritalStatus),
+                      () -> generateProjectBookingReport(project).filterByMaritalStatus(maritalStatus));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Report generateFlatTypeReport(Project project, FlatType flatType) {
+        return cached(project, ReportFilter.flatType(flatType),
+                      () -> generateProjectBookingReport(project).filterByFlatType(flatType));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Report generateAgeRangeReport(Project project, int minAge, int maxAge) {
+        return cached(project, ReportFilter.ageRange(minAge, maxAge),
+                      () -> generateProjectBookingReport(project).filterByAgeRange(minAge, maxAge));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Report generateReport(Project project, ReportFilter filter) {
+        if (filter == null || filter.isAll()) {
+            return generateProjectBookingReport(project);
+        }
+        return cached(project, filter, () -> generateProjectBookingReport(project).where(filter));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ReportArtifact storeArtifact(Report report, long bookingVersion) {
+        if (report == null) {
+            return null;
+        }
+        
+        Map<String, ReportArtifact> projectArtifacts =
+            artifacts.computeIfAbsent(report.getProject(), project -> new ConcurrentHashMap<>());
+        return projectArtifacts.merge(report.getFilter().getKey(),
+            new ReportArtifact(report, 1, bookingVersion, new Date()),
+            (previous, latest) -> new ReportArtifact(latest.getReport(), previous.getVersion() + 1,
+                                                     latest.getBookingVersion(), latest.getMaterializedAt()));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ReportArtifact getLatestArtifact(Project project, ReportFilter filter) {
+        Map<String, ReportArtifact> projectArtifacts = project != null ? artifacts.get(project) : null;
+        if (projectArtifacts == null) {
+            return null;
+        }
+        return projectArtifacts.get(filter != null ? filter.getKey() : "");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Report> getProjectReports(Project project) {
+        if (project == null) {
+            return new ArrayList<>();
+        }
+
+        return reportCache.getReports(project);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Report getReportById(String reportId) {
+        return reportId != null ? reportCache.getById(reportId) : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The format is chosen from the file extension: ".csv", ".jsonl" or ".bin",
+     * and a trailing ".gz" compresses the output.
+     */
+    @Override
+    public boolean exportReport(Report report, String filePath) {
+        return reportExporter.export(report, filePath) >= 0;
+    }
+
+    /**
+     * Gets the exporter used by this service.
+     *
+     * @return the report exporter
+     */
+    public ReportExporter getReportExporter() {
+        return reportExporter;
+    }
+
+    /**
+     * Gets the cache holding generated reports.
+     *
+     * @return the report cache
+     */
+    public ReportCache getReportCache() {
+        return reportCache;
+    }
+
+    /**
+     * Gets the cube of booking aggregates, for breakdowns that should not
+     * scan applications.
+     *
+     * @return the booking cube
+     */
+    public BookingCube getBookingCube() {
+        return bookingCube;
+    }
+
+    /**
+     * Gets a report from the cache, building and storing it on a miss, and
+     * records the call as a {@link ReportGenerateEvent}.
+     *
+     * @param project The project, may be null
+     * @param filter The filter the report applies
+     * @param builder Builds the report
+     * @return the report, or null if the project is null
+     */
+    private Report cached(Project project, ReportFilter filter, Supplier<Report> builder) {
+        if (project == null) {
+            return null;
+        }
+        try (ReportGenerateEvent event = new ReportGenerateEvent()) {
+            event.setProject(project);
+            event.setFilter(filter.getKey());
+            boolean[] built = new boolean[1];
+            Report report = reportCache.get(project, filter, () -> {
+                built[0] = true;
+                return builder.get();
+            });
+            event.setCacheHit(!built[0]);
+            if (event.isEnabled() && report != null) {
+                // Counting a lazily filtered report walks it, so only count when recording
+                event.setRows(report.getEntryCount());
+            }
+            event.setSucceeded(report != null);
+            return report;
+        }
+    }
+
+    /**
+     * Creates a unique report ID for a project.
+     *
+     * @param project The project
+     * @return the report ID
+     */
+    private String nextReportId(Project project) {
+        String name = project.getProjectName();
+        return "RPT-" + name.substring(0, Math.min(3, name.length())).toUpperCase()
+               + "-" + reportSequence.incrementAndGet();
+    }
+}
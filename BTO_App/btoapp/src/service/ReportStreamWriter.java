@@ -0,0 +1,143 @@
+package service;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import model.Application;
+import model.Project;
+import model.Report;
+import model.enums.ApplicationStatus;
+import utils.log.Log;
+import utils.log.Logger;
+
+/**
+ * Writes project booking reports as a stream in the BTO Management System.
+ *
+ * Unlike {@link Report}, which holds every entry in memory, this writer pulls
+ * applications one at a time, turns booked ones into report entries, applies
+ * the filter and writes each row straight to the console or a file. Memory use
+ * stays the same no matter how many bookings a project has.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public class ReportStreamWriter {
+
+    private static final Logger LOG = Log.getLogger(ReportStreamWriter.class);
+
+    private static final String ROW_FORMAT = "%-20s | %-12s | %3d | %-14s | %s%n";
+
+    /**
+     * Turns a stream of applications into a lazy stream of report entries
+     * for the booked ones.
+     *
+     * @param applications The applications to report on
+     * @return A lazy stream of report entries
+     */
+    public static Stream<Report.ReportEntry> toEntries(Stream<Application> applications) {
+        return applications
+                .filter(application -> application.getStatus() == ApplicationStatus.BOOKED)
+                .map(Report.ReportEntry::fromApplication);
+    }
+
+    /**
+     * Streams a report to the console.
+     *
+     * @param reportTitle The title of the report
+     * @param project The project the report is about
+     * @param applications The applications of the project
+     * @param filter Selects the entries to include, or null to include all
+     * @return the number of entries written
+     */
+    public long writeToConsole(String reportTitle, Project project, Stream<Application> applications,
+                               Predicate<Report.ReportEntry> filter) {
+        // System.out is flushed but never closed
+        PrintWriter out = new PrintWriter(new OutputStreamWriter(System.out));
+        long count = write(reportTitle, project, applications, filter, out);
+        out.flush();
+        return count;
+    }
+
+    /**
+     * Streams a report to a file, replacing any existing file.
+     *
+     * @param reportTitle The title of the report
+     * @param project The project the report is about
+     * @param applications The applications of the project
+     * @param filter Selects the entries to include, or null to include all
+     * @param filePath The path of the file to write
+     * @return the number of entries written, or -1 if the file could not be written
+     */
+    public long writeToFile(String reportTitle, Project project, Stream<Application> applications,
+                            Predicate<Report.ReportEntry> filter, String filePath) {
+        try (PrintWriter out = new PrintWriter(new BufferedWriter(new FileWriter(filePath)))) {
+            long count = write(reportTitle, project, applications, filter, out);
+            if (out.checkError()) {
+                LOG.error("Error writing report file: " + filePath);
+                return -1;
+            }
+            return count;
+        } catch (IOException e) {
+            LOG.error("Error writing report file: " + e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * Writes the report header, every matching entry as it is read, and a footer
+     * with the number of entries. The count goes last because it is only known
+     * once the stream has been consumed.
+     *
+     * @param reportTitle The title of the report
+     * @param project The project the report is about
+     * @param applications The applications of the project
+     * @param filter Selects the entries to include, or null to include all
+     * @param writer The writer to write to
+     * @return the number of entries written
+     */
+    public long write(String reportTitle, Project project, Stream<Application> applications,
+                      Predicate<Report.ReportEntry> filter, Writer writer) {
+        PrintWriter out = writer instanceof PrintWriter ? (PrintWriter) writer : new PrintWriter(writer);
+        SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy HH:mm");
+
+        out.println("REPORT: " + reportTitle);
+        out.println("Project: " + project.getProjectName());
+        out.println("Generation Date: " + dateFormat.format(new Date()));
+        out.println();
+        out.println("Name | NRIC | Age | Marital Status | Flat Type");
+        out.println("-------------------------------------------");
+
+        Stream<Report.ReportEntry> entries = toEntries(applications);
+        if (filter != null) {
+            entries = entries.filter(filter);
+        }
+
+        long count = 0;
+        try (Stream<Report.ReportEntry> source = entries) {
+            Iterator<Report.ReportEntry> iterator = source.iterator();
+            while (iterator.hasNext()) {
+                Report.ReportEntry entry = iterator.next();
+                out.printf(ROW_FORMAT,
+                           entry.getApplicantName(),
+                           entry.getApplicantNric(),
+                           entry.getApplicantAge(),
+                           entry.getMaritalStatus(),
+                           entry.getFlatType().getDisplayName());
+                count++;
+            }
+        }
+
+        out.println();
+        out.println("Total Entries: " + count);
+        out.flush();
+        return count;
+    }
+}
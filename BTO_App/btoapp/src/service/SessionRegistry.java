@@ -0,0 +1,237 @@
+package service;
+
+import java.security.SecureRandom;
+import java.util.ArrayDeque;
+import java.util.Base64;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import model.User;
+
+/**
+ * Registry of logged-in sessions in the BTO Management System.
+ *
+ * Each login gets an opaque, unguessable token. Tokens are validated with a single
+ * hash lookup, expire after a period of inactivity, and every user is limited to a
+ * number of concurrent sessions, with the oldest session evicted when a new one
+ * would exceed the limit. The registry is safe to use from many threads at once.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public class SessionRegistry {
+
+    private static final long DEFAULT_IDLE_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(30);
+    private static final int DEFAULT_MAX_SESSIONS_PER_USER = 3;
+    private static final int TOKEN_BYTES = 32;
+
+    private final long idleTimeoutMillis;
+    private final int maxSessionsPerUser;
+    private final LongSupplier clock;
+    private final SecureRandom random;
+    private final Map<String, Session> sessions;
+    private final Map<String, Deque<Session>> sessionsByUser;
+
+    /**
+     * Constructor for SessionRegistry with a 30 minute idle timeout
+     * and at most 3 sessions per user.
+     */
+    public SessionRegistry() {
+        this(DEFAULT_IDLE_TIMEOUT_MILLIS, DEFAULT_MAX_SESSIONS_PER_USER);
+    }
+
+    /**
+     * Constructor for SessionRegistry.
+     *
+     * @param idleTimeoutMillis Time without activity after which a session expires
+     * @param maxSessionsPerUser Maximum number of concurrent sessions per user
+     */
+    public SessionRegistry(long idleTimeoutMillis, int maxSessionsPerUser) {
+        this(idleTimeoutMillis, maxSessionsPerUser, System::currentTimeMillis);
+    }
+
+    /**
+     * Constructor for SessionRegistry with a specific clock.
+     *
+     * @param idleTimeoutMillis Time without activity after which a session expires
+     * @param maxSessionsPerUser Maximum number of concurrent sessions per user
+     * @param clock Supplies the current time in milliseconds
+     */
+    public SessionRegistry(long idleTimeoutMillis, int maxSessionsPerUser, LongSupplier clock) {
+        if (idleTimeoutMillis <= 0 || maxSessionsPerUser < 1) {
+            throw new IllegalArgumentException("Idle timeout and session limit must be positive");
+        }
+
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.maxSessionsPerUser = maxSessionsPerUser;
+        this.clock = clock;
+        this.random = new SecureRandom();
+        this.sessions = new ConcurrentHashMap<>();
+        this.sessionsByUser = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * A single logged-in session.
+     */
+    private static class Session {
+        private final String token;
+        private final User user;
+        private volatile long lastAccess;
+
+        /**
+         * Constructor for Session.
+         *
+         * @param token The session token
+         * @param user The user the session belongs to
+         * @param now The creation time
+         */
+        Session(String token, User user, long now) {
+            this.token = token;
+            this.user = user;
+            this.lastAccess = now;
+        }
+    }
+
+    /**
+     * Starts a new session for a user, evicting the user's oldest session
+     * if the session limit would otherwise be exceeded.
+     *
+     * @param user The authenticated user
+     * @return The session token
+     */
+    public String createSession(User user) {
+        if (user == null || user.getNric() == null) {
+            throw new IllegalArgumentException("User must have an NRIC");
+        }
+
+        purgeExpired();
+
+        String token = newToken();
+        Session session = new Session(token, user, clock.getAsLong());
+        sessions.put(token, session);
+
+        // Per-user bookkeeping is done atomically for each NRIC
+        sessionsByUser.compute(user.getNric(), (nric, userSessions) -> {
+            if (userSessions == null) {
+                userSessions = new ArrayDeque<>();
+            }
+            userSessions.addLast(session);
+            while (userSessions.size() > maxSessionsPerUser) {
+                Session evicted = userSessions.removeFirst();
+                sessions.remove(evicted.token);
+            }
+            return userSessions;
+        });
+
+        return token;
+    }
+
+    /**
+     * Resolves a session token to its user and records the activity.
+     *
+     * @param token The session token
+     * @return The user, or null if the token is unknown or has expired
+     */
+    public User validate(String token) {
+        if (token == null) {
+            return null;
+        }
+
+        Session session = sessions.get(token);
+        if (session == null) {
+            return null;
+        }
+
+        long now = clock.getAsLong();
+        if (now - session.lastAccess > idleTimeoutMillis) {
+            invalidate(token);
+            return null;
+        }
+
+        session.lastAccess = now;
+        return session.user;
+    }
+
+    /**
+     * Ends a session.
+     *
+     * @param token The session token
+     * @return true if the session existed, false otherwise
+     */
+    public boolean invalidate(String token) {
+        if (token == null) {
+            return false;
+        }
+
+        Session session = sessions.remove(token);
+        if (session == null) {
+            return false;
+        }
+
+        sessionsByUser.computeIfPresent(session.user.getNric(), (nric, userSessions) -> {
+            userSessions.remove(session);
+            return userSessions.isEmpty() ? null : userSessions;
+        });
+        return true;
+    }
+
+    /**
+     * Ends every session of a user.
+     *
+     * @param nric The NRIC of the user
+     * @return the number of sessions ended
+     */
+    public int invalidateAll(String nric) {
+        if (nric == null) {
+            return 0;
+        }
+
+        Deque<Session> userSessions = sessionsByUser.remove(nric);
+        if (userSessions == null) {
+            return 0;
+        }
+
+        int count = 0;
+        for (Session session : userSessions) {
+            if (sessions.remove(session.token) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Gets the number of sessions currently registered, including ones
+     * that have expired but have not been purged yet.
+     *
+     * @return the number of sessions
+     */
+    public int getActiveSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Removes every session that has been idle for longer than the timeout.
+     */
+    public void purgeExpired() {
+        long now = clock.getAsLong();
+        for (Session session : sessions.values()) {
+            if (now - session.lastAccess > idleTimeoutMillis) {
+                invalidate(session.token);
+            }
+        }
+    }
+
+    /**
+     * Generates a new random, URL-safe session token.
+     *
+     * @return the token
+     */
+    private String newToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -0,0 +1,757 @@
+package utils;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Generates synthetic data files for scale testing, in the same tab-delimited
+ * layout as the bundled resources.
+ *
+ * The output depends only on the seed, the reference date and the row
+ * counts. Every value of a row is derived from a hash of the seed, the file
+ * and the row number, and references between files are computed the same
+ * way, so each file is written row by row without holding earlier rows in
+ * memory. This allows tens of millions of rows per file.
+ *
+ * The data follows the rules of the application:
+ * <ul>
+ *   <li>Applications are made only by eligible applicants: married from 21,
+ *       single from 35, and singles only for 2-Room flats.</li>
+ *   <li>Each manager's projects have application periods that do not overlap.
+ *       About half of them have closed before the reference date, one is
+ *       open on it and the rest open later.</li>
+ *   <li>Applications and enquiries are made only for projects that have
+ *       opened. Pending applications are only for open projects.</li>
+ *   <li>Each project has between 1 and 10 officer slots. Each officer handles
+ *       at most one project, and no project has more officers than slots.</li>
+ *   <li>Each project has enough units of each flat type for all its
+ *       successful and booked applications.</li>
+ * </ul>
+ *
+ * Run as a program to write a data set:
+ * <pre>
+ *   java -cp out utils.DatasetGenerator --out data --rows 1000000
+ * </pre>
+ * and point the application at it with {@code -Dbto.data.dir=data}.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public class DatasetGenerator {
+
+    /** Most rows a people file can have: the NRIC prefixes times the 7-digit numbers. */
+    public static final int MAX_PEOPLE = 50_000_000;
+
+    private static final String PEOPLE_HEADER = "Name\tNRIC\tAge\tMarital Status\tPassword";
+    private static final String PROJECT_HEADER = "Project Name\tNeighborhood\tType 1\tNumber of units for Type 1"
+        + "\tSelling price for Type 1\tType 2\tNumber of units for Type 2\tSelling price for Type 2"
+        + "\tApplication opening date\tApplication closing date\tManager\tOfficer Slot\tOfficer";
+    private static final String APPLICATION_HEADER = "Applicant NRIC\tProject Name\tApplication Status\tFlat Type"
+        + "\tBooking Date\tApplication ID";
+    private static final String ENQUIRY_HEADER = "Enquiry ID\tApplicant NRIC\tProject Name\tEnquiry Text\tTimestamp"
+        + "\tStatus\tResponder\tReply";
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final String NRIC_PREFIXES = "STFGM";
+
+    private static final String[] GIVEN_NAMES = {"Wei Ling", "Jun Jie", "Siti", "Arjun", "Mei Xin", "Ahmad", "Priya",
+        "Jia Hui", "Daniel", "Nur Aisyah", "Kumar", "Hui Min", "Marcus", "Farah", "Zhi Hao", "Grace"};
+    private static final String[] SURNAMES = {"Tan", "Lim", "Lee", "Ng", "Ong", "Wong", "Goh", "Chua", "Koh", "Teo",
+        "Rahman", "Ismail", "Singh", "Nair", "Pillai", "Fernandez"};
+    private static final String[] NEIGHBORHOODS = {"Yishun", "CCK", "Tampines", "Punggol", "Jurong West", "Sengkang",
+        "Woodlands", "Bedok", "Tengah", "Bukit Batok", "Queenstown", "Toa Payoh"};
+    private static final String[] PROJECT_WORDS = {"Acacia", "Rainbow", "Maple", "Orchid", "Cedar", "Lakeview",
+        "Harbour", "Meadow", "Sunrise", "Willow", "Garden", "Bayshore"};
+    private static final String[] PROJECT_SUFFIXES = {"Breeze", "Cruise", "Vista", "Grove", "Court", "Heights",
+        "Residences", "Terrace", "Spring", "Edge"};
+    private static final String[] QUESTIONS = {"What are the payment terms?", "Can I view the unit layout?",
+        "When is the expected completion date?", "Is there a carpark in the estate?",
+        "Can I change my flat type after applying?", "How long does the ballot take?",
+        "Are the flats near an MRT station?", "What grants am I eligible for?"};
+    private static final String[] REPLIES = {"Yes", "Please refer to the project brochure.",
+        "The details will be announced after the ballot.", "Please visit the HDB branch for assistance."};
+
+    // Salts separating the hash streams of the different files
+    private static final long APPLICANT = 1;
+    private static final long OFFICER = 2;
+    private static final long MANAGER = 3;
+    private static final long PROJECT = 4;
+    private static final long APPLICATION = 5;
+    private static final long ENQUIRY = 6;
+
+    // Eligibility rules, as in EligibilityCheckerService
+    private static final int MARRIED_MIN_AGE = 21;
+    private static final int SINGLE_MIN_AGE = 35;
+
+    private static final int MAX_OFFICER_SLOTS = 10;
+
+    private final long seed;
+    private final LocalDate referenceDate;
+    private final int applicants;
+    private final int officers;
+    private final int managers;
+    private final int projects;
+    private final int applications;
+    private final int enquiries;
+
+    /**
+     * Constructor for DatasetGenerator with the same number of people,
+     * projects and enquiries, and applications from four applicants in five.
+     *
+     * @param seed The seed of the generated values
+     * @param referenceDate The date the data is current on, which decides which projects are open
+     * @param rows The number of rows of each file
+     */
+    public DatasetGenerator(long seed, LocalDate referenceDate, int rows) {
+        this(seed, referenceDate, rows, rows, rows, rows, (int) (rows * 4L / 5), rows);
+    }
+
+    /**
+     * Constructor for DatasetGenerator.
+     *
+     * @param seed The seed of the generated values
+     * @param referenceDate The date the data is current on, which decides which projects are open
+     * @param applicants The number of applicants
+     * @param officers The number of officers
+     * @param managers The number of managers, at least one if there are projects
+     * @param projects The number of projects, at least one if there are applications or enquiries
+     * @param applications The number of applications, at most one per eligible applicant
+     * @param enquiries The number of enquiries
+     * @throws IllegalArgumentException if the counts cannot be generated
+     */
+    public DatasetGenerator(long seed, LocalDate referenceDate, int applicants, int officers, int managers,
+                            int projects, int applications, int enquiries) {
+        if (Math.min(Math.min(applicants, officers), Math.min(managers, projects)) < 0
+                || applications < 0 || enquiries < 0) {
+            throw new IllegalArgumentException("Row counts cannot be negative");
+        }
+        if (Math.max(applicants, Math.max(officers, managers)) > MAX_PEOPLE) {
+            throw new IllegalArgumentException("At most " + MAX_PEOPLE + " people per file can be generated");
+        }
+        if (projects > 0 && managers == 0) {
+            throw new IllegalArgumentException("Projects need at least one manager");
+        }
+        if ((applications > 0 || enquiries > 0) && (projects == 0 || applicants == 0)) {
+            throw new IllegalArgumentException("Applications and enquiries need applicants and projects");
+        }
+        this.seed = seed;
+        this.referenceDate = referenceDate;
+        this.applicants = applicants;
+        this.officers = officers;
+        this.managers = managers;
+        this.projects = projects;
+        this.applications = applications;
+        this.enquiries = enquiries;
+    }
+
+    /**
+     * Writes all six data files to a directory.
+     *
+     * @param dir The directory to write to, created if missing
+     * @throws IOException if the files cannot be written
+     */
+    public void write(File dir) throws IOException {
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("Cannot create " + dir);
+        }
+        writeApplicants(new File(dir, "ApplicantList.txt"));
+        writeOfficers(new File(dir, "OfficerList.txt"));
+        writeManagers(new File(dir, "ManagerList.txt"));
+        writeProjects(new File(dir, "ProjectList.txt"));
+        writeApplications(new File(dir, "ApplicationList.txt"));
+        writeEnquiries(new File(dir, "EnquiryList.txt"));
+    }
+
+    /**
+     * Writes the applicant file.
+     *
+     * @param file The file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void writeApplicants(File file) throws IOException {
+        writePeople(file, APPLICANT, 'A', applicants);
+    }
+
+    /**
+     * Writes the officer file.
+     *
+     * @param file The file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void writeOfficers(File file) throws IOException {
+        writePeople(file, OFFICER, 'B', officers);
+    }
+
+    /**
+     * Writes the manager file.
+     *
+     * @param file The file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void writeManagers(File file) throws IOException {
+        writePeople(file, MANAGER, 'C', managers);
+    }
+
+    /**
+     * Writes the project file.
+     *
+     * @param file The file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void writeProjects(File file) throws IOException {
+        try (Writer writer = open(file)) {
+            writer.write(PROJECT_HEADER);
+            writer.write('\n');
+            StringBuilder line = new StringBuilder(256);
+            for (int p = 0; p < projects; p++) {
+                int reserved = maxApplications(p);
+                int twoRoomUnits = Math.max(20 + pick(PROJECT, p, 0, 181), reserved);
+                int threeRoomUnits = Math.max(50 + pick(PROJECT, p, 1, 451), reserved);
+                int slots = officerSlots(p);
+
+                line.setLength(0);
+                line.append(projectName(p)).append('\t')
+                    .append(NEIGHBORHOODS[pick(PROJECT, p, 2, NEIGHBORHOODS.length)])
+                    .append("\t2-Room\t").append(twoRoomUnits).append('\t')
+                    .append(150_000 + pick(PROJECT, p, 3, 151) * 1000).append(".0")
+                    .append("\t3-Room\t").append(threeRoomUnits).append('\t')
+                    .append(250_000 + pick(PROJECT, p, 4, 201) * 1000).append(".0")
+                    .append('\t').append(DATE_FORMAT.format(openingDate(p)))
+                    .append('\t').append(DATE_FORMAT.format(closingDate(p)))
+                    .append('\t').append(nric(manager(p), 'C'))
+                    .append('\t').append(slots).append('\t');
+
+                // Officer j handles project j % projects, while the project has slots left
+                line.append('"');
+                for (long j = p, assigned = 0; j < officers && assigned < slots; j += projects, assigned++) {
+                    if (assigned > 0) {
+                        line.append(',');
+                    }
+                    line.append(name(OFFICER, (int) j));
+                }
+                line.append('"').append('\n');
+                writer.append(line);
+            }
+        }
+    }
+
+    /**
+     * Writes the application file. Each eligible applicant in turn makes one
+     * application, until the requested number is reached or no eligible
+     * applicants are left.
+     *
+     * @param file The file to write
+     * @return the number of applications written
+     * @throws IOException if the file cannot be written
+     */
+    public int writeApplications(File file) throws IOException {
+        int written = 0;
+        try (Writer writer = open(file)) {
+            writer.write(APPLICATION_HEADER);
+            writer.write('\n');
+            StringBuilder line = new StringBuilder(128);
+            int applicant = 0;
+            for (int k = 0; k < applications; k++) {
+                while (applicant < applicants && !isEligible(applicant)) {
+                    applicant++;
+                }
+                if (applicant >= applicants) {
+                    break;
+                }
+
+                int p = projectOfApplication(k);
+                boolean married = isMarried(applicant);
+                // Singles may only apply for 2-Room flats; married couples prefer 3-Room
+                String flatType = !married || pick(APPLICATION, k, 0, 100) < 45 ? "2-Room" : "3-Room";
+                String status = applicationStatus(k, p);
+                String bookingDate = "";
+                if ("BOOKED".equals(status)) {
+                    bookingDate = DATE_FORMAT.format(dayBetween(APPLICATION, k, 2, openingDate(p),
+                                                                earlier(closingDate(p), referenceDate)));
+                }
+
+                line.setLength(0);
+                line.append(nric(applicant, 'A')).append('\t').append(projectName(p)).append('\t').append(status)
+                    .append('\t').append(flatType).append('\t').append(bookingDate)
+                    .append('\t').append(applicationId(k)).append('\n');
+                writer.append(line);
+                written++;
+                applicant++;
+            }
+        }
+        if (written < applications) {
+            System.out.println("Only " + written + " of " + applications
+                               + " applications written: not enough eligible applicants");
+        }
+        return written;
+    }
+
+    /**
+     * Writes the enquiry file. One enquiry in five is a general one without a
+     * project; about half have been answered.
+     *
+     * @param file The file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void writeEnquiries(File file) throws IOException {
+        try (Writer writer = open(file)) {
+            writer.write(ENQUIRY_HEADER);
+            writer.write('\n');
+            StringBuilder line = new StringBuilder(192);
+            for (int e = 0; e < enquiries; e++) {
+                int applicant = pick(ENQUIRY, e, 0, applicants);
+                boolean general = pick(ENQUIRY, e, 1, 5) == 0;
+                int p = openedProject(pick(ENQUIRY, e, 2, projects));
+                LocalDate day = general
+                    ? dayBetween(ENQUIRY, e, 3, referenceDate.minusYears(1), referenceDate)
+                    : dayBetween(ENQUIRY, e, 3, openingDate(p), earlier(closingDate(p), referenceDate));
+                boolean responded = pick(ENQUIRY, e, 4, 2) == 0;
+
+                line.setLength(0);
+                line.append(enquiryId(e)).append('\t').append(nric(applicant, 'A'))
+                    .append('\t').append(general ? "" : projectName(p))
+                    .append('\t').append(QUESTIONS[pick(ENQUIRY, e, 5, QUESTIONS.length)])
+                    .append('\t').append(DATE_FORMAT.format(day)).append(' ')
+                    .append(twoDigits(8 + pick(ENQUIRY, e, 6, 12))).append(':')
+                    .append(twoDigits(pick(ENQUIRY, e, 7, 60)));
+                if (responded) {
+                    line.append("\tResponded\t").append(general ? "System" : name(MANAGER, manager(p)))
+                        .append('\t').append(REPLIES[pick(ENQUIRY, e, 8, REPLIES.length)]);
+                } else {
+                    line.append("\tOpen\t\t");
+                }
+                line.append('\n');
+                writer.append(line);
+            }
+        }
+    }
+
+    /**
+     * Gets the NRIC of the i-th person of a file.
+     *
+     * @param i The row number, from 0
+     * @param suffix The last letter, distinct for each file
+     * @return the NRIC
+     */
+    public static String nric(int i, char suffix) {
+        StringBuilder nric = new StringBuilder(9);
+        nric.append(NRIC_PREFIXES.charAt(i / 10_000_000));
+        String digits = Integer.toString(i % 10_000_000);
+        for (int pad = digits.length(); pad < 7; pad++) {
+            nric.append('0');
+        }
+        return nric.append(digits).append(suffix).toString();
+    }
+
+    /**
+     * Gets the name of the i-th project. Names are unique.
+     *
+     * @param i The row number, from 0
+     * @return the project name
+     */
+    public static String projectName(int i) {
+        return PROJECT_WORDS[i % PROJECT_WORDS.length] + " "
+            + PROJECT_SUFFIXES[(i / PROJECT_WORDS.length) % PROJECT_SUFFIXES.length] + " " + i;
+    }
+
+    /**
+     * Gets the ID of the i-th application.
+     *
+     * @param i The row number, from 0
+     * @return the application ID
+     */
+    public static String applicationId(int i) {
+        return "APP-" + IdGenerator.encode(i + 1L);
+    }
+
+    /**
+     * Gets the ID of the i-th enquiry.
+     *
+     * @param i The row number, from 0
+     * @return the enquiry ID
+     */
+    public static String enquiryId(int i) {
+        return "ENQ-" + IdGenerator.encode(i + 1L);
+    }
+
+    /**
+     * Writes a file of applicants, officers or managers.
+     *
+     * @param file The file to write
+     * @param role The hash stream of the file
+     * @param suffix The last letter of the NRICs
+     * @param rows The number of rows
+     * @throws IOException if the file cannot be written
+     */
+    private void writePeople(File file, long role, char suffix, int rows) throws IOException {
+        try (Writer writer = open(file)) {
+            writer.write(PEOPLE_HEADER);
+            writer.write('\n');
+            StringBuilder line = new StringBuilder(64);
+            for (int i = 0; i < rows; i++) {
+                line.setLength(0);
+                line.append(name(role, i)).append('\t').append(nric(i, suffix)).append('\t').append(age(role, i))
+                    .append('\t').append(isMarried(role, i) ? "Married" : "Single").append("\tpassword\n");
+                writer.append(line);
+            }
+        }
+    }
+
+    /**
+     * Gets the name of a person. The row number is part of the name, as
+     * officers are looked up by name and names must be unique.
+     *
+     * @param role The hash stream of the file
+     * @param i The row number
+     * @return the name
+     */
+    private String name(long role, int i) {
+        return GIVEN_NAMES[pick(role, i, 10, GIVEN_NAMES.length)] + " " + SURNAMES[pick(role, i, 11, SURNAMES.length)]
+            + " " + i;
+    }
+
+    /**
+     * Gets the age of a person: 21 to 75 for applicants, 21 to 65 for staff.
+     *
+     * @param role The hash stream of the file
+     * @param i The row number
+     * @return the age
+     */
+    private int age(long role, int i) {
+        return 21 + pick(role, i, 12, role == APPLICANT ? 55 : 45);
+    }
+
+    /**
+     * Tells whether a person is married; three in five are.
+     *
+     * @param role The hash stream of the file
+     * @param i The row number
+     * @return true if married
+     */
+    private boolean isMarried(long role, int i) {
+        return pick(role, i, 13, 5) < 3;
+    }
+
+    /**
+     * Tells whether an applicant is married.
+     *
+     * @param applicant The applicant row number
+     * @return true if married
+     */
+    private boolean isMarried(int applicant) {
+        return isMarried(APPLICANT, applicant);
+    }
+
+    /**
+     * Tells whether an applicant may apply for a flat.
+     *
+     * @param applicant The applicant row number
+     * @return true if eligible
+     */
+    private boolean isEligible(int applicant) {
+        return age(APPLICANT, applicant) >= (isMarried(applicant) ? MARRIED_MIN_AGE : SINGLE_MIN_AGE);
+    }
+
+    /**
+     * Gets the manager of a project. Managers take the projects in turn.
+     *
+     * @param p The project row number
+     * @return the manager row number
+     */
+    private int manager(int p) {
+        return p % managers;
+    }
+
+    /**
+     * Gets the position of a project among its manager's projects, in the
+     * order of their application periods.
+     *
+     * @param p The project row number
+     * @return the position, from 0
+     */
+    private int period(int p) {
+        return p / managers;
+    }
+
+    /**
+     * Gets the position of the project of a manager that is open on the
+     * reference date.
+     *
+     * @param manager The manager row number
+     * @return the position, from 0
+     */
+    private int openPeriod(int manager) {
+        int count = projects / managers + (manager < projects % managers ? 1 : 0);
+        return (count - 1) / 2;
+    }
+
+    /**
+     * Gets the start of the six months that hold a project's application
+     * period. The open project's six months are centred on the reference date.
+     *
+     * @param p The project row number
+     * @return the first day
+     */
+    private LocalDate periodStart(int p) {
+        return referenceDate.minusMonths(3).plusMonths(6L * (period(p) - openPeriod(manager(p))));
+    }
+
+    /**
+     * Gets the application opening date of a project.
+     *
+     * @param p The project row number
+     * @return the date
+     */
+    private LocalDate openingDate(int p) {
+        return periodStart(p).plusDays(pick(PROJECT, p, 5, 30));
+    }
+
+    /**
+     * Gets the application closing date of a project.
+     *
+     * @param p The project row number
+     * @return the date
+     */
+    private LocalDate closingDate(int p) {
+        return periodStart(p).plusMonths(6).minusDays(1 + pick(PROJECT, p, 6, 30));
+    }
+
+    /**
+     * Gets the number of officer slots of a project.
+     *
+     * @param p The project row number
+     * @return the number of slots
+     */
+    private int officerSlots(int p) {
+        return 1 + pick(PROJECT, p, 7, MAX_OFFICER_SLOTS);
+    }
+
+    /**
+     * Gets the project an application is for. Applications take the projects
+     * in turn; one for a project that has not opened goes to the open project
+     * of the same manager instead.
+     *
+     * @param k The application row number
+     * @return the project row number
+     */
+    private int projectOfApplication(int k) {
+        return openedProject(k % projects);
+    }
+
+    /**
+     * Gets a project that has opened: the project itself, or the open
+     * project of its manager if it has not opened yet.
+     *
+     * @param p The project row number
+     * @return the project row number
+     */
+    private int openedProject(int p) {
+        int manager = manager(p);
+        int open = openPeriod(manager);
+        return period(p) > open ? manager + open * managers : p;
+    }
+
+    /**
+     * Gets the most applications a project can receive, which is the number
+     * of units of each flat type it needs.
+     *
+     * @param p The project row number
+     * @return the number of applications
+     */
+    private int maxApplications(int p) {
+        long perProject = (applications + (long) projects - 1) / projects;
+        int open = openPeriod(manager(p));
+        if (period(p) > open) {
+            return 0;
+        }
+        if (period(p) < open) {
+            return (int) perProject;
+        }
+        // The open project also receives the applications of its manager's later projects
+        int count = projects / managers + (manager(p) < projects % managers ? 1 : 0);
+        return (int) Math.min(Integer.MAX_VALUE, perProject * (count - open));
+    }
+
+    /**
+     * Gets the status of an application. Applications to closed projects
+     * have all been balloted.
+     *
+     * @param k The application row number
+     * @param p The project row number
+     * @return the status
+     */
+    private String applicationStatus(int k, int p) {
+        int roll = pick(APPLICATION, k, 1, 100);
+        if (period(p) < openPeriod(manager(p))) {
+            return roll < 50 ? "UNSUCCESSFUL" : roll < 65 ? "SUCCESSFUL" : "BOOKED";
+        }
+        return roll < 60 ? "PENDING" : roll < 75 ? "UNSUCCESSFUL" : roll < 90 ? "SUCCESSFUL" : "BOOKED";
+    }
+
+    /**
+     * Picks a day between two dates.
+     *
+     * @param stream The hash stream
+     * @param row The row number
+     * @param field The field of the row
+     * @param from The first day
+     * @param to The last day; the first day is used if it is earlier
+     * @return the day
+     */
+    private LocalDate dayBetween(long stream, long row, int field, LocalDate from, LocalDate to) {
+        long days = to.toEpochDay() - from.toEpochDay();
+        return days <= 0 ? from : from.plusDays(pick(stream, row, field, (int) Math.min(days + 1, Integer.MAX_VALUE)));
+    }
+
+    /**
+     * Picks a number below a bound, fixed for the seed, stream, row and field.
+     *
+     * @param stream The hash stream, one per file
+     * @param row The row number
+     * @param field The field of the row
+     * @param bound The bound, above zero
+     * @return a number from 0 to bound - 1
+     */
+    private int pick(long stream, long row, int field, int bound) {
+        long hash = mix(seed ^ mix(stream * 0x9E3779B97F4A7C15L + row) ^ ((long) field << 56));
+        return (int) ((hash >>> 1) % bound);
+    }
+
+    /**
+     * Mixes the bits of a value (the finalizer of SplitMix64).
+     *
+     * @param value The value
+     * @return the mixed value
+     */
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Gets the earlier of two dates.
+     *
+     * @param a One date
+     * @param b The other date
+     * @return the earlier date
+     */
+    private static LocalDate earlier(LocalDate a, LocalDate b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    /**
+     * Formats a number below 100 with two digits.
+     *
+     * @param value The number
+     * @return the text
+     */
+    private static String twoDigits(int value) {
+        return value < 10 ? "0" + value : Integer.toString(value);
+    }
+
+    /**
+     * Opens a file for writing with a large buffer.
+     *
+     * @param file The file
+     * @return the writer
+     * @throws IOException if the file cannot be opened
+     */
+    private static Writer open(File file) throws IOException {
+        return new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8), 1 << 16);
+    }
+
+    /**
+     * Writes a data set.
+     *
+     * @param args The options; run with --help for the list
+     */
+    public static void main(String[] args) {
+        File out = null;
+        long seed = 42;
+        LocalDate referenceDate = LocalDate.now();
+        int rows = 1000;
+        int[] counts = {-1, -1, -1, -1, -1, -1};
+        String[] names = {"--applicants", "--officers", "--managers", "--projects", "--applications", "--enquiries"};
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if ("--help".equals(option)) {
+                    printUsage();
+                    return;
+                }
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Missing value for " + option);
+                }
+                String value = args[++i];
+                switch (option) {
+                    case "--out":
+                        out = new File(value);
+                        break;
+                    case "--seed":
+                        seed = Long.parseLong(value);
+                        break;
+                    case "--reference":
+                        referenceDate = LocalDate.parse(value, DATE_FORMAT);
+                        break;
+                    case "--rows":
+                        rows = Integer.parseInt(value);
+                        break;
+                    default:
+                        int index = Arrays.asList(names).indexOf(option);
+                        if (index < 0) {
+                            throw new IllegalArgumentException("Unknown option " + option);
+                        }
+                        counts[index] = Integer.parseInt(value);
+                }
+            }
+            if (out == null) {
+                throw new IllegalArgumentException("--out is required");
+            }
+
+            int[] defaults = {rows, rows, rows, rows, (int) (rows * 4L / 5), rows};
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] < 0) {
+                    counts[i] = defaults[i];
+                }
+            }
+            DatasetGenerator generator = new DatasetGenerator(seed, referenceDate, counts[0], counts[1], counts[2],
+                                                              counts[3], counts[4], counts[5]);
+            long start = System.nanoTime();
+            generator.write(out);
+            System.out.printf(Locale.ROOT, "Data set written to %s in %.1f s (seed %d, reference date %s)%n",
+                              out, (System.nanoTime() - start) / 1e9, seed, DATE_FORMAT.format(referenceDate));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            System.out.println("Error: " + e.getMessage());
+            printUsage();
+            System.exit(1);
+        } catch (IOException e) {
+            System.out.println("Error writing data set: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Prints the command-line options.
+     */
+    private static void printUsage() {
+        System.out.println("Usage: java utils.DatasetGenerator --out DIR [options]");
+        System.out.println("  --rows N          rows of each file; applications default to 4/5 of it (1000)");
+        System.out.println("  --applicants N, --officers N, --managers N, --projects N, --applications N,");
+        System.out.println("  --enquiries N     rows of one file, overriding --rows");
+        System.out.println("  --seed N          seed of the generated values (42)");
+        System.out.println("  --reference DATE  date the data is current on, dd/MM/yyyy (today)");
+    }
+}
@@ -4,10 +4,16 @@ package utils;
  * Centralized configuration for file paths used in the BTO Management System.
  */
 public class FilePathConfig {
+    /**
+     * Default directory of the data files, used unless the system property
+     * "bto.data.dir" names another one (for example a generated data set).
+     */
+    private static final String DEFAULT_BASE_PATH = "C:/Users/luisa/OneDrive/Documents/GitHub/SC2002/BTO_App/btoapp/src/resources/";
+
     /**
      *  Absolute paths to the data files
      */
-    private static final String BASE_PATH = "C:/Users/luisa/OneDrive/Documents/GitHub/SC2002/BTO_App/btoapp/src/resources/";
+    private static final String BASE_PATH = withTrailingSlash(System.getProperty("bto.data.dir", DEFAULT_BASE_PATH));
     /**
      * Applicant-related file paths
      */
@@ -43,4 +49,14 @@ public class FilePathConfig {
     private FilePathConfig() {
         throw new AssertionError("Cannot be instantiated");
     }
-}
\ No newline at end of file
+
+    /**
+     * Makes sure a directory path ends with a separator, so file names can be appended.
+     *
+     * @param path The directory path
+     * @return the path ending with a separator
+     */
+    private static String withTrailingSlash(String path) {
+        return path.endsWith("/") || path.endsWith("\\") ? path : path + "/";
+    }
+}
@@ -0,0 +1,136 @@
+package utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Central generator of unique IDs for applications, enquiries and receipts.
+ *
+ * Each ID is a positive 64-bit number laid out as
+ * <pre>
+ *   41 bits  milliseconds since 1 January 2024 (UTC)
+ *   10 bits  node number, from the system property "bto.node.id"
+ *   12 bits  sequence within the millisecond
+ * </pre>
+ * IDs are strictly increasing for a node, even if the system clock goes back:
+ * the generator never moves its timestamp backwards, and when the 4096 IDs of
+ * a millisecond are used up it moves on to the next millisecond instead of
+ * waiting. The state is a single {@link AtomicLong} updated with
+ * compare-and-set, so no locking is needed.
+ *
+ * In text form an ID is written as 13 upper-case base-36 digits, padded with
+ * zeros, so text IDs sort in the same order as the numbers.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public final class IdGenerator {
+
+    /** Start of the timestamp field, 2024-01-01T00:00:00Z in epoch milliseconds. */
+    public static final long EPOCH = 1704067200000L;
+
+    /** Number of characters in the text form of an ID. */
+    public static final int TEXT_LENGTH = 13;
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final char[] DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+
+    private static final IdGenerator INSTANCE = new IdGenerator(Long.getLong("bto.node.id", 0L));
+
+    private final long node;
+    private final AtomicLong state;
+
+    /**
+     * Constructor for IdGenerator.
+     *
+     * @param node The node number, between 0 and 1023
+     */
+    public IdGenerator(long node) {
+        if (node < 0 || node > MAX_NODE) {
+            throw new IllegalArgumentException("Node must be between 0 and " + MAX_NODE);
+        }
+        this.node = node;
+        this.state = new AtomicLong();
+    }
+
+    /**
+     * Gets the shared generator.
+     *
+     * @return the generator
+     */
+    public static IdGenerator getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Generates the next ID.
+     *
+     * @return the ID
+     */
+    public long nextId() {
+        // The state holds the last timestamp and sequence, laid out as in the ID
+        long now = (System.currentTimeMillis() - EPOCH) << SEQUENCE_BITS;
+        while (true) {
+            long last = state.get();
+            long next = now > last ? now : last + 1;
+            if (state.compareAndSet(last, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (node << SEQUENCE_BITS) | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    /**
+     * Generates the next ID in text form with a prefix, such as "APP-0ABC...".
+     *
+     * @param prefix The prefix for the entity type
+     * @return the ID
+     */
+    public String nextId(String prefix) {
+        return prefix + "-" + encode(nextId());
+    }
+
+    /**
+     * Writes an ID as 13 base-36 digits.
+     *
+     * @param id The ID, must not be negative
+     * @return the text form
+     */
+    public static String encode(long id) {
+        char[] text = new char[TEXT_LENGTH];
+        for (int i = TEXT_LENGTH - 1; i >= 0; i--) {
+            text[i] = DIGITS[(int) (id % 36)];
+            id /= 36;
+        }
+        return new String(text);
+    }
+
+    /**
+     * Reads an ID from its text form, with or without a prefix.
+     *
+     * @param text The text form of the ID
+     * @return the ID, or -1 if the text is not a generated ID
+     */
+    public static long decode(String text) {
+        if (text == null || text.length() < TEXT_LENGTH) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(text.substring(text.length() - TEXT_LENGTH), 36);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Gets the time an ID was generated.
+     *
+     * @param id The ID
+     * @return the time in epoch milliseconds
+     */
+    public static long timestampOf(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH;
+    }
+}
@@ -0,0 +1,95 @@
+package utils;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One page of rows fetched around a cursor.
+ *
+ * Each row has a stable cursor, its sort key. The cursors of the first and last
+ * rows are used to fetch the neighbouring pages, so paging stays correct when
+ * rows are added or removed elsewhere in the list.
+ *
+ * @param <T> The type of the rows
+ * @author Your Name
+ * @version 1.0
+ */
+public class Page<T> {
+
+    private final List<T> items;
+    private final String firstCursor;
+    private final String lastCursor;
+    private final boolean hasPrevious;
+    private final boolean hasNext;
+
+    /**
+     * Constructor for Page.
+     *
+     * @param items The rows of the page
+     * @param firstCursor The cursor of the first row, or null if the page is empty
+     * @param lastCursor The cursor of the last row, or null if the page is empty
+     * @param hasPrevious Whether there are rows before this page
+     * @param hasNext Whether there are rows after this page
+     */
+    public Page(List<T> items, String firstCursor, String lastCursor, boolean hasPrevious, boolean hasNext) {
+        this.items = Collections.unmodifiableList(items);
+        this.firstCursor = firstCursor;
+        this.lastCursor = lastCursor;
+        this.hasPrevious = hasPrevious;
+        this.hasNext = hasNext;
+    }
+
+    /**
+     * Gets the rows of the page.
+     *
+     * @return the rows
+     */
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * Gets the cursor of the first row.
+     *
+     * @return the cursor, or null if the page is empty
+     */
+    public String getFirstCursor() {
+        return firstCursor;
+    }
+
+    /**
+     * Gets the cursor of the last row.
+     *
+     * @return the cursor, or null if the page is empty
+     */
+    public String getLastCursor() {
+        return lastCursor;
+    }
+
+    /**
+     * Checks whether there are rows before this page.
+     *
+     * @return true if a previous page exists
+     */
+    public boolean hasPrevious() {
+        return hasPrevious;
+    }
+
+    /**
+     * Checks whether there are rows after this page.
+     *
+     * @return true if a next page exists
+     */
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    /**
+     * Checks whether the page has no rows.
+     *
+     * @return true if the page is empty
+     */
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+}
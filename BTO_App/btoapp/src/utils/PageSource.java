@@ -0,0 +1,87 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Source of rows that can be fetched a page at a time, in the order of a stable
+ * sort key. Implementations read only the rows of the requested page and one
+ * row either side of it, never the whole list.
+ *
+ * @param <T> The type of the rows
+ * @author Your Name
+ * @version 1.0
+ */
+public interface PageSource<T> {
+
+    /**
+     * Fetches the rows that sort after a cursor.
+     *
+     * @param cursor The cursor to start after, or null to start from the first row
+     * @param pageSize The maximum number of rows
+     * @return the page
+     */
+    Page<T> after(String cursor, int pageSize);
+
+    /**
+     * Fetches the rows that sort before a cursor.
+     *
+     * @param cursor The cursor to end before, or null to end at the last row
+     * @param pageSize The maximum number of rows
+     * @return the page
+     */
+    Page<T> before(String cursor, int pageSize);
+
+    /**
+     * Fetches the rows from a key onwards, for jumping to a position.
+     *
+     * @param key The sort key to start at, rows with an equal key are included
+     * @param pageSize The maximum number of rows
+     * @return the page
+     */
+    Page<T> from(String key, int pageSize);
+
+    /**
+     * Gets a page source that converts each row of this one as its page is
+     * fetched, keeping the cursors.
+     *
+     * @param mapper Converts a row
+     * @param <R> The type of the converted rows
+     * @return the converting page source
+     */
+    default <R> PageSource<R> map(Function<T, R> mapper) {
+        PageSource<T> source = this;
+        return new PageSource<R>() {
+            @Override
+            public Page<R> after(String cursor, int pageSize) {
+                return convert(source.after(cursor, pageSize));
+            }
+
+            @Override
+            public Page<R> before(String cursor, int pageSize) {
+                return convert(source.before(cursor, pageSize));
+            }
+
+            @Override
+            public Page<R> from(String key, int pageSize) {
+                return convert(source.from(key, pageSize));
+            }
+
+            /**
+             * Converts the rows of a page.
+             *
+             * @param page The page
+             * @return the page of converted rows
+             */
+            private Page<R> convert(Page<T> page) {
+                List<R> items = new ArrayList<>(page.getItems().size());
+                for (T item : page.getItems()) {
+                    items.add(mapper.apply(item));
+                }
+                return new Page<>(items, page.getFirstCursor(), page.getLastCursor(), page.hasPrevious(),
+                                  page.hasNext());
+            }
+        };
+    }
+}
@@ -0,0 +1,136 @@
+package utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.function.Predicate;
+
+/**
+ * Page source over a sorted map, using the map keys as cursors.
+ *
+ * Each page is read by walking the map from the cursor, so only the rows of the
+ * page and one row either side are visited. With a concurrent map such as
+ * {@link java.util.concurrent.ConcurrentSkipListMap} pages can be fetched while
+ * rows are being added.
+ *
+ * @param <T> The type of the rows
+ * @author Your Name
+ * @version 1.0
+ */
+public class SortedMapPageSource<T> implements PageSource<T> {
+
+    private final NavigableMap<String, T> rows;
+    private final Predicate<T> filter;
+
+    /**
+     * Constructor for SortedMapPageSource.
+     *
+     * @param rows The rows keyed by their sort key
+     * @param filter Selects the rows to show, or null to show all
+     */
+    public SortedMapPageSource(NavigableMap<String, T> rows, Predicate<T> filter) {
+        this.rows = rows;
+        this.filter = filter != null ? filter : row -> true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<T> after(String cursor, int pageSize) {
+        return forward(cursor == null ? rows : rows.tailMap(cursor, false), cursor, pageSize);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<T> from(String key, int pageSize) {
+        return forward(key == null ? rows : rows.tailMap(key, true), key, pageSize);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Page<T> before(String cursor, int pageSize) {
+        NavigableMap<String, T> head = cursor == null ? rows : rows.headMap(cursor, false);
+        List<T> items = new ArrayList<>(pageSize);
+        String firstCursor = null;
+        String lastCursor = null;
+        boolean hasPrevious = false;
+
+        for (Map.Entry<String, T> entry : head.descendingMap().entrySet()) {
+            if (!filter.test(entry.getValue())) {
+                continue;
+            }
+            if (items.size() == pageSize) {
+                hasPrevious = true;
+                break;
+            }
+            items.add(entry.getValue());
+            firstCursor = entry.getKey();
+            if (lastCursor == null) {
+                lastCursor = entry.getKey();
+            }
+        }
+        Collections.reverse(items);
+
+        boolean hasNext = lastCursor != null ? anyMatch(rows.tailMap(lastCursor, false))
+                                             : cursor != null && anyMatch(rows.tailMap(cursor, true));
+        return new Page<>(items, firstCursor, lastCursor, hasPrevious, hasNext);
+    }
+
+    /**
+     * Reads a page forwards from the start of a tail of the map.
+     *
+     * @param tail The rows from the cursor onwards
+     * @param cursor The cursor the tail starts at, or null for the first row
+     * @param pageSize The maximum number of rows
+     * @return the page
+     */
+    private Page<T> forward(NavigableMap<String, T> tail, String cursor, int pageSize) {
+        List<T> items = new ArrayList<>(pageSize);
+        String firstCursor = null;
+        String lastCursor = null;
+        boolean hasNext = false;
+
+        for (Map.Entry<String, T> entry : tail.entrySet()) {
+            if (!filter.test(entry.getValue())) {
+                continue;
+            }
+            if (items.size() == pageSize) {
+                hasNext = true;
+                break;
+            }
+            items.add(entry.getValue());
+            if (firstCursor == null) {
+                firstCursor = entry.getKey();
+            }
+            lastCursor = entry.getKey();
+        }
+
+        boolean hasPrevious = firstCursor != null ? anyMatch(rows.headMap(firstCursor, false).descendingMap())
+                                                  : cursor != null && anyMatch(rows.headMap(cursor, false).descendingMap());
+        return new Page<>(items, firstCursor, lastCursor, hasPrevious, hasNext);
+    }
+
+    /**
+     * Checks whether any row of a part of the map passes the filter. Parts
+     * before the page are passed in descending order, so the rows nearest to
+     * the page are checked first.
+     *
+     * @param part The part of the map to check
+     * @return true if a matching row exists
+     */
+    private boolean anyMatch(NavigableMap<String, T> part) {
+        for (T row : part.values()) {
+            if (filter.test(row)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,32 @@
+package utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event of a manager approving one application or a batch
+ * of applications.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+@Name("bto.ApplicationApproval")
+@Label("Application Approval")
+@Description("A manager approving one or more pending applications")
+@Category({"BTO", "Domain"})
+public class ApplicationApprovalEvent extends DomainEvent {
+
+    @Label("Applications")
+    private int applications;
+
+    /**
+     * Sets the number of applications approved together.
+     *
+     * @param applications The number of applications
+     */
+    public void setApplications(int applications) {
+        this.applications = applications;
+    }
+}
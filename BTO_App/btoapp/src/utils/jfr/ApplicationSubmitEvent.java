@@ -0,0 +1,32 @@
+package utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import model.enums.FlatType;
+
+/**
+ * Flight Recorder event of an applicant submitting an application.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+@Name("bto.ApplicationSubmit")
+@Label("Application Submit")
+@Description("An applicant applying for a flat in a project")
+@Category({"BTO", "Domain"})
+public class ApplicationSubmitEvent extends DomainEvent {
+
+    @Label("Flat Type")
+    private String flatType;
+
+    /**
+     * Sets the flat type applied for.
+     *
+     * @param flatType The flat type, or null if it is not known
+     */
+    public void setFlatType(FlatType flatType) {
+        this.flatType = flatType != null ? flatType.getDisplayName() : null;
+    }
+}
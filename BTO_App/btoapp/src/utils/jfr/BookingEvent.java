@@ -0,0 +1,33 @@
+package utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import model.enums.FlatType;
+
+/**
+ * Flight Recorder event of an officer booking a flat for a successful
+ * application.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+@Name("bto.Booking")
+@Label("Flat Booking")
+@Description("An officer booking a flat for a successful application")
+@Category({"BTO", "Domain"})
+public class BookingEvent extends DomainEvent {
+
+    @Label("Flat Type")
+    private String flatType;
+
+    /**
+     * Sets the flat type booked.
+     *
+     * @param flatType The flat type, or null if it is not known
+     */
+    public void setFlatType(FlatType flatType) {
+        this.flatType = flatType != null ? flatType.getDisplayName() : null;
+    }
+}
@@ -0,0 +1,71 @@
+package utils.jfr;
+
+import java.io.File;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+/**
+ * Base of the Flight Recorder events of a data manager reading or writing
+ * a whole data file.
+ *
+ * Like {@link DomainEvent}, an event is timed from its creation until it is
+ * closed. The size of the file is read when the event closes, and only when
+ * a recording is taking it, so a load records the bytes read and a save the
+ * bytes written.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+@Category({"BTO", "Data"})
+public abstract class DataFileEvent extends Event implements AutoCloseable {
+
+    // Not private: Flight Recorder leaves out private fields of an event's superclasses
+    @Label("Data Set")
+    String dataSet;
+
+    @Label("File")
+    String file;
+
+    @Label("Rows")
+    long rows;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+
+    /**
+     * Constructor for DataFileEvent. Starts timing.
+     *
+     * @param dataSet The name of the data, such as "applications"
+     * @param file The path of the data file
+     */
+    protected DataFileEvent(String dataSet, String file) {
+        this.dataSet = dataSet;
+        this.file = file;
+        begin();
+    }
+
+    /**
+     * Sets the number of rows read or written, not counting the header.
+     *
+     * @param rows The number of rows
+     */
+    public void setRows(long rows) {
+        this.rows = rows;
+    }
+
+    /**
+     * Ends the event and writes it to the recording, with the size of the
+     * file, if a recording is taking it.
+     */
+    @Override
+    public void close() {
+        end();
+        if (shouldCommit()) {
+            bytes = file != null ? new File(file).length() : 0;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event of a data manager reading a data file.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+@Name("bto.DataLoad")
+@Label("Data Load")
+@Description("A data manager reading and parsing a whole data file")
+@Category({"BTO", "Data"})
+public class DataLoadEvent extends DataFileEvent {
+
+    /**
+     * Constructor for DataLoadEvent. Starts timing.
+     *
+     * @param dataSet The name of the data, such as "applications"
+     * @param file The path of the data file
+     */
+    public DataLoadEvent(String dataSet, String file) {
+        super(dataSet, file);
+    }
+}
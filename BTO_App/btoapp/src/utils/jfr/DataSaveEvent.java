@@ -0,0 +1,29 @@
+package utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event of a data manager rewriting a data file.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+@Name("bto.DataSave")
+@Label("Data Save")
+@Description("A data manager rewriting a whole data file")
+@Category({"BTO", "Data"})
+public class DataSaveEvent extends DataFileEvent {
+
+    /**
+     * Constructor for DataSaveEvent. Starts timing.
+     *
+     * @param dataSet The name of the data, such as "applications"
+     * @param file The path of the data file
+     */
+    public DataSaveEvent(String dataSet, String file) {
+        super(dataSet, file);
+    }
+}
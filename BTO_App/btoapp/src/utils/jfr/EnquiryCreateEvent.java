@@ -0,0 +1,19 @@
+package utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event of an applicant sending an enquiry about a project.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+@Name("bto.EnquiryCreate")
+@Label("Enquiry Create")
+@Description("An applicant sending an enquiry about a project")
+@Category({"BTO", "Domain"})
+public class EnquiryCreateEvent extends DomainEvent {
+}
@@ -0,0 +1,57 @@
+package utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event of a report being exported to a file.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+@Name("bto.ReportExport")
+@Label("Report Export")
+@Description("A report being written to a CSV, JSON lines or binary file")
+@Category({"BTO", "Report"})
+public class ReportExportEvent extends DomainEvent {
+
+    @Label("Format")
+    private String format;
+
+    @Label("Rows")
+    private long rows;
+
+    @Label("Bytes Written")
+    @DataAmount
+    private long bytesWritten;
+
+    /**
+     * Sets the file format.
+     *
+     * @param format The format, with ".gz" appended if compressed
+     */
+    public void setFormat(String format) {
+        this.format = format;
+    }
+
+    /**
+     * Sets the number of entries written.
+     *
+     * @param rows The number of entries
+     */
+    public void setRows(long rows) {
+        this.rows = rows;
+    }
+
+    /**
+     * Sets the size of the written file.
+     *
+     * @param bytesWritten The size in bytes
+     */
+    public void setBytesWritten(long bytesWritten) {
+        this.bytesWritten = bytesWritten;
+    }
+}
@@ -0,0 +1,57 @@
+package utils.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event of a booking report being generated or taken from
+ * the report cache.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+@Name("bto.ReportGenerate")
+@Label("Report Generate")
+@Description("A booking report of a project being generated or read from the cache")
+@Category({"BTO", "Report"})
+public class ReportGenerateEvent extends DomainEvent {
+
+    @Label("Filter")
+    private String filter;
+
+    @Label("Rows")
+    private long rows;
+
+    @Label("Cache Hit")
+    @Description("Whether the report came from the cache rather than being built")
+    private boolean cacheHit;
+
+    /**
+     * Sets the filter of the report.
+     *
+     * @param filter The filter key, empty for the unfiltered report
+     */
+    public void setFilter(String filter) {
+        this.filter = filter;
+    }
+
+    /**
+     * Sets the number of entries in the report.
+     *
+     * @param rows The number of entries
+     */
+    public void setRows(long rows) {
+        this.rows = rows;
+    }
+
+    /**
+     * Sets whether the report came from the cache.
+     *
+     * @param cacheHit true if it was not built
+     */
+    public void setCacheHit(boolean cacheHit) {
+        this.cacheHit = cacheHit;
+    }
+}
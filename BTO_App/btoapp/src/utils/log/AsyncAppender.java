@@ -0,0 +1,158 @@
+package utils.log;
+
+import java.io.PrintStream;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes log messages on a background thread.
+ *
+ * Messages go into a fixed ring buffer of preallocated {@link LogEvent} slots.
+ * A producer claims the next sequence number with a single atomic increment,
+ * fills the slot and publishes it; it never takes a lock or waits for output.
+ * One daemon thread drains the buffer in order and formats each message. If
+ * the buffer is full, producers wait briefly for the writer rather than drop
+ * messages, so errors are never lost.
+ *
+ * Console output goes to whatever {@code System.out} is when the message is
+ * written, so redirecting it, as the benchmarks do, redirects logging too.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+final class AsyncAppender {
+
+    private static final DateTimeFormatter TIME_FORMAT =
+            DateTimeFormatter.ofPattern("HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+    private static final long IDLE_PARK_NANOS = 100_000_000L;
+    private static final long FULL_PARK_NANOS = 50_000L;
+
+    private final LogEvent[] ring;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong();
+    private final PrintStream file;
+    private final Thread writer;
+    private final StringBuilder line = new StringBuilder(256);
+
+    /** Sequence number of the next message to write; advanced only by the writer. */
+    private volatile long next;
+    private volatile boolean sleeping;
+
+    /**
+     * Constructor for AsyncAppender. Starts the writer thread.
+     *
+     * @param capacity Number of slots, rounded up to a power of two
+     * @param file Stream to write to instead of the console, or null for the console
+     */
+    AsyncAppender(int capacity, PrintStream file) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.ring = new LogEvent[size];
+        for (int i = 0; i < size; i++) {
+            ring[i] = new LogEvent();
+        }
+        this.mask = size - 1;
+        this.file = file;
+        this.writer = new Thread(this::drain, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Adds a message to the buffer.
+     *
+     * @param level The level
+     * @param loggerName The logger name
+     * @param message The message
+     * @param cause The exception, or null
+     */
+    void append(Level level, String loggerName, String message, Throwable cause) {
+        long sequence = claimed.getAndIncrement();
+        while (sequence - next >= ring.length) {
+            wakeWriter();
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+        }
+        LogEvent event = ring[(int) sequence & mask];
+        event.set(level, loggerName, message, cause);
+        event.sequence = sequence;
+        if (sleeping) {
+            wakeWriter();
+        }
+    }
+
+    /**
+     * Waits until every message added so far has been written.
+     *
+     * @param timeoutMillis The longest time to wait
+     */
+    void flush(long timeoutMillis) {
+        long target = claimed.get();
+        long deadline = System.nanoTime() + timeoutMillis * 1_000_000L;
+        while (next < target && System.nanoTime() < deadline) {
+            wakeWriter();
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+        }
+        target().flush();
+    }
+
+    /**
+     * Writes messages in order as they are published, parking while there are none.
+     */
+    private void drain() {
+        while (true) {
+            LogEvent event = ring[(int) next & mask];
+            if (event.sequence != next) {
+                target().flush();
+                sleeping = true;
+                // Check again, as a producer may have published before seeing the flag
+                if (event.sequence != next) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                sleeping = false;
+                continue;
+            }
+            write(event);
+            event.clear();
+            next = next + 1;
+        }
+    }
+
+    /**
+     * Formats and writes one message.
+     *
+     * @param event The message
+     */
+    private void write(LogEvent event) {
+        line.setLength(0);
+        TIME_FORMAT.formatTo(Instant.ofEpochMilli(event.timeMillis), line);
+        line.append(' ').append(event.level.name());
+        if (event.level.name().length() == 4) {
+            line.append(' ');
+        }
+        line.append(" [").append(event.threadName).append("] ")
+            .append(event.loggerName).append(" - ").append(event.message);
+        PrintStream out = target();
+        out.println(line);
+        if (event.cause != null) {
+            event.cause.printStackTrace(out);
+        }
+    }
+
+    /**
+     * Gets the stream messages are written to.
+     *
+     * @return the file, or the current console
+     */
+    private PrintStream target() {
+        return file != null ? file : System.out;
+    }
+
+    /**
+     * Wakes the writer thread.
+     */
+    private void wakeWriter() {
+        LockSupport.unpark(writer);
+    }
+}
@@ -0,0 +1,38 @@
+package utils.log;
+
+/**
+ * Severity of a log message, from the most to the least severe.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public enum Level {
+    /** A failure the user or operator must know about. */
+    ERROR,
+    /** Something unexpected that the system recovered from, such as a bad line in a data file. */
+    WARN,
+    /** A notable event in normal operation. */
+    INFO,
+    /** Detail of how an operation ran, for finding faults. */
+    DEBUG,
+    /** Step-by-step detail, usually per row or per item. */
+    TRACE;
+
+    /**
+     * Gets the level with a name, ignoring case.
+     *
+     * @param name The name, such as "debug"
+     * @param fallback The level to use if the name is null or unknown
+     * @return the level
+     */
+    public static Level parse(String name, Level fallback) {
+        if (name != null) {
+            for (Level level : values()) {
+                if (level.name().equalsIgnoreCase(name.trim())) {
+                    return level;
+                }
+            }
+        }
+        return fallback;
+    }
+}
@@ -0,0 +1,132 @@
+package utils.log;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Entry point of the logging of the BTO Management System.
+ *
+ * Each class gets its logger once, into a constant:
+ * <pre>
+ *   private static final Logger LOG = Log.getLogger(ApplicationDataManager.class);
+ * </pre>
+ * Messages at or above the current level are written by a background thread,
+ * to the console or to a file. The level starts at INFO, so DEBUG and TRACE
+ * messages cost a single comparison. Two system properties configure logging:
+ * <ul>
+ *   <li>{@code bto.log.level} - the level, such as DEBUG (default INFO)</li>
+ *   <li>{@code bto.log.file} - a file to append to instead of the console</li>
+ * </ul>
+ * Messages still buffered when the JVM exits are written by a shutdown hook.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public final class Log {
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final long SHUTDOWN_FLUSH_MILLIS = 2000;
+
+    private static final Map<String, Logger> LOGGERS = new ConcurrentHashMap<>();
+    private static volatile Level level = Level.parse(System.getProperty("bto.log.level"), Level.INFO);
+
+    /**
+     * Holds the appender, so its thread starts only when the first message is written.
+     */
+    private static final class AppenderHolder {
+        static final AsyncAppender APPENDER = create();
+
+        /**
+         * Creates the appender and the hook that flushes it at exit.
+         *
+         * @return the appender
+         */
+        private static AsyncAppender create() {
+            AsyncAppender appender = new AsyncAppender(BUFFER_SIZE, openFile(System.getProperty("bto.log.file")));
+            Runtime.getRuntime().addShutdownHook(
+                    new Thread(() -> appender.flush(SHUTDOWN_FLUSH_MILLIS), "log-flush"));
+            return appender;
+        }
+
+        /**
+         * Opens the log file for appending.
+         *
+         * @param path The path, or null
+         * @return the stream, or null to write to the console
+         */
+        private static PrintStream openFile(String path) {
+            if (path == null || path.isEmpty()) {
+                return null;
+            }
+            try {
+                return new PrintStream(new FileOutputStream(path, true), false, StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                System.out.println("Error opening log file " + path + ": " + e.getMessage());
+                return null;
+            }
+        }
+    }
+
+    private Log() {
+    }
+
+    /**
+     * Gets the logger of a class.
+     *
+     * @param type The class
+     * @return the logger, named after the class
+     */
+    public static Logger getLogger(Class<?> type) {
+        return LOGGERS.computeIfAbsent(type.getSimpleName(), Logger::new);
+    }
+
+    /**
+     * Gets the current level.
+     *
+     * @return the level
+     */
+    public static Level getLevel() {
+        return level;
+    }
+
+    /**
+     * Sets the level below which messages are dropped.
+     *
+     * @param newLevel The level
+     */
+    public static void setLevel(Level newLevel) {
+        if (newLevel != null) {
+            level = newLevel;
+        }
+    }
+
+    /**
+     * Tells whether messages of a level are written.
+     *
+     * @param messageLevel The level
+     * @return true if enabled
+     */
+    static boolean isEnabled(Level messageLevel) {
+        return messageLevel.ordinal() <= level.ordinal();
+    }
+
+    /**
+     * Waits until every message logged so far has been written.
+     */
+    public static void flush() {
+        appender().flush(SHUTDOWN_FLUSH_MILLIS);
+    }
+
+    /**
+     * Gets the appender messages are written through.
+     *
+     * @return the appender
+     */
+    static AsyncAppender appender() {
+        return AppenderHolder.APPENDER;
+    }
+}
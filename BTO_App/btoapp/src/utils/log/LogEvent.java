@@ -0,0 +1,52 @@
+package utils.log;
+
+/**
+ * A slot of the appender's ring buffer holding one log message.
+ *
+ * Slots are created once with the buffer and reused for every message, so
+ * logging allocates nothing beyond the message string itself. A slot is
+ * written by the producer that claimed its sequence number and then published
+ * by setting {@link #sequence}; the consumer reads it only after seeing that
+ * sequence.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+final class LogEvent {
+
+    /** Sequence number of the message held, or -1 before the first. Written last. */
+    volatile long sequence = -1;
+
+    long timeMillis;
+    Level level;
+    String loggerName;
+    String threadName;
+    String message;
+    Throwable cause;
+
+    /**
+     * Fills the slot with a message.
+     *
+     * @param level The level
+     * @param loggerName The logger name
+     * @param message The message
+     * @param cause The exception, or null
+     */
+    void set(Level level, String loggerName, String message, Throwable cause) {
+        this.timeMillis = System.currentTimeMillis();
+        this.level = level;
+        this.loggerName = loggerName;
+        this.threadName = Thread.currentThread().getName();
+        this.message = message;
+        this.cause = cause;
+    }
+
+    /**
+     * Empties the slot, so it holds no references once written out.
+     */
+    void clear() {
+        message = null;
+        cause = null;
+        threadName = null;
+    }
+}
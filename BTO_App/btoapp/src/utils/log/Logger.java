@@ -0,0 +1,191 @@
+package utils.log;
+
+import java.util.function.Supplier;
+
+/**
+ * Writes the log messages of one class.
+ *
+ * Messages below the level set in {@link Log} are dropped after a single
+ * comparison. A constant message is passed as it is. A message built from
+ * values is built inside a level check, so nothing is concatenated or
+ * allocated when the level is off:
+ * <pre>
+ *   if (LOG.isDebugEnabled()) {
+ *       LOG.debug("Found " + applications.size() + " applications");
+ *   }
+ * </pre>
+ * The {@link Supplier} overloads defer building too, but allocate a lambda
+ * on each call that captures values, so they are not used on hot paths.
+ * Messages that are written are handed to the asynchronous appender, so the
+ * calling thread never waits for console or file output.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public final class Logger {
+
+    private final String name;
+
+    /**
+     * Constructor for Logger.
+     *
+     * @param name The name shown with each message, usually the simple class name
+     */
+    Logger(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets the logger name.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Tells whether messages of a level are written.
+     *
+     * @param level The level
+     * @return true if enabled
+     */
+    public boolean isEnabled(Level level) {
+        return Log.isEnabled(level);
+    }
+
+    /**
+     * Tells whether debug messages are written.
+     *
+     * @return true if enabled
+     */
+    public boolean isDebugEnabled() {
+        return Log.isEnabled(Level.DEBUG);
+    }
+
+    /**
+     * Writes an error.
+     *
+     * @param message The message
+     */
+    public void error(String message) {
+        log(Level.ERROR, message, null);
+    }
+
+    /**
+     * Writes an error with the exception that caused it.
+     *
+     * @param message The message
+     * @param cause The exception, whose stack trace is written too
+     */
+    public void error(String message, Throwable cause) {
+        log(Level.ERROR, message, cause);
+    }
+
+    /**
+     * Writes a warning.
+     *
+     * @param message The message
+     */
+    public void warn(String message) {
+        log(Level.WARN, message, null);
+    }
+
+    /**
+     * Writes a warning with the exception that caused it.
+     *
+     * @param message The message
+     * @param cause The exception, whose stack trace is written too
+     */
+    public void warn(String message, Throwable cause) {
+        log(Level.WARN, message, cause);
+    }
+
+    /**
+     * Writes a warning built only if warnings are enabled.
+     *
+     * @param message Builds the message
+     */
+    public void warn(Supplier<String> message) {
+        log(Level.WARN, message);
+    }
+
+    /**
+     * Writes an informational message.
+     *
+     * @param message The message
+     */
+    public void info(String message) {
+        log(Level.INFO, message, null);
+    }
+
+    /**
+     * Writes an informational message built only if such messages are enabled.
+     *
+     * @param message Builds the message
+     */
+    public void info(Supplier<String> message) {
+        log(Level.INFO, message);
+    }
+
+    /**
+     * Writes a debug message.
+     *
+     * @param message The message
+     */
+    public void debug(String message) {
+        log(Level.DEBUG, message, null);
+    }
+
+    /**
+     * Writes a debug message built only if debug messages are enabled.
+     *
+     * @param message Builds the message
+     */
+    public void debug(Supplier<String> message) {
+        log(Level.DEBUG, message);
+    }
+
+    /**
+     * Writes a trace message.
+     *
+     * @param message The message
+     */
+    public void trace(String message) {
+        log(Level.TRACE, message, null);
+    }
+
+    /**
+     * Writes a trace message built only if trace messages are enabled.
+     *
+     * @param message Builds the message
+     */
+    public void trace(Supplier<String> message) {
+        log(Level.TRACE, message);
+    }
+
+    /**
+     * Writes a message built only if its level is enabled.
+     *
+     * @param level The level
+     * @param message Builds the message
+     */
+    private void log(Level level, Supplier<String> message) {
+        if (Log.isEnabled(level)) {
+            Log.appender().append(level, name, message.get(), null);
+        }
+    }
+
+    /**
+     * Writes a message if its level is enabled.
+     *
+     * @param level The level
+     * @param message The message
+     * @param cause The exception to write with it, or null
+     */
+    private void log(Level level, String message, Throwable cause) {
+        if (Log.isEnabled(level)) {
+            Log.appender().append(level, name, message, cause);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package utils.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A count of events, such as calls or failures, that only goes up.
+ *
+ * Increments from many threads do not contend, as each thread adds to its
+ * own cell and the cells are summed when the count is read.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public class Counter implements CounterMXBean {
+
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * Adds one to the count.
+     */
+    public void increment() {
+        count.increment();
+    }
+
+    /**
+     * Adds to the count.
+     *
+     * @param amount The amount to add, not negative
+     */
+    public void add(long amount) {
+        count.add(amount);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+}
@@ -0,0 +1,17 @@
+package utils.metrics;
+
+/**
+ * Management interface of a {@link Counter}, as published over JMX.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public interface CounterMXBean {
+
+    /**
+     * Gets the current count.
+     *
+     * @return the count
+     */
+    long getCount();
+}
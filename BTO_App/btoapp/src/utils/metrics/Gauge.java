@@ -0,0 +1,31 @@
+package utils.metrics;
+
+import java.util.function.LongSupplier;
+
+/**
+ * A value read on demand, such as a queue depth.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public class Gauge implements GaugeMXBean {
+
+    private final LongSupplier value;
+
+    /**
+     * Constructor for Gauge.
+     *
+     * @param value Supplies the current value; called from reporting threads
+     */
+    public Gauge(LongSupplier value) {
+        this.value = value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getValue() {
+        return value.getAsLong();
+    }
+}
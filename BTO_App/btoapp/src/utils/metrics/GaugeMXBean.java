@@ -0,0 +1,17 @@
+package utils.metrics;
+
+/**
+ * Management interface of a {@link Gauge}, as published over JMX.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public interface GaugeMXBean {
+
+    /**
+     * Gets the current value.
+     *
+     * @return the value
+     */
+    long getValue();
+}
@@ -0,0 +1,60 @@
+package utils.metrics;
+
+/**
+ * Management interface of a {@link Histogram}, as published over JMX.
+ * Latency histograms record nanoseconds.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public interface HistogramMXBean {
+
+    /**
+     * Gets the number of recorded values.
+     *
+     * @return the count
+     */
+    long getCount();
+
+    /**
+     * Gets the mean of the recorded values.
+     *
+     * @return the mean, or 0 if nothing was recorded
+     */
+    double getMean();
+
+    /**
+     * Gets the largest recorded value.
+     *
+     * @return the maximum, or 0 if nothing was recorded
+     */
+    long getMax();
+
+    /**
+     * Gets the median of the recorded values.
+     *
+     * @return the 50th percentile
+     */
+    long getP50();
+
+    /**
+     * Gets the 90th percentile of the recorded values.
+     *
+     * @return the 90th percentile
+     */
+    long getP90();
+
+    /**
+     * Gets the 99th percentile of the recorded values.
+     *
+     * @return the 99th percentile
+     */
+    long getP99();
+
+    /**
+     * Gets the 99.9th percentile of the recorded values.
+     *
+     * @return the 99.9th percentile
+     */
+    long getP999();
+}
@@ -0,0 +1,139 @@
+package utils.metrics;
+
+import java.util.function.Supplier;
+import utils.trace.Span;
+import utils.trace.Tracer;
+
+/**
+ * Times operations into the shared {@link MetricsRegistry}.
+ *
+ * An operation is timed by running it through {@link #timed(String, Supplier)}:
+ * <pre>
+ *   return Instrumentation.timed("booking.bookFlat", () -&gt; super.bookFlat(applicationId, officer));
+ * </pre>
+ * When the operation returns, normally or by an exception, the elapsed time
+ * in nanoseconds is recorded in the histogram of that name, whose count is
+ * then the number of calls. Code that must time part of a method and use
+ * the result in the same scope can hold a {@link Timer} from
+ * {@link #time(String)} in a try-with-resources block instead. Timing can
+ * be switched off with the system property "bto.metrics.enabled=false",
+ * leaving a single flag check per call.
+ * Within a sampled trace, each timed operation is also a {@link Span} of that
+ * name, child of the operation it was called from.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public final class Instrumentation {
+
+    private static final boolean ENABLED = !"false".equalsIgnoreCase(System.getProperty("bto.metrics.enabled"));
+
+    private static final Timer DISABLED = new Timer(null, Span.NOOP);
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private Instrumentation() {
+        throw new AssertionError("Cannot be instantiated");
+    }
+
+    /**
+     * Starts timing an operation, and opens a span for it if the thread is
+     * in a sampled trace.
+     *
+     * @param name The operation name, used as the histogram name
+     * @return the timer, to be closed when the operation ends
+     */
+    public static Timer time(String name) {
+        Span span = Tracer.span(name);
+        if (ENABLED) {
+            return new Timer(MetricsRegistry.getInstance().histogram(name), span);
+        }
+        return span == Span.NOOP ? DISABLED : new Timer(null, span);
+    }
+
+    /**
+     * Times one call of an operation that returns a result.
+     *
+     * @param name The operation name, used as the histogram name
+     * @param operation The operation
+     * @param <T> The result type
+     * @return the result of the operation
+     */
+    public static <T> T timed(String name, Supplier<T> operation) {
+        Timer timer = time(name);
+        try {
+            return operation.get();
+        } finally {
+            timer.close();
+        }
+    }
+
+    /**
+     * Times one call of an operation without a result.
+     *
+     * @param name The operation name, used as the histogram name
+     * @param operation The operation
+     */
+    public static void timed(String name, Runnable operation) {
+        Timer timer = time(name);
+        try {
+            operation.run();
+        } finally {
+            timer.close();
+        }
+    }
+
+    /**
+     * Counts an event.
+     *
+     * @param name The counter name
+     */
+    public static void count(String name) {
+        if (ENABLED) {
+            MetricsRegistry.getInstance().counter(name).increment();
+        }
+    }
+
+    /**
+     * Tells whether operations are being timed.
+     *
+     * @return true if enabled
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Times one run of an operation, from its creation until it is closed.
+     */
+    public static final class Timer implements AutoCloseable {
+
+        private final Histogram histogram;
+        private final Span span;
+        private final long start;
+
+        /**
+         * Constructor for Timer.
+         *
+         * @param histogram The histogram to record in, or null to record nothing
+         * @param span The span of the operation, or {@link Span#NOOP}
+         */
+        private Timer(Histogram histogram, Span span) {
+            this.histogram = histogram;
+            this.span = span;
+            this.start = histogram == null ? 0 : System.nanoTime();
+        }
+
+        /**
+         * Records the elapsed time and ends the span.
+         */
+        @Override
+        public void close() {
+            if (histogram != null) {
+                histogram.record(System.nanoTime() - start);
+            }
+            span.close();
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package utils.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import utils.log.Log;
+import utils.log.Logger;
+
+/**
+ * Named counters, histograms and gauges of the BTO Management System.
+ *
+ * Metrics are created on first use and live as long as the registry. Names
+ * are dotted paths such as "booking.bookFlat" or "data.applications.load".
+ * A registry with a JMX domain publishes every metric as an MXBean named
+ * {@code <domain>:type=<Counter|Histogram|Gauge>,name=<name>}, so operators
+ * can read them with JConsole or any JMX client.
+ *
+ * Looking up an existing metric is a single concurrent map read, so callers
+ * may look metrics up by name on every call rather than keep references.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public class MetricsRegistry {
+
+    private static final Logger LOG = Log.getLogger(MetricsRegistry.class);
+
+    /** JMX domain of the shared registry. */
+    public static final String DEFAULT_DOMAIN = "bto.metrics";
+
+    private static final MetricsRegistry INSTANCE = new MetricsRegistry(DEFAULT_DOMAIN);
+
+    private final String domain;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, Gauge> gauges = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor for MetricsRegistry.
+     *
+     * @param domain The JMX domain to publish the metrics under, or null not to publish them
+     */
+    public MetricsRegistry(String domain) {
+        this.domain = domain;
+    }
+
+    /**
+     * Gets the shared registry, published over JMX.
+     *
+     * @return the registry
+     */
+    public static MetricsRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Gets or creates a counter.
+     *
+     * @param name The metric name
+     * @return the counter
+     */
+    public Counter counter(String name) {
+        return getOrCreate(counters, name, "Counter", key -> new Counter());
+    }
+
+    /**
+     * Gets or creates a histogram.
+     *
+     * @param name The metric name
+     * @return the histogram
+     */
+    public Histogram histogram(String name) {
+        return getOrCreate(histograms, name, "Histogram", key -> new Histogram());
+    }
+
+    /**
+     * Registers a gauge, replacing any gauge of the same name. Replacing lets
+     * a component that is created again, such as a queue, point the gauge at
+     * the new instance.
+     *
+     * @param name The metric name
+     * @param value Supplies the current value; called from reporting threads
+     * @return the gauge
+     */
+    public Gauge gauge(String name, LongSupplier value) {
+        Gauge gauge = new Gauge(value);
+        gauges.put(name, gauge);
+        register(name, "Gauge", gauge);
+        return gauge;
+    }
+
+    /**
+     * Gets the counters, sorted by name.
+     *
+     * @return a snapshot of the counters
+     */
+    public SortedMap<String, Counter> getCounters() {
+        return Collections.unmodifiableSortedMap(new TreeMap<>(counters));
+    }
+
+    /**
+     * Gets the histograms, sorted by name.
+     *
+     * @return a snapshot of the histograms
+     */
+    public SortedMap<String, Histogram> getHistograms() {
+        return Collections.unmodifiableSortedMap(new TreeMap<>(histograms));
+    }
+
+    /**
+     * Gets the gauges, sorted by name.
+     *
+     * @return a snapshot of the gauges
+     */
+    public SortedMap<String, Gauge> getGauges() {
+        return Collections.unmodifiableSortedMap(new TreeMap<>(gauges));
+    }
+
+    /**
+     * Gets a metric, creating and publishing it if it does not exist.
+     *
+     * @param metrics The metrics of the type
+     * @param name The metric name
+     * @param type The type, as used in the JMX name
+     * @param factory Creates the metric
+     * @param <M> The metric type
+     * @return the metric
+     */
+    private <M> M getOrCreate(Map<String, M> metrics, String name, String type, Function<String, M> factory) {
+        M metric = metrics.get(name);
+        if (metric != null) {
+            return metric;
+        }
+        boolean[] created = new boolean[1];
+        metric = metrics.computeIfAbsent(name, key -> {
+            created[0] = true;
+            return factory.apply(key);
+        });
+        if (created[0]) {
+            register(name, type, metric);
+        }
+        return metric;
+    }
+
+    /**
+     * Publishes a metric over JMX, replacing any metric published under the
+     * same name. Failures are reported and otherwise ignored, as metrics must
+     * never break the operation being measured.
+     *
+     * @param name The metric name
+     * @param type The type, as used in the JMX name
+     * @param metric The metric
+     */
+    private void register(String name, String type, Object metric) {
+        if (domain == null) {
+            return;
+        }
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = objectName(name, type);
+            if (server.isRegistered(objectName)) {
+                server.unregisterMBean(objectName);
+            }
+            server.registerMBean(metric, objectName);
+        } catch (JMException e) {
+            LOG.error("Error publishing metric " + name + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Gets the JMX name of a metric.
+     *
+     * @param name The metric name
+     * @param type The type
+     * @return the JMX name
+     * @throws JMException if the name is not valid
+     */
+    private ObjectName objectName(String name, String type) throws JMException {
+        return new ObjectName(domain + ":type=" + type + ",name=" + ObjectName.quote(name));
+    }
+}
@@ -0,0 +1,128 @@
+package utils.metrics;
+
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import utils.log.Log;
+import utils.log.Logger;
+
+/**
+ * Appends the metrics of a registry to a local log file at a fixed interval.
+ *
+ * Each report is a block starting with a time stamp, with one line per
+ * metric: counters and gauges with their value, histograms with their count,
+ * mean, p50, p90, p99, p99.9 and maximum in microseconds. The values are
+ * totals since start-up. The file is opened for each report, so it can be
+ * rotated or deleted while the application runs.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public class MetricsReporter {
+
+    private static final Logger LOG = Log.getLogger(MetricsReporter.class);
+
+    /** Default log file, from the system property "bto.metrics.log". */
+    public static final String DEFAULT_FILE = System.getProperty("bto.metrics.log", "metrics.log");
+
+    /** Default interval between reports, from the system property "bto.metrics.interval", in seconds. */
+    public static final long DEFAULT_INTERVAL_SECONDS = Long.getLong("bto.metrics.interval", 60);
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
+
+    private final MetricsRegistry registry;
+    private final String file;
+    private final long intervalSeconds;
+    private final ScheduledExecutorService executor;
+
+    /**
+     * Constructor for MetricsReporter with the default file and interval.
+     *
+     * @param registry The registry to report
+     */
+    public MetricsReporter(MetricsRegistry registry) {
+        this(registry, DEFAULT_FILE, DEFAULT_INTERVAL_SECONDS);
+    }
+
+    /**
+     * Constructor for MetricsReporter.
+     *
+     * @param registry The registry to report
+     * @param file The log file to append to
+     * @param intervalSeconds The interval between reports
+     */
+    public MetricsReporter(MetricsRegistry registry, String file, long intervalSeconds) {
+        if (intervalSeconds < 1) {
+            throw new IllegalArgumentException("Interval must be at least one second");
+        }
+        this.registry = registry;
+        this.file = file;
+        this.intervalSeconds = intervalSeconds;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-reporter");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts reporting at the interval.
+     */
+    public void start() {
+        executor.scheduleAtFixedRate(this::reportSafely, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops reporting and writes a last report, so the totals at exit are kept.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+        reportSafely();
+    }
+
+    /**
+     * Appends one report to the log file.
+     *
+     * @throws IOException if the file cannot be written
+     */
+    public void report() throws IOException {
+        try (PrintWriter writer = new PrintWriter(new FileWriter(file, true))) {
+            writer.println("# " + LocalDateTime.now().format(TIMESTAMP_FORMAT));
+            for (Map.Entry<String, Counter> entry : registry.getCounters().entrySet()) {
+                writer.printf(Locale.ROOT, "counter %s count=%d%n", entry.getKey(), entry.getValue().getCount());
+            }
+            for (Map.Entry<String, Gauge> entry : registry.getGauges().entrySet()) {
+                writer.printf(Locale.ROOT, "gauge %s value=%d%n", entry.getKey(), entry.getValue().getValue());
+            }
+            for (Map.Entry<String, Histogram> entry : registry.getHistograms().entrySet()) {
+                Histogram histogram = entry.getValue();
+                writer.printf(Locale.ROOT,
+                              "timer %s count=%d mean_us=%.1f p50_us=%.1f p90_us=%.1f p99_us=%.1f p999_us=%.1f "
+                              + "max_us=%.1f%n",
+                              entry.getKey(), histogram.getCount(), histogram.getMean() / 1000,
+                              histogram.getP50() / 1000.0, histogram.getP90() / 1000.0,
+                              histogram.getP99() / 1000.0, histogram.getP999() / 1000.0,
+                              histogram.getMax() / 1000.0);
+            }
+        }
+    }
+
+    /**
+     * Appends a report, reporting errors instead of letting them cancel the schedule.
+     */
+    private void reportSafely() {
+        try {
+            report();
+        } catch (IOException | RuntimeException e) {
+            LOG.error("Error writing metrics to " + file + ": " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,454 @@
+package utils.metrics;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import utils.log.Log;
+import utils.log.Logger;
+
+/**
+ * Breaks the start-up of the BTO Management System down into phases, such
+ * as loading each data file, and measures each one.
+ *
+ * A phase is measured with try-with-resources around the code it covers:
+ * <pre>
+ *   try (StartupProfiler.Phase phase = profiler.phase("data.projects")) {
+ *       ...
+ *       phase.setRows(projects.size());
+ *   }
+ * </pre>
+ * A phase with no rows to report is closed in a finally block instead, as
+ * a try-with-resources resource that is never referenced draws a lint warning.
+ * Each phase records its wall-clock time, the CPU time and bytes allocated
+ * by the calling thread, the classes loaded and the rows processed. Phases
+ * opened inside another phase are its children. Work handed to background
+ * threads counts towards wall-clock time only.
+ *
+ * Profiling is off unless the system property "bto.startup.profile" is
+ * "true" or "bto.startup.profile.file" names a file; when off, phases are a
+ * shared object that measures nothing. When finished, the profiler prints a
+ * summary table and, if a file is named, writes the measurements to it as
+ * JSON, so start-up can be compared release over release.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public class StartupProfiler {
+
+    private static final Logger LOG = Log.getLogger(StartupProfiler.class);
+
+    private static final Phase NOOP = new Phase(null, "", 0);
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final boolean enabled;
+    private final File file;
+    private final long jvmStartupMillis;
+    private final long gcCountAtStart;
+    private final long gcTimeAtStart;
+    private final long startNanos;
+    private final List<Phase> phases = new ArrayList<>();
+    private final ThreadMXBean threads;
+    private final com.sun.management.ThreadMXBean allocations;
+    private final ClassLoadingMXBean classLoading;
+    private int depth;
+    private long totalNanos = -1;
+
+    /**
+     * Constructor for StartupProfiler.
+     *
+     * @param enabled Whether to measure anything
+     * @param file The file to write the measurements to as JSON, or null not to write one
+     */
+    public StartupProfiler(boolean enabled, File file) {
+        this.enabled = enabled || file != null;
+        this.file = file;
+        // Only touch the management beans when profiling, as loading them slows start-up
+        this.threads = this.enabled ? ManagementFactory.getThreadMXBean() : null;
+        this.allocations = this.enabled ? allocationBean(threads) : null;
+        this.classLoading = this.enabled ? ManagementFactory.getClassLoadingMXBean() : null;
+        this.jvmStartupMillis = this.enabled ? ManagementFactory.getRuntimeMXBean().getUptime() : 0;
+        this.gcCountAtStart = this.enabled ? gcCount() : 0;
+        this.gcTimeAtStart = this.enabled ? gcTimeMillis() : 0;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Creates a profiler configured by the system properties
+     * "bto.startup.profile" and "bto.startup.profile.file".
+     *
+     * @return the profiler
+     */
+    public static StartupProfiler fromSystemProperties() {
+        String fileName = System.getProperty("bto.startup.profile.file");
+        return new StartupProfiler(Boolean.getBoolean("bto.startup.profile"),
+                                   fileName != null && !fileName.isBlank() ? new File(fileName) : null);
+    }
+
+    /**
+     * Starts measuring a phase. The phase ends when it is closed, and must
+     * be closed on the thread that opened it.
+     *
+     * @param name The phase name, a dotted path such as "data.applicants"
+     * @return the phase
+     */
+    public Phase phase(String name) {
+        if (!enabled) {
+            return NOOP;
+        }
+        Phase phase = new Phase(this, name, depth++);
+        phases.add(phase);
+        phase.start();
+        return phase;
+    }
+
+    /**
+     * Tells whether phases are being measured.
+     *
+     * @return true if enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Gets the measured phases, in the order they started.
+     *
+     * @return the phases
+     */
+    public List<Phase> getPhases() {
+        return Collections.unmodifiableList(phases);
+    }
+
+    /**
+     * Ends profiling, prints the summary table and writes the file if one
+     * was named. Does nothing if profiling is off.
+     */
+    public void finish() {
+        if (!enabled) {
+            return;
+        }
+        totalNanos = System.nanoTime() - startNanos;
+        printTable(System.out);
+        if (file != null) {
+            try {
+                writeJson(file);
+                System.out.println("Start-up profile written to " + file);
+            } catch (IOException e) {
+                LOG.error("Error writing start-up profile to " + file + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Prints the phases as a table, children indented under their parents.
+     *
+     * @param out The stream to print to
+     */
+    public void printTable(PrintStream out) {
+        out.println();
+        out.println("START-UP PROFILE");
+        out.printf(Locale.ROOT, "JVM start to profiler: %d ms, profiled: %.1f ms, GC: %d collections, %d ms%n",
+                   jvmStartupMillis, totalNanos() / NANOS_PER_MILLI, gcCount() - gcCountAtStart,
+                   gcTimeMillis() - gcTimeAtStart);
+        out.printf("%-36s %10s %10s %12s %8s %10s%n", "Phase", "Wall ms", "CPU ms", "Allocated", "Classes", "Rows");
+        for (Phase phase : phases) {
+            String name = "  ".repeat(phase.depth) + phase.name;
+            out.printf(Locale.ROOT, "%-36s %10.1f %10.1f %12s %8d %10s%n", name,
+                       phase.wallNanos / NANOS_PER_MILLI, phase.cpuNanos / NANOS_PER_MILLI,
+                       formatBytes(phase.allocatedBytes), phase.loadedClasses,
+                       phase.rows >= 0 ? String.valueOf(phase.rows) : "-");
+        }
+    }
+
+    /**
+     * Writes the measurements as a JSON object.
+     *
+     * @param target The file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void writeJson(File target) throws IOException {
+        StringBuilder json = new StringBuilder();
+        json.append("{\n  \"timestamp\": ");
+        appendString(json, OffsetDateTime.now().toString());
+        json.append(",\n  \"javaVersion\": ");
+        appendString(json, System.getProperty("java.version"));
+        json.append(",\n  \"maxHeapBytes\": ").append(Runtime.getRuntime().maxMemory());
+        json.append(",\n  \"jvmStartupMillis\": ").append(jvmStartupMillis);
+        json.append(",\n  \"totalWallNanos\": ").append(totalNanos());
+        json.append(",\n  \"gcCount\": ").append(gcCount() - gcCountAtStart);
+        json.append(",\n  \"gcTimeMillis\": ").append(gcTimeMillis() - gcTimeAtStart);
+        json.append(",\n  \"phases\": [");
+        for (int i = 0; i < phases.size(); i++) {
+            Phase phase = phases.get(i);
+            json.append(i == 0 ? "\n" : ",\n").append("    {\"name\": ");
+            appendString(json, phase.name);
+            json.append(", \"depth\": ").append(phase.depth)
+                .append(", \"wallNanos\": ").append(phase.wallNanos)
+                .append(", \"cpuNanos\": ").append(phase.cpuNanos)
+                .append(", \"allocatedBytes\": ").append(phase.allocatedBytes)
+                .append(", \"loadedClasses\": ").append(phase.loadedClasses)
+                .append(", \"rows\": ").append(phase.rows).append('}');
+        }
+        json.append("\n  ]\n}\n");
+
+        if (target.getParentFile() != null) {
+            target.getParentFile().mkdirs();
+        }
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(target))) {
+            writer.write(json.toString());
+        }
+    }
+
+    /**
+     * Gets the time from the profiler's creation until it finished, or
+     * until now if it has not.
+     *
+     * @return the time in nanoseconds
+     */
+    private long totalNanos() {
+        return totalNanos >= 0 ? totalNanos : System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Reads the CPU time used so far by the current thread.
+     *
+     * @return the CPU time in nanoseconds, or -1 if not supported
+     */
+    private long threadCpuNanos() {
+        return threads.isCurrentThreadCpuTimeSupported() ? threads.getCurrentThreadCpuTime() : -1;
+    }
+
+    /**
+     * Reads the bytes allocated so far by the current thread.
+     *
+     * @return the allocated bytes, or -1 if not supported
+     */
+    private long threadAllocatedBytes() {
+        return allocations != null ? allocations.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    /**
+     * Formats a number of bytes for the table.
+     *
+     * @param bytes The bytes, or a negative number if unknown
+     * @return the formatted size
+     */
+    private static String formatBytes(long bytes) {
+        if (bytes < 0) {
+            return "-";
+        }
+        if (bytes < 1024 * 1024) {
+            return String.format(Locale.ROOT, "%.1f KB", bytes / 1024.0);
+        }
+        return String.format(Locale.ROOT, "%.1f MB", bytes / (1024.0 * 1024));
+    }
+
+    /**
+     * Appends a JSON string.
+     *
+     * @param json The JSON being built
+     * @param value The string
+     */
+    private static void appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        json.append('"');
+    }
+
+    /**
+     * Gets the number of collections so far, summed over all collectors.
+     *
+     * @return the collection count
+     */
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(collector.getCollectionCount(), 0);
+        }
+        return count;
+    }
+
+    /**
+     * Gets the time spent collecting so far, summed over all collectors.
+     *
+     * @return the collection time in milliseconds
+     */
+    private static long gcTimeMillis() {
+        long time = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            time += Math.max(collector.getCollectionTime(), 0);
+        }
+        return time;
+    }
+
+    /**
+     * Gets the thread bean with allocation counting switched on.
+     *
+     * @param bean The platform thread bean
+     * @return the bean, or null if the JVM does not support it
+     */
+    private static com.sun.management.ThreadMXBean allocationBean(ThreadMXBean bean) {
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean hotspot = (com.sun.management.ThreadMXBean) bean;
+        if (!hotspot.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        hotspot.setThreadAllocatedMemoryEnabled(true);
+        return hotspot;
+    }
+
+    /**
+     * One measured phase of start-up.
+     */
+    public static final class Phase implements AutoCloseable {
+
+        private final StartupProfiler profiler;
+        private final String name;
+        private final int depth;
+        private long startNanos;
+        private long startCpuNanos;
+        private long startAllocatedBytes;
+        private long startLoadedClasses;
+        private long wallNanos;
+        private long cpuNanos;
+        private long allocatedBytes;
+        private long loadedClasses;
+        private long rows = -1;
+
+        /**
+         * Constructor for Phase.
+         *
+         * @param profiler The profiler measuring the phase, or null for the phase that measures nothing
+         * @param name The phase name
+         * @param depth The number of phases enclosing this one
+         */
+        private Phase(StartupProfiler profiler, String name, int depth) {
+            this.profiler = profiler;
+            this.name = name;
+            this.depth = depth;
+        }
+
+        /**
+         * Reads the counters at the start of the phase.
+         */
+        private void start() {
+            startLoadedClasses = profiler.classLoading.getTotalLoadedClassCount();
+            startAllocatedBytes = profiler.threadAllocatedBytes();
+            startCpuNanos = profiler.threadCpuNanos();
+            startNanos = System.nanoTime();
+        }
+
+        /**
+         * Sets the number of rows the phase processed, such as the rows of
+         * a data file it loaded.
+         *
+         * @param rows The number of rows
+         */
+        public void setRows(long rows) {
+            this.rows = rows;
+        }
+
+        /**
+         * Gets the phase name.
+         *
+         * @return the name
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Gets the number of phases enclosing this one.
+         *
+         * @return the depth, 0 for a top-level phase
+         */
+        public int getDepth() {
+            return depth;
+        }
+
+        /**
+         * Gets the wall-clock time of the phase.
+         *
+         * @return the time in nanoseconds
+         */
+        public long getWallNanos() {
+            return wallNanos;
+        }
+
+        /**
+         * Gets the CPU time used by the thread during the phase.
+         *
+         * @return the time in nanoseconds, or -1 if not supported
+         */
+        public long getCpuNanos() {
+            return cpuNanos;
+        }
+
+        /**
+         * Gets the bytes allocated by the thread during the phase.
+         *
+         * @return the bytes, or -1 if not supported
+         */
+        public long getAllocatedBytes() {
+            return allocatedBytes;
+        }
+
+        /**
+         * Gets the number of classes loaded during the phase, by any thread.
+         *
+         * @return the number of classes
+         */
+        public long getLoadedClasses() {
+            return loadedClasses;
+        }
+
+        /**
+         * Gets the number of rows the phase processed.
+         *
+         * @return the rows, or -1 if not set
+         */
+        public long getRows() {
+            return rows;
+        }
+
+        /**
+         * Ends the phase and records its measurements.
+         */
+        @Override
+        public void close() {
+            if (profiler == null) {
+                return;
+            }
+            wallNanos = System.nanoTime() - startNanos;
+            long cpu = profiler.threadCpuNanos();
+            cpuNanos = cpu >= 0 && startCpuNanos >= 0 ? cpu - startCpuNanos : -1;
+            long allocated = profiler.threadAllocatedBytes();
+            allocatedBytes = allocated >= 0 && startAllocatedBytes >= 0 ? allocated - startAllocatedBytes : -1;
+            loadedClasses = profiler.classLoading.getTotalLoadedClassCount() - startLoadedClasses;
+            profiler.depth--;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package utils.trace;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One timed piece of work within a trace, such as a menu action or a
+ * controller call made during it.
+ *
+ * A span is opened through {@link Tracer} and closed with try-with-resources,
+ * which makes it the current span of its thread in between, so spans opened
+ * inside it become its children. Closing a span records it to the trace file.
+ * Spans not being sampled are the shared {@link #NOOP} span, whose methods do
+ * nothing.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public class Span implements AutoCloseable {
+
+    /** The span returned when nothing is being traced. */
+    public static final Span NOOP = new Span(null, 0, null, null);
+
+    private final String name;
+    private final long traceId;
+    private final Span parent;
+    private final Span previous;
+    private final Thread thread;
+    private final long startNanos;
+    private List<String[]> tags;
+
+    /**
+     * Constructor for Span. Starts timing.
+     *
+     * @param name The span name, a dotted path such as "booking.bookFlat"
+     * @param traceId The trace the span belongs to
+     * @param parent The enclosing span, or null for the root of a trace
+     * @param previous The current span of the thread before this one, restored on close
+     */
+    Span(String name, long traceId, Span parent, Span previous) {
+        this.name = name;
+        this.traceId = traceId;
+        this.parent = parent;
+        this.previous = previous;
+        this.thread = Thread.currentThread();
+        this.startNanos = name == null ? 0 : System.nanoTime();
+    }
+
+    /**
+     * Adds a detail shown with the span in the trace viewer.
+     *
+     * @param key The name of the detail
+     * @param value The value
+     * @return this span
+     */
+    public Span tag(String key, Object value) {
+        if (this != NOOP) {
+            if (tags == null) {
+                tags = new ArrayList<>(2);
+            }
+            tags.add(new String[] {key, String.valueOf(value)});
+        }
+        return this;
+    }
+
+    /**
+     * Ends the span and records it.
+     */
+    @Override
+    public void close() {
+        if (this == NOOP) {
+            return;
+        }
+        Tracer.writer().write(this, startNanos, System.nanoTime());
+        Tracer.restore(previous);
+    }
+
+    /**
+     * Gets the span name.
+     *
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the id of the trace the span belongs to.
+     *
+     * @return the trace id
+     */
+    public long getTraceId() {
+        return traceId;
+    }
+
+    /**
+     * Gets the enclosing span.
+     *
+     * @return the parent, or null for the root of a trace
+     */
+    public Span getParent() {
+        return parent;
+    }
+
+    /**
+     * Gets the thread the span ran on.
+     *
+     * @return the thread
+     */
+    Thread getThread() {
+        return thread;
+    }
+
+    /**
+     * Gets the details added to the span.
+     *
+     * @return the key and value pairs, or null if there are none
+     */
+    List<String[]> getTags() {
+        return tags;
+    }
+}
@@ -0,0 +1,191 @@
+package utils.trace;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import utils.log.Log;
+import utils.log.Logger;
+
+/**
+ * Writes spans to a file in the Chrome trace event format.
+ *
+ * The file is a JSON array with one complete ("X") event per span, plus a
+ * metadata event naming each thread the first time it appears. Times are in
+ * microseconds from when tracing started. Events are appended as spans
+ * end and flushed when a trace completes; the array is closed at exit. A file
+ * cut short by a crash still opens, as trace viewers accept an unterminated
+ * array.
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+final class TraceWriter {
+
+    private static final Logger LOG = Log.getLogger(TraceWriter.class);
+
+    private final Writer out;
+    private final long pid;
+    private final Set<Long> namedThreads;
+    private final StringBuilder event;
+    private boolean first;
+    private boolean closed;
+
+    /**
+     * Constructor for TraceWriter.
+     *
+     * @param out Where to write, or null to discard spans
+     */
+    private TraceWriter(Writer out) {
+        this.out = out;
+        this.pid = ProcessHandle.current().pid();
+        this.namedThreads = new HashSet<>();
+        this.event = new StringBuilder(256);
+        this.first = true;
+    }
+
+    /**
+     * Opens a trace file, replacing any file of the same name, and closes it at exit.
+     *
+     * @param path The file path
+     * @return the writer; one that discards spans if the file cannot be created
+     */
+    static TraceWriter open(String path) {
+        TraceWriter writer;
+        try {
+            writer = new TraceWriter(Files.newBufferedWriter(Paths.get(path), StandardCharsets.UTF_8));
+            writer.out.write("[");
+        } catch (IOException e) {
+            LOG.error("Error creating trace file " + path + ": " + e.getMessage());
+            writer = new TraceWriter(null);
+        }
+        TraceWriter created = writer;
+        Runtime.getRuntime().addShutdownHook(new Thread(created::close, "trace-close"));
+        return writer;
+    }
+
+    /**
+     * Appends a span.
+     *
+     * @param span The span
+     * @param startNanos When the span started, from {@link System#nanoTime()}
+     * @param endNanos When the span ended, from {@link System#nanoTime()}
+     */
+    synchronized void write(Span span, long startNanos, long endNanos) {
+        if (out == null || closed) {
+            return;
+        }
+        Thread thread = span.getThread();
+        long tid = thread.getId();
+        event.setLength(0);
+        if (namedThreads.add(tid)) {
+            event.append("{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":").append(pid)
+                 .append(",\"tid\":").append(tid).append(",\"args\":{\"name\":");
+            appendString(thread.getName());
+            event.append("}}");
+            append();
+        }
+
+        String name = span.getName();
+        int dot = name.indexOf('.');
+        event.append("{\"name\":");
+        appendString(name);
+        event.append(",\"cat\":");
+        appendString(dot > 0 ? name.substring(0, dot) : name);
+        event.append(",\"ph\":\"X\",\"ts\":").append(micros(startNanos - Tracer.ORIGIN_NANOS))
+             .append(",\"dur\":").append(micros(endNanos - startNanos))
+             .append(",\"pid\":").append(pid).append(",\"tid\":").append(tid)
+             .append(",\"args\":{\"trace\":").append(span.getTraceId());
+        List<String[]> tags = span.getTags();
+        if (tags != null) {
+            for (String[] tag : tags) {
+                event.append(',');
+                appendString(tag[0]);
+                event.append(':');
+                appendString(tag[1]);
+            }
+        }
+        event.append("}}");
+        append();
+    }
+
+    /**
+     * Writes out buffered events.
+     */
+    synchronized void flush() {
+        if (out == null || closed) {
+            return;
+        }
+        try {
+            out.flush();
+        } catch (IOException e) {
+            LOG.error("Error writing trace file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Ends the JSON array and closes the file. Later spans are discarded.
+     */
+    synchronized void close() {
+        if (out == null || closed) {
+            return;
+        }
+        closed = true;
+        try {
+            out.write("\n]\n");
+            out.close();
+        } catch (IOException e) {
+            LOG.error("Error closing trace file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the event being built, preceded by a separator if it is not the first.
+     */
+    private void append() {
+        try {
+            out.write(first ? "\n" : ",\n");
+            out.append(event);
+            first = false;
+        } catch (IOException e) {
+            LOG.error("Error writing trace file: " + e.getMessage());
+        }
+        event.setLength(0);
+    }
+
+    /**
+     * Appends a JSON string to the event being built.
+     *
+     * @param value The string
+     */
+    private void appendString(String value) {
+        event.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                event.append('\\').append(c);
+            } else if (c < 0x20) {
+                event.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+            } else {
+                event.append(c);
+            }
+        }
+        event.append('"');
+    }
+
+    /**
+     * Converts nanoseconds to microseconds with three decimals.
+     *
+     * @param nanos The nanoseconds
+     * @return the microseconds, formatted
+     */
+    private static String micros(long nanos) {
+        return (nanos / 1000) + "." + String.format(Locale.ROOT, "%03d", Math.abs(nanos % 1000));
+    }
+}
@@ -0,0 +1,227 @@
+package utils.trace;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import utils.log.Log;
+import utils.log.Logger;
+
+/**
+ * Traces where the time of user actions goes.
+ *
+ * A trace starts at a root span, opened by {@link #startTrace} for each menu
+ * action. Only a sampled fraction of root spans are traced; for the rest, and
+ * for everything when tracing is off, every method returns {@link Span#NOOP}
+ * after a single check. Within a sampled trace, {@link #span} opens a child of
+ * the current span. Timed operations open one automatically through
+ * {@link utils.metrics.Instrumentation}, so controller calls and data manager
+ * I/O appear under the menu action that caused them. Work handed to another
+ * thread stays in the trace if the task is passed through {@link #wrap}.
+ *
+ * Spans are written as they end to a file in the Chrome trace event format,
+ * which opens in Perfetto (ui.perfetto.dev) or chrome://tracing. Two system
+ * properties configure tracing:
+ * <ul>
+ *   <li>{@code bto.trace.sample} - the fraction of menu actions to trace,
+ *       from 0 to 1 (default 0, tracing off)</li>
+ *   <li>{@code bto.trace.file} - the file to write (default trace.json),
+ *       replaced at each start</li>
+ * </ul>
+ *
+ * @author Your Name
+ * @version 1.0
+ */
+public final class Tracer {
+
+    private static final Logger LOG = Log.getLogger(Tracer.class);
+
+    private static final double SAMPLE_RATE = parseRate(System.getProperty("bto.trace.sample"));
+    private static final boolean ENABLED = SAMPLE_RATE > 0;
+
+    /** Time trace timestamps are measured from, from {@link System#nanoTime()}. */
+    static final long ORIGIN_NANOS = System.nanoTime();
+
+    private static final ThreadLocal<Span> CURRENT = new ThreadLocal<>();
+    private static final AtomicLong TRACE_IDS = new AtomicLong();
+
+    /**
+     * Holds the writer, so the trace file is created only once something is traced.
+     */
+    private static final class WriterHolder {
+        static final TraceWriter WRITER = TraceWriter.open(System.getProperty("bto.trace.file", "trace.json"));
+    }
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private Tracer() {
+        throw new AssertionError("Cannot be instantiated");
+    }
+
+    /**
+     * Tells whether any actions are traced.
+     *
+     * @return true if the sample rate is above 0
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Starts a trace if this action is sampled. A trace already in progress
+     * on the thread continues instead, with the new span as a child.
+     *
+     * @param name The name of the root span, such as "menu.applicant.1"
+     * @return the root span, or {@link Span#NOOP} if the action is not sampled
+     */
+    public static Span startTrace(String name) {
+        if (!ENABLED) {
+            return Span.NOOP;
+        }
+        Span current = CURRENT.get();
+        if (current != null) {
+            return open(name, current.getTraceId(), current);
+        }
+        if (SAMPLE_RATE < 1 && ThreadLocalRandom.current().nextDouble() >= SAMPLE_RATE) {
+            return Span.NOOP;
+        }
+        return open(name, TRACE_IDS.incrementAndGet(), null);
+    }
+
+    /**
+     * Opens a child of the current span, if the thread is in a sampled trace.
+     *
+     * @param name The span name, such as "booking.bookFlat"
+     * @return the span, or {@link Span#NOOP} if nothing is being traced
+     */
+    public static Span span(String name) {
+        if (!ENABLED) {
+            return Span.NOOP;
+        }
+        Span current = CURRENT.get();
+        return current == null ? Span.NOOP : open(name, current.getTraceId(), current);
+    }
+
+    /**
+     * Gets the current span of the thread.
+     *
+     * @return the span, or null if the thread is not in a sampled trace
+     */
+    public static Span currentSpan() {
+        return ENABLED ? CURRENT.get() : null;
+    }
+
+    /**
+     * Wraps a task so that it runs in the trace of the calling thread, for
+     * handing work to another thread.
+     *
+     * @param task The task
+     * @param <T> The result type
+     * @return the wrapped task, or the task itself if the caller is not in a trace
+     */
+    public static <T> Supplier<T> wrap(Supplier<T> task) {
+        Span context = currentSpan();
+        if (context == null) {
+            return task;
+        }
+        return () -> {
+            Span previous = CURRENT.get();
+            CURRENT.set(context);
+            try {
+                return task.get();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * Wraps a task so that it runs in the trace of the calling thread, for
+     * handing work to another thread.
+     *
+     * @param task The task
+     * @return the wrapped task, or the task itself if the caller is not in a trace
+     */
+    public static BooleanSupplier wrap(BooleanSupplier task) {
+        Span context = currentSpan();
+        if (context == null) {
+            return task;
+        }
+        return () -> {
+            Span previous = CURRENT.get();
+            CURRENT.set(context);
+            try {
+                return task.getAsBoolean();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * Writes out any spans still buffered.
+     */
+    public static void flush() {
+        if (ENABLED) {
+            writer().flush();
+        }
+    }
+
+    /**
+     * Opens a span and makes it current.
+     *
+     * @param name The span name
+     * @param traceId The trace id
+     * @param parent The parent span, or null for a root
+     * @return the span
+     */
+    private static Span open(String name, long traceId, Span parent) {
+        Span span = new Span(name, traceId, parent, CURRENT.get());
+        CURRENT.set(span);
+        return span;
+    }
+
+    /**
+     * Sets the current span of the thread back to what it was before a span
+     * or a wrapped task. Once the thread leaves the trace, its spans are
+     * complete and are written out.
+     *
+     * @param previous The span to make current, or null
+     */
+    static void restore(Span previous) {
+        if (previous == null) {
+            CURRENT.remove();
+            writer().flush();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Gets the writer spans are recorded through.
+     *
+     * @return the writer
+     */
+    static TraceWriter writer() {
+        return WriterHolder.WRITER;
+    }
+
+    /**
+     * Parses the sample rate.
+     *
+     * @param value The property value
+     * @return the rate, from 0 to 1
+     */
+    private static double parseRate(String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return 0;
+        }
+        try {
+            return Math.min(Math.max(Double.parseDouble(value.trim()), 0), 1);
+        } catch (NumberFormatException e) {
+            LOG.warn("Invalid trace sample rate: " + value);
+            return 0;
+        }
+    }
+}
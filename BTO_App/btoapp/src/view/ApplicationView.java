@@ -4,7 +4,6 @@ import controller.*;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Scanner;
 import model.Applicant;
 import model.Application;
 import model.HDBManager;
@@ -13,7 +12,11 @@ import model.Project;
 import model.Receipt;
 import model.User;
 import model.enums.ApplicationStatus;
+import service.BallotService;
+import utils.Page;
+import utils.PageSource;
 import view.abstracts.ARenderView;
+import view.input.ConsoleInputSource;
 import view.interfaces.*;
 
 /**
@@ -23,7 +26,6 @@ public class ApplicationView extends ARenderView implements ViewInterface {
     
     private User currentUser;
     private ApplicationController applicationController;
-    private Scanner scanner;
     private ProjectController projectController;
     private BookingController bookingController;
     
@@ -35,13 +37,33 @@ public class ApplicationView extends ARenderView implements ViewInterface {
      * @param projectController     the controller responsible for project management
      * @param bookingController     the controller responsible for booking management
      */
-    public ApplicationView(User currentUser, ApplicationController applicationController, 
-                      ProjectController projectController, BookingController bookingController) {
+    public ApplicationView(User currentUser,
+                           ApplicationController applicationController,
+                           ProjectController projectController,
+                           BookingController bookingController) {
+        this(currentUser, applicationController, projectController, bookingController,
+             ConsoleInputSource.getInstance());
+    }
+    
+    /**
+     * Constructs an ApplicationView with the specified controllers and current user.
+     *
+     * @param currentUser           the user currently logged in
+     * @param applicationController the controller responsible for application logic
+     * @param projectController     the controller responsible for project management
+     * @param bookingController     the controller responsible for booking management
+     * @param input                 the source of the user's input
+     */
+    public ApplicationView(User currentUser,
+                           ApplicationController applicationController,
+                           ProjectController projectController,
+                           BookingController bookingController,
+                           InputSource input) {
+        super(input);
         this.currentUser = currentUser;
         this.applicationController = applicationController;
         this.projectController = projectController;
         this.bookingController=bookingController;
-        this.scanner = new Scanner(System.in);
     }
     
     /**
@@ -106,14 +128,6 @@ public class ApplicationView extends ARenderView implements ViewInterface {
         
         printHeader("APPLICATIONS FOR: " + selectedProject.getProjectName());
         
-        // Get applications for the selected project
-        List<Application> applications = applicationController.getApplicationsByProject(selectedProject);
-        
-        if (applications.isEmpty()) {
-            showMessage("No applications found for this project.");
-            return;
-        }
-        
         // Filter options
         System.out.println("Filter by status:");
         System.out.println("1. All Applications");
@@ -125,50 +139,48 @@ public class ApplicationView extends ARenderView implements ViewInterface {
         System.out.print("\nEnter selection (1-5): ");
         int filterChoice = getIntInput();
         
-        List<Application> filteredApplications;
+        ApplicationStatus status;
         
         switch (filterChoice) {
             case 2:
-                filteredApplications = applicationController.getApplicationsByStatus(
-                    selectedProject, ApplicationStatus.PENDING);
+                status = ApplicationStatus.PENDING;
                 break;
             case 3:
-                filteredApplications = applicationController.getApplicationsByStatus(
-                    selectedProject, ApplicationStatus.SUCCESSFUL);
+                status = ApplicationStatus.SUCCESSFUL;
                 break;
             case 4:
-                filteredApplications = applicationController.getApplicationsByStatus(
-                    selectedProject, ApplicationStatus.UNSUCCESSFUL);
+                status = ApplicationStatus.UNSUCCESSFUL;
                 break;
             case 5:
-                filteredApplications = applicationController.getApplicationsByStatus(
-                    selectedProject, ApplicationStatus.BOOKED);
+                status = ApplicationStatus.BOOKED;
                 break;
             default:
-                filteredApplications = applications;
+                status = null;
         }
         
+        // Page through the applications, fetching one page at a time
+        PageSource<Application> applicationPages = applicationController.getApplicationPages(selectedProject, status);
+        List<Application> filteredApplications = new Paginator<>(input, applicationPages,
+            this::displayApplicationsList, "application ID").browse();
+        
         if (filteredApplications.isEmpty()) {
             showMessage("No applications found with the selected filter.");
             return;
         }
         
-        displayApplicationsList(filteredApplications);
+        System.out.print("\nEnter application ID to manage, several IDs separated by commas or ALL " +
+                         "for every application on this page, or 0 to return: ");
+        String applicationId = input.nextLine().trim();
         
-        System.out.print("\nEnter application ID to manage, or 0 to return: ");
-        String applicationId = scanner.nextLine();
-        
-        if (!applicationId.equals("0")) {
-            Application selectedApplication = null;
-            for (Application app : filteredApplications) {
-                if (app.getApplicationId().equals(applicationId)) {
-                    selectedApplication = app;
-                    break;
-                }
-            }
+        List<String> selectedIds = parseMultiSelection(applicationId, filteredApplications);
+        if (selectedIds != null) {
+            displayBulkManageApplications(selectedIds, selectedProject, manager);
+        } else if (!applicationId.equals("0")) {
+            // Look the ID up in the index, so applications on other pages can be chosen too
+            Page<Application> match = applicationPages.from(applicationId, 1);
             
-            if (selectedApplication != null) {
-                displayManageApplication(selectedApplication, manager);
+            if (applicationId.equals(match.getFirstCursor())) {
+                displayManageApplication(match.getItems().get(0), manager);
             } else {
                 showError("Invalid application ID.");
             }
@@ -205,7 +217,7 @@ public class ApplicationView extends ARenderView implements ViewInterface {
                           currentApplication.getSelectedFlatType().getDisplayName() + " in " +
                           currentApplication.getProject().getProjectName() + "? (Y/N)");
         
-        String confirm = scanner.nextLine();
+        String confirm = input.nextLine();
         
         if (confirm.equalsIgnoreCase("Y")) {
             boolean requested = applicationController.requestWithdrawal(
@@ -438,10 +450,14 @@ public class ApplicationView extends ARenderView implements ViewInterface {
         
         displayApplicationsList(withdrawalRequests);
         
-        System.out.print("\nEnter application ID to manage, or 0 to return: ");
-        String applicationId = scanner.nextLine();
+        System.out.print("\nEnter application ID to manage, several IDs separated by commas or ALL " +
+                         "to approve in bulk, or 0 to return: ");
+        String applicationId = input.nextLine().trim();
         
-        if (!applicationId.equals("0")) {
+        List<String> selectedIds = parseMultiSelection(applicationId, withdrawalRequests);
+        if (selectedIds != null) {
+            displayBulkApproveWithdrawals(selectedIds, selectedProject, manager);
+        } else if (!applicationId.equals("0")) {
             Application selectedApplication = null;
             for (Application app : withdrawalRequests) {
                 if (app.getApplicationId().equals(applicationId)) {
@@ -458,6 +474,92 @@ public class ApplicationView extends ARenderView implements ViewInterface {
         }
     }
     
+    /**
+     * Displays the interface for balloting the pending applications of a project.
+     */
+    public void displayRunBallot() {
+        if (!(currentUser instanceof HDBManager)) {
+            showError("Only HDB Managers can run ballots.");
+            return;
+        }
+        
+        HDBManager manager = (HDBManager) currentUser;
+        
+        printHeader("RUN APPLICATION BALLOT");
+        
+        // Get projects managed by this manager
+        List<Project> projects = projectController.getProjectsByManager(manager);
+        
+        if (projects.isEmpty()) {
+            showMessage("You are not managing any projects.");
+            return;
+        }
+        
+        System.out.println("Select a project:");
+        int index = 1;
+        for (Project project : projects) {
+            System.out.printf("%d. %s\n", index++, project.getProjectName());
+        }
+        
+        System.out.print("\nEnter selection (1-" + projects.size() + "): ");
+        int projectChoice = getIntInput();
+        
+        if (projectChoice < 1 || projectChoice > projects.size()) {
+            showError("Invalid selection.");
+            return;
+        }
+        
+        Project selectedProject = projects.get(projectChoice - 1);
+        
+        System.out.println("\nSelect priority tiers:");
+        System.out.println("1. Equal priority for all applicants");
+        System.out.println("2. Married applicants first");
+        System.out.print("\nEnter selection (1-2): ");
+        int tierChoice = getIntInput();
+        
+        if (tierChoice != 1 && tierChoice != 2) {
+            showError("Invalid selection.");
+            return;
+        }
+        
+        System.out.print("Enter ballot seed (leave blank for a new seed): ");
+        String seedInput = input.nextLine().trim();
+        long seed;
+        try {
+            seed = seedInput.isEmpty() ? System.currentTimeMillis() : Long.parseLong(seedInput);
+        } catch (NumberFormatException e) {
+            showError("Seed must be a number.");
+            return;
+        }
+        
+        BallotService.Result result = applicationController.runBallot(selectedProject, manager, seed,
+            tierChoice == 2 ? BallotService.MARRIED_FIRST : BallotService.EQUAL_PRIORITY);
+        
+        if (result == null) {
+            showError("Failed to run ballot.");
+            return;
+        }
+        
+        printHeader("BALLOT RESULTS FOR: " + selectedProject.getProjectName());
+        System.out.println("Seed: " + result.getSeed());
+        System.out.println("Flat Type | Units | Successful | Waiting");
+        System.out.println("-------------------------------------------");
+        
+        for (BallotService.FlatTypeResult flatTypeResult : result.getFlatTypeResults().values()) {
+            System.out.printf("%-9s | %5d | %10d | %7d\n",
+                             flatTypeResult.getFlatType().getDisplayName(),
+                             flatTypeResult.getCapacity(),
+                             flatTypeResult.getWinners().size(),
+                             flatTypeResult.getWaitingQueue().size());
+        }
+        
+        if (result.getFlatTypeResults().isEmpty()) {
+            showMessage("No pending applications to ballot.");
+        } else {
+            showMessage(result.getTotalWinners() + " application(s) moved to Successful.");
+        }
+    }
+    
     /**
      * Displays a list of applications.
      * 
@@ -506,7 +608,7 @@ public class ApplicationView extends ARenderView implements ViewInterface {
         }
         
         System.out.println("\nPress Enter to continue...");
-        scanner.nextLine();
+        input.nextLine();
     }
     
     /**
@@ -528,7 +630,7 @@ public class ApplicationView extends ARenderView implements ViewInterface {
             System.out.println("Current status is " + application.getStatus().getDisplayName() + 
                               ". No actions available.");
             System.out.println("\nPress Enter to continue...");
-            scanner.nextLine();
+            input.nextLine();
             return;
         }
         
@@ -606,6 +708,99 @@ public class ApplicationView extends ARenderView implements ViewInterface {
         }
     }
     
+    /**
+     * Parses a multi-selection of application IDs.
+     * 
+     * @param input The user input, either ALL or comma-separated application IDs
+     * @param listedApplications The applications shown to the user
+     * @return The selected application IDs, or null if the input is not a multi-selection
+     */
+    private List<String> parseMultiSelection(String input, List<Application> listedApplications) {
+        List<String> selectedIds = new ArrayList<>();
+        
+        if (input.equalsIgnoreCase("ALL")) {
+            for (Application app : listedApplications) {
+                selectedIds.add(app.getApplicationId());
+            }
+            return selectedIds;
+        }
+        
+        if (!input.contains(",")) {
+            return null;
+        }
+        
+        for (String id : input.split(",")) {
+            if (!id.trim().isEmpty()) {
+                selectedIds.add(id.trim());
+            }
+        }
+        return selectedIds;
+    }
+    
+    /**
+     * Displays bulk management options for several applications.
+     * A batch is applied as a whole or not at all, and only to one project.
+     * 
+     * @param applicationIds The IDs of the selected applications
+     * @param project The project the applications were listed for
+     * @param manager The HDB manager
+     */
+    private void displayBulkManageApplications(List<String> applicationIds, Project project, HDBManager manager) {
+        printHeader("MANAGE " + applicationIds.size() + " APPLICATIONS");
+        
+        System.out.println("Select action:");
+        System.out.println("1. Approve All Selected");
+        System.out.println("2. Reject All Selected");
+        System.out.println("0. Return");
+        
+        System.out.print("\nEnter selection: ");
+        int choice = getIntInput();
+        
+        switch (choice) {
+            case 1:
+                if (applicationController.approveApplications(applicationIds, manager)) {
+                    showMessage(applicationIds.size() + " application(s) approved successfully.");
+                } else {
+                    showError("Failed to approve applications. No application in " + project.getProjectName()
+                              + " or any other project was changed.");
+                }
+                break;
+            case 2:
+                if (applicationController.rejectApplications(applicationIds, manager)) {
+                    showMessage(applicationIds.size() + " application(s) rejected successfully.");
+                } else {
+                    showError("Failed to reject applications. No application in " + project.getProjectName()
+                              + " or any other project was changed.");
+                }
+                break;
+        }
+    }
+    
+    /**
+     * Displays bulk approval of several withdrawal requests.
+     * A batch is applied as a whole or not at all, and only to one project.
+     * 
+     * @param applicationIds The IDs of the selected applications
+     * @param project The project the withdrawal requests were listed for
+     * @param manager The HDB manager
+     */
+    private void displayBulkApproveWithdrawals(List<String> applicationIds, Project project, HDBManager manager) {
+        System.out.println("Approve withdrawal for " + applicationIds.size() + " application(s)? (Y/N)");
+        String confirm = input.nextLine();
+        
+        if (!confirm.equalsIgnoreCase("Y")) {
+            showMessage("Bulk withdrawal approval cancelled.");
+            return;
+        }
+        
+        if (applicationController.approveWithdrawals(applicationIds, manager)) {
+            showMessage(applicationIds.size() + " withdrawal(s) approved successfully.");
+        } else {
+            showError("Failed to approve withdrawals. No application in " + project.getProjectName()
+                      + " or any other project was changed.");
+        }
+    }
+    
     /**
      * Displays a receipt.
      * 
@@ -617,7 +812,7 @@ public class ApplicationView extends ARenderView implements ViewInterface {
         System.out.println(receipt.generateFormattedReceipt());
         
         System.out.println("\nPress Enter to continue...");
-        scanner.nextLine();
+        input.nextLine();
     }
     
     /**
@@ -648,7 +843,7 @@ public class ApplicationView extends ARenderView implements ViewInterface {
     private int getIntInput() {
         while (true) {
             try {
-                return Integer.parseInt(scanner.nextLine());
+                return Integer.parseInt(input.nextLine());
             } catch (NumberFormatException e) {
                 System.out.print("Please enter a valid number: ");
             }
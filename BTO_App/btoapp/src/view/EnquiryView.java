@@ -6,13 +6,14 @@ import enquiry.Enquiry;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Scanner;
 import model.Applicant;
 import model.HDBManager;
 import model.HDBOfficer;
 import model.Project;
 import model.User;
 import view.abstracts.ARenderView;
+import view.input.ConsoleInputSource;
+import view.interfaces.InputSource;
 import view.interfaces.ViewInterface;
 
 /**
@@ -23,7 +24,6 @@ public class EnquiryView extends ARenderView implements ViewInterface {
     private User currentUser;
     private EnquiryController enquiryController;
     private ProjectController projectController;
-    private Scanner scanner;
     
     /**
      * Constructor for EnquiryView.
@@ -32,12 +32,28 @@ public class EnquiryView extends ARenderView implements ViewInterface {
      * @param enquiryController Controller for enquiry operations
      * @param projectController Controller for project operations
      */
-    public EnquiryView(User currentUser, EnquiryController enquiryController, 
-                      ProjectController projectController) {
+    public EnquiryView(User currentUser,
+                       EnquiryController enquiryController,
+                       ProjectController projectController) {
+        this(currentUser, enquiryController, projectController, ConsoleInputSource.getInstance());
+    }
+    
+    /**
+     * Constructor for EnquiryView.
+     * 
+     * @param currentUser The currently logged-in user
+     * @param enquiryController Controller for enquiry operations
+     * @param projectController Controller for project operations
+     * @param input Source of the user's input
+     */
+    public EnquiryView(User currentUser,
+                       EnquiryController enquiryController,
+                       ProjectController projectController,
+                       InputSource input) {
+        super(input);
         this.currentUser = currentUser;
         this.enquiryController = enquiryController;
         this.projectController = projectController;
-        this.scanner = new Scanner(System.in);
     }
     
     /**
@@ -78,7 +94,7 @@ public class EnquiryView extends ARenderView implements ViewInterface {
         Project selectedProject = availableProjects.get(projectChoice - 1);
         
         System.out.println("\nEnter your enquiry:");
-        String enquiryText = scanner.nextLine();
+        String enquiryText = input.nextLine();
         
         if (enquiryText.trim().isEmpty()) {
             showError("Enquiry cannot be empty.");
@@ -119,7 +135,7 @@ public class EnquiryView extends ARenderView implements ViewInterface {
         displayEnquiriesList(enquiries);
         
         System.out.print("\nEnter enquiry ID to view details, or 0 to return: ");
-        String enquiryId = scanner.nextLine();
+        String enquiryId = input.nextLine();
         
         if (!enquiryId.equals("0")) {
             Enquiry selectedEnquiry = null;
@@ -200,7 +216,7 @@ public class EnquiryView extends ARenderView implements ViewInterface {
         displayEnquiriesList(filteredEnquiries);
         
         System.out.print("\nEnter enquiry ID to view/reply, or 0 to return: ");
-        String enquiryId = scanner.nextLine();
+        String enquiryId = input.nextLine();
         
         if (!enquiryId.equals("0")) {
             Enquiry selectedEnquiry = null;
@@ -282,7 +298,7 @@ public class EnquiryView extends ARenderView implements ViewInterface {
         displayEnquiriesList(filteredEnquiries);
         
         System.out.print("\nEnter enquiry ID to view/reply, or 0 to return: ");
-        String enquiryId = scanner.nextLine();
+        String enquiryId = input.nextLine();
         
         if (!enquiryId.equals("0")) {
             Enquiry selectedEnquiry = null;
@@ -318,7 +334,7 @@ public class EnquiryView extends ARenderView implements ViewInterface {
         for (Enquiry enquiry : enquiries) {
             System.out.printf("%-20s | %-15s | %-16s | %s\n",
                              enquiry.getEnquiryId(),
-                             enquiry.getProject().getProjectName(),
+                             getProjectName(enquiry),
                              dateFormat.format(enquiry.getSubmissionDate()),
                              enquiry.isAnswered() ? "Answered" : "Pending");
         }
@@ -335,7 +351,7 @@ public class EnquiryView extends ARenderView implements ViewInterface {
         SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy HH:mm");
         
         System.out.println("Enquiry ID: " + enquiry.getEnquiryId());
-        System.out.println("Project: " + enquiry.getProject().getProjectName());
+        System.out.println("Project: " + getProjectName(enquiry));
         System.out.println("Applicant: " + enquiry.getApplicant().getName());
         System.out.println("Submission Date: " + dateFormat.format(enquiry.getSubmissionDate()));
         System.out.println("Status: " + (enquiry.isAnswered() ? "Answered" : "Pending"));
@@ -374,7 +390,7 @@ public class EnquiryView extends ARenderView implements ViewInterface {
             }
         } else {
             System.out.println("\nPress Enter to continue...");
-            scanner.nextLine();
+            input.nextLine();
         }
     }
     
@@ -397,7 +413,7 @@ public class EnquiryView extends ARenderView implements ViewInterface {
             }
         } else {
             System.out.println("\nPress Enter to continue...");
-            scanner.nextLine();
+            input.nextLine();
         }
     }
     
@@ -420,7 +436,7 @@ public class EnquiryView extends ARenderView implements ViewInterface {
             }
         } else {
             System.out.println("\nPress Enter to continue...");
-            scanner.nextLine();
+            input.nextLine();
         }
     }
     
@@ -436,7 +452,7 @@ public class EnquiryView extends ARenderView implements ViewInterface {
         System.out.println(enquiry.getEnquiryText());
         
         System.out.println("\nEnter new enquiry text:");
-        String newText = scanner.nextLine();
+        String newText = input.nextLine();
         
         if (newText.trim().isEmpty()) {
             showError("Enquiry text cannot be empty.");
@@ -462,7 +478,7 @@ public class EnquiryView extends ARenderView implements ViewInterface {
         printHeader("DELETE ENQUIRY");
         
         System.out.println("Are you sure you want to delete this enquiry? (Y/N)");
-        String confirm = scanner.nextLine();
+        String confirm = input.nextLine();
         
         if (confirm.equalsIgnoreCase("Y")) {
             boolean deleted = enquiryController.deleteEnquiry(
@@ -488,7 +504,7 @@ public class EnquiryView extends ARenderView implements ViewInterface {
         printHeader("REPLY TO ENQUIRY");
         
         System.out.println("Enter your reply:");
-        String replyText = scanner.nextLine();
+        String replyText = input.nextLine();
         
         if (replyText.trim().isEmpty()) {
             showError("Reply text cannot be empty.");
@@ -532,6 +548,16 @@ public class EnquiryView extends ARenderView implements ViewInterface {
         System.out.println("\n!!! ERROR: " + error);
     }
 
+    /**
+     * Gets the name of the project an enquiry is about.
+     *
+     * @param enquiry The enquiry
+     * @return the project name, or "Unknown" if its project no longer exists
+     */
+    private String getProjectName(Enquiry enquiry) {
+        return enquiry.getProject() != null ? enquiry.getProject().getProjectName() : "Unknown";
+    }
+
     /**
      * Gets an integer input from the user.
      * 
@@ -540,7 +566,7 @@ public class EnquiryView extends ARenderView implements ViewInterface {
     private int getIntInput() {
         while (true) {
             try {
-                return Integer.parseInt(scanner.nextLine());
+                return Integer.parseInt(input.nextLine());
             } catch (NumberFormatException e) {
                 System.out.print("Please enter a valid number: ");
             }
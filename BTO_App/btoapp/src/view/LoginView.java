@@ -1,9 +1,10 @@
 package view;
 
 import controller.AuthenticationController;
-import java.util.Scanner;
 import model.User;
 import view.abstracts.ARenderView;
+import view.input.ConsoleInputSource;
+import view.interfaces.InputSource;
 import view.interfaces.ViewInterface;
 
 /**
@@ -12,7 +13,6 @@ import view.interfaces.ViewInterface;
 public class LoginView extends ARenderView implements ViewInterface{
     
     private AuthenticationController authController;
-    private Scanner scanner;
     
     /**
      * Constructor for LoginView.
@@ -20,31 +20,42 @@ public class LoginView extends ARenderView implements ViewInterface{
      * @param authController The authentication controller to use
      */
     public LoginView(AuthenticationController authController) {
+        this(authController, ConsoleInputSource.getInstance());
+    }
+    
+    /**
+     * Constructor for LoginView.
+     * 
+     * @param authController The authentication controller to use
+     * @param input Source of the user's input
+     */
+    public LoginView(AuthenticationController authController,
+                     InputSource input) {
+        super(input);
         this.authController = authController;
-        this.scanner = new Scanner(System.in);
     }
     
     /**
-     * Displays the login form and attempts to authenticate the user.
+     * Displays the login form, authenticates the user and starts a session.
      * 
-     * @return The authenticated user, or null if authentication fails
+     * @return The session token, or null if authentication fails
      */
-    public User displayAndGetUser() {
+    public String displayAndLogin() {
         printHeader("BTO MANAGEMENT SYSTEM LOGIN");
         
         // Get NRIC
         System.out.print("Enter NRIC: ");
-        String nric = scanner.nextLine();
+        String nric = input.nextLine();
         
         // Get password
         System.out.print("Enter Password: ");
-        String password = scanner.nextLine();
+        String password = input.nextLine();
         
         User user = authController.authenticateAndLinkApplications(nric, password);
         
         if (user != null) {
             System.out.println(">>> Login successful! Welcome, " + user.getName());
-            return user;
+            return authController.createSession(user);
         } else {
             System.out.println("Login failed!");
             showError("Invalid credentials. Please try again.");
@@ -3,9 +3,11 @@ package view;
 import controller.*;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Scanner;
 import model.User;
+import service.ReportService;
 import view.abstracts.ARenderView;
+import view.input.ConsoleInputSource;
+import view.interfaces.InputSource;
 import view.interfaces.ViewInterface;
 import view.menu.MenuAction;
 import view.menu.MenuBuilder;
@@ -20,51 +22,79 @@ import view.menu.MenuBuilderFactory;
  */
 public class MainMenuView extends ARenderView implements ViewInterface{
     
+    private String sessionToken;
     private User currentUser;
     private MenuNavigator menuNavigator;
     private MenuBuilder menuBuilder;
     private Map<Integer, MenuAction> menuActions;
-    private Scanner scanner;
     private AuthenticationController authController;
     private BookingController bookingController;
     
     /**
      * Constructor for MainMenuView.
      * 
-     * @param currentUser The currently logged-in user.
+     * @param sessionToken The session of the logged-in user.
      * @param projectController Controller for project operations.
      * @param applicationController Controller for application operations.
      * @param enquiryController Controller for enquiry operations.
      * @param managerController Controller for manager operations.
      * @param authController Controller for authentication operations.
      * @param bookingController Controller for booking operations.
+     * @param reportService Service for generating and exporting reports.
      */
-    public MainMenuView(User currentUser, 
-                       ProjectController projectController,
-                       ApplicationController applicationController,
-                       EnquiryController enquiryController,
-                       ManagerController managerController,
-                       AuthenticationController authController,
-                       BookingController bookingController) {
-        this.currentUser = currentUser;
+    public MainMenuView(String sessionToken,
+                        ProjectController projectController,
+                        ApplicationController applicationController,
+                        EnquiryController enquiryController,
+                        ManagerController managerController,
+                        AuthenticationController authController,
+                        BookingController bookingController,
+                        ReportService reportService) {
+        this(sessionToken, projectController, applicationController, enquiryController, managerController,
+             authController, bookingController, reportService, ConsoleInputSource.getInstance());
+    }
+    
+    /**
+     * Constructor for MainMenuView.
+     * 
+     * @param sessionToken The session of the logged-in user.
+     * @param projectController Controller for project operations.
+     * @param applicationController Controller for application operations.
+     * @param enquiryController Controller for enquiry operations.
+     * @param managerController Controller for manager operations.
+     * @param authController Controller for authentication operations.
+     * @param bookingController Controller for booking operations.
+     * @param reportService Service for generating and exporting reports.
+     * @param input Source of the user's input.
+     */
+    public MainMenuView(String sessionToken,
+                        ProjectController projectController,
+                        ApplicationController applicationController,
+                        EnquiryController enquiryController,
+                        ManagerController managerController,
+                        AuthenticationController authController,
+                        BookingController bookingController,
+                        ReportService reportService,
+                        InputSource input) {
+        super(input);
+        this.sessionToken = sessionToken;
+        this.currentUser = authController.resolveSession(sessionToken);
         this.authController=authController;
         this.bookingController=bookingController;
-        this.scanner = new Scanner(System.in);
-        
         // Initialize menu builder based on user role
         this.menuBuilder = MenuBuilderFactory.createMenuBuilder(currentUser);
-        
         // Initialize menu navigator
         this.menuNavigator = new MenuNavigator(
-            currentUser, 
+            sessionToken, 
             projectController, 
             applicationController, 
             enquiryController,
             managerController,
             authController,
-            bookingController
+            bookingController,
+            reportService,
+            input
         );
-        
         // Build menu actions
         this.menuActions = new HashMap<>();
     }
@@ -76,6 +106,12 @@ public class MainMenuView extends ARenderView implements ViewInterface{
         boolean exit = false;
         
         while (!exit) {
+            // Stop if the session expired while the user was idle
+            if (authController.resolveSession(sessionToken) == null) {
+                showError("Your session has expired. Please log in again.");
+                break;
+            }
+            
             printHeader("MAIN MENU - " + currentUser.getRole().getDisplayName());
             
             // Get and display menu options for current user
@@ -89,7 +125,7 @@ public class MainMenuView extends ARenderView implements ViewInterface{
             System.out.print("\nEnter your choice: ");
             int choice;
             try {
-                choice = Integer.parseInt(scanner.nextLine());
+                choice = Integer.parseInt(input.nextLine());
             } catch (NumberFormatException e) {
                 showError("Invalid input. Please enter a number.");
                 continue;
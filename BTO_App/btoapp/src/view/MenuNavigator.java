@@ -7,12 +7,18 @@ import model.Applicant;
 import model.HDBManager;
 import model.HDBOfficer;
 import model.User;
+import service.ReportService;
+import utils.trace.Span;
+import utils.trace.Tracer;
+import view.input.ConsoleInputSource;
+import view.interfaces.InputSource;
 import view.menu.*;
 
 /**
  * Handles navigation between different views based on menu selections.
  */
 public class MenuNavigator {
+    private String sessionToken;
     private User currentUser;
     private ProjectController projectController;
     private ApplicationController applicationController;
@@ -20,6 +26,8 @@ public class MenuNavigator {
     private ManagerController managerController;
     private AuthenticationController authController;
     private BookingController bookingController;
+    private ReportService reportService;
+    private InputSource input;
     
     private Map<Integer, MenuAction> applicantActions;
     private Map<Integer, MenuAction> officerActions;
@@ -28,34 +36,80 @@ public class MenuNavigator {
     /**
      * Constructor for MenuNavigator.
      *
-     * @param currentUser The currently logged-in user
+     * @param sessionToken The session of the logged-in user
      * @param projectController Controller for project operations
      * @param applicationController Controller for application operations
      * @param enquiryController Controller for enquiry operations
      * @param managerController Controller for manager operations
      * @param authController Controller for authentication operations
      * @param bookingController Controller for booking operations
+     * @param reportService Service for generating and exporting reports
      */
-    public MenuNavigator(User currentUser, 
+    public MenuNavigator(String sessionToken, 
                          ProjectController projectController,
                          ApplicationController applicationController,
                          EnquiryController enquiryController,
                          ManagerController managerController,
                          AuthenticationController authController,
-                         BookingController bookingController) {
-        this.currentUser = currentUser;
+                         BookingController bookingController,
+                         ReportService reportService) {
+        this(sessionToken, projectController, applicationController, enquiryController, managerController,
+             authController, bookingController, reportService, ConsoleInputSource.getInstance());
+    }
+    
+    /**
+     * Constructor for MenuNavigator with the source the views read input from.
+     *
+     * @param sessionToken The session of the logged-in user
+     * @param projectController Controller for project operations
+     * @param applicationController Controller for application operations
+     * @param enquiryController Controller for enquiry operations
+     * @param managerController Controller for manager operations
+     * @param authController Controller for authentication operations
+     * @param bookingController Controller for booking operations
+     * @param reportService Service for generating and exporting reports
+     * @param input Source of the user's input, such as the console or a script
+     */
+    public MenuNavigator(String sessionToken, 
+                         ProjectController projectController,
+                         ApplicationController applicationController,
+                         EnquiryController enquiryController,
+                         ManagerController managerController,
+                         AuthenticationController authController,
+                         BookingController bookingController,
+                         ReportService reportService,
+                         InputSource input) {
+        this.sessionToken = sessionToken;
+        this.currentUser = authController.resolveSession(sessionToken);
         this.projectController = projectController;
         this.applicationController = applicationController;
         this.enquiryController = enquiryController;
         this.managerController=managerController;
         this.authController=authController;
         this.bookingController=bookingController;
+        this.reportService = reportService;
+        this.input = input;
+        
+        if (currentUser == null) {
+            throw new IllegalArgumentException("Invalid or expired session");
+        }
+        
+        bindUser(currentUser);
+    }
+    
+    /**
+     * Builds the views and menu actions of a user, who then acts in every action.
+     *
+     * @param user The user of the session
+     */
+    private void bindUser(User user) {
+        this.currentUser = user;
         
         // Initialize view instances
-        ProjectView projectView = new ProjectView(currentUser, projectController, applicationController,managerController);
-        ApplicationView applicationView = new ApplicationView(currentUser, applicationController, projectController, bookingController);
-        EnquiryView enquiryView = new EnquiryView(currentUser, enquiryController, projectController);
-        PasswordChangeView passwordView = new PasswordChangeView(currentUser,authController);
+        ProjectView projectView = new ProjectView(currentUser, projectController, applicationController,managerController, input);
+        ApplicationView applicationView = new ApplicationView(currentUser, applicationController, projectController, bookingController, input);
+        EnquiryView enquiryView = new EnquiryView(currentUser, enquiryController, projectController, input);
+        PasswordChangeView passwordView = new PasswordChangeView(currentUser,authController, input);
         
         // Initialize action maps
         if (currentUser instanceof HDBManager) {
@@ -244,7 +298,7 @@ public class MenuNavigator {
         
         managerActions.put(9, () -> {
             HDBManager manager = (HDBManager) currentUser;
-            ReportView reportView = new ReportView(manager, projectController);
+            ReportView reportView = new ReportView(manager, projectController, applicationController, reportService, input);
             reportView.display();
             return true;
         });
@@ -258,25 +312,60 @@ public class MenuNavigator {
             passwordView.display();
             return true;
         });
+        
+        managerActions.put(12, () -> {
+            applicationView.displayRunBallot();
+            return true;
+        });
     }
     
     /**
      * Navigates to the selected menu option.
      * 
+     * The action runs in a trace span named after the role and option, such
+     * as "menu.applicant.1", if tracing samples it. The span covers the whole
+     * action, including time waiting for input; its child spans show the time
+     * spent in controllers and data managers.
+     * 
      * @param option The selected menu option
-     * @return true to continue execution, false to exit
+     * @return true to continue execution, false to exit or if the session has expired
      */
     public boolean navigate(int option) {
-        System.out.println("User role: " + currentUser.getRole());
+        try (Span span = Tracer.startTrace("menu." + currentUser.getRole().name().toLowerCase() + "." + option)) {
+            span.tag("option", option);
+            return navigateTraced(option);
+        }
+    }
+    
+    /**
+     * Navigates to the selected menu option within its trace span.
+     * 
+     * @param option The selected menu option
+     * @return true to continue execution, false to exit or if the session has expired
+     */
+    private boolean navigateTraced(int option) {
+        // Resolve the acting user from the session, stop if it has expired
+        User sessionUser = authController.resolveSession(sessionToken);
+        if (sessionUser == null) {
+            System.out.println("\n!!! ERROR: Your session has expired. Please log in again.");
+            return false;
+        }
+        
+        // Act as the session's user, rebuilding the views if it is no longer the one they were built for
+        if (sessionUser != currentUser) {
+            bindUser(sessionUser);
+        }
+        
+        System.out.println("User role: " + sessionUser.getRole());
         
         MenuAction action = null;
         
-        if (currentUser instanceof HDBOfficer) {
+        if (sessionUser instanceof HDBOfficer) {
             // For officers, always use the mapped action at the given option
             action = officerActions.get(option);
-        } else if (currentUser instanceof HDBManager) {
+        } else if (sessionUser instanceof HDBManager) {
             action = managerActions.get(option);
-        } else if (currentUser instanceof Applicant) {
+        } else if (sessionUser instanceof Applicant) {
             action = applicantActions.get(option);
         }
         
@@ -0,0 +1,143 @@
+package view;
+
+import java.util.List;
+import java.util.function.Consumer;
+import utils.Page;
+import utils.PageSource;
+import view.interfaces.InputSource;
+
+/**
+ * Pages through a list of rows in the BTO Management System.
+ *
+ * Only one page is held at a time. Each command fetches the next page from the
+ * page source using the cursors of the page on screen, so moving around a long
+ * list never loads the whole list.
+ *
+ * @param <T> The type of the rows
+ * @author Your Name
+ * @version 1.0
+ */
+public class Paginator<T> {
+
+    /** Default number of rows per page. */
+    public static final int DEFAULT_PAGE_SIZE = 10;
+
+    private final InputSource input;
+    private final PageSource<T> source;
+    private final Consumer<List<T>> pagePrinter;
+    private final String jumpPrompt;
+    private int pageSize;
+    private Page<T> page;
+    private int pageNumber;
+
+    /**
+     * Constructor for Paginator.
+     *
+     * @param input The source to read commands from
+     * @param source The source of the pages
+     * @param pagePrinter Prints the rows of one page
+     * @param jumpPrompt Prompt for the key to jump to, such as "application ID"
+     */
+    public Paginator(InputSource input, PageSource<T> source, Consumer<List<T>> pagePrinter, String jumpPrompt) {
+        this.input = input;
+        this.source = source;
+        this.pagePrinter = pagePrinter;
+        this.jumpPrompt = jumpPrompt;
+        this.pageSize = DEFAULT_PAGE_SIZE;
+    }
+
+    /**
+     * Shows the first page and lets the user move between pages until they
+     * are done.
+     *
+     * @return the rows of the page on screen when the user finished
+     */
+    public List<T> browse() {
+        page = source.after(null, pageSize);
+        pageNumber = 1;
+
+        while (true) {
+            printPage();
+            if (!page.hasNext() && !page.hasPrevious()) {
+                return page.getItems();
+            }
+
+            System.out.print("[N]ext, [P]revious, [F]irst, [L]ast, [J]ump, page [S]ize, [D]one: ");
+            String command = input.nextLine().trim().toUpperCase();
+
+            switch (command) {
+                case "N":
+                    if (page.hasNext()) {
+                        page = source.after(page.getLastCursor(), pageSize);
+                        pageNumber = pageNumber > 0 ? pageNumber + 1 : 0;
+                    } else {
+                        System.out.println("This is the last page.");
+                    }
+                    break;
+                case "P":
+                    if (page.hasPrevious()) {
+                        page = source.before(page.getFirstCursor(), pageSize);
+                        pageNumber = pageNumber > 1 ? pageNumber - 1 : 0;
+                    } else {
+                        System.out.println("This is the first page.");
+                    }
+                    break;
+                case "F":
+                    page = source.after(null, pageSize);
+                    pageNumber = 1;
+                    break;
+                case "L":
+                    page = source.before(null, pageSize);
+                    pageNumber = 0;
+                    break;
+                case "J":
+                    System.out.print("Enter " + jumpPrompt + " to jump to: ");
+                    page = source.from(input.nextLine().trim(), pageSize);
+                    pageNumber = 0;
+                    break;
+                case "S":
+                    changePageSize();
+                    break;
+                case "D":
+                case "":
+                    return page.getItems();
+                default:
+                    System.out.println("Invalid command.");
+            }
+        }
+    }
+
+    /**
+     * Asks for a new page size and reloads the page on screen from its first row.
+     */
+    private void changePageSize() {
+        System.out.print("Enter rows per page (1-100): ");
+        try {
+            int size = Integer.parseInt(input.nextLine().trim());
+            if (size < 1 || size > 100) {
+                System.out.println("Page size must be between 1 and 100.");
+                return;
+            }
+            pageSize = size;
+            page = page.isEmpty() ? source.after(null, pageSize) : source.from(page.getFirstCursor(), pageSize);
+            pageNumber = page.hasPrevious() ? 0 : 1;
+        } catch (NumberFormatException e) {
+            System.out.println("Please enter a valid number.");
+        }
+    }
+
+    /**
+     * Prints the page on screen with its position.
+     */
+    private void printPage() {
+        if (page.isEmpty()) {
+            System.out.println("No rows to show.");
+            return;
+        }
+        pagePrinter.accept(page.getItems());
+        String position = pageNumber > 0 ? "Page " + pageNumber : "Page";
+        System.out.printf("%s (%d rows)%s%s%n", position, page.getItems().size(),
+                          page.hasPrevious() ? ", more before" : "",
+                          page.hasNext() ? ", more after" : "");
+    }
+}
@@ -1,9 +1,10 @@
 package view;
 
 import controller.AuthenticationController;
-import java.util.Scanner;
 import model.User;
 import view.abstracts.ARenderView;
+import view.input.ConsoleInputSource;
+import view.interfaces.InputSource;
 import view.interfaces.ViewInterface;
 
 /**
@@ -11,7 +12,6 @@ import view.interfaces.ViewInterface;
  */
 public class PasswordChangeView extends ARenderView implements ViewInterface{
     private User currentUser;
-    private Scanner scanner;
     private AuthenticationController authController;
     
     /**
@@ -20,10 +20,24 @@ public class PasswordChangeView extends ARenderView implements ViewInterface{
      * @param currentUser The currently logged-in user
      * @param authController The authentication controller to handle password changes
      */
-    public PasswordChangeView(User currentUser,AuthenticationController authController) {
+    public PasswordChangeView(User currentUser,
+                              AuthenticationController authController) {
+        this(currentUser, authController, ConsoleInputSource.getInstance());
+    }
+    
+    /**
+     * Constructor for PasswordChangeView.
+     *
+     * @param currentUser The currently logged-in user
+     * @param authController The authentication controller to handle password changes
+     * @param input Source of the user's input
+     */
+    public PasswordChangeView(User currentUser,
+                              AuthenticationController authController,
+                              InputSource input) {
+        super(input);
         this.currentUser = currentUser;
         this.authController=authController;
-        this.scanner = new Scanner(System.in);
     }
 
     /**
@@ -33,13 +47,13 @@ public class PasswordChangeView extends ARenderView implements ViewInterface{
         printHeader("CHANGE PASSWORD");
         
         System.out.print("Enter current password: ");
-        String currentPassword = scanner.nextLine();
+        String currentPassword = input.nextLine();
         
         System.out.print("Enter new password: ");
-        String newPassword = scanner.nextLine();
+        String newPassword = input.nextLine();
         
         System.out.print("Confirm new password: ");
-        String confirmPassword = scanner.nextLine();
+        String confirmPassword = input.nextLine();
         
         if (!newPassword.equals(confirmPassword)) {
             showError("New passwords do not match. Password change cancelled.");
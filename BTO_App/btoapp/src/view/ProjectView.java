@@ -8,7 +8,6 @@ import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
-import java.util.Scanner;
 import model.Applicant;
 import model.Application;
 import model.HDBManager;
@@ -17,6 +16,8 @@ import model.Project;
 import model.User;
 import model.enums.FlatType;
 import view.abstracts.ARenderView;
+import view.input.ConsoleInputSource;
+import view.interfaces.InputSource;
 import view.interfaces.ViewInterface;
 
 /**
@@ -28,7 +29,6 @@ public class ProjectView extends ARenderView implements ViewInterface{
     private ProjectController projectController;
     private ApplicationController applicationController;
     private ManagerController managerController;
-    private Scanner scanner;
     
     /**
      * Constructor for ProjectView.
@@ -38,14 +38,33 @@ public class ProjectView extends ARenderView implements ViewInterface{
      * @param applicationController Controller for application operations
      * @param managerController Controller for manager operations
      */
-    public ProjectView(User currentUser, ProjectController projectController, 
-        ApplicationController applicationController,
-        ManagerController managerController) {
+    public ProjectView(User currentUser,
+                       ProjectController projectController,
+                       ApplicationController applicationController,
+                       ManagerController managerController) {
+        this(currentUser, projectController, applicationController, managerController,
+             ConsoleInputSource.getInstance());
+    }
+    
+    /**
+     * Constructor for ProjectView.
+     * 
+     * @param currentUser The currently logged-in user
+     * @param projectController Controller for project operations
+     * @param applicationController Controller for application operations
+     * @param managerController Controller for manager operations
+     * @param input Source of the user's input
+     */
+    public ProjectView(User currentUser,
+                       ProjectController projectController,
+                       ApplicationController applicationController,
+                       ManagerController managerController,
+                       InputSource input) {
+        super(input);
             this.currentUser = currentUser;
             this.projectController = projectController;
             this.applicationController = applicationController;
             this.managerController = managerController;
-            this.scanner = new Scanner(System.in);
     }
 
     /**
@@ -107,7 +126,7 @@ public class ProjectView extends ARenderView implements ViewInterface{
             
             // Option to apply
             System.out.println("\nWould you like to apply for this project? (Y/N)");
-            String applyOption = scanner.nextLine();
+            String applyOption = input.nextLine();
             
             if (applyOption.equalsIgnoreCase("Y")) {
                 applyForProject(applicant, projects.get(choice - 1));
@@ -224,10 +243,10 @@ public class ProjectView extends ARenderView implements ViewInterface{
         printHeader("CREATE NEW PROJECT");
         
         System.out.print("Project Name: ");
-        String projectName = scanner.nextLine();
+        String projectName = input.nextLine();
         
         System.out.print("Neighborhood: ");
-        String neighborhood = scanner.nextLine();
+        String neighborhood = input.nextLine();
         
         // Get flat types
         List<FlatType> flatTypes = new ArrayList<>();
@@ -345,7 +364,7 @@ public class ProjectView extends ARenderView implements ViewInterface{
         System.out.println("\nYou are about to register as an HDB Officer for " + 
                           selectedProject.getProjectName() + ".");
         System.out.print("Confirm registration? (Y/N): ");
-        String confirm = scanner.nextLine();
+        String confirm = input.nextLine();
         
         if (confirm.equalsIgnoreCase("Y")) {
             boolean registered = projectController.registerOfficerForProject(
@@ -387,7 +406,7 @@ public class ProjectView extends ARenderView implements ViewInterface{
         System.out.println("Status: " + (officer.isRegistrationApproved() ? "Approved" : "Pending Approval"));
         
         System.out.println("\nPress Enter to continue...");
-        scanner.nextLine();
+        input.nextLine();
     }
     
     /**
@@ -533,20 +552,20 @@ public class ProjectView extends ARenderView implements ViewInterface{
         System.out.println("\nEnter new values (press Enter to keep current value):");
         
         System.out.print("Project Name [" + project.getProjectName() + "]: ");
-        String projectName = scanner.nextLine();
+        String projectName = input.nextLine();
         if (projectName.trim().isEmpty()) {
             projectName = project.getProjectName();
         }
         
         System.out.print("Neighborhood [" + project.getNeighborhood() + "]: ");
-        String neighborhood = scanner.nextLine();
+        String neighborhood = input.nextLine();
         if (neighborhood.trim().isEmpty()) {
             neighborhood = project.getNeighborhood();
         }
         
         System.out.print("Application Opening Date [" + 
                         dateFormat.format(project.getApplicationOpeningDate()) + "]: ");
-        String openingDateStr = scanner.nextLine();
+        String openingDateStr = input.nextLine();
         Date openingDate = project.getApplicationOpeningDate();
         if (!openingDateStr.trim().isEmpty()) {
             try {
@@ -558,7 +577,7 @@ public class ProjectView extends ARenderView implements ViewInterface{
         
         System.out.print("Application Closing Date [" + 
                         dateFormat.format(project.getApplicationClosingDate()) + "]: ");
-        String closingDateStr = scanner.nextLine();
+        String closingDateStr = input.nextLine();
         Date closingDate = project.getApplicationClosingDate();
         if (!closingDateStr.trim().isEmpty()) {
             try {
@@ -569,7 +588,7 @@ public class ProjectView extends ARenderView implements ViewInterface{
         }
         
         System.out.print("Officer Slots [" + project.getOfficerSlots() + "]: ");
-        String officerSlotsStr = scanner.nextLine();
+        String officerSlotsStr = input.nextLine();
         int officerSlots = project.getOfficerSlots();
         if (!officerSlotsStr.trim().isEmpty()) {
             try {
@@ -648,7 +667,7 @@ public class ProjectView extends ARenderView implements ViewInterface{
         System.out.println("\nCurrent visibility: " + (project.isVisible() ? "Visible" : "Hidden"));
         System.out.println("Toggle to: " + (project.isVisible() ? "Hidden" : "Visible"));
         System.out.print("Confirm toggle? (Y/N): ");
-        String confirm = scanner.nextLine();
+        String confirm = input.nextLine();
         
         if (confirm.equalsIgnoreCase("Y")) {
             boolean toggled = projectController.toggleProjectVisibility(
@@ -786,7 +805,7 @@ public class ProjectView extends ARenderView implements ViewInterface{
         }
         
         System.out.println("\nPress Enter to continue...");
-        scanner.nextLine();
+        input.nextLine();
     }
     
     /**
@@ -829,7 +848,7 @@ public class ProjectView extends ARenderView implements ViewInterface{
         
         // Wait for user to continue
         System.out.println("\nPress Enter to continue...");
-        scanner.nextLine();
+        input.nextLine();
     }
     
     /**
@@ -882,7 +901,7 @@ public class ProjectView extends ARenderView implements ViewInterface{
         System.out.println("Are you sure you want to delete the project: " + project.getProjectName() + "?");
         System.out.println("This action cannot be undone.");
         System.out.print("Type 'DELETE' to confirm: ");
-        String confirmation = scanner.nextLine();
+        String confirmation = input.nextLine();
         
         if (confirmation.equals("DELETE")) {
             boolean deleted = projectController.deleteProject(project.getProjectName(), manager);
@@ -973,7 +992,7 @@ public class ProjectView extends ARenderView implements ViewInterface{
         System.out.println("\nYou are about to apply for a " + selectedFlatType.getDisplayName() + 
                         " flat in " + project.getProjectName() + ".");
         System.out.print("Confirm application? (Y/N): ");
-        String confirm = scanner.nextLine();
+        String confirm = input.nextLine();
         
         if (confirm.equalsIgnoreCase("Y")) {
             // Submit application
@@ -1018,7 +1037,7 @@ public class ProjectView extends ARenderView implements ViewInterface{
     private int getIntInput() {
         while (true) {
             try {
-                return Integer.parseInt(scanner.nextLine());
+                return Integer.parseInt(input.nextLine());
             } catch (NumberFormatException e) {
                 System.out.print("Please enter a valid number: ");
             }
@@ -1033,7 +1052,7 @@ public class ProjectView extends ARenderView implements ViewInterface{
     private double getDoubleInput() {
         while (true) {
             try {
-                return Double.parseDouble(scanner.nextLine());
+                return Double.parseDouble(input.nextLine());
             } catch (NumberFormatException e) {
                 System.out.print("Please enter a valid number: ");
             }
@@ -1049,7 +1068,7 @@ public class ProjectView extends ARenderView implements ViewInterface{
         SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy");
         while (true) {
             try {
-                return dateFormat.parse(scanner.nextLine());
+                return dateFormat.parse(input.nextLine());
             } catch (ParseException e) {
                 System.out.print("Please enter a valid date (DD/MM/YYYY): ");
             }
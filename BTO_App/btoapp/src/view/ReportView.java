@@ -1,14 +1,33 @@
 package view;
 
+import controller.ApplicationController;
 import controller.ProjectController;
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
+import java.util.Date;
 import java.util.List;
-import java.util.Scanner;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 import model.HDBManager;
+import model.PortfolioReport;
 import model.Project;
+import model.ColumnarReport;
 import model.Report;
+import model.ReportArtifact;
+import model.ReportFilter;
+import model.enums.AgeBand;
 import model.enums.FlatType;
+import service.BookingCube;
+import service.ReportExporter;
+import service.ReportService;
+import service.ReportStreamWriter;
+import utils.PageSource;
 import view.abstracts.ARenderView;
+import view.input.ConsoleInputSource;
+import view.interfaces.InputSource;
 import view.interfaces.ViewInterface;
 
 /**
@@ -18,18 +37,44 @@ public class ReportView extends ARenderView implements ViewInterface{
     
     private HDBManager manager;
     private ProjectController projectController;
-    private Scanner scanner;
+    private ApplicationController applicationController;
+    private ReportService reportService;
     
     /**
      * Constructor for ReportView.
      * 
      * @param manager The HDB manager
      * @param projectController Controller for project operations
+     * @param applicationController Controller for application operations
+     * @param reportService Service for generating and exporting reports
      */
-    public ReportView(HDBManager manager, ProjectController projectController) {
+    public ReportView(HDBManager manager,
+                      ProjectController projectController,
+                      ApplicationController applicationController,
+                      ReportService reportService) {
+        this(manager, projectController, applicationController, reportService,
+             ConsoleInputSource.getInstance());
+    }
+    
+    /**
+     * Constructor for ReportView.
+     * 
+     * @param manager The HDB manager
+     * @param projectController Controller for project operations
+     * @param applicationController Controller for application operations
+     * @param reportService Service for generating and exporting reports
+     * @param input Source of the user's input
+     */
+    public ReportView(HDBManager manager,
+                      ProjectController projectController,
+                      ApplicationController applicationController,
+                      ReportService reportService,
+                      InputSource input) {
+        super(input);
         this.manager = manager;
         this.projectController = projectController;
-        this.scanner = new Scanner(System.in);
+        this.applicationController = applicationController;
+        this.reportService = reportService;
     }
  
     /*
@@ -52,10 +97,21 @@ public class ReportView extends ARenderView implements ViewInterface{
         for (Project project : projects) {
             System.out.printf("%d. %s\n", index++, project.getProjectName());
         }
+        System.out.printf("%d. Portfolio Report (all my projects)\n", projects.size() + 1);
+        System.out.printf("%d. Portfolio Report (all projects)\n", projects.size() + 2);
         
-        System.out.print("\nEnter selection (1-" + projects.size() + "): ");
+        System.out.print("\nEnter selection (1-" + (projects.size() + 2) + "): ");
         int projectChoice = getIntInput();
         
+        if (projectChoice == projects.size() + 1) {
+            displayPortfolioReport(reportService.generatePortfolioReport(projects, "Portfolio Report: " + manager.getName()));
+            return;
+        }
+        if (projectChoice == projects.size() + 2) {
+            displayPortfolioReport(reportService.generatePortfolioReport(projectController.getAllProjects(), "Portfolio Report: All Projects"));
+            return;
+        }
+        
         if (projectChoice < 1 || projectChoice > projects.size()) {
             showError("Invalid selection.");
             return;
@@ -70,8 +126,10 @@ public class ReportView extends ARenderView implements ViewInterface{
         System.out.println("2. Filter by Marital Status");
         System.out.println("3. Filter by Flat Type");
         System.out.println("4. Filter by Age Range");
+        System.out.println("5. Stream Report to Console or File (large projects)");
+        System.out.println("6. Booking Breakdown by Flat Type, Age and Marital Status");
         
-        System.out.print("\nEnter selection (1-4): ");
+        System.out.print("\nEnter selection (1-6): ");
         int reportTypeChoice = getIntInput();
         
         Report report = null;
@@ -89,6 +147,12 @@ public class ReportView extends ARenderView implements ViewInterface{
             case 4:
                 report = generateAgeRangeReport(selectedProject);
                 break;
+            case 5:
+                streamReport(selectedProject);
+                return;
+            case 6:
+                displayBookingBreakdown(selectedProject);
+                return;
             default:
                 showError("Invalid selection.");
                 return;
@@ -108,7 +172,8 @@ public class ReportView extends ARenderView implements ViewInterface{
      * @return The generated report
      */
     private Report generateProjectBookingReport(Project project) {
-        return manager.generateReport(project, "Project Booking Report");
+        return precomputedOrLive(project, ReportFilter.all(),
+                                 () -> reportService.generateProjectBookingReport(project));
     }
     
     /**
@@ -118,6 +183,213 @@ public class ReportView extends ARenderView implements ViewInterface{
      * @return The generated report
      */
     private Report generateMaritalStatusReport(Project project) {
+        String maritalStatus = promptMaritalStatus();
+        if (maritalStatus == null) {
+            return null;
+        }
+        
+        return precomputedOrLive(project, ReportFilter.maritalStatus(maritalStatus),
+                                 () -> reportService.generateMaritalStatusReport(project, maritalStatus));
+    }
+    
+    /**
+     * Generates a report filtered by flat type.
+     * 
+     * @param project The project to generate the report for
+     * @return The generated report
+     */
+    private Report generateFlatTypeReport(Project project) {
+        FlatType flatType = promptFlatType();
+        if (flatType == null) {
+            return null;
+        }
+        
+        return precomputedOrLive(project, ReportFilter.flatType(flatType),
+                                 () -> reportService.generateFlatTypeReport(project, flatType));
+    }
+    
+    /**
+     * Generates a report filtered by age range.
+     * 
+     * @param project The project to generate the report for
+     * @return The generated report
+     */
+    private Report generateAgeRangeReport(Project project) {
+        int[] ageRange = promptAgeRange();
+        if (ageRange == null) {
+            return null;
+        }
+        
+        return precomputedOrLive(project, ReportFilter.ageRange(ageRange[0], ageRange[1]),
+                                 () -> reportService.generateAgeRangeReport(project, ageRange[0], ageRange[1]));
+    }
+    
+    /**
+     * Serves the precomputed version of a report if there is one, showing when it
+     * was built and whether bookings have changed since. Otherwise, or if the
+     * manager asks for an up-to-date report, the report is generated now.
+     * 
+     * @param project The project to generate the report for
+     * @param filter The filter of the report
+     * @param live Generates the report now
+     * @return The report, or null if the manager is not in charge of the project
+     */
+    private Report precomputedOrLive(Project project, ReportFilter filter, Supplier<Report> live) {
+        if (!manager.canGenerateReport(project)) {
+            return null;
+        }
+        
+        ReportArtifact artifact = reportService.getLatestArtifact(project, filter);
+        if (artifact == null) {
+            return live.get();
+        }
+        
+        SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy HH:mm");
+        String built = "Precomputed report (version " + artifact.getVersion() + ") from "
+                       + dateFormat.format(artifact.getMaterializedAt());
+        if (!artifact.isStale()) {
+            System.out.println(built + ", up to date.");
+            return artifact.getReport();
+        }
+        
+        System.out.println(built + ", OUT OF DATE: bookings have changed since.");
+        System.out.print("Generate an up-to-date report instead? (Y/N): ");
+        if (input.nextLine().trim().equalsIgnoreCase("Y")) {
+            return live.get();
+        }
+        return artifact.getReport();
+    }
+    
+    /**
+     * Streams a booking report to the console or a file without holding
+     * the entries in memory, for projects with many bookings.
+     * 
+     * @param project The project to report on
+     */
+    private void streamReport(Project project) {
+        if (!project.getManagerInCharge().getNric().equals(manager.getNric())) {
+            showError("You are not the manager in charge of this project.");
+            return;
+        }
+        
+        System.out.println("\nSelect entries to include:");
+        System.out.println("1. All Bookings");
+        System.out.println("2. Filter by Marital Status");
+        System.out.println("3. Filter by Flat Type");
+        System.out.println("4. Filter by Age Range");
+        
+        System.out.print("\nEnter selection (1-4): ");
+        int filterChoice = getIntInput();
+        
+        ReportFilter filter = ReportFilter.all();
+        
+        switch (filterChoice) {
+            case 1:
+                break;
+            case 2:
+                String maritalStatus = promptMaritalStatus();
+                if (maritalStatus == null) {
+                    return;
+                }
+                filter = ReportFilter.maritalStatus(maritalStatus);
+                break;
+            case 3:
+                FlatType flatType = promptFlatType();
+                if (flatType == null) {
+                    return;
+                }
+                filter = ReportFilter.flatType(flatType);
+                break;
+            case 4:
+                int[] ageRange = promptAgeRange();
+                if (ageRange == null) {
+                    return;
+                }
+                filter = ReportFilter.ageRange(ageRange[0], ageRange[1]);
+                break;
+            default:
+                showError("Invalid selection.");
+                return;
+        }
+        
+        String reportTitle = "Project Booking Report";
+        if (!filter.isAll()) {
+            reportTitle += " (Filtered by " + filter.getDescription() + ")";
+        }
+        
+        System.out.println("\nSelect output:");
+        System.out.println("1. Console");
+        System.out.println("2. File");
+        
+        System.out.print("\nEnter selection (1-2): ");
+        int outputChoice = getIntInput();
+        
+        ReportStreamWriter writer = new ReportStreamWriter();
+        
+        if (outputChoice == 1) {
+            printHeader("REPORT: " + reportTitle);
+            writer.writeToConsole(reportTitle, project,
+                applicationController.streamApplicationsByProject(project), filter);
+        } else if (outputChoice == 2) {
+            System.out.print("Enter file path (.csv, .jsonl or .bin exports data, add .gz to compress): ");
+            String filePath = input.nextLine().trim();
+            if (filePath.isEmpty()) {
+                showError("File path cannot be empty.");
+                return;
+            }
+            
+            long count = ReportExporter.isExportFileName(filePath)
+                ? exportStream(reportTitle, project, filter, filePath)
+                : writer.writeToFile(reportTitle, project,
+                    applicationController.streamApplicationsByProject(project), filter, filePath);
+            if (count < 0) {
+                showError("Failed to write report to " + filePath);
+                return;
+            }
+            showMessage(count + " entries written to " + filePath);
+        } else {
+            showError("Invalid selection.");
+            return;
+        }
+        
+        System.out.println("\nPress Enter to continue...");
+        input.nextLine();
+    }
+    
+    /**
+     * Exports a streamed report in the data format given by the file extension.
+     * 
+     * @param reportTitle The report title
+     * @param project The project to report on
+     * @param filter Selects the entries to include, or null to include all
+     * @param filePath The file to write
+     * @return the number of entries written, or -1 if the export failed
+     */
+    private long exportStream(String reportTitle, Project project,
+                              Predicate<Report.ReportEntry> filter, String filePath) {
+        Stream<Report.ReportEntry> entries =
+            ReportStreamWriter.toEntries(applicationController.streamApplicationsByProject(project));
+        if (filter != null) {
+            entries = entries.filter(filter);
+        }
+        
+        try {
+            return reportService.getReportExporter().exportEntries(
+                "STREAM-" + project.getProjectName(), project.getProjectName(), reportTitle,
+                new Date(), entries.iterator(), Paths.get(filePath),
+                ReportExporter.Format.fromFileName(filePath), ReportExporter.isGzipFileName(filePath));
+        } catch (IOException e) {
+            System.out.println("Error exporting report: " + e.getMessage());
+            return -1;
+        }
+    }
+    
+    /**
+     * Prompts for a marital status to filter by.
+     * 
+     * @return "Single" or "Married", or null if the selection is invalid
+     */
+    private String promptMaritalStatus() {
         System.out.println("\nSelect marital status to filter by:");
         System.out.println("1. Single");
         System.out.println("2. Married");
@@ -125,31 +397,22 @@ public class ReportView extends ARenderView implements ViewInterface{
         System.out.print("\nEnter selection (1-2): ");
         int statusChoice = getIntInput();
         
-        String maritalStatus;
         if (statusChoice == 1) {
-            maritalStatus = "Single";
+            return "Single";
         } else if (statusChoice == 2) {
-            maritalStatus = "Married";
-        } else {
-            showError("Invalid selection.");
-            return null;
-        }
-        
-        Report baseReport = generateProjectBookingReport(project);
-        if (baseReport != null) {
-            return baseReport.filterByMaritalStatus(maritalStatus);
+            return "Married";
         }
         
+        showError("Invalid selection.");
         return null;
     }
     
     /**
-     * Generates a report filtered by flat type.
+     * Prompts for a flat type to filter by.
      * 
-     * @param project The project to generate the report for
-     * @return The generated report
+     * @return The flat type, or null if the selection is invalid
      */
-    private Report generateFlatTypeReport(Project project) {
+    private FlatType promptFlatType() {
         System.out.println("\nSelect flat type to filter by:");
         System.out.println("1. 2-Room");
         System.out.println("2. 3-Room");
@@ -157,31 +420,22 @@ public class ReportView extends ARenderView implements ViewInterface{
         System.out.print("\nEnter selection (1-2): ");
         int typeChoice = getIntInput();
         
-        FlatType flatType;
         if (typeChoice == 1) {
-            flatType = FlatType.TWO_ROOM;
+            return FlatType.TWO_ROOM;
         } else if (typeChoice == 2) {
-            flatType = FlatType.THREE_ROOM;
-        } else {
-            showError("Invalid selection.");
-            return null;
-        }
-        
-        Report baseReport = generateProjectBookingReport(project);
-        if (baseReport != null) {
-            return baseReport.filterByFlatType(flatType);
+            return FlatType.THREE_ROOM;
         }
         
+        showError("Invalid selection.");
         return null;
     }
     
     /**
-     * Generates a report filtered by age range.
+     * Prompts for an age range to filter by.
      * 
-     * @param project The project to generate the report for
-     * @return The generated report
+     * @return The minimum and maximum age, or null if the range is invalid
      */
-    private Report generateAgeRangeReport(Project project) {
+    private int[] promptAgeRange() {
         System.out.print("\nEnter minimum age: ");
         int minAge = getIntInput();
         
@@ -193,12 +447,7 @@ public class ReportView extends ARenderView implements ViewInterface{
             return null;
         }
         
-        Report baseReport = generateProjectBookingReport(project);
-        if (baseReport != null) {
-            return baseReport.filterByAgeRange(minAge, maxAge);
-        }
-        
-        return null;
+        return new int[] {minAge, maxAge};
     }
     
     /**
@@ -214,23 +463,182 @@ public class ReportView extends ARenderView implements ViewInterface{
         System.out.println("Report ID: " + report.getReportId());
         System.out.println("Project: " + report.getProject().getProjectName());
         System.out.println("Generation Date: " + dateFormat.format(report.getGenerationDate()));
-        System.out.println("Total Entries: " + report.getEntries().size());
+        System.out.println("Total Entries: " + report.getEntryCount());
+        
+        // A current report is paged from the application index, a kept snapshot from its own entries
+        boolean current = report.isCurrent();
+        PageSource<Report.ReportEntry> pages = current
+            ? applicationController.getBookingReportPages(report.getProject(), report.getFilter())
+            : report.pages();
         
         System.out.println("\nEntries:");
-        System.out.println("Name | NRIC | Age | Marital Status | Flat Type");
+        new Paginator<>(input, pages, entries -> {
+            System.out.println("Name | NRIC | Age | Marital Status | Flat Type");
+            System.out.println("-------------------------------------------");
+            for (Report.ReportEntry entry : entries) {
+                System.out.printf("%-20s | %-12s | %3d | %-14s | %s\n",
+                                 entry.getApplicantName(),
+                                 entry.getApplicantNric(),
+                                 entry.getApplicantAge(),
+                                 entry.getMaritalStatus(),
+                                 entry.getFlatType().getDisplayName());
+            }
+        }, current ? "application ID" : "NRIC").browse();
+        
+        displaySummary(report);
+        
+        System.out.print("\nExport this report to a file? (Y/N): ");
+        if (input.nextLine().trim().equalsIgnoreCase("Y")) {
+            exportReport(report);
+        }
+    }
+    
+    /**
+     * Displays bookings and revenue of a project broken down by flat type,
+     * age band and marital status. The figures come from the booking cube,
+     * so no applications are scanned.
+     * 
+     * @param project The project to break down
+     */
+    private void displayBookingBreakdown(Project project) {
+        BookingCube cube = reportService.getBookingCube();
+        BookingCube.Measures total = cube.query(project, null, null, null);
+        
+        printHeader("BOOKING BREAKDOWN: " + project.getProjectName());
+        System.out.printf("Total Bookings: %d (revenue $%,.2f)\n", total.getBookings(), total.getRevenue());
+        if (total.getBookings() == 0) {
+            return;
+        }
+        
+        displayBreakdown("By Flat Type:", cube.rollUp(BookingCube.Dimension.FLAT_TYPE, project, null, null, null));
+        displayBreakdown("By Age:", cube.rollUp(BookingCube.Dimension.AGE_BAND, project, null, null, null));
+        displayBreakdown("By Marital Status:",
+                         cube.rollUp(BookingCube.Dimension.MARITAL_STATUS, project, null, null, null));
+        
+        for (FlatType flatType : FlatType.values()) {
+            Map<String, BookingCube.Measures> byAge =
+                cube.rollUp(BookingCube.Dimension.AGE_BAND, project, flatType, null, null);
+            if (!byAge.isEmpty()) {
+                displayBreakdown(flatType.getDisplayName() + " by Age:", byAge);
+            }
+        }
+    }
+    
+    /**
+     * Displays one group of a booking breakdown.
+     * 
+     * @param title The title of the group
+     * @param measures The measures keyed by display name
+     */
+    private void displayBreakdown(String title, Map<String, BookingCube.Measures> measures) {
+        System.out.println("\n" + title);
+        for (Map.Entry<String, BookingCube.Measures> entry : measures.entrySet()) {
+            System.out.printf("  %-14s %6d  $%,.2f\n", entry.getKey() + ":",
+                              entry.getValue().getBookings(), entry.getValue().getRevenue());
+        }
+    }
+    
+    /**
+     * Displays a report across many projects.
+     * 
+     * @param report The portfolio report to display
+     */
+    private void displayPortfolioReport(PortfolioReport report) {
+        if (report == null) {
+            showError("Failed to generate report. Please try again later.");
+            return;
+        }
+        
+        SimpleDateFormat dateFormat = new SimpleDateFormat("dd/MM/yyyy HH:mm");
+        printHeader(report.getReportTitle());
+        System.out.println("Generation Date: " + dateFormat.format(report.getGenerationDate()));
+        System.out.println("Projects: " + report.getProjectCount());
+        System.out.println("Total Bookings: " + report.getTotalBookings());
+        
+        System.out.println("\nTake-up by Flat Type:");
+        for (FlatType flatType : FlatType.values()) {
+            System.out.printf("  %-14s %6d booked (%.1f%%)\n", flatType.getDisplayName() + ":",
+                              report.getBookings(flatType), report.getTakeUpRate(flatType) * 100);
+        }
+        
+        System.out.println("\nBookings by Age:");
+        for (Map.Entry<AgeBand, Long> entry : report.getBookingsByAgeBand().entrySet()) {
+            System.out.printf("  %-14s %6d\n", entry.getKey().getDisplayName() + ":", entry.getValue());
+        }
+        
+        System.out.println("\nBookings by Marital Status:");
+        for (Map.Entry<String, Long> entry : report.getBookingsByMaritalStatus().entrySet()) {
+            System.out.printf("  %-14s %6d\n", entry.getKey() + ":", entry.getValue());
+        }
+        
+        System.out.println("\nProject | Neighborhood | Bookings | Take-up");
         System.out.println("-------------------------------------------");
+        for (PortfolioReport.ProjectSummary summary : report.getProjectSummaries()) {
+            System.out.printf("%-20s | %-15s | %6d | %5.1f%%\n", summary.getProjectName(), summary.getNeighborhood(),
+                              summary.getBookings(), summary.getTakeUpRate() * 100);
+        }
+    }
+    
+    /**
+     * Displays booking counts by flat type and marital status and the average age
+     * of the report's entries. A current report is aggregated over the project's
+     * cached booking columns. A report kept after the bookings changed is
+     * aggregated over its own entries, so the summary matches the rows shown.
+     * 
+     * @param report The report to summarize
+     */
+    private void displaySummary(Report report) {
+        boolean current = report.isCurrent();
+        ColumnarReport columns;
+        ReportFilter filter;
+        if (current) {
+            columns = reportService.generateColumnarBookingReport(report.getProject());
+            filter = report.getFilter();
+        } else {
+            // The report's stream is already filtered
+            ColumnarReport.Builder builder = new ColumnarReport.Builder(report.getProject(),
+                                                                        (int) report.getEntryCount());
+            report.stream().forEach(entry -> builder.add(entry.getApplicantName(), entry.getApplicantNric(),
+                entry.getApplicantAge(), entry.getMaritalStatus(), entry.getFlatType(), ColumnarReport.NO_DATE));
+            columns = builder.build();
+            filter = ReportFilter.all();
+        }
+        if (columns == null || columns.count(filter) == 0) {
+            return;
+        }
         
-        for (Report.ReportEntry entry : report.getEntries()) {
-            System.out.printf("%-20s | %-12s | %3d | %-14s | %s\n",
-                             entry.getApplicantName(),
-                             entry.getApplicantNric(),
-                             entry.getApplicantAge(),
-                             entry.getMaritalStatus(),
-                             entry.getFlatType().getDisplayName());
+        System.out.println(current ? "\nSummary:" : "\nSummary (of this precomputed report, not live data):");
+        int[] flatTypeCounts = columns.countByFlatType(filter);
+        for (FlatType flatType : FlatType.values()) {
+            if (flatTypeCounts[flatType.ordinal()] > 0) {
+                System.out.printf("  %-14s %d\n", flatType.getDisplayName() + ":", flatTypeCounts[flatType.ordinal()]);
+            }
+        }
+        for (Map.Entry<String, Integer> entry : columns.countByMaritalStatus(filter).entrySet()) {
+            System.out.printf("  %-14s %d\n", entry.getKey() + ":", entry.getValue());
+        }
+        System.out.printf("  %-14s %.1f\n", "Average age:", columns.averageAge(filter));
+    }
+    
+    /**
+     * Exports a report to a file chosen by the user.
+     * The format follows the file extension.
+     * 
+     * @param report The report to export
+     */
+    private void exportReport(Report report) {
+        System.out.print("Enter file path (.csv, .jsonl or .bin, add .gz to compress): ");
+        String filePath = input.nextLine().trim();
+        if (filePath.isEmpty()) {
+            showError("File path cannot be empty.");
+            return;
         }
         
-        System.out.println("\nPress Enter to continue...");
-        scanner.nextLine();
+        if (reportService.exportReport(report, filePath)) {
+            showMessage(report.getEntryCount() + " entries exported to " + filePath);
+        } else {
+            showError("Failed to export report to " + filePath);
+        }
     }
     
     /**
@@ -260,7 +668,7 @@ public class ReportView extends ARenderView implements ViewInterface{
     private int getIntInput() {
         while (true) {
             try {
-                return Integer.parseInt(scanner.nextLine());
+                return Integer.parseInt(input.nextLine());
             } catch (NumberFormatException e) {
                 System.out.print("Please enter a valid number: ");
             }
@@ -1,6 +1,7 @@
 package view.abstracts;
 
-import java.util.Scanner;
+import view.input.ConsoleInputSource;
+import view.interfaces.InputSource;
 
 /**
  * The {@code ARenderView} class is an abstract class in Java that provides methods for rendering views with
@@ -11,12 +12,27 @@ import java.util.Scanner;
  */
 public abstract class ARenderView {
     /**
-     * Scanner object used to read user input from the console.
-     * This scanner is initialized to read from System.in and is
-     * shared among all methods in the class that need to capture
-     * user input.
+     * Source of the user's input. Views read every answer from it, so
+     * they can be driven from the console or from a script.
      */
-    protected Scanner scanner = new Scanner(System.in);
+    protected final InputSource input;
+
+    /**
+     * Constructor for a view reading from the console.
+     */
+    protected ARenderView() {
+        this(ConsoleInputSource.getInstance());
+    }
+
+    /**
+     * Constructor for a view reading from the given source.
+     *
+     * @param input the source of the user's input
+     */
+    protected ARenderView(InputSource input) {
+        this.input = input;
+    }
+
     // Common rendering methods
 
     /**
@@ -45,7 +61,7 @@ public abstract class ARenderView {
      */
     protected String getInput(String prompt) {
         System.out.print(prompt + ": ");
-        return scanner.nextLine();
+        return input.nextLine();
     }
     
     /**
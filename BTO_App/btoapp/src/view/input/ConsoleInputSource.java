@@ -0,0 +1,45 @@
+package view.input;
+
+import java.util.Scanner;
+import view.interfaces.InputSource;
+
+/**
+ * Reads user input from the console.
+ * 
+ * All views share the single instance, so that only one scanner buffers
+ * {@code System.in}; separate scanners could each read ahead and take lines
+ * meant for another view.
+ * 
+ * @author Your Name
+ * @version 1.0
+ */
+public final class ConsoleInputSource implements InputSource {
+
+    private static final ConsoleInputSource INSTANCE = new ConsoleInputSource();
+
+    private final Scanner scanner;
+
+    /**
+     * Private constructor to enforce the single instance.
+     */
+    private ConsoleInputSource() {
+        this.scanner = new Scanner(System.in);
+    }
+
+    /**
+     * Gets the console input source.
+     *
+     * @return the shared instance
+     */
+    public static ConsoleInputSource getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized String nextLine() {
+        return scanner.nextLine();
+    }
+}
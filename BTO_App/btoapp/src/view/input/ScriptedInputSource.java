@@ -0,0 +1,69 @@
+package view.input;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import view.interfaces.InputSource;
+
+/**
+ * Answers the views from a fixed script of lines, for driving them without
+ * a terminal, such as in load tests.
+ * 
+ * More lines can be added between menu actions. Reading past the end of the
+ * script throws, as the console does at end of input, so a view that asks
+ * for more than the script provides fails instead of waiting forever.
+ * 
+ * @author Your Name
+ * @version 1.0
+ */
+public class ScriptedInputSource implements InputSource {
+
+    private final List<String> lines;
+    private int position;
+
+    /**
+     * Constructor for ScriptedInputSource.
+     *
+     * @param lines The lines to answer with, in order
+     */
+    public ScriptedInputSource(String... lines) {
+        this.lines = new ArrayList<>(Arrays.asList(lines));
+    }
+
+    /**
+     * Adds lines to the end of the script.
+     *
+     * @param more The lines to add
+     */
+    public void add(String... more) {
+        lines.addAll(Arrays.asList(more));
+    }
+
+    /**
+     * Gets the number of lines not read yet.
+     *
+     * @return the number of lines
+     */
+    public int remaining() {
+        return lines.size() - position;
+    }
+
+    /**
+     * Discards the lines not read yet.
+     */
+    public void clear() {
+        lines.subList(position, lines.size()).clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String nextLine() {
+        if (position >= lines.size()) {
+            throw new NoSuchElementException("Script ended after " + position + " lines");
+        }
+        return lines.get(position++);
+    }
+}
@@ -0,0 +1,20 @@
+package view.interfaces;
+
+/**
+ * Where the views of the BTO Management System read user input from.
+ * 
+ * The interactive application reads from the console. Other sources, such
+ * as a script of answers, let the views run without a terminal.
+ * 
+ * @version 1.0
+ */
+public interface InputSource {
+
+    /**
+     * Reads the next line of input.
+     *
+     * @return the line, without its line terminator
+     * @throws java.util.NoSuchElementException if there is no more input
+     */
+    String nextLine();
+}
@@ -28,6 +28,7 @@ public class ManagerMenuBuilder implements MenuBuilder {
         menuOptions.put(9, "Generate Reports");
         menuOptions.put(10, "View and Reply to Enquiries");
         menuOptions.put(11, "Change Password");
+        menuOptions.put(12, "Run Application Ballot");
         menuOptions.put(0, "Logout");
         
         return menuOptions;